@@ -7,11 +7,12 @@ type Direction = 'AROUND' | 'BEFORE' | 'AFTER';
 export async function fetchUserChannelDurations(
     channelId: number,
     timestamp: string,
-    direction: Direction
+    direction: Direction,
+    cursor?: string
 ): Promise<DurationDetailsResponse> {
     const { data, error } = await client.POST('/v1/user/channel/{id}/durations', {
         params: { path: { id: channelId } },
-        body: { timestamp, direction }
+        body: { timestamp, direction, cursor }
     });
     if (error) throw error;
     return data;
@@ -21,11 +22,12 @@ export async function fetchOrgChannelDurations(
     orgId: number,
     channelId: number,
     timestamp: string,
-    direction: Direction
+    direction: Direction,
+    cursor?: string
 ): Promise<DurationDetailsResponse> {
     const { data, error } = await client.POST('/v1/organization/{orgId}/channels/{id}/durations', {
         params: { path: { orgId, id: channelId } },
-        body: { timestamp, direction }
+        body: { timestamp, direction, cursor }
     });
     if (error) throw error;
     return data;
@@ -1,5 +1,8 @@
 import { client } from '../client';
 import type { MonitorRequest, MonitorResponse } from '$lib/api/models';
+import { conditionalHeaders, monitorCacheKey, resolveMonitor } from './monitorCache';
+import { buildMonitorStreamQuery } from './monitor.service';
+import { SERVER_BASE_URL } from '$lib/config/constants';
 
 /**
  * Get monitor timeline data for an organization watchlist
@@ -8,12 +11,24 @@ export async function getOrganizationMonitor(
 	orgId: number,
 	request: MonitorRequest
 ): Promise<MonitorResponse> {
-	const { data, error } = await client.POST('/v1/organization/{orgId}/monitor', {
+	const key: string = monitorCacheKey(`/v1/organization/${orgId}/monitor`, request);
+	const { data, error, response } = await client.POST('/v1/organization/{orgId}/monitor', {
 		params: { path: { orgId } },
-		body: request
+		body: request,
+		headers: conditionalHeaders(key)
 	});
-	if (error || !data) {
+	const monitor: MonitorResponse | undefined = resolveMonitor(key, response, data);
+	if (!monitor) {
 		throw error ?? new Error('Failed to get monitor data');
 	}
-	return data;
+	return monitor;
+}
+
+/**
+ * Open a live stream of monitor data: a snapshot, then deltas as events are ingested
+ */
+export function streamOrganizationMonitor(orgId: number, request: MonitorRequest): EventSource {
+	return new EventSource(`${SERVER_BASE_URL}/v1/organization/${orgId}/monitor/stream?${buildMonitorStreamQuery(request)}`, {
+		withCredentials: true
+	});
 }
@@ -1,4 +1,12 @@
-import type { TimeRange } from '$lib/api/models';
+import type {
+	ChannelResponse,
+	MonitorRequest,
+	MonitorResponse,
+	Severity,
+	Timeline,
+	TimelineDuration,
+	TimeRange
+} from '$lib/api/models';
 
 // ============ Types ============
 
@@ -109,3 +117,138 @@ export function createAutoRefresh(
 		}
 	};
 }
+
+// ============ Live Stream ============
+
+/* Delta pushed by the monitor stream (see MonitorDeltaResponse on the server) */
+export interface ChannelDelta {
+	channelId: number;
+	currentSeverity: Severity;
+	lastEventAt: string;
+	durations: TimelineDuration[];
+}
+
+export interface MonitorDelta {
+	watchlistId: number;
+	channels: ChannelDelta[];
+}
+
+const SEVERITY_PRIORITY: Record<Severity, number> = {
+	CRITICAL: 0,
+	WARNING: 1,
+	OK: 2,
+	NO_DATA: 999
+};
+
+export function buildMonitorStreamQuery(request: MonitorRequest): string {
+	const params = new URLSearchParams();
+	params.set('watchlistId', String(request.watchlistId));
+	const filters = request.filters;
+	if (filters?.timeRange) params.set('timeRange', filters.timeRange);
+	if (filters?.onlyCritical != null) params.set('onlyCritical', String(filters.onlyCritical));
+	if (filters?.sortBySeverity != null) params.set('sortBySeverity', String(filters.sortBySeverity));
+	if (filters?.groupedView != null) params.set('groupedView', String(filters.groupedView));
+	return params.toString();
+}
+
+/**
+ * Applies a stream delta to the monitor data in place. Channel timelines get the new durations, group and
+ * dashboard timelines continue with the worst current severity of their channels, and the live range moves to now.
+ * Channels that are not shown are filtered out (only critical channels are shown), so their deltas are ignored unless
+ * the channel became critical. Returns false in that case, as the channel has to be added from a new snapshot.
+ */
+export function applyMonitorDelta(data: MonitorResponse, delta: MonitorDelta): boolean {
+	const groups = data.dashboard?.groups ?? [];
+	const channels: ChannelResponse[] = [
+		...(data.dashboard?.channels ?? []),
+		...groups.flatMap((group) => group.channels ?? [])
+	];
+	let complete: boolean = true;
+	let changedAt: string | null = null;
+
+	for (const change of delta.channels) {
+		const matches = channels.filter((channel) => channel.channelId === change.channelId);
+		if (matches.length === 0) {
+			if (change.currentSeverity === 'CRITICAL') complete = false;
+			continue;
+		}
+		for (const channel of matches) {
+			channel.currentSeverity = change.currentSeverity;
+			appendDurations(channel.timeline, change.durations);
+		}
+		const firstChange: string | undefined = change.durations[0]?.startTime;
+		if (firstChange && (!changedAt || firstChange < changedAt)) changedAt = firstChange;
+	}
+
+	if (changedAt) {
+		for (const group of groups) {
+			appendDurations(group.timeline, [openDuration(worstSeverity(group.channels ?? []), changedAt)]);
+		}
+		if (data.dashboard) {
+			appendDurations(data.dashboard.timeline, [openDuration(worstSeverity(channels), changedAt)]);
+		}
+	}
+
+	const rangeMs: number = new Date(data.rangeEnd).getTime() - new Date(data.rangeStart).getTime();
+	const now: number = Date.now();
+	data.rangeEnd = new Date(now).toISOString();
+	data.rangeStart = new Date(now - rangeMs).toISOString();
+	return complete;
+}
+
+/**
+ * Appends durations to a timeline: a duration continues the last one when the severity is unchanged, otherwise it
+ * closes the last one. Durations older than the last one are already part of the timeline and are skipped.
+ */
+function appendDurations(timeline: Timeline | undefined, durations: TimelineDuration[]): void {
+	if (!timeline) return;
+	timeline.durations ??= [];
+	for (const duration of durations) {
+		const last: TimelineDuration | undefined = timeline.durations[timeline.durations.length - 1];
+		if (last && new Date(duration.startTime) < new Date(last.startTime)) continue;
+		if (last && last.severity === duration.severity) {
+			last.endTime = duration.endTime;
+			continue;
+		}
+		if (last) last.endTime = duration.startTime;
+		timeline.durations.push({ ...duration });
+	}
+}
+
+function openDuration(severity: Severity, startTime: string): TimelineDuration {
+	return { severity, startTime, endTime: undefined } as TimelineDuration;
+}
+
+function worstSeverity(channels: ChannelResponse[]): Severity {
+	let worst: Severity = 'NO_DATA';
+	for (const channel of channels) {
+		const severity: Severity = channel.currentSeverity ?? 'NO_DATA';
+		if (SEVERITY_PRIORITY[severity] < SEVERITY_PRIORITY[worst]) worst = severity;
+	}
+	return worst;
+}
+
+/**
+ * Opens a monitor stream. Snapshots replace the monitor data, deltas are applied to it. When the stream cannot be
+ * (re)opened, e.g. because the watchlist has too many open streams, onClosed is called so the caller can poll.
+ */
+export function createMonitorStream(
+	source: EventSource,
+	handlers: {
+		onSnapshot: (data: MonitorResponse) => void;
+		onDelta: (delta: MonitorDelta) => void;
+		onClosed: () => void;
+	}
+): { close: () => void } {
+	source.addEventListener('snapshot', (event: MessageEvent<string>): void => {
+		handlers.onSnapshot(JSON.parse(event.data) as MonitorResponse);
+	});
+	source.addEventListener('delta', (event: MessageEvent<string>): void => {
+		handlers.onDelta(JSON.parse(event.data) as MonitorDelta);
+	});
+	source.onerror = (): void => {
+		// The browser reconnects (and receives a new snapshot) unless the server refused the stream
+		if (source.readyState === EventSource.CLOSED) handlers.onClosed();
+	};
+	return { close: () => source.close() };
+}
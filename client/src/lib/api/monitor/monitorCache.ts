@@ -0,0 +1,51 @@
+import type { MonitorRequest, MonitorResponse } from '$lib/api/models';
+
+/* Monitor responses are only revalidated while a dashboard is open, so a handful of entries is enough */
+const MAX_ENTRIES: number = 20;
+
+interface CachedMonitor {
+	etag: string;
+	data: MonitorResponse;
+}
+
+const cachedMonitors: Map<string, CachedMonitor> = new Map();
+
+/**
+ * Key of a monitor request: the endpoint and the request body
+ */
+export function monitorCacheKey(path: string, request: MonitorRequest): string {
+	return `${path}:${JSON.stringify(request)}`;
+}
+
+/**
+ * If-None-Match header for a request whose response was received before, so an unchanged dashboard is answered
+ * with 304 Not Modified instead of the full timelines
+ */
+export function conditionalHeaders(key: string): Record<string, string> {
+	const cached: CachedMonitor | undefined = cachedMonitors.get(key);
+	return cached ? { 'If-None-Match': cached.etag } : {};
+}
+
+/**
+ * Resolves a monitor response: the cached data on 304 Not Modified, otherwise the received data,
+ * remembered with its ETag for the next request
+ */
+export function resolveMonitor(
+	key: string,
+	response: Response,
+	data: MonitorResponse | undefined
+): MonitorResponse | undefined {
+	if (response.status === 304) {
+		return cachedMonitors.get(key)?.data;
+	}
+	const etag: string | null = response.headers.get('ETag');
+	if (data && etag) {
+		cachedMonitors.delete(key);
+		if (cachedMonitors.size >= MAX_ENTRIES) {
+			const oldest: string | undefined = cachedMonitors.keys().next().value;
+			if (oldest !== undefined) cachedMonitors.delete(oldest);
+		}
+		cachedMonitors.set(key, { etag, data });
+	}
+	return data;
+}
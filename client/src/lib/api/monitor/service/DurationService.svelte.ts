@@ -8,6 +8,8 @@ export function createDurationService() {
     let selectedIndex: number = $state(-1);
     let hasPrevious: boolean = $state(false);
     let hasNext: boolean = $state(false);
+    let previousCursor: string | undefined = undefined;
+    let nextCursor: string | undefined = undefined;
     let loading: boolean = $state(false);
     let error: string | null = $state(null);
 
@@ -27,7 +29,7 @@ export function createDurationService() {
     // Can navigate to next: either move within window OR fetch newer window
     const canGoNext = $derived(selectedIndex < durations.length - 1 || hasNext);
 
-    async function fetch(timestamp: string, direction: 'AROUND' | 'BEFORE' | 'AFTER'): Promise<void> {
+    async function fetch(timestamp: string, direction: 'AROUND' | 'BEFORE' | 'AFTER', cursor?: string): Promise<void> {
         if (!currentChannelId) return;
         
         const requestId: number = ++fetchRequestId;
@@ -36,8 +38,8 @@ export function createDurationService() {
         
         try {
             const fetchFn = currentOrgId 
-                ? () => fetchOrgChannelDurations(currentOrgId!, currentChannelId!, timestamp, direction)
-                : () => fetchUserChannelDurations(currentChannelId!, timestamp, direction);
+                ? () => fetchOrgChannelDurations(currentOrgId!, currentChannelId!, timestamp, direction, cursor)
+                : () => fetchUserChannelDurations(currentChannelId!, timestamp, direction, cursor);
                 
             const response = await fetchFn();
 
@@ -48,6 +50,8 @@ export function createDurationService() {
             selectedIndex = response.selectedIndex;
             hasPrevious = response.hasPrevious;
             hasNext = response.hasNext;
+            previousCursor = response.previousCursor;
+            nextCursor = response.nextCursor;
             
         } catch (err: unknown) {
             if (requestId !== fetchRequestId) return;
@@ -73,7 +77,7 @@ export function createDurationService() {
         if (selectedIndex > 0) {
             selectedIndex--;
         } else if (hasPrevious && durations.length > 0) {
-            await fetch(durations[0].startTime, 'BEFORE');
+            await fetch(durations[0].startTime, 'BEFORE', previousCursor);
         }
     }
 
@@ -84,7 +88,7 @@ export function createDurationService() {
             selectedIndex++;
         } else if (hasNext && durations.length > 0) {
             const lastEndTime = durations[durations.length - 1].endTime ?? new Date().toISOString();
-            await fetch(lastEndTime, 'AFTER');
+            await fetch(lastEndTime, 'AFTER', nextCursor);
         }
     }
     
@@ -18,7 +18,9 @@ import {
 	getMonitorSessionKey,
 	parseMonitorQueryParams,
 	buildMonitorShareUrl,
-	createAutoRefresh
+	createAutoRefresh,
+	createMonitorStream,
+	applyMonitorDelta
 } from '../monitor.service';
 import { type ZoomEntry, type ZoomBreadcrumb, BUCKET_INFO, formatZoomRangeLabel } from '$lib/components/monitor/types';
 
@@ -29,6 +31,7 @@ export interface MonitorPageConfig {
 	getWatchlist: (watchlistId: number) => Promise<WatchlistDetailsResponse>;
 	searchWatchlists: (params: any) => Promise<{ content?: Array<{ id?: number }> }>;
 	getMonitor: (request: MonitorRequest) => Promise<MonitorResponse>;
+	streamMonitor: (request: MonitorRequest) => EventSource;
 	buildEditRoute: (watchlistId: number) => string;
 	buildWatchlistsRoute: () => string;
 	buildMonitorRoute: () => string;
@@ -37,7 +40,7 @@ export interface MonitorPageConfig {
 // ============ Service Factory ============
 
 export function createMonitorPageService(config: MonitorPageConfig) {
-	const { orgId, getWatchlist, searchWatchlists, getMonitor, buildEditRoute, buildWatchlistsRoute, buildMonitorRoute } = config;
+	const { orgId, getWatchlist, searchWatchlists, getMonitor, streamMonitor, buildEditRoute, buildWatchlistsRoute, buildMonitorRoute } = config;
 
 	// Session storage for persisting monitor state
 	const session: Sessionstorage<MonitorSession> = new Sessionstorage<MonitorSession>(
@@ -69,8 +72,9 @@ export function createMonitorPageService(config: MonitorPageConfig) {
 	// Request counter for race condition protection
 	let loadMonitorRequestId: number = 0;
 
-	// Auto-refresh for live mode
+	// Auto-refresh for live mode, used when the live stream is unavailable or while zoomed in
 	const autoRefresh = createAutoRefresh(() => loadMonitorData());
+	let liveStream: { close: () => void } | null = null;
 
 	// Derived state from session
 	const watchlistId = $derived(session.value.watchlistId);
@@ -238,9 +242,11 @@ export function createMonitorPageService(config: MonitorPageConfig) {
 			monitorData = data;
 			lastUpdated = new Date();
 
-			// Setup auto-refresh if live mode
-			autoRefresh.stop();
-			if (monitorData.live && (filters.timeRange !== 'custom' || currentZoomLevel > 0)) {
+			// Follow live mode: stream preset ranges, poll zoomed-in ranges
+			stopLiveUpdates();
+			if (monitorData.live && filters.timeRange !== 'custom' && currentZoomLevel === 0) {
+				startLiveStream(request, requestId);
+			} else if (monitorData.live && currentZoomLevel > 0) {
 				autoRefresh.start();
 			}
 		} catch (err: unknown) {
@@ -254,6 +260,36 @@ export function createMonitorPageService(config: MonitorPageConfig) {
 		}
 	}
 
+	function startLiveStream(request: MonitorRequest, requestId: number): void {
+		liveStream = createMonitorStream(streamMonitor(request), {
+			onSnapshot: (data: MonitorResponse): void => {
+				if (requestId !== loadMonitorRequestId) return;
+				monitorData = data;
+				lastUpdated = new Date();
+			},
+			onDelta: (delta): void => {
+				if (requestId !== loadMonitorRequestId || !monitorData) return;
+				if (!applyMonitorDelta(monitorData, delta)) {
+					// A filtered-out channel became critical and has to be shown: fetch a new snapshot
+					loadMonitorData();
+					return;
+				}
+				lastUpdated = new Date();
+			},
+			onClosed: (): void => {
+				if (requestId !== loadMonitorRequestId) return;
+				stopLiveUpdates();
+				autoRefresh.start();
+			}
+		});
+	}
+
+	function stopLiveUpdates(): void {
+		autoRefresh.stop();
+		liveStream?.close();
+		liveStream = null;
+	}
+
 	// ============ Initialization ============
 
 	async function initializePage(): Promise<void> {
@@ -354,7 +390,7 @@ export function createMonitorPageService(config: MonitorPageConfig) {
 	}
 
 	function cleanup(): void {
-		autoRefresh.stop();
+		stopLiveUpdates();
 	}
 
 	// ============ Zoom Methods ============
@@ -20,9 +20,10 @@ export interface ZoomBreadcrumb {
 }
 
 export const BUCKET_INFO: Record<string, { label: string; zoomWindowHours: number }> = {
-	PT4H: { label: '4h resolution', zoomWindowHours: 24 },
+	P1D: { label: '1d resolution', zoomWindowHours: 72 },
 	PT2H: { label: '2h resolution', zoomWindowHours: 12 },
-	PT30M: { label: '30m resolution', zoomWindowHours: 3 }
+	PT30M: { label: '30m resolution', zoomWindowHours: 3 },
+	PT5M: { label: '5m resolution', zoomWindowHours: 1 }
 };
 
 /**
@@ -2048,11 +2048,11 @@ export interface components {
             /** @description Watchlist configuration with dashboard, channels and groups */
             dashboard: components["schemas"]["DashboardResponse"];
             /**
-             * @description LOD bucket size (e.g. PT30M, PT2H, PT4H). Null when using raw events.
+             * @description LOD bucket size (e.g. PT5M, PT30M, PT2H, P1D). Null when using raw events.
              * @example PT30M
              * @enum {string}
              */
-            bucketSize?: "PT30M" | "PT2H" | "PT4H";
+            bucketSize?: "PT5M" | "PT30M" | "PT2H" | "P1D";
             /** @description Applied filter settings */
             filters: components["schemas"]["MonitorFilters"];
         };
@@ -2148,6 +2148,11 @@ export interface components {
              * @enum {string}
              */
             direction: "AROUND" | "BEFORE" | "AFTER";
+            /**
+             * @description Cursor from a previous response; when given, the page before (BEFORE) or after (AFTER) it is returned instead of the page relative to the timestamp
+             * @example MjAyNi0wMi0xMlQxMDoyMDowMFo
+             */
+            cursor?: string;
         };
         /** @description Duration details response with timeline durations and navigation metadata */
         DurationDetailsResponse: {
@@ -2169,6 +2174,16 @@ export interface components {
              * @example false
              */
             hasNext: boolean;
+            /**
+             * @description Cursor for the durations before this page, absent when there are none
+             * @example MjAyNi0wMi0xMlQxMDoyMDowMFo
+             */
+            previousCursor?: string;
+            /**
+             * @description Cursor for the durations after this page, absent when there are none
+             * @example MjAyNi0wMi0xMlQxMDo0NTowMFo
+             */
+            nextCursor?: string;
         };
         PageResourceChannelDetailsResponse: {
             /**
@@ -72,10 +72,6 @@ dependencies {
     // Provides Mapstruct annotations for spring.
     annotationProcessor("org.mapstruct", "mapstruct-processor", retrieve("mapStructVersion"))
 
-    // ======= RUNTIME DEPENDENCIES =======
-    // Jdbc driver to connect with the PostgreSQL database.
-    runtimeOnly("org.postgresql", "postgresql", retrieve("postgresVersion"))
-
     // ======= SPRINGBOOT DEPENDENCIES =======
     implementation("org.springframework.boot", "spring-boot-starter-actuator")
     implementation("org.springframework.boot", "spring-boot-starter-security")
@@ -92,6 +88,9 @@ dependencies {
     }
 
     // ======= IMPLEMENTATION DEPENDENCIES =======
+    // Jdbc driver to connect with the PostgreSQL database (compile scope for the COPY API used by bulk ingestion).
+    implementation("org.postgresql", "postgresql", retrieve("postgresVersion"))
+
     // Open API documentation generation.
     implementation("org.springdoc", "springdoc-openapi-starter-webmvc-ui", retrieve("springdocVersion"))
 
@@ -234,6 +233,23 @@ tasks.withType<Test> {
     }
 }
 
+// Benchmarks log timings rather than assert them, so they only run on demand: ./gradlew benchmark
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs the benchmarks tagged with 'benchmark'."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+}
+
 tasks.withType<ProcessResources> {
     filesMatching("application.yml") {
         filter { line ->
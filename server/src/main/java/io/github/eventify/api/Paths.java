@@ -261,6 +261,12 @@ public final class Paths {
 
     public static final String ORGANIZATION_MONITOR_PATH = ORGANIZATION_PATH + MONITOR_PART;
 
+    public static final String STREAM_PART = "/stream";
+
+    public static final String USER_MONITOR_STREAM_PATH = USER_MONITOR_PATH + STREAM_PART;
+
+    public static final String ORGANIZATION_MONITOR_STREAM_PATH = ORGANIZATION_MONITOR_PATH + STREAM_PART;
+
     public static final String DURATIONS_PART = "/durations";
 
     public static final String USER_CHANNEL_DURATIONS_PATH = USER_CHANNELS_PATH + ID_PART + DURATIONS_PART;
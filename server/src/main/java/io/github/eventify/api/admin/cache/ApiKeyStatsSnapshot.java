@@ -0,0 +1,85 @@
+package io.github.eventify.api.admin.cache;
+
+import io.github.eventify.api.admin.model.response.ApiKeyStatsResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Snapshot of the admin API key statistics, so loading the dashboard does not count the keys again.
+ *
+ * <p>While the dashboard is being viewed, the snapshot is refreshed in the background by the
+ * {@link io.github.eventify.api.admin.job.ApiKeyStatsRefreshJob}. A snapshot that nobody read since its last refresh is
+ * left alone; when it is read again after it became older than {@link #MAXIMUM_AGE}, it is computed on the spot.
+ */
+@Component
+public class ApiKeyStatsSnapshot {
+
+    public static final Duration MAXIMUM_AGE = Duration.ofMinutes(2);
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    private final AtomicBoolean read = new AtomicBoolean();
+
+    /**
+     * Returns the snapshot, or computes and stores it when there is none or it is too old.
+     *
+     * @param compute computes the statistics
+     * @return the statistics
+     */
+    public ApiKeyStatsResponse getOrCompute(final Supplier<ApiKeyStatsResponse> compute) {
+        read.set(true);
+        final Snapshot snapshot = current.get();
+        if (snapshot != null && snapshot.isFresh(Instant.now())) {
+            return snapshot.statistics;
+        }
+        final ApiKeyStatsResponse statistics = compute.get();
+        current.set(new Snapshot(statistics, Instant.now()));
+        return statistics;
+    }
+
+    /**
+     * Replaces the snapshot with freshly computed statistics, if it was read since the previous refresh.
+     *
+     * @param compute computes the statistics
+     * @return whether the snapshot was refreshed
+     */
+    public boolean refreshIfRead(final Supplier<ApiKeyStatsResponse> compute) {
+        if (!read.getAndSet(false)) {
+            return false;
+        }
+        current.set(new Snapshot(compute.get(), Instant.now()));
+        return true;
+    }
+
+    /**
+     * Drops the snapshot, e.g. after an admin revoked a key, so the next read shows the change.
+     */
+    public void invalidate() {
+        current.set(null);
+    }
+
+    /**
+     * Computed statistics and the moment they were computed.
+     */
+    private static final class Snapshot {
+
+        private final ApiKeyStatsResponse statistics;
+
+        private final Instant computedAt;
+
+        private Snapshot(final ApiKeyStatsResponse statistics, final Instant computedAt) {
+            this.statistics = statistics;
+            this.computedAt = computedAt;
+        }
+
+        private boolean isFresh(final Instant now) {
+            return now.isBefore(computedAt.plus(MAXIMUM_AGE));
+        }
+    }
+}
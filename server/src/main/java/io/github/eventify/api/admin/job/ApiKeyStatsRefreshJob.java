@@ -0,0 +1,40 @@
+package io.github.eventify.api.admin.job;
+
+import io.github.eventify.api.admin.service.AdminApiKeyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Scheduled job for refreshing the snapshot of the admin API key statistics.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyStatsRefreshJob {
+
+    private final AdminApiKeyService adminApiKeyService;
+
+    /**
+     * Refreshes the statistics while the admin dashboard is being viewed.
+     * Runs every 60 seconds, which bounds how stale the statistics on the dashboard can be.
+     */
+    @Scheduled(
+        fixedDelay = 60,
+        timeUnit = SECONDS
+    )
+    public void refreshApiKeyStats() {
+        try {
+            if (adminApiKeyService.refreshStatistics()) {
+                log.debug("Refreshed the API key statistics snapshot");
+            }
+        } catch (final DataAccessException exception) {
+            log.error("Failed to refresh the API key statistics, retrying on the next run", exception);
+        }
+    }
+}
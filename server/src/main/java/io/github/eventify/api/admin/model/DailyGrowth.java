@@ -0,0 +1,53 @@
+package io.github.eventify.api.admin.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import jakarta.persistence.*;
+
+import org.hibernate.annotations.Immutable;
+
+import static io.github.eventify.Main.SERIAL_VERSION_UID;
+
+/**
+ * Read-only entity of the daily_growth rollup: the users and organizations created on one (UTC) day.
+ * The rows are maintained by triggers on the user and organization tables, never by the application.
+ */
+@Getter
+@Entity
+@Immutable
+@NoArgsConstructor
+@Table(name = "daily_growth")
+public class DailyGrowth implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = SERIAL_VERSION_UID;
+
+    @Id
+    @Column(
+        name = "day",
+        nullable = false
+    )
+    private LocalDate day;
+
+    @Column(
+        name = "new_users",
+        nullable = false
+    )
+    private Integer newUsers;
+
+    @Column(
+        name = "validated_users",
+        nullable = false
+    )
+    private Integer validatedUsers;
+
+    @Column(
+        name = "new_organizations",
+        nullable = false
+    )
+    private Integer newOrganizations;
+}
@@ -0,0 +1,63 @@
+package io.github.eventify.api.admin.model.projection;
+
+/**
+ * Projection interface for the counters of the admin API key statistics.
+ */
+public interface ApiKeyStatsCounts {
+
+    /**
+     * Get the number of keys.
+     *
+     * @return total count
+     */
+    Long getTotalKeys();
+
+    /**
+     * Get the number of user-scoped keys.
+     *
+     * @return user key count
+     */
+    Long getUserKeys();
+
+    /**
+     * Get the number of organization-scoped keys.
+     *
+     * @return organization key count
+     */
+    Long getOrganizationKeys();
+
+    /**
+     * Get the number of keys created in the past week.
+     *
+     * @return created count
+     */
+    Long getCreatedThisWeek();
+
+    /**
+     * Get the number of keys created in the past month.
+     *
+     * @return created count
+     */
+    Long getCreatedThisMonth();
+
+    /**
+     * Get the number of keys revoked in the past month.
+     *
+     * @return revoked count
+     */
+    Long getRevokedThisMonth();
+
+    /**
+     * Get the number of keys that expire in the next 30 days.
+     *
+     * @return expiring count
+     */
+    Long getExpiringNext30Days();
+
+    /**
+     * Get the number of keys that were never used.
+     *
+     * @return never used count
+     */
+    Long getNeverUsedKeys();
+}
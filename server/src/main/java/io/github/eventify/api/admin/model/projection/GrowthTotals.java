@@ -0,0 +1,28 @@
+package io.github.eventify.api.admin.model.projection;
+
+/**
+ * Projection interface for the running totals of the daily growth rollup.
+ */
+public interface GrowthTotals {
+
+    /**
+     * Get the number of users.
+     *
+     * @return total user count
+     */
+    Long getTotalUsers();
+
+    /**
+     * Get the number of validated users.
+     *
+     * @return active user count
+     */
+    Long getActiveUsers();
+
+    /**
+     * Get the number of organizations.
+     *
+     * @return total organization count
+     */
+    Long getTotalOrganizations();
+}
@@ -0,0 +1,93 @@
+package io.github.eventify.api.admin.repository;
+
+import io.github.eventify.api.admin.model.DailyGrowth;
+import io.github.eventify.api.admin.model.projection.DailyGrowthData;
+import io.github.eventify.api.admin.model.projection.GrowthTotals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for querying the daily_growth rollup: the users and organizations created per (UTC) day.
+ * Triggers on the user and organization tables keep the rollup up to date, so the totals and growth series of the
+ * admin dashboard are read from one row per day instead of counting both tables.
+ */
+@Repository
+public interface DailyGrowthRepository extends org.springframework.data.repository.Repository<DailyGrowth, LocalDate> {
+
+    /**
+     * Find the total number of users, validated users and organizations.
+     *
+     * @return the running totals over all days.
+     */
+    @Query(
+        value = """
+            SELECT COALESCE(SUM(new_users), 0) AS totalUsers,
+                   COALESCE(SUM(validated_users), 0) AS activeUsers,
+                   COALESCE(SUM(new_organizations), 0) AS totalOrganizations
+            FROM daily_growth
+            """,
+        nativeQuery = true
+    )
+    GrowthTotals findGrowthTotals();
+
+    /**
+     * Find the total and new users of every day in the given date range.
+     *
+     * @param start the first day of the range.
+     * @param end   the last day of the range (inclusive).
+     * @return one row per day, including the days without new users.
+     */
+    @Query(
+        value = """
+            SELECT gs.day::date AS date,
+                   (SELECT COALESCE(SUM(new_users), 0) FROM daily_growth WHERE day < CAST(:start AS date))
+                       + SUM(COALESCE(growth.new_users, 0)) OVER (ORDER BY gs.day) AS total,
+                   CAST(COALESCE(growth.new_users, 0) AS bigint) AS new
+            FROM generate_series(
+                CAST(:start AS date),
+                CAST(:end AS date),
+                CAST('1 day' AS interval)
+            ) AS gs(day)
+            LEFT JOIN daily_growth growth ON growth.day = gs.day::date
+            ORDER BY gs.day ASC
+            """,
+        nativeQuery = true
+    )
+    List<DailyGrowthData> findDailyUserGrowth(
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
+
+    /**
+     * Find the total and new organizations of every day in the given date range.
+     *
+     * @param start the first day of the range.
+     * @param end   the last day of the range (inclusive).
+     * @return one row per day, including the days without new organizations.
+     */
+    @Query(
+        value = """
+            SELECT gs.day::date AS date,
+                   (SELECT COALESCE(SUM(new_organizations), 0) FROM daily_growth WHERE day < CAST(:start AS date))
+                       + SUM(COALESCE(growth.new_organizations, 0)) OVER (ORDER BY gs.day) AS total,
+                   CAST(COALESCE(growth.new_organizations, 0) AS bigint) AS new
+            FROM generate_series(
+                CAST(:start AS date),
+                CAST(:end AS date),
+                CAST('1 day' AS interval)
+            ) AS gs(day)
+            LEFT JOIN daily_growth growth ON growth.day = gs.day::date
+            ORDER BY gs.day ASC
+            """,
+        nativeQuery = true
+    )
+    List<DailyGrowthData> findDailyOrganizationGrowth(
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
+}
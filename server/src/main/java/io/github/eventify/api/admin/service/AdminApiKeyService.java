@@ -1,11 +1,13 @@
 package io.github.eventify.api.admin.service;
 
+import io.github.eventify.api.admin.cache.ApiKeyStatsSnapshot;
 import io.github.eventify.api.admin.model.AdminApiKeyAuditMetaData;
 import io.github.eventify.api.admin.model.AdminApiKeyMetaData;
+import io.github.eventify.api.admin.model.projection.ApiKeyStatsCounts;
 import io.github.eventify.api.admin.model.response.ApiKeyStatsResponse;
+import io.github.eventify.api.apikey.cache.ApiKeyCredentialCache;
 import io.github.eventify.api.apikey.model.ApiKey;
 import io.github.eventify.api.apikey.model.ApiKeyAudit;
-import io.github.eventify.api.apikey.model.ApiKeyScope;
 import io.github.eventify.api.apikey.model.mapper.ApiKeyMapper;
 import io.github.eventify.api.apikey.repository.ApiKeyAuditRepository;
 import io.github.eventify.api.apikey.repository.ApiKeyRepository;
@@ -28,6 +30,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import static io.github.eventify.common.exception.ApiErrorCode.API_KEY_NOT_FOUND;
+import static io.github.eventify.common.util.TransactionCallbacks.afterCommit;
 
 /**
  * Service for admin API key management operations. Note: High coupling is expected here as this admin service coordinates between multiple
@@ -47,6 +50,10 @@ public class AdminApiKeyService {
 
     private final ApiKeyMapper apiKeyMapper;
 
+    private final ApiKeyCredentialCache credentialCache;
+
+    private final ApiKeyStatsSnapshot statsSnapshot;
+
     /**
      * Revokes an API key (user or organization) and creates an audit record.
      *
@@ -62,28 +69,30 @@ public class AdminApiKeyService {
         final ApiKeyAudit audit = apiKey.toAuditRecord(revoker);
         apiKeyAuditRepository.save(audit);
         apiKeyRepository.delete(apiKey);
+        afterCommit(() -> {
+            credentialCache.evictApiKey(apiKey.getId());
+            statsSnapshot.invalidate();
+        });
     }
 
     /**
-     * Get API key statistics.
+     * Get API key statistics, from the snapshot while it is fresh.
      *
      * @return statistics response
      */
     @Transactional(readOnly = true)
     public ApiKeyStatsResponse getStatistics() {
-        final OffsetDateTime now = OffsetDateTime.now();
-        final List<ApiKey> topKeys = getTopKeysByUsage(5);
-        return ApiKeyStatsResponse.builder()
-            .totalKeys(apiKeyRepository.countAllKeys())
-            .userKeys(apiKeyRepository.countByScope(ApiKeyScope.USER))
-            .organizationKeys(apiKeyRepository.countByScope(ApiKeyScope.ORGANIZATION))
-            .createdThisWeek(apiKeyRepository.countByCreatedAtAfter(now.minusDays(7)))
-            .createdThisMonth(apiKeyRepository.countByCreatedAtAfter(now.minusDays(30)))
-            .revokedThisMonth(apiKeyAuditRepository.countByRevokedAtAfter(now.minusDays(30)))
-            .expiringNext30Days(apiKeyRepository.countByExpiresAtBetween(now, now.plusDays(30)))
-            .neverUsedKeys(apiKeyRepository.countByLastUsedAtIsNull())
-            .topKeysByUsage(apiKeyMapper.toResourceObjects(topKeys))
-            .build();
+        return statsSnapshot.getOrCompute(this::computeStatistics);
+    }
+
+    /**
+     * Refreshes the snapshot of the API key statistics, if it was read since the previous refresh.
+     *
+     * @return whether the snapshot was refreshed
+     */
+    @Transactional(readOnly = true)
+    public boolean refreshStatistics() {
+        return statsSnapshot.refreshIfRead(this::computeStatistics);
     }
 
     /**
@@ -117,6 +126,28 @@ public class AdminApiKeyService {
         return apiKeyAuditRepository.findAll(spec, pageable);
     }
 
+    /**
+     * Compute API key statistics, counting all keys in a single query.
+     *
+     * @return the API key statistics
+     */
+    private ApiKeyStatsResponse computeStatistics() {
+        final OffsetDateTime now = OffsetDateTime.now();
+        final ApiKeyStatsCounts counts = apiKeyRepository.countStatistics(now, now.minusDays(7), now.minusDays(30), now.plusDays(30));
+        final List<ApiKey> topKeys = getTopKeysByUsage(5);
+        return ApiKeyStatsResponse.builder()
+            .totalKeys(counts.getTotalKeys())
+            .userKeys(counts.getUserKeys())
+            .organizationKeys(counts.getOrganizationKeys())
+            .createdThisWeek(counts.getCreatedThisWeek())
+            .createdThisMonth(counts.getCreatedThisMonth())
+            .revokedThisMonth(counts.getRevokedThisMonth())
+            .expiringNext30Days(counts.getExpiringNext30Days())
+            .neverUsedKeys(counts.getNeverUsedKeys())
+            .topKeysByUsage(apiKeyMapper.toResourceObjects(topKeys))
+            .build();
+    }
+
     /**
      * Get top API keys by usage.
      *
@@ -1,15 +1,13 @@
 package io.github.eventify.api.admin.service;
 
 import io.github.eventify.api.admin.model.projection.DailyGrowthData;
+import io.github.eventify.api.admin.model.projection.GrowthTotals;
 import io.github.eventify.api.admin.model.response.AdminStatsResponse;
 import io.github.eventify.api.admin.model.response.GrowthDataPoint;
-import io.github.eventify.api.organization.repository.OrganizationRepository;
-import io.github.eventify.api.user.repository.UserRepository;
+import io.github.eventify.api.admin.repository.DailyGrowthRepository;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDate;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -17,33 +15,34 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service for admin dashboard statistics.
+ *
+ * <p>All statistics are read from the daily growth rollup, which the database keeps up to date as users and
+ * organizations are created, validated and deleted.
  */
 @Service
 @RequiredArgsConstructor
 public class AdminStatsService {
 
-    private final UserRepository userRepository;
-
-    private final OrganizationRepository organizationRepository;
+    private final DailyGrowthRepository dailyGrowthRepository;
 
     /**
      * Get admin statistics including total counts and growth data.
      *
      * @return AdminStatsResponse containing all statistics
      */
+    @Transactional(readOnly = true)
     public AdminStatsResponse getAdminStats() {
-        final long totalOrganizations = organizationRepository.count();
-        final long totalUsers = userRepository.count();
-        final long activeUsers = userRepository.countByValidatedTrue();
+        final GrowthTotals totals = dailyGrowthRepository.findGrowthTotals();
 
         final List<GrowthDataPoint> growthData = calculateGrowthData();
         return AdminStatsResponse.builder()
-            .totalOrganizations(totalOrganizations)
-            .totalUsers(totalUsers)
-            .activeUsers(activeUsers)
+            .totalOrganizations(totals.getTotalOrganizations())
+            .totalUsers(totals.getTotalUsers())
+            .activeUsers(totals.getActiveUsers())
             .growthData(growthData)
             .build();
     }
@@ -52,14 +51,11 @@ public class AdminStatsService {
         final LocalDate today = LocalDate.now();
         final LocalDate startDate = today.minusDays(30);
 
-        final OffsetDateTime start = startDate.atStartOfDay(ZoneOffset.UTC).toOffsetDateTime();
-        final OffsetDateTime end = today.atStartOfDay(ZoneOffset.UTC).toOffsetDateTime();
-
-        final Map<LocalDate, DailyGrowthData> userCounts = userRepository.findDailyGrowthCounts(start, end)
+        final Map<LocalDate, DailyGrowthData> userCounts = dailyGrowthRepository.findDailyUserGrowth(startDate, today)
             .stream()
             .collect(Collectors.toMap(DailyGrowthData::getDate, Function.identity()));
 
-        final Map<LocalDate, DailyGrowthData> orgCounts = organizationRepository.findDailyGrowthCounts(start, end)
+        final Map<LocalDate, DailyGrowthData> orgCounts = dailyGrowthRepository.findDailyOrganizationGrowth(startDate, today)
             .stream()
             .collect(Collectors.toMap(DailyGrowthData::getDate, Function.identity()));
 
@@ -0,0 +1,160 @@
+package io.github.eventify.api.apikey.cache;
+
+import io.github.eventify.common.cache.ExpiringCache;
+import io.github.eventify.common.config.properties.ApiKeyCacheProperties;
+import io.github.eventify.common.config.properties.SecurityProperties;
+import io.github.eventify.common.exception.InternalServerException;
+import io.github.eventify.common.security.principal.ApiKeyPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.stereotype.Component;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Process-wide cache of successfully verified API keys.
+ *
+ * <p>Entries are keyed by an HMAC-SHA256 digest of the raw key under a secret generated at startup, so raw keys are
+ * never held in memory. An entry lives for the configured TTL or until the key itself expires, whichever comes first,
+ * and is evicted when its key is revoked or its user is disabled. Failed verifications are never cached.
+ */
+@Component
+public class ApiKeyCredentialCache {
+
+    public static final String LOOKUP_METRIC = "eventify.apikey.cache.lookups";
+
+    public static final String HIT_RATIO_METRIC = "eventify.apikey.cache.hit.ratio";
+
+    public static final String SIZE_METRIC = "eventify.apikey.cache.size";
+
+    public static final String VERIFICATION_METRIC = "eventify.apikey.verification";
+
+    private static final String DIGEST_ALGORITHM = "HmacSHA256";
+
+    private static final int SECRET_LENGTH = 32;
+
+    private final ApiKeyCacheProperties properties;
+
+    private final SecretKeySpec secret;
+
+    private final ExpiringCache<String, ApiKeyPrincipal> verified;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Timer verificationTimer;
+
+    /**
+     * Creates the cache with a fresh digest secret and registers its metrics.
+     *
+     * @param securityProperties the security configuration
+     * @param meterRegistry      the registry to expose cache metrics on
+     */
+    public ApiKeyCredentialCache(final SecurityProperties securityProperties, final MeterRegistry meterRegistry) {
+        this.properties = securityProperties.getApiKeyCache();
+
+        final byte[] secretBytes = new byte[SECRET_LENGTH];
+        new SecureRandom().nextBytes(secretBytes);
+        this.secret = new SecretKeySpec(secretBytes, DIGEST_ALGORITHM);
+        this.verified = new ExpiringCache<>(properties.getMaxSize(), properties.getTtl());
+
+        this.hitCounter = Counter.builder(LOOKUP_METRIC)
+            .tag("result", "hit")
+            .description("API key lookups served from the verified-key cache")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(LOOKUP_METRIC)
+            .tag("result", "miss")
+            .description("API key lookups that required a full verification")
+            .register(meterRegistry);
+        this.verificationTimer = Timer.builder(VERIFICATION_METRIC)
+            .description("Time taken to fully verify an API key (lookup and hash check)")
+            .register(meterRegistry);
+        Gauge.builder(HIT_RATIO_METRIC, this, ApiKeyCredentialCache::getHitRatio)
+            .description("Fraction of API key lookups served from the cache")
+            .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, verified, ExpiringCache::size)
+            .description("Number of verified API keys in the cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached principal for a raw key, or verifies the key and caches the result.
+     *
+     * @param rawKey   the raw API key
+     * @param verifier the full verification, only invoked on a cache miss; its exceptions are propagated
+     * @return the authenticated principal
+     */
+    public ApiKeyPrincipal getOrVerify(final String rawKey, final Function<String, ApiKeyPrincipal> verifier) {
+        if (!properties.isEnabled()) {
+            return verificationTimer.record(() -> verifier.apply(rawKey));
+        }
+        final String digest = digest(rawKey);
+        return lookup(digest).orElseGet(() -> verifyAndStore(digest, rawKey, verifier));
+    }
+
+    /**
+     * Evicts the cached verification of an API key, e.g. after it was revoked.
+     *
+     * @param apiKeyId the API key ID
+     */
+    public void evictApiKey(final Long apiKeyId) {
+        verified.evictIf(principal -> Objects.equals(principal.getApiKeyId(), apiKeyId));
+    }
+
+    /**
+     * Evicts the cached verifications of all API keys of a user, e.g. after the user was disabled.
+     *
+     * @param userId the user ID
+     */
+    public void evictUser(final Long userId) {
+        verified.evictIf(principal -> Objects.equals(principal.getUserId(), userId));
+    }
+
+    /**
+     * Fraction of lookups served from the cache since startup.
+     *
+     * @return the hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+        final double lookups = hitCounter.count() + missCounter.count();
+        return lookups == 0 ? 0 : hitCounter.count() / lookups;
+    }
+
+    private Optional<ApiKeyPrincipal> lookup(final String digest) {
+        final Optional<ApiKeyPrincipal> cached = verified.get(digest);
+        (cached.isPresent() ? hitCounter : missCounter).increment();
+        return cached;
+    }
+
+    private ApiKeyPrincipal verifyAndStore(final String digest, final String rawKey,
+        final Function<String, ApiKeyPrincipal> verifier) {
+        final ApiKeyPrincipal principal = verificationTimer.record(() -> verifier.apply(rawKey));
+        final OffsetDateTime keyExpiry = principal.getApiKey().getExpiresAt();
+        verified.put(digest, principal, keyExpiry == null ? null : keyExpiry.toInstant());
+        return principal;
+    }
+
+    private String digest(final String rawKey) {
+        try {
+            final Mac mac = Mac.getInstance(DIGEST_ALGORITHM);
+            mac.init(secret);
+            return HexFormat.of().formatHex(mac.doFinal(rawKey.getBytes(UTF_8)));
+        } catch (final GeneralSecurityException exception) {
+            throw new InternalServerException(exception);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.eventify.api.apikey.job;
+
+import io.github.eventify.api.apikey.usage.ApiKeyUsageAccumulator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Scheduled job for writing accumulated API key usage statistics.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyUsageFlushJob {
+
+    private final ApiKeyUsageAccumulator apiKeyUsageAccumulator;
+
+    /**
+     * Flushes the usage accumulated since the previous run.
+     * Runs every 30 seconds, which bounds how stale last-used timestamps and request totals can be.
+     */
+    @Scheduled(
+        fixedDelay = 30,
+        timeUnit = SECONDS
+    )
+    public void flushApiKeyUsage() {
+        try {
+            final int flushed = apiKeyUsageAccumulator.flush();
+            log.debug("Flushed usage of '{}' API keys", flushed);
+        } catch (final DataAccessException exception) {
+            log.error("Failed to flush API key usage, retrying on the next run", exception);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.eventify.api.apikey.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Usage of a single API key accumulated since the last flush.
+ */
+@Getter
+@AllArgsConstructor
+public class ApiKeyUsage {
+
+    private final Long apiKeyId;
+
+    private final long requests;
+
+    private final OffsetDateTime lastUsedAt;
+}
@@ -2,7 +2,6 @@ package io.github.eventify.api.apikey.repository;
 
 import io.github.eventify.api.apikey.model.ApiKeyAudit;
 
-import java.time.OffsetDateTime;
 import java.util.List;
 
 import org.jspecify.annotations.NonNull;
@@ -37,15 +36,6 @@ public interface ApiKeyAuditRepository extends JpaRepository<ApiKeyAudit, Long>,
     @EntityGraph(attributePaths = "revokedBy")
     Page<ApiKeyAudit> findAll(@NonNull Specification<ApiKeyAudit> spec, @NonNull Pageable pageable);
 
-    /**
-     * Count keys revoked after a specific date.
-     *
-     * @param since the date
-     * @return count of revoked keys
-     */
-    @Query("SELECT COUNT(a) FROM ApiKeyAudit a WHERE a.revokedAt >= :since")
-    Long countByRevokedAtAfter(@Param("since") OffsetDateTime since);
-
     /**
      * Delete all audit records where the revoking user is in the given list.
      *
@@ -1,7 +1,7 @@
 package io.github.eventify.api.apikey.repository;
 
+import io.github.eventify.api.admin.model.projection.ApiKeyStatsCounts;
 import io.github.eventify.api.apikey.model.ApiKey;
-import io.github.eventify.api.apikey.model.ApiKeyScope;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -89,45 +89,35 @@ public interface ApiKeyRepository extends JpaRepository<ApiKey, Long>, JpaSpecif
     Optional<ApiKey> findByIdAndOrganizationId(Long id, Long organizationId);
 
     /**
-     * Count all active API keys.
+     * Count all statistics of the admin API key dashboard in a single pass over the keys. Revocations live in the audit
+     * table and are counted by a subquery of the same statement.
      *
-     * @return count of all keys
+     * @param now           the current time
+     * @param weekAgo       the start of the past week
+     * @param monthAgo      the start of the past month
+     * @param expiringUntil the end of the window in which expiring keys are counted
+     * @return the counts
      */
-    @Query("SELECT COUNT(k) FROM ApiKey k")
-    Long countAllKeys();
-
-    /**
-     * Count API keys by scope.
-     *
-     * @param scope the scope
-     * @return count of keys with given scope
-     */
-    Long countByScope(ApiKeyScope scope);
-
-    /**
-     * Count keys created after a specific date.
-     *
-     * @param since the date
-     * @return count of keys
-     */
-    Long countByCreatedAtAfter(OffsetDateTime since);
-
-    /**
-     * Count keys expiring between two dates (and not null).
-     *
-     * @param start the start date
-     * @param end   the end date
-     * @return count of keys
-     */
-    @Query("SELECT COUNT(k) FROM ApiKey k WHERE k.expiresAt IS NOT NULL AND k.expiresAt BETWEEN :start AND :end")
-    Long countByExpiresAtBetween(@Param("start") OffsetDateTime start, @Param("end") OffsetDateTime end);
-
-    /**
-     * Count keys that have never been used.
-     *
-     * @return count of keys
-     */
-    Long countByLastUsedAtIsNull();
+    @Query(
+        value = """
+            SELECT COUNT(*) AS totalKeys,
+                   COUNT(*) FILTER (WHERE scope = 'USER') AS userKeys,
+                   COUNT(*) FILTER (WHERE scope = 'ORGANIZATION') AS organizationKeys,
+                   COUNT(*) FILTER (WHERE created_at > :weekAgo) AS createdThisWeek,
+                   COUNT(*) FILTER (WHERE created_at > :monthAgo) AS createdThisMonth,
+                   COUNT(*) FILTER (WHERE expires_at BETWEEN :now AND :expiringUntil) AS expiringNext30Days,
+                   COUNT(*) FILTER (WHERE last_used_at IS NULL) AS neverUsedKeys,
+                   (SELECT COUNT(*) FROM api_key_audit WHERE revoked_at >= :monthAgo) AS revokedThisMonth
+            FROM api_key
+            """,
+        nativeQuery = true
+    )
+    ApiKeyStatsCounts countStatistics(
+        @Param("now") OffsetDateTime now,
+        @Param("weekAgo") OffsetDateTime weekAgo,
+        @Param("monthAgo") OffsetDateTime monthAgo,
+        @Param("expiringUntil") OffsetDateTime expiringUntil
+    );
 
     /**
      * Find top N keys by usage.
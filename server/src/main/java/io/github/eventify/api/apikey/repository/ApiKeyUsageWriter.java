@@ -0,0 +1,46 @@
+package io.github.eventify.api.apikey.repository;
+
+import io.github.eventify.api.apikey.model.ApiKeyUsage;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Applies accumulated API key usage with a single JDBC batch, bypassing the persistence context.
+ *
+ * <p>Counts are added to the stored total and the last-used timestamp only ever moves forward,
+ * so flushes from several instances can be applied in any order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApiKeyUsageWriter {
+
+    private static final String UPDATE_USAGE = """
+        UPDATE api_key
+        SET total_requests = total_requests + ?,
+            last_used_at = GREATEST(last_used_at, ?)
+        WHERE id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds the accumulated usage to every key in a single JDBC batch.
+     *
+     * @param usages the usage per key
+     */
+    public void applyAll(final List<ApiKeyUsage> usages) {
+        jdbcTemplate.batchUpdate(UPDATE_USAGE, usages, usages.size(), this::bind);
+    }
+
+    private void bind(final PreparedStatement statement, final ApiKeyUsage usage) throws SQLException {
+        statement.setLong(1, usage.getRequests());
+        statement.setObject(2, usage.getLastUsedAt());
+        statement.setLong(3, usage.getApiKeyId());
+    }
+}
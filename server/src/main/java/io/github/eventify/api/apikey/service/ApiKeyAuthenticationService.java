@@ -1,8 +1,10 @@
 package io.github.eventify.api.apikey.service;
 
+import io.github.eventify.api.apikey.cache.ApiKeyCredentialCache;
 import io.github.eventify.api.apikey.model.ApiKey;
 import io.github.eventify.api.apikey.model.ApiKeyScope;
 import io.github.eventify.api.apikey.repository.ApiKeyRepository;
+import io.github.eventify.api.apikey.usage.ApiKeyUsageAccumulator;
 import io.github.eventify.common.exception.ApiKeyExpiredException;
 import io.github.eventify.common.exception.InvalidApiKeyException;
 import io.github.eventify.common.exception.UserDisabledException;
@@ -14,12 +16,15 @@ import java.time.OffsetDateTime;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import static io.github.eventify.common.exception.ApiErrorCode.*;
 
 /**
  * Service for authenticating API keys.
+ *
+ * <p>Successful verifications are cached by {@link ApiKeyCredentialCache}, so repeat requests with the same key skip
+ * both the database lookup and the (intentionally slow) hash check. Usage statistics are accumulated in memory
+ * and written behind by {@link ApiKeyUsageAccumulator}.
  */
 @Slf4j
 @Service
@@ -28,6 +33,8 @@ public class ApiKeyAuthenticationService {
 
     private final ApiKeyRepository apiKeyRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApiKeyCredentialCache credentialCache;
+    private final ApiKeyUsageAccumulator usageAccumulator;
 
     /**
      * Authenticate an API key.
@@ -38,12 +45,17 @@ public class ApiKeyAuthenticationService {
      * @throws ApiKeyExpiredException if the key has expired
      * @throws UserDisabledException  if the user is disabled
      */
-    @Transactional
     public ApiKeyPrincipal authenticate(final String rawKey) {
         if (!ApiKeyGenerator.isValidFormat(rawKey)) {
             throw new InvalidApiKeyException(INVALID_API_KEY);
         }
 
+        final ApiKeyPrincipal principal = credentialCache.getOrVerify(rawKey, this::verify);
+        usageAccumulator.record(principal.getApiKeyId());
+        return principal;
+    }
+
+    private ApiKeyPrincipal verify(final String rawKey) {
         final String suffix = ApiKeyGenerator.extractSuffix(rawKey);
         final ApiKey apiKey = apiKeyRepository.findBySuffix(suffix)
             .orElseThrow(() -> new InvalidApiKeyException(INVALID_API_KEY));
@@ -63,13 +75,6 @@ public class ApiKeyAuthenticationService {
             throw new UserDisabledException(API_KEY_USER_DISABLED);
         }
 
-        updateUsageStats(apiKey);
         return new ApiKeyPrincipal(apiKey);
     }
-
-    private void updateUsageStats(final ApiKey apiKey) {
-        apiKey.setLastUsedAt(OffsetDateTime.now());
-        apiKey.setTotalRequests(apiKey.getTotalRequests() + 1);
-        apiKeyRepository.save(apiKey);
-    }
 }
@@ -1,5 +1,6 @@
 package io.github.eventify.api.apikey.service;
 
+import io.github.eventify.api.apikey.cache.ApiKeyCredentialCache;
 import io.github.eventify.api.apikey.model.ApiKey;
 import io.github.eventify.api.apikey.model.ApiKeyMetaData;
 import io.github.eventify.api.apikey.model.ApiKeyScope;
@@ -29,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 import static io.github.eventify.api.apikey.model.ApiKeyMetaData.ORGANIZATION_TERM;
 import static io.github.eventify.common.exception.ApiErrorCode.API_KEY_NOT_FOUND;
 import static io.github.eventify.common.security.SecurityUtil.getLoggedInUser;
+import static io.github.eventify.common.util.TransactionCallbacks.afterCommit;
 import static java.util.Objects.isNull;
 
 /**
@@ -50,6 +52,8 @@ public class ApiKeyService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final ApiKeyCredentialCache credentialCache;
+
     /**
      * Create a new user API key.
      *
@@ -156,6 +160,7 @@ public class ApiKeyService {
         }
         apiKeyAuditRepository.save(apiKey.toAuditRecord(revoker));
         apiKeyRepository.delete(apiKey);
+        afterCommit(() -> credentialCache.evictApiKey(apiKey.getId()));
     }
 
     /**
@@ -0,0 +1,117 @@
+package io.github.eventify.api.apikey.usage;
+
+import io.github.eventify.api.apikey.model.ApiKeyUsage;
+import io.github.eventify.api.apikey.repository.ApiKeyUsageWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import static io.github.eventify.common.util.TimeProvider.now;
+
+/**
+ * Write-behind accumulator for API key usage statistics.
+ *
+ * <p>Authenticated requests only bump an in-memory counter per key; the totals are written to the
+ * {@code api_key} table periodically (see {@code ApiKeyUsageFlushJob}) and on shutdown, in one batched update.
+ * Stored usage therefore lags behind by at most one flush interval. A failed flush keeps its counts pending
+ * for the next attempt; a crash loses the usage accumulated since the last flush.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyUsageAccumulator {
+
+    private final Map<Long, KeyUsage> pending = new ConcurrentHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final ApiKeyUsageWriter apiKeyUsageWriter;
+
+    /**
+     * Records a single authenticated request for an API key.
+     *
+     * @param apiKeyId the API key ID
+     */
+    public void record(final Long apiKeyId) {
+        pending.computeIfAbsent(apiKeyId, id -> new KeyUsage()).record(now());
+    }
+
+    /**
+     * Writes all usage accumulated since the previous flush.
+     *
+     * @return the number of keys that were updated
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            final List<ApiKeyUsage> usages = new ArrayList<>();
+            pending.forEach((apiKeyId, usage) -> {
+                final long requests = usage.getRequests();
+                if (requests > 0) {
+                    usages.add(new ApiKeyUsage(apiKeyId, requests, usage.getLastUsedAt()));
+                }
+            });
+            if (usages.isEmpty()) {
+                return 0;
+            }
+            apiKeyUsageWriter.applyAll(usages);
+            usages.forEach(usage -> pending.get(usage.getApiKeyId()).acknowledge(usage.getRequests()));
+            return usages.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the remaining usage before the application stops.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            final int flushed = flush();
+            log.info("Flushed usage of '{}' API keys on shutdown", flushed);
+        } catch (final DataAccessException exception) {
+            log.error("Failed to flush API key usage on shutdown", exception);
+        }
+    }
+
+    /**
+     * Usage of one key. Flushed counts are subtracted rather than reset, so requests recorded
+     * while a flush is in flight are kept for the next one.
+     */
+    private static final class KeyUsage {
+
+        private final LongAdder requests = new LongAdder();
+
+        private final AtomicReference<OffsetDateTime> lastUsedAt = new AtomicReference<>();
+
+        private void record(final OffsetDateTime usedAt) {
+            requests.increment();
+            lastUsedAt.accumulateAndGet(usedAt, (current, next) -> current == null || next.isAfter(current) ? next : current);
+        }
+
+        private long getRequests() {
+            return requests.sum();
+        }
+
+        private OffsetDateTime getLastUsedAt() {
+            return lastUsedAt.get();
+        }
+
+        private void acknowledge(final long flushed) {
+            requests.add(-flushed);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.eventify.api.channel.activity;
+
+import io.github.eventify.api.channel.model.ChannelActivity;
+import io.github.eventify.api.channel.repository.ChannelActivityWriter;
+import io.github.eventify.api.event.model.Event;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind tracker for the last event timestamp of each channel.
+ *
+ * <p>Written events only move an in-memory maximum per channel forward; the maxima are written to the
+ * {@code channel} table periodically (see {@code ChannelActivityFlushJob}) and on shutdown, in one batched update
+ * that also clears the stale flag. This replaces the per-row {@code update_channel_last_event} trigger, which
+ * locked the channel row on every insert. Events are handed over by {@code EventWriteCallbacks} once they are committed.
+ *
+ * <p>A failed flush keeps its timestamps pending for the next attempt; a crash loses the activity tracked since
+ * the last flush, which {@code ChannelStalenessJob} reconciles from the event table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChannelActivityTracker {
+
+    private final Map<Long, OffsetDateTime> pending = new ConcurrentHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final ChannelActivityWriter channelActivityWriter;
+
+    /**
+     * Tracks written events.
+     *
+     * @param events the events that were written
+     */
+    public void recordAll(final Collection<Event> events) {
+        final Map<Long, OffsetDateTime> latest = new HashMap<>();
+        for (final Event event : events) {
+            latest.merge(event.getChannel().getId(), event.getTimestamp(), ChannelActivityTracker::later);
+        }
+        merge(latest);
+    }
+
+    /**
+     * Writes the latest event timestamp of every channel that received events since the previous flush.
+     *
+     * @return the number of channels that were updated
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            final List<ChannelActivity> activities = new ArrayList<>();
+            pending.forEach((channelId, lastEventAt) -> activities.add(new ChannelActivity(channelId, lastEventAt)));
+            if (activities.isEmpty()) {
+                return 0;
+            }
+            channelActivityWriter.applyAll(activities);
+            activities.forEach(activity -> pending.remove(activity.getChannelId(), activity.getLastEventAt()));
+            return activities.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the remaining activity before the application stops.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            final int flushed = flush();
+            log.info("Flushed activity of '{}' channels on shutdown", flushed);
+        } catch (final DataAccessException exception) {
+            log.error("Failed to flush channel activity on shutdown", exception);
+        }
+    }
+
+    /**
+     * Merges into the pending maxima. A timestamp that moved forward while a flush was in flight
+     * no longer equals the flushed value, so it survives the conditional removal and is written next time.
+     */
+    private void merge(final Map<Long, OffsetDateTime> latest) {
+        latest.forEach((channelId, lastEventAt) -> pending.merge(channelId, lastEventAt, ChannelActivityTracker::later));
+    }
+
+    private static OffsetDateTime later(final OffsetDateTime current, final OffsetDateTime next) {
+        return next.isAfter(current) ? next : current;
+    }
+}
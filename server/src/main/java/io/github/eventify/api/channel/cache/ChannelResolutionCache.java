@@ -0,0 +1,133 @@
+package io.github.eventify.api.channel.cache;
+
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.common.cache.ExpiringCache;
+import io.github.eventify.common.config.properties.ChannelCacheProperties;
+import io.github.eventify.common.config.properties.IngestionProperties;
+import io.github.eventify.common.security.principal.ApiKeyPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-wide cache of channels resolved by slug, keyed by the scope that owns the slug.
+ *
+ * <p>Slugs are unique per user (personal channels) or per organization, so an entry is keyed by
+ * (scope owner, slug) and looked up in O(1) from the API key principal. Hot ingestion paths therefore
+ * resolve their channels without a query. Entries expire after the configured TTL and are evicted by the
+ * channel services whenever a channel is created, updated, paused, resumed or deleted.
+ *
+ * <p>Cached channels are detached entities: only their id, slug, status and owner ids may be relied upon.
+ */
+@Component
+public class ChannelResolutionCache {
+
+    public static final String LOOKUP_METRIC = "eventify.channel.cache.lookups";
+
+    public static final String SIZE_METRIC = "eventify.channel.cache.size";
+
+    private final ChannelCacheProperties properties;
+
+    private final ExpiringCache<ChannelKey, Channel> channels;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    /**
+     * Creates the cache and registers its metrics.
+     *
+     * @param ingestionProperties the ingestion configuration
+     * @param meterRegistry       the registry to expose cache metrics on
+     */
+    public ChannelResolutionCache(final IngestionProperties ingestionProperties, final MeterRegistry meterRegistry) {
+        this.properties = ingestionProperties.getChannelCache();
+        this.channels = new ExpiringCache<>(properties.getMaxSize(), properties.getTtl());
+
+        this.hitCounter = Counter.builder(LOOKUP_METRIC)
+            .tag("result", "hit")
+            .description("Channel slug lookups served from the cache")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(LOOKUP_METRIC)
+            .tag("result", "miss")
+            .description("Channel slug lookups that required a query")
+            .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, channels, ExpiringCache::size)
+            .description("Number of channels in the slug cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached channel for a slug within the principal's scope.
+     *
+     * @param slug      the channel slug
+     * @param principal the API key principal whose scope the slug is resolved in
+     * @return the cached channel, or empty on a miss
+     */
+    public Optional<Channel> get(final String slug, final ApiKeyPrincipal principal) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        final Optional<Channel> cached = channels.get(ChannelKey.of(slug, principal));
+        (cached.isPresent() ? hitCounter : missCounter).increment();
+        return cached;
+    }
+
+    /**
+     * Caches a channel under the scope that owns it.
+     *
+     * @param channel the resolved channel
+     */
+    public void put(final Channel channel) {
+        if (properties.isEnabled()) {
+            channels.put(ChannelKey.of(channel), channel);
+        }
+    }
+
+    /**
+     * Evicts a channel, both under its current key and under any key it was cached with before (e.g. an old slug).
+     *
+     * @param channel the channel that was created, changed or deleted
+     */
+    public void evict(final Channel channel) {
+        channels.evict(ChannelKey.of(channel));
+        if (channel.getId() != null) {
+            channels.evictIf(cached -> Objects.equals(cached.getId(), channel.getId()));
+        }
+    }
+
+    /**
+     * Identifies a slug within the user or organization that owns it.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class ChannelKey {
+
+        private final boolean organization;
+
+        private final Long ownerId;
+
+        private final String slug;
+
+        private static ChannelKey of(final String slug, final ApiKeyPrincipal principal) {
+            if (principal.getOrganizationId() != null) {
+                return new ChannelKey(true, principal.getOrganizationId(), slug);
+            }
+            return new ChannelKey(false, principal.getUserId(), slug);
+        }
+
+        private static ChannelKey of(final Channel channel) {
+            if (channel.getOrganization() != null) {
+                return new ChannelKey(true, channel.getOrganization().getId(), channel.getSlug());
+            }
+            return new ChannelKey(false, channel.getUser().getId(), channel.getSlug());
+        }
+    }
+}
@@ -199,7 +199,8 @@ public class OrganizationChannelController {
         final DurationDetailsResponse response = durationService.getDurations(
             id,
             request.getTimestamp(),
-            request.getDirection()
+            request.getDirection(),
+            request.getCursor()
         );
         return ResponseEntity.status(OK).body(response);
     }
@@ -176,7 +176,8 @@ public class UserChannelController {
         final DurationDetailsResponse response = durationService.getDurations(
             id,
             request.getTimestamp(),
-            request.getDirection()
+            request.getDirection(),
+            request.getCursor()
         );
         return ResponseEntity.status(OK).body(response);
     }
@@ -0,0 +1,39 @@
+package io.github.eventify.api.channel.job;
+
+import io.github.eventify.api.channel.activity.ChannelActivityTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Scheduled job for writing tracked channel activity.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChannelActivityFlushJob {
+
+    private final ChannelActivityTracker channelActivityTracker;
+
+    /**
+     * Flushes the channel activity tracked since the previous run.
+     * Runs every 5 seconds, which bounds how far last event timestamps lag behind ingestion.
+     */
+    @Scheduled(
+        fixedDelay = 5,
+        timeUnit = SECONDS
+    )
+    public void flushChannelActivity() {
+        try {
+            final int flushed = channelActivityTracker.flush();
+            log.debug("Flushed activity of '{}' channels", flushed);
+        } catch (final DataAccessException exception) {
+            log.error("Failed to flush channel activity, retrying on the next run", exception);
+        }
+    }
+}
@@ -22,16 +22,22 @@ public class ChannelStalenessJob {
 
     private static final int STALENESS_THRESHOLD_DAYS = 7;
 
+    private static final long RUN_INTERVAL_MINUTES = 5;
+
+    private static final long RECONCILE_MARGIN_MINUTES = 2;
+
     private final ChannelRepository channelRepository;
 
     /**
      * Updates channel staleness status.
+     * - Reconciles lastEventAt with the events since the previous run, plus a margin for the run's own duration
+     *   (safety net for activity the tracker did not flush)
      * - Marks channels as stale if no events in 7 days
-     * - Clears stale flag for channels with recent activity (safety net for trigger bypass)
+     * - Clears stale flag for channels with recent activity (safety net for tracker bypass)
      * Runs at startup and every 5 minutes for responsive staleness detection.
      */
     @Scheduled(
-        fixedDelay = 5,
+        fixedDelay = RUN_INTERVAL_MINUTES,
         timeUnit = MINUTES
     )
     public void markStaleChannels() {
@@ -39,9 +45,17 @@ public class ChannelStalenessJob {
 
         final OffsetDateTime threshold = now().minusDays(STALENESS_THRESHOLD_DAYS);
 
+        final int syncedCount = channelRepository.syncLastEventAtSince(
+            now().minusMinutes(RUN_INTERVAL_MINUTES + RECONCILE_MARGIN_MINUTES)
+        );
         final int markedCount = channelRepository.markChannelsAsStale(threshold, threshold);
         final int clearedCount = channelRepository.clearStaleForActiveChannels(threshold);
 
-        log.info("[CRON JOB] Channel staleness job completed. Marked {} as stale, cleared {} from stale.", markedCount, clearedCount);
+        log.info(
+            "[CRON JOB] Channel staleness job completed. Synced {}, marked {} as stale, cleared {} from stale.",
+            syncedCount,
+            markedCount,
+            clearedCount
+        );
     }
 }
@@ -0,0 +1,18 @@
+package io.github.eventify.api.channel.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Latest event timestamp of a single channel observed since the last flush.
+ */
+@Getter
+@AllArgsConstructor
+public class ChannelActivity {
+
+    private final Long channelId;
+
+    private final OffsetDateTime lastEventAt;
+}
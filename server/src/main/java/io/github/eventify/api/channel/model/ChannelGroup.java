@@ -1,13 +1,18 @@
 package io.github.eventify.api.channel.model;
 
 import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.ConsolidatedTimeline;
 import io.github.eventify.api.monitor.model.Timeline;
 import io.github.eventify.api.monitor.model.TimelineSource;
 import io.github.eventify.api.monitor.util.TimelineConsolidator;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -72,6 +77,15 @@ public class ChannelGroup implements Serializable, TimelineSource {
     @Builder.Default
     private List<Channel> channels = new ArrayList<>();
 
+    /**
+     * Consolidated timeline of the member channels, computed once and reset when the channels change.
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private final ConsolidatedTimeline consolidatedTimeline = new ConsolidatedTimeline();
+
     /**
      * Creates a new group with generated ID.
      *
@@ -87,6 +101,16 @@ public class ChannelGroup implements Serializable, TimelineSource {
             .build();
     }
 
+    /**
+     * Replaces the member channels and resets the consolidated timeline.
+     *
+     * @param channels the channels
+     */
+    public void setChannels(final List<Channel> channels) {
+        this.channels = channels;
+        consolidatedTimeline.invalidate();
+    }
+
     /**
      * Gets channel IDs for JSON serialization.
      * Extracts IDs from the channels list.
@@ -108,17 +132,20 @@ public class ChannelGroup implements Serializable, TimelineSource {
     @JsonProperty("channelIds")
     public void setChannelIds(final List<Long> channelIds) {
         if (channelIds == null) {
-            this.channels = new ArrayList<>();
+            setChannels(new ArrayList<>());
             return;
         }
-        this.channels = channelIds.stream()
-            .map(ChannelGroup::channelWithId)
-            .collect(java.util.stream.Collectors.toCollection(ArrayList::new));
+        setChannels(
+            channelIds.stream()
+                .map(ChannelGroup::channelWithId)
+                .collect(java.util.stream.Collectors.toCollection(ArrayList::new))
+        );
     }
 
     /**
      * Returns the consolidated timeline for this group.
      * The timeline shows the worst severity at each point in time across all member channels.
+     * It is consolidated on the first call and memoized until the channels change.
      *
      * @return the consolidated timeline, never null
      */
@@ -128,7 +155,7 @@ public class ChannelGroup implements Serializable, TimelineSource {
         if (channels == null || channels.isEmpty()) {
             return Timeline.empty();
         }
-        return TimelineConsolidator.consolidate(channels);
+        return consolidatedTimeline.get(() -> TimelineConsolidator.consolidate(channels));
     }
 
     /**
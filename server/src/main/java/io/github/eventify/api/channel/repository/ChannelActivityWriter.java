@@ -0,0 +1,45 @@
+package io.github.eventify.api.channel.repository;
+
+import io.github.eventify.api.channel.model.ChannelActivity;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Applies tracked channel activity with a single JDBC batch, bypassing the persistence context.
+ *
+ * <p>The last event timestamp only ever moves forward, so flushes from several instances
+ * can be applied in any order. Any activity clears the stale flag.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChannelActivityWriter {
+
+    private static final String UPDATE_ACTIVITY = """
+        UPDATE channel
+        SET last_event_at = GREATEST(last_event_at, ?),
+            is_stale = false
+        WHERE id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Moves the last event timestamp of every channel forward in a single JDBC batch.
+     *
+     * @param activities the latest event timestamp per channel
+     */
+    public void applyAll(final List<ChannelActivity> activities) {
+        jdbcTemplate.batchUpdate(UPDATE_ACTIVITY, activities, activities.size(), this::bind);
+    }
+
+    private void bind(final PreparedStatement statement, final ChannelActivity activity) throws SQLException {
+        statement.setObject(1, activity.getLastEventAt());
+        statement.setLong(2, activity.getChannelId());
+    }
+}
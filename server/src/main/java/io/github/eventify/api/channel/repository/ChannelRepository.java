@@ -81,6 +81,24 @@ public interface ChannelRepository extends JpaRepository<Channel, Long>, JpaSpec
      */
     Optional<Channel> findBySlugAndOrganizationId(String slug, Long organizationId);
 
+    /**
+     * Finds the personal channels of a user matching any of the given slugs.
+     *
+     * @param slugs  the channel slugs
+     * @param userId the user ID
+     * @return the matching channels
+     */
+    List<Channel> findBySlugInAndUserIdAndOrganizationIdIsNull(Collection<String> slugs, Long userId);
+
+    /**
+     * Finds the channels of an organization matching any of the given slugs.
+     *
+     * @param slugs          the channel slugs
+     * @param organizationId the organization ID
+     * @return the matching channels
+     */
+    List<Channel> findBySlugInAndOrganizationId(Collection<String> slugs, Long organizationId);
+
     /**
      * Finds a channel by ID and user ID excluding deleted ones.
      *
@@ -195,6 +213,21 @@ public interface ChannelRepository extends JpaRepository<Channel, Long>, JpaSpec
         return findBySlugAndUserIdAndOrganizationIdIsNull(slug, principal.getUserId());
     }
 
+    /**
+     * Finds all channels matching a set of slugs within the principal's scope with a single {@code slug IN (...)} query.
+     * Slugs that do not resolve in the principal's scope are simply absent from the result.
+     *
+     * @param slugs     the channel slugs
+     * @param principal the API key principal
+     * @return the matching channels
+     */
+    default List<Channel> findBySlugsAndPrincipal(final Collection<String> slugs, final ApiKeyPrincipal principal) {
+        if (principal.getOrganizationId() != null) {
+            return findBySlugInAndOrganizationId(slugs, principal.getOrganizationId());
+        }
+        return findBySlugInAndUserIdAndOrganizationIdIsNull(slugs, principal.getUserId());
+    }
+
     /**
      * Marks channels as stale based on staleness and grace period thresholds.
      * Updates isStale=true for channels where:
@@ -227,9 +260,40 @@ public interface ChannelRepository extends JpaRepository<Channel, Long>, JpaSpec
         @Param("gracePeriodThreshold") OffsetDateTime gracePeriodThreshold
     );
 
+    /**
+     * Moves lastEventAt forward to the newest event written since the given moment.
+     * Safety net for activity the in-memory tracker did not flush (crash, manual imports, etc).
+     * Only scans the recent part of the event hypertable, so older chunks are never touched.
+     *
+     * @param since start of the window of recent events to reconcile
+     * @return count of channels whose lastEventAt moved forward
+     */
+    @Modifying(
+        clearAutomatically = true,
+        flushAutomatically = true
+    )
+    @Transactional
+    @Query(
+        value = """
+            UPDATE channel c
+            SET last_event_at = recent.max_timestamp,
+                is_stale = false
+            FROM (
+                SELECT channel_id, MAX(timestamp) AS max_timestamp
+                FROM event
+                WHERE timestamp >= :since
+                GROUP BY channel_id
+            ) AS recent
+            WHERE c.id = recent.channel_id
+              AND (c.last_event_at IS NULL OR c.last_event_at < recent.max_timestamp)
+            """,
+        nativeQuery = true
+    )
+    int syncLastEventAtSince(@Param("since") OffsetDateTime since);
+
     /**
      * Clears stale flag for channels that have recent activity.
-     * Safety net in case trigger was bypassed (maintenance, manual imports, etc).
+     * Safety net in case the activity tracker was bypassed (maintenance, manual imports, etc).
      * Updates isStale=false for channels where:
      * - lastEventAt is newer than or equal to threshold
      * - isStale is currently true
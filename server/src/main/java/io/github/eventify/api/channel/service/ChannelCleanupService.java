@@ -1,5 +1,6 @@
 package io.github.eventify.api.channel.service;
 
+import io.github.eventify.api.channel.cache.ChannelResolutionCache;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.repository.ChannelRepository;
 import io.github.eventify.api.watchlist.repository.WatchlistRepository;
@@ -30,6 +31,8 @@ public class ChannelCleanupService {
 
     private final WatchlistRepository watchlistRepository;
 
+    private final ChannelResolutionCache channelResolutionCache;
+
     /**
      * Process all channels with PENDING_DELETION status. Deletes each channel and continues processing if one fails.
      */
@@ -49,6 +52,7 @@ public class ChannelCleanupService {
                     // Remove channel from all watchlist configurations before deletion
                     watchlistRepository.removeChannelFromAllConfigurations(channel.getId());
                     channelRepository.delete(channel);
+                    channelResolutionCache.evict(channel);
                     log.debug("Deleted channel ID '{}' in '{}' ms", channel.getId(), Duration.between(start, Instant.now()).toMillis());
                     return 1;
                 } catch (final Exception exception) {
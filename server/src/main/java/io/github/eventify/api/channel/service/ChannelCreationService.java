@@ -1,5 +1,6 @@
 package io.github.eventify.api.channel.service;
 
+import io.github.eventify.api.channel.cache.ChannelResolutionCache;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelStatus;
 import io.github.eventify.api.channel.model.request.CreateChannelRequest;
@@ -25,6 +26,8 @@ public class ChannelCreationService {
 
     private final ChannelRepository channelRepository;
 
+    private final ChannelResolutionCache channelResolutionCache;
+
     /**
      * Creates and saves a personal channel (no organization).
      *
@@ -38,7 +41,7 @@ public class ChannelCreationService {
     public Channel createPersonalChannel(final CreateChannelRequest request, final User user) {
         validatePersonalChannelUniqueness(request, user);
         final Channel channel = buildChannel(request, user, null);
-        return channelRepository.save(channel);
+        return evictResolved(channelRepository.save(channel));
     }
 
     /**
@@ -56,7 +59,7 @@ public class ChannelCreationService {
         final Organization organization) {
         validateOrganizationChannelUniqueness(request, organization);
         final Channel channel = buildChannel(request, user, organization);
-        return channelRepository.save(channel);
+        return evictResolved(channelRepository.save(channel));
     }
 
     /**
@@ -70,7 +73,12 @@ public class ChannelCreationService {
     public Channel updateStatus(final Channel channel, final ChannelStatus status) {
         channel.setStatus(status);
         channel.setUpdatedAt(TimeProvider.now());
-        return channelRepository.save(channel);
+        return evictResolved(channelRepository.save(channel));
+    }
+
+    private Channel evictResolved(final Channel channel) {
+        channelResolutionCache.evict(channel);
+        return channel;
     }
 
     private Channel buildChannel(final CreateChannelRequest request, final User user, final Organization organization) {
@@ -1,6 +1,7 @@
 package io.github.eventify.api.channel.service;
 
 import io.github.eventify.api.channel.cache.ChannelCache;
+import io.github.eventify.api.channel.cache.ChannelResolutionCache;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.repository.ChannelRepository;
 import io.github.eventify.api.event.model.request.BatchEventRequest;
@@ -9,8 +10,11 @@ import io.github.eventify.common.security.principal.ApiKeyPrincipal;
 import io.github.eventify.common.security.principal.UserTokenPrincipal;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -21,7 +25,7 @@ import org.springframework.stereotype.Service;
  *
  * <p>Authorization flow for event ingestion:
  * <ol>
- * <li>Resolves channel by slug within principal's scope (userId or orgId)</li>
+ * <li>Resolves channel by slug within principal's scope (userId or orgId), from the {@link ChannelResolutionCache} when possible</li>
  * <li>If found: caches channel and grants access (ownership implicit via scoped query)</li>
  * <li>If not found: returns true to let service layer handle 404 (prevents enumeration)</li>
  * </ol>
@@ -34,6 +38,8 @@ public class ChannelSecurityService {
 
     private final ChannelCache channelCache;
 
+    private final ChannelResolutionCache channelResolutionCache;
+
     /**
      * Check if an API key principal can access a channel by slug.
      * Caches the channel if found to avoid duplicate DB queries in service layer.
@@ -53,14 +59,14 @@ public class ChannelSecurityService {
         // Let validation handle missing/blank slug (400), not security (403)
         // Otherwise, cache the channel if found
         if (slug != null && !slug.isBlank()) {
-            channelRepository.findBySlugAndPrincipal(slug, principal).ifPresent(channelCache::put);
+            resolveBySlug(slug, principal).ifPresent(channelCache::put);
         }
         return true;
     }
 
     /**
      * Check if an API key principal can access all channels in a batch request.
-     * Caches all resolved channels to avoid duplicate DB queries in service layer.
+     * Resolves all slugs not yet known with a single query and caches the channels to avoid duplicate DB queries in service layer.
      *
      * <p>Returns true for empty/invalid batches to let validation handle 400 errors.
      * Security layer should only return false (403) for authentication issues.
@@ -76,11 +82,7 @@ public class ChannelSecurityService {
         // Let validation handle empty/invalid batch (400), not security (403)
         // Otherwise, cache all resolved channels
         if (hasValidSlugs(request)) {
-            final List<Channel> channels = extractSlugs(request).stream()
-                .map(slug -> channelRepository.findBySlugAndPrincipal(slug, principal))
-                .flatMap(java.util.Optional::stream)
-                .toList();
-            channelCache.putAll(channels);
+            channelCache.putAll(resolveBySlugs(extractSlugs(request), principal));
         }
         return true;
     }
@@ -114,6 +116,30 @@ public class ChannelSecurityService {
             .isPresent();
     }
 
+    private Optional<Channel> resolveBySlug(final String slug, final ApiKeyPrincipal principal) {
+        return channelResolutionCache.get(slug, principal)
+            .or(() -> channelRepository.findBySlugAndPrincipal(slug, principal).map(this::remember));
+    }
+
+    private List<Channel> resolveBySlugs(final Set<String> slugs, final ApiKeyPrincipal principal) {
+        final List<Channel> channels = new ArrayList<>(slugs.size());
+        final Set<String> unresolved = new HashSet<>();
+        for (final String slug : slugs) {
+            channelResolutionCache.get(slug, principal).ifPresentOrElse(channels::add, () -> unresolved.add(slug));
+        }
+        if (!unresolved.isEmpty()) {
+            channelRepository.findBySlugsAndPrincipal(unresolved, principal).stream()
+                .map(this::remember)
+                .forEach(channels::add);
+        }
+        return channels;
+    }
+
+    private Channel remember(final Channel channel) {
+        channelResolutionCache.put(channel);
+        return channel;
+    }
+
     private boolean isEmptyBatch(final BatchEventRequest request) {
         return request == null || request.getEvents() == null || request.getEvents().isEmpty();
     }
@@ -1,5 +1,6 @@
 package io.github.eventify.api.channel.service;
 
+import io.github.eventify.api.channel.cache.ChannelResolutionCache;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelMetaData;
 import io.github.eventify.api.channel.model.ChannelStatus;
@@ -45,6 +46,8 @@ public class ChannelService {
 
     private final ChannelCreationService channelCreationService;
 
+    private final ChannelResolutionCache channelResolutionCache;
+
     /**
      * Creates a new personal channel for the logged-in user.
      *
@@ -153,7 +156,9 @@ public class ChannelService {
         channel.setDescription(request.getDescription());
         channel.setUpdatedAt(TimeProvider.now());
 
-        return channelRepository.save(channel);
+        final Channel saved = channelRepository.save(channel);
+        channelResolutionCache.evict(saved);
+        return saved;
     }
 
     /**
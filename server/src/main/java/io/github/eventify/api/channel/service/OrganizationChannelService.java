@@ -1,5 +1,6 @@
 package io.github.eventify.api.channel.service;
 
+import io.github.eventify.api.channel.cache.ChannelResolutionCache;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelMetaData;
 import io.github.eventify.api.channel.model.ChannelStatus;
@@ -46,6 +47,8 @@ public class OrganizationChannelService {
 
     private final ChannelCreationService channelCreationService;
 
+    private final ChannelResolutionCache channelResolutionCache;
+
     /**
      * Creates a new organization channel.
      *
@@ -130,7 +133,9 @@ public class OrganizationChannelService {
         channel.setDescription(request.getDescription());
         channel.setUpdatedAt(TimeProvider.now());
 
-        return channelRepository.save(channel);
+        final Channel saved = channelRepository.save(channel);
+        channelResolutionCache.evict(saved);
+        return saved;
     }
 
     /**
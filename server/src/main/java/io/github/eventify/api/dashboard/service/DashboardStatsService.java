@@ -4,7 +4,7 @@ import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelStatus;
 import io.github.eventify.api.channel.repository.ChannelRepository;
 import io.github.eventify.api.dashboard.model.response.DashboardStatsResponse;
-import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.event.model.LatestChannelEvent;
 import io.github.eventify.api.event.model.Severity;
 import io.github.eventify.api.event.repository.EventRepository;
 import io.github.eventify.common.util.TimeProvider;
@@ -12,7 +12,6 @@ import lombok.RequiredArgsConstructor;
 
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -85,28 +84,20 @@ public class DashboardStatsService {
             return new DashboardStatsResponse(eventsToday, 0, 0.0, null);
         }
 
-        // Calculate error rate based on most recent event severity per channel
+        // Calculate error rate based on most recent event severity per channel, fetched in a single query
         int criticalCount = 0;
         OffsetDateTime mostRecentEventTimestamp = null;
 
-        for (final Channel channel : activeChannels) {
-            final Optional<Event> lastEvent = eventRepository.findTopByChannelIdOrderByTimestampDesc(
-                channel.getId()
-            );
-
-            if (lastEvent.isPresent()) {
-                final Event event = lastEvent.get();
-
-                // Check if last event is CRITICAL
-                if (event.getSeverity() == Severity.CRITICAL) {
-                    criticalCount++;
-                }
+        for (final LatestChannelEvent event : eventRepository.findLatestEventPerChannel(channelIds)) {
+            // Check if last event is CRITICAL
+            if (event.getSeverityLevel() == Severity.CRITICAL) {
+                criticalCount++;
+            }
 
-                // Track most recent event timestamp
-                if (mostRecentEventTimestamp == null
-                    || event.getTimestamp().isAfter(mostRecentEventTimestamp)) {
-                    mostRecentEventTimestamp = event.getTimestamp();
-                }
+            // Track most recent event timestamp
+            if (mostRecentEventTimestamp == null
+                || event.getDateTime().isAfter(mostRecentEventTimestamp)) {
+                mostRecentEventTimestamp = event.getDateTime();
             }
         }
 
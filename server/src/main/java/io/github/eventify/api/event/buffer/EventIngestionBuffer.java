@@ -0,0 +1,283 @@
+package io.github.eventify.api.event.buffer;
+
+import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.event.repository.EventBatchWriter;
+import io.github.eventify.api.event.service.EventWriteCallbacks;
+import io.github.eventify.common.config.properties.AsyncIngestionProperties;
+import io.github.eventify.common.config.properties.IngestionProperties;
+import io.github.eventify.common.exception.IngestionBufferFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Bounded in-memory buffer for the accept-and-queue ingestion mode.
+ *
+ * <p>Validated events are offered to a fixed-size queue and acknowledged immediately.
+ * Background virtual-thread writers drain the queue in micro-batches, flushing whenever
+ * a batch is full or the flush interval since its first event has elapsed.
+ * When the queue is full, new events are rejected so clients back off (429).
+ *
+ * <p>Queued events are only held in memory: on shutdown the writers drain what is left,
+ * but a crash loses the events that were accepted and not yet flushed.
+ */
+@Slf4j
+@Component
+public class EventIngestionBuffer {
+
+    public static final String QUEUE_DEPTH_METRIC = "eventify.ingestion.queue.depth";
+
+    public static final String BATCH_SIZE_METRIC = "eventify.ingestion.batch.size";
+
+    public static final String FLUSH_LATENCY_METRIC = "eventify.ingestion.flush.latency";
+
+    public static final String REJECTED_METRIC = "eventify.ingestion.rejected";
+
+    public static final String DROPPED_METRIC = "eventify.ingestion.dropped";
+
+    public static final String WRITER_ERRORS_METRIC = "eventify.ingestion.writer.errors";
+
+    public static final String PUBLISH_ERRORS_METRIC = "eventify.ingestion.publish.errors";
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AsyncIngestionProperties properties;
+
+    private final EventBatchWriter eventBatchWriter;
+
+    private final EventWriteCallbacks eventWriteCallbacks;
+
+    private final BlockingQueue<Event> queue;
+
+    private final DistributionSummary batchSizeSummary;
+
+    private final Timer flushTimer;
+
+    private final Counter rejectedCounter;
+
+    private final Counter droppedCounter;
+
+    private final Counter writerErrorsCounter;
+
+    private final Counter publishErrorsCounter;
+
+    private final List<Thread> writers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    /**
+     * Creates the buffer and registers its metrics.
+     *
+     * @param ingestionProperties the ingestion configuration
+     * @param eventBatchWriter    the writer used to flush micro-batches
+     * @param eventWriteCallbacks the callbacks that publish written events
+     * @param meterRegistry       the registry to expose queue metrics on
+     */
+    public EventIngestionBuffer(final IngestionProperties ingestionProperties, final EventBatchWriter eventBatchWriter,
+        final EventWriteCallbacks eventWriteCallbacks, final MeterRegistry meterRegistry) {
+        this.properties = ingestionProperties.getAsync();
+        this.eventBatchWriter = eventBatchWriter;
+        this.eventWriteCallbacks = eventWriteCallbacks;
+        this.queue = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+
+        Gauge.builder(QUEUE_DEPTH_METRIC, queue, Collection::size)
+            .description("Number of accepted events waiting to be written")
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METRIC)
+            .description("Number of events written per micro-batch")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder(FLUSH_LATENCY_METRIC)
+            .description("Time taken to write a micro-batch")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC)
+            .description("Events rejected because the buffer was full")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder(DROPPED_METRIC)
+            .description("Accepted events lost because they failed to write")
+            .register(meterRegistry);
+        this.writerErrorsCounter = Counter.builder(WRITER_ERRORS_METRIC)
+            .description("Unexpected failures of a writer iteration, after which the writer keeps draining")
+            .register(meterRegistry);
+        this.publishErrorsCounter = Counter.builder(PUBLISH_ERRORS_METRIC)
+            .description("Written micro-batches whose write callbacks failed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Starts the background writers when accept-and-queue mode is enabled.
+     */
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        for (int index = 0; index < properties.getWriters(); index++) {
+            writers.add(Thread.ofVirtual().name("event-writer-" + index).start(this::drain));
+        }
+        log.info(
+            "Accept-and-queue ingestion enabled: capacity='{}', batchSize='{}', flushInterval='{}', writers='{}'",
+            properties.getBufferCapacity(),
+            properties.getBatchSize(),
+            properties.getFlushInterval(),
+            properties.getWriters()
+        );
+    }
+
+    /**
+     * Stops accepting work and waits for the writers to flush the remaining events.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (final Thread writer : writers) {
+            try {
+                writer.join(SHUTDOWN_TIMEOUT);
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Ingestion buffer stopped with '{}' events still queued", queue.size());
+        }
+    }
+
+    /**
+     * Whether events should be queued instead of written synchronously.
+     *
+     * @return true if accept-and-queue mode is enabled
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Queues an event for a background write.
+     *
+     * @param event the event to queue, with its id already assigned
+     * @throws IngestionBufferFullException if the buffer has no free capacity
+     */
+    public void enqueue(final Event event) {
+        if (!queue.offer(event)) {
+            rejectedCounter.increment();
+            throw new IngestionBufferFullException(properties.getBufferCapacity());
+        }
+    }
+
+    private void drain() {
+        final List<Event> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+                if (!batch.isEmpty()) {
+                    flush(List.copyOf(batch));
+                }
+            } catch (final RuntimeException exception) {
+                writerErrorsCounter.increment();
+                log.error("Ingestion writer failed to process a micro-batch of '{}' events", batch.size(), exception);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for a first event, then keeps collecting until the batch is full or the flush interval has elapsed.
+     */
+    private void collectBatch(final List<Event> batch) {
+        final long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        try {
+            final Event first = queue.poll(flushIntervalNanos, NANOSECONDS);
+            if (first == null) {
+                return;
+            }
+            batch.add(first);
+            final long deadline = System.nanoTime() + flushIntervalNanos;
+            while (batch.size() < properties.getBatchSize() && System.nanoTime() < deadline) {
+                queue.drainTo(batch, properties.getBatchSize() - batch.size());
+                final Event next = batch.size() < properties.getBatchSize()
+                    ? queue.poll(deadline - System.nanoTime(), NANOSECONDS)
+                    : null;
+                if (next != null) {
+                    batch.add(next);
+                }
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(final List<Event> batch) {
+        batchSizeSummary.record(batch.size());
+        final List<Event> written = flushTimer.record(() -> write(batch));
+        publish(written);
+    }
+
+    /**
+     * Writes the batch in one statement. A failed batch is written again event by event,
+     * so only the events that fail on their own are dropped.
+     */
+    private List<Event> write(final List<Event> batch) {
+        try {
+            eventBatchWriter.insertAll(batch);
+            return batch;
+        } catch (final DataAccessException exception) {
+            if (batch.size() == 1) {
+                drop(batch.getFirst(), exception);
+                return List.of();
+            }
+            log.warn("Failed to write a micro-batch of '{}' queued events, retrying event by event", batch.size(), exception);
+            return writeOneByOne(batch);
+        }
+    }
+
+    private List<Event> writeOneByOne(final List<Event> batch) {
+        final List<Event> written = new ArrayList<>(batch.size());
+        for (final Event event : batch) {
+            try {
+                eventBatchWriter.insertAll(List.of(event));
+                written.add(event);
+            } catch (final DataAccessException exception) {
+                drop(event, exception);
+            }
+        }
+        return written;
+    }
+
+    private void drop(final Event event, final DataAccessException exception) {
+        droppedCounter.increment();
+        log.error("Dropped queued event '{}' after a failed write", event.getId(), exception);
+    }
+
+    /**
+     * Publishes the written events. The events are already stored, so a failing callback is not counted as dropped.
+     */
+    private void publish(final List<Event> written) {
+        if (written.isEmpty()) {
+            return;
+        }
+        try {
+            eventWriteCallbacks.onWritten(written);
+        } catch (final RuntimeException exception) {
+            publishErrorsCounter.increment();
+            log.error("Failed to publish a written micro-batch of '{}' events", written.size(), exception);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import io.github.eventify.api.event.model.response.EventCreatedResponse;
 import io.github.eventify.api.event.model.validator.EventValidator;
 import io.github.eventify.api.event.service.EventIngestionService;
 import io.github.eventify.api.quota.service.UserQuotaService;
+import io.github.eventify.common.exception.IngestionBufferFullException;
 import io.github.eventify.common.security.principal.ApiKeyPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import static io.github.eventify.api.Paths.EXTERNAL_EVENTS_BATCH_PATH;
 import static io.github.eventify.api.Paths.EXTERNAL_EVENTS_PATH;
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -50,7 +53,9 @@ public class EventIngestionController {
     @ResponseStatus(CREATED)
     @Operation(
         summary = "Ingest event",
-        description = "Creates a new event in the specified channel"
+        description = "Creates a new event in the specified channel. "
+            + "Returns 202 Accepted with the server-assigned id when accept-and-queue mode is enabled, "
+            + "and 429 when the ingestion buffer is full."
     )
     @PostMapping(
         path = EXTERNAL_EVENTS_PATH,
@@ -64,8 +69,9 @@ public class EventIngestionController {
         if (principal.isUserKey()) {
             userQuotaService.checkAndIncrementOrThrow(principal.getUserId(), 1);
         }
-        final Event event = eventIngestionService.ingestEvent(request, principal);
-        return ResponseEntity.status(CREATED).body(eventMapper.toCreatedResponse(event));
+        final Event event = ingestChargedEvent(request, principal);
+        final HttpStatus status = eventIngestionService.isQueueingEnabled() ? ACCEPTED : CREATED;
+        return ResponseEntity.status(status).body(eventMapper.toCreatedResponse(event));
     }
 
     @ResponseStatus(CREATED)
@@ -88,4 +94,18 @@ public class EventIngestionController {
         final List<Event> events = eventIngestionService.ingestBatch(request, principal);
         return ResponseEntity.status(CREATED).body(eventMapper.toCreatedResponseList(events));
     }
+
+    /**
+     * Ingests an event whose quota was already charged, giving the quota back when the ingestion buffer rejects it.
+     */
+    private Event ingestChargedEvent(final CreateEventRequest request, final ApiKeyPrincipal principal) {
+        try {
+            return eventIngestionService.ingestEvent(request, principal);
+        } catch (final IngestionBufferFullException exception) {
+            if (principal.isUserKey()) {
+                userQuotaService.release(principal.getUserId(), 1);
+            }
+            throw exception;
+        }
+    }
 }
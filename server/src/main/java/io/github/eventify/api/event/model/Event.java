@@ -31,11 +31,27 @@ import static io.github.eventify.Main.SERIAL_VERSION_UID;
 @Table(name = "event")
 public class Event implements PageableItem, Serializable {
 
+    /**
+     * Number of ids reserved per sequence call. Must match the INCREMENT BY of {@code event_id_seq}.
+     */
+    public static final int ID_ALLOCATION_SIZE = 1000;
+
     @Serial
     private static final long serialVersionUID = SERIAL_VERSION_UID;
 
+    /**
+     * Pooled sequence instead of IDENTITY: Hibernate disables JDBC insert batching for IDENTITY columns.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(
+        strategy = GenerationType.SEQUENCE,
+        generator = "event_id_generator"
+    )
+    @SequenceGenerator(
+        name = "event_id_generator",
+        sequenceName = "event_id_seq",
+        allocationSize = ID_ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
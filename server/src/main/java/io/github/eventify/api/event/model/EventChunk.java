@@ -0,0 +1,18 @@
+package io.github.eventify.api.event.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Time range of a single chunk of the event hypertable.
+ */
+@Getter
+@AllArgsConstructor
+public class EventChunk {
+
+    private final OffsetDateTime rangeStart;
+
+    private final OffsetDateTime rangeEnd;
+}
@@ -0,0 +1,43 @@
+package io.github.eventify.api.event.model;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Interface-based projection for the most recent event of a channel: only the columns the dashboard reads.
+ *
+ * <p>PostgreSQL JDBC returns {@link Instant} for timestamptz columns.
+ */
+public interface LatestChannelEvent {
+
+    /** Returns the ID of the channel. */
+    Long getChannelId();
+
+    /** Returns the timestamp of the latest event. */
+    Instant getTimestamp();
+
+    /** Returns the severity of the latest event. */
+    String getSeverity();
+
+    /**
+     * Returns the timestamp of the latest event as OffsetDateTime (UTC).
+     */
+    default OffsetDateTime getDateTime() {
+        return getTimestamp().atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the severity of the latest event as enum.
+     */
+    default Severity getSeverityLevel() {
+        return Severity.fromString(getSeverity());
+    }
+
+    /**
+     * Creates a concrete instance for testing or programmatic use.
+     */
+    static LatestChannelEvent of(final Long channelId, final OffsetDateTime timestamp, final Severity severity) {
+        return new LatestChannelEventImpl(channelId, timestamp.toInstant(), severity.name());
+    }
+}
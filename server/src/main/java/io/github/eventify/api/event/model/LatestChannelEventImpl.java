@@ -0,0 +1,18 @@
+package io.github.eventify.api.event.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Concrete implementation of {@link LatestChannelEvent} for programmatic construction and testing.
+ */
+@Getter
+@AllArgsConstructor
+class LatestChannelEventImpl implements LatestChannelEvent {
+
+    private final Long channelId;
+    private final Instant timestamp;
+    private final String severity;
+}
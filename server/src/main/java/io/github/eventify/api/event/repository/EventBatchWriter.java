@@ -0,0 +1,51 @@
+package io.github.eventify.api.event.repository;
+
+import io.github.eventify.api.event.model.Event;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes already-identified events with plain JDBC batches, bypassing the persistence context.
+ *
+ * <p>Used by background writers that flush queued events: the events carry a pre-allocated id
+ * (see {@link EventIdAllocator}) and never need to be managed by Hibernate afterwards.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventBatchWriter {
+
+    private static final String INSERT_EVENT = """
+        INSERT INTO event (id, channel_id, severity, title, message, metadata, timestamp)
+        VALUES (?, ?, ?, ?, ?, CAST(? AS JSONB), ?)
+        """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts all events in a single JDBC batch.
+     *
+     * @param events the events to insert, each with an id already assigned
+     */
+    public void insertAll(final List<Event> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), this::bind);
+    }
+
+    private void bind(final PreparedStatement statement, final Event event) throws SQLException {
+        statement.setLong(1, event.getId());
+        statement.setLong(2, event.getChannel().getId());
+        statement.setString(3, event.getSeverity().name());
+        statement.setString(4, event.getTitle());
+        statement.setString(5, event.getMessage());
+        statement.setString(6, event.getMetadata() == null ? null : objectMapper.writeValueAsString(event.getMetadata()));
+        statement.setObject(7, event.getTimestamp());
+    }
+}
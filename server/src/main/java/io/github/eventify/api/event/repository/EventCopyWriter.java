@@ -0,0 +1,152 @@
+package io.github.eventify.api.event.repository;
+
+import io.github.eventify.api.event.model.Event;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import static java.time.temporal.ChronoUnit.MICROS;
+
+/**
+ * Streams events into the event hypertable with {@code COPY ... FROM STDIN} in PostgreSQL binary format.
+ *
+ * <p>Skips JPA entity management and per-row statements entirely. The copy runs on the connection of the
+ * surrounding transaction, so a failing row rolls back the whole batch (all-or-nothing).
+ * Events must carry a pre-allocated id (see {@link EventIdAllocator}).
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventCopyWriter {
+
+    private static final String COPY_EVENTS =
+        "COPY event (id, channel_id, severity, title, message, metadata, timestamp) FROM STDIN (FORMAT BINARY)";
+
+    /** Binary COPY signature, followed by a 32-bit flags field and a 32-bit header extension length. */
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    private static final short FIELD_COUNT = 7;
+
+    private static final short TRAILER = -1;
+
+    private static final int NULL_LENGTH = -1;
+
+    private static final int JSONB_VERSION = 1;
+
+    private static final int FLUSH_THRESHOLD_BYTES = 64 * 1024;
+
+    /** PostgreSQL timestamps count microseconds since 2000-01-01T00:00:00Z. */
+    private static final Instant POSTGRES_EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Copies all events into the event table.
+     *
+     * @param events the events to copy, each with an id already assigned
+     * @return the number of rows copied
+     */
+    public long copyAll(final List<Event> events) {
+        final Long copied = jdbcTemplate.execute(
+            (ConnectionCallback<Long>) connection -> copy(connection.unwrap(PGConnection.class), events)
+        );
+        return copied == null ? 0 : copied;
+    }
+
+    private long copy(final PGConnection connection, final List<Event> events) throws SQLException {
+        final CopyIn copyIn = connection.getCopyAPI().copyIn(COPY_EVENTS);
+        try {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream(FLUSH_THRESHOLD_BYTES);
+            buffer.writeBytes(SIGNATURE);
+            writeInt(buffer, 0);
+            writeInt(buffer, 0);
+            for (final Event event : events) {
+                writeRow(buffer, event);
+                if (buffer.size() >= FLUSH_THRESHOLD_BYTES) {
+                    flush(copyIn, buffer);
+                }
+            }
+            writeShort(buffer, TRAILER);
+            flush(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private void writeRow(final ByteArrayOutputStream buffer, final Event event) {
+        writeShort(buffer, FIELD_COUNT);
+        writeInt(buffer, Long.BYTES);
+        writeLong(buffer, event.getId());
+        writeInt(buffer, Integer.BYTES);
+        writeInt(buffer, Math.toIntExact(event.getChannel().getId()));
+        writeText(buffer, event.getSeverity().name());
+        writeText(buffer, event.getTitle());
+        writeText(buffer, event.getMessage());
+        writeJsonb(buffer, event);
+        writeInt(buffer, Long.BYTES);
+        writeLong(buffer, toPostgresMicros(event.getTimestamp()));
+    }
+
+    private void writeText(final ByteArrayOutputStream buffer, final String value) {
+        if (value == null) {
+            writeInt(buffer, NULL_LENGTH);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(buffer, bytes.length);
+        buffer.writeBytes(bytes);
+    }
+
+    private void writeJsonb(final ByteArrayOutputStream buffer, final Event event) {
+        if (event.getMetadata() == null) {
+            writeInt(buffer, NULL_LENGTH);
+            return;
+        }
+        final byte[] json = objectMapper.writeValueAsBytes(event.getMetadata());
+        writeInt(buffer, json.length + 1);
+        buffer.write(JSONB_VERSION);
+        buffer.writeBytes(json);
+    }
+
+    private static long toPostgresMicros(final OffsetDateTime timestamp) {
+        return MICROS.between(POSTGRES_EPOCH, timestamp.toInstant());
+    }
+
+    private static void flush(final CopyIn copyIn, final ByteArrayOutputStream buffer) throws SQLException {
+        copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+        buffer.reset();
+    }
+
+    private static void writeShort(final ByteArrayOutputStream buffer, final short value) {
+        buffer.write(value >>> 8);
+        buffer.write(value);
+    }
+
+    private static void writeInt(final ByteArrayOutputStream buffer, final int value) {
+        buffer.write(value >>> 24);
+        buffer.write(value >>> 16);
+        buffer.write(value >>> 8);
+        buffer.write(value);
+    }
+
+    private static void writeLong(final ByteArrayOutputStream buffer, final long value) {
+        writeInt(buffer, (int) (value >>> 32));
+        writeInt(buffer, (int) value);
+    }
+}
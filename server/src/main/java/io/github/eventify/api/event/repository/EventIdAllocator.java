@@ -0,0 +1,51 @@
+package io.github.eventify.api.event.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import static io.github.eventify.api.event.model.Event.ID_ALLOCATION_SIZE;
+
+/**
+ * Hands out event ids ahead of the insert, so queued events can be acknowledged with their final id.
+ *
+ * <p>Uses the same pooled-lo scheme as Hibernate on {@code event_id_seq}: every {@code nextval()}
+ * reserves the block {@code [value, value + ID_ALLOCATION_SIZE)}, so ids never collide with ids
+ * generated by Hibernate or by the column default.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventIdAllocator {
+
+    private static final String NEXT_BLOCK = "SELECT nextval('event_id_seq')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Lock lock = new ReentrantLock();
+
+    private long nextId;
+
+    private long blockEnd;
+
+    /**
+     * Returns the next free event id, reserving a new block from the database when the local block is exhausted.
+     *
+     * @return a unique event id
+     */
+    public Long nextId() {
+        lock.lock();
+        try {
+            if (nextId >= blockEnd) {
+                nextId = jdbcTemplate.queryForObject(NEXT_BLOCK, Long.class);
+                blockEnd = nextId + ID_ALLOCATION_SIZE;
+            }
+            return nextId++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package io.github.eventify.api.event.repository;
 
 import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.event.model.LatestChannelEvent;
+import io.github.eventify.api.monitor.model.SeverityRun;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,92 +36,6 @@ public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecific
     @Query("SELECT COUNT(e) FROM Event e WHERE e.channel.id IN :channelIds")
     long countByChannelIdIn(@Param("channelIds") List<Long> channelIds);
 
-    /**
-     * Deletes expired events from personal channels based on user retention settings. Uses a subquery with LIMIT to batch deletions and
-     * avoid long-running transactions.
-     *
-     * @param batchSize maximum number of events to delete per call
-     * @return number of events deleted
-     */
-    @Modifying
-    @Query(
-        value = """
-            DELETE FROM event WHERE id IN (
-                SELECT e.id FROM event e
-                JOIN channel c ON e.channel_id = c.id
-                JOIN "user" u ON c.user_id = u.id
-                WHERE c.organization_id IS NULL
-                  AND e.timestamp < NOW() - (u.retention_days || ' days')::INTERVAL
-                LIMIT :batchSize
-            )
-            """,
-        nativeQuery = true
-    )
-    int deleteExpiredPersonalChannelEvents(int batchSize);
-
-    /**
-     * Deletes expired events from organization channels based on org retention settings. Uses a subquery with LIMIT to batch deletions and
-     * avoid long-running transactions.
-     *
-     * @param batchSize maximum number of events to delete per call
-     * @return number of events deleted
-     */
-    @Modifying
-    @Query(
-        value = """
-            DELETE FROM event WHERE id IN (
-                SELECT e.id FROM event e
-                JOIN channel c ON e.channel_id = c.id
-                JOIN organization o ON c.organization_id = o.id
-                WHERE e.timestamp < NOW() - (o.retention_days || ' days')::INTERVAL
-                LIMIT :batchSize
-            )
-            """,
-        nativeQuery = true
-    )
-    int deleteExpiredOrganizationChannelEvents(int batchSize);
-
-    /**
-     * Finds all events for multiple channels within a time range, plus the last event before the range for each channel (to establish
-     * initial severity state). Uses a CTE to efficiently combine both queries in a single database round-trip.
-     *
-     * @param channelIds the channel IDs
-     * @param startTime  start of time range
-     * @param endTime    end of time range
-     * @return list of events ordered by timestamp (oldest first), including prior events
-     */
-    @Query(
-        value = """
-            WITH last_before_range AS (
-                SELECT DISTINCT ON (channel_id) channel_id, timestamp AS max_time
-                FROM event
-                WHERE timestamp < :startTime
-                  AND channel_id IN (:channelIds)
-                ORDER BY channel_id, timestamp DESC
-            )
-            SELECT e.*
-            FROM (
-                SELECT ev.*
-                FROM event ev
-                INNER JOIN last_before_range lb
-                    ON lb.channel_id = ev.channel_id
-                   AND lb.max_time = ev.timestamp
-                UNION ALL
-                SELECT ev.*
-                FROM event ev
-                WHERE ev.channel_id IN (:channelIds)
-                  AND ev.timestamp BETWEEN :startTime AND :endTime
-            ) AS e
-            ORDER BY e.channel_id ASC, e.timestamp ASC
-            """,
-        nativeQuery = true
-    )
-    List<Event> findEventsWithLastBeforeRange(
-        @Param("channelIds") List<Long> channelIds,
-        @Param("startTime") OffsetDateTime startTime,
-        @Param("endTime") OffsetDateTime endTime
-    );
-
     /**
      * Counts events for multiple channels within a time range.
      *
@@ -131,112 +46,179 @@ public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecific
     long countByChannelIdInAndTimestampAfter(List<Long> channelIds, OffsetDateTime timestamp);
 
     /**
-     * Finds the most recent event for a channel.
+     * Finds the most recent event of each channel with a single query. Every channel is probed with a single
+     * descent of {@code idx_event_channel_time} through a lateral join, so the cost grows with the number
+     * of channels rather than the number of events. Channels without events are absent from the result.
+     * Only the channel ID, timestamp and severity are read, so no event entities are loaded.
      *
-     * @param channelId the channel ID
-     * @return optional event
-     */
-    java.util.Optional<Event> findTopByChannelIdOrderByTimestampDesc(Long channelId);
-
-    /**
-     * Finds events around a timestamp for duration details.
-     * Returns events both before and after the timestamp, plus the prior event if exists.
-     *
-     * @param channelId the channel ID
-     * @param timestamp the timestamp to center around
-     * @param limit     maximum number of events to return
-     * @return list of events ordered by timestamp
+     * @param channelIds the channel IDs
+     * @return the latest event per channel, at most one per channel
      */
     @Query(
         value = """
-            WITH prior_event AS (
-                SELECT *
-                FROM event
-                WHERE channel_id = :channelId
-                  AND timestamp <= :timestamp
-                ORDER BY timestamp DESC
+            SELECT c.id AS channelId, latest.timestamp AS timestamp, latest.severity AS severity
+            FROM channel c
+            CROSS JOIN LATERAL (
+                SELECT ev.timestamp, ev.severity
+                FROM event ev
+                WHERE ev.channel_id = c.id
+                ORDER BY ev.timestamp DESC
                 LIMIT 1
-            ),
-            before_events AS (
-                SELECT *
-                FROM event
-                WHERE channel_id = :channelId
-                  AND timestamp < :timestamp
-                ORDER BY timestamp DESC
-                LIMIT :limit
-            ),
-            after_events AS (
-                SELECT *
-                FROM event
-                WHERE channel_id = :channelId
-                  AND timestamp >= :timestamp
-                ORDER BY timestamp ASC
-                LIMIT :limit
-            )
-            SELECT * FROM (
-                SELECT * FROM prior_event
-                UNION
-                SELECT * FROM before_events
-                UNION
-                SELECT * FROM after_events
-            ) AS combined
-            ORDER BY timestamp ASC
+            ) AS latest
+            WHERE c.id IN (:channelIds)
             """,
         nativeQuery = true
     )
-    List<Event> findEventsAroundTimestamp(
-        @Param("channelId") Long channelId,
-        @Param("timestamp") OffsetDateTime timestamp,
-        @Param("limit") int limit
-    );
+    List<LatestChannelEvent> findLatestEventPerChannel(@Param("channelIds") List<Long> channelIds);
 
     /**
-     * Finds events before a timestamp for duration details.
+     * Finds the starts of the runs of a channel at or after a timestamp: the events that change the severity of the
+     * channel, oldest first. The first run start is the first event at or after the timestamp whose severity differs
+     * from the last event before it (or the first event, for a timestamp before the channel's first event).
      *
-     * @param channelId the channel ID
-     * @param timestamp the timestamp boundary
-     * @param limit     maximum number of events to return
-     * @return list of events ordered by timestamp
+     * <p>Every step finds the next transition with one probe of {@code idx_event_channel_severity_time} per other
+     * severity, so repeated events between two transitions are never read.
+     *
+     * @param channelId  the channel ID
+     * @param timestamp  the timestamp to start from (inclusive)
+     * @param severities the names of every severity
+     * @param limit      maximum number of run starts to return
+     * @return the run starts, ordered by timestamp
      */
     @Query(
         value = """
-            SELECT *
-            FROM event
-            WHERE channel_id = :channelId
-              AND timestamp < :timestamp
-            ORDER BY timestamp DESC
-            LIMIT :limit
+            WITH RECURSIVE runs AS (
+                SELECT next_run.timestamp AS start_time, next_run.severity, 1 AS depth
+                FROM (
+                    SELECT (
+                        SELECT severity
+                        FROM event
+                        WHERE channel_id = :channelId
+                          AND timestamp < :timestamp
+                        ORDER BY timestamp DESC
+                        LIMIT 1
+                    ) AS severity
+                ) AS state
+                CROSS JOIN LATERAL (
+                    SELECT candidate.timestamp, candidate.severity
+                    FROM unnest(ARRAY[:severities]) AS other(severity)
+                    CROSS JOIN LATERAL (
+                        SELECT timestamp, severity
+                        FROM event
+                        WHERE channel_id = :channelId
+                          AND severity = other.severity
+                          AND timestamp >= :timestamp
+                        ORDER BY timestamp
+                        LIMIT 1
+                    ) AS candidate
+                    WHERE other.severity IS DISTINCT FROM state.severity
+                    ORDER BY candidate.timestamp
+                    LIMIT 1
+                ) AS next_run
+                UNION ALL
+                SELECT next_run.timestamp, next_run.severity, r.depth + 1
+                FROM runs r
+                CROSS JOIN LATERAL (
+                    SELECT candidate.timestamp, candidate.severity
+                    FROM unnest(ARRAY[:severities]) AS other(severity)
+                    CROSS JOIN LATERAL (
+                        SELECT timestamp, severity
+                        FROM event
+                        WHERE channel_id = :channelId
+                          AND severity = other.severity
+                          AND timestamp > r.start_time
+                        ORDER BY timestamp
+                        LIMIT 1
+                    ) AS candidate
+                    WHERE other.severity <> r.severity
+                    ORDER BY candidate.timestamp
+                    LIMIT 1
+                ) AS next_run
+                WHERE r.depth < :limit
+            )
+            SELECT start_time AS startTime, severity
+            FROM runs
+            ORDER BY start_time
             """,
         nativeQuery = true
     )
-    List<Event> findEventsBefore(
+    List<SeverityRun> findRunStartsFrom(
         @Param("channelId") Long channelId,
         @Param("timestamp") OffsetDateTime timestamp,
+        @Param("severities") List<String> severities,
         @Param("limit") int limit
     );
 
     /**
-     * Finds events after a timestamp for duration details.
+     * Finds the latest runs of a channel that started before a timestamp, oldest first. The last run is the one in
+     * effect just before the timestamp.
      *
-     * @param channelId the channel ID
-     * @param timestamp the timestamp boundary
-     * @param limit     maximum number of events to return
-     * @return list of events ordered by timestamp
+     * <p>The walk goes back from the last event before the timestamp to the last earlier event with another severity,
+     * which is the last event of the previous run, with one probe of {@code idx_event_channel_severity_time} per
+     * other severity. The start of a run is the first event after the last event of the run before it. One run
+     * further back is walked than returned: when it exists, it is returned first with a null start, marking that
+     * earlier runs exist. Without it the first run returned is the first run of the channel.
+     *
+     * @param channelId  the channel ID
+     * @param timestamp  the timestamp boundary (exclusive)
+     * @param severities the names of every severity
+     * @param limit      maximum number of runs to return, excluding the marker
+     * @return the runs, ordered by start time and preceded by the marker when earlier runs exist
      */
     @Query(
         value = """
-            SELECT *
-            FROM event
-            WHERE channel_id = :channelId
-              AND timestamp >= :timestamp
-            ORDER BY timestamp ASC
-            LIMIT :limit
+            WITH RECURSIVE run_ends AS (
+                SELECT seed.timestamp AS last_time, seed.severity, 1 AS depth
+                FROM (
+                    SELECT timestamp, severity
+                    FROM event
+                    WHERE channel_id = :channelId
+                      AND timestamp < :timestamp
+                    ORDER BY timestamp DESC
+                    LIMIT 1
+                ) AS seed
+                UNION ALL
+                SELECT previous_end.timestamp, previous_end.severity, r.depth + 1
+                FROM run_ends r
+                CROSS JOIN LATERAL (
+                    SELECT candidate.timestamp, candidate.severity
+                    FROM unnest(ARRAY[:severities]) AS other(severity)
+                    CROSS JOIN LATERAL (
+                        SELECT timestamp, severity
+                        FROM event
+                        WHERE channel_id = :channelId
+                          AND severity = other.severity
+                          AND timestamp < r.last_time
+                        ORDER BY timestamp DESC
+                        LIMIT 1
+                    ) AS candidate
+                    WHERE other.severity <> r.severity
+                    ORDER BY candidate.timestamp DESC
+                    LIMIT 1
+                ) AS previous_end
+                WHERE r.depth <= :limit
+            )
+            SELECT run_start.timestamp AS startTime, r.severity
+            FROM (
+                SELECT severity, depth, LEAD(last_time) OVER (ORDER BY depth) AS previous_last_time
+                FROM run_ends
+            ) AS r
+            LEFT JOIN LATERAL (
+                SELECT timestamp
+                FROM event
+                WHERE channel_id = :channelId
+                  AND timestamp > COALESCE(r.previous_last_time, CAST('-infinity' AS TIMESTAMPTZ))
+                ORDER BY timestamp
+                LIMIT 1
+            ) AS run_start ON r.depth <= :limit
+            ORDER BY r.depth DESC
             """,
         nativeQuery = true
     )
-    List<Event> findEventsAfter(
+    List<SeverityRun> findRunsBefore(
         @Param("channelId") Long channelId,
         @Param("timestamp") OffsetDateTime timestamp,
+        @Param("severities") List<String> severities,
         @Param("limit") int limit
     );
 }
@@ -0,0 +1,140 @@
+package io.github.eventify.api.event.repository;
+
+import io.github.eventify.api.event.model.EventChunk;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Removes expired events from the event hypertable with plain JDBC, bypassing the persistence context.
+ *
+ * <p>Every statement runs on its own and is committed on its own, so a cleanup run never holds one long transaction.
+ * Chunks whose events have all expired are dropped as a whole with {@code drop_chunks}, which is a catalog operation
+ * regardless of how many (compressed) rows the chunk holds. Only the events of chunks that also hold unexpired events
+ * are deleted row by row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventRetentionWriter {
+
+    /**
+     * The effective retention of a channel: the retention of its organization, or of its owner for personal channels.
+     */
+    private static final String EFFECTIVE_RETENTION = "CASE WHEN c.organization_id IS NULL THEN u.retention_days ELSE o.retention_days END";
+
+    private static final String SELECT_CHANNEL_RETENTIONS = """
+        SELECT c.id, %s AS retention_days
+        FROM channel c
+        LEFT JOIN organization o ON o.id = c.organization_id
+        LEFT JOIN "user" u ON u.id = c.user_id
+        """.formatted(EFFECTIVE_RETENTION);
+
+    private static final String SELECT_CHUNKS_ENDING_BEFORE = """
+        SELECT range_start, range_end
+        FROM timescaledb_information.chunks
+        WHERE hypertable_name = 'event'
+          AND range_end <= ?
+        ORDER BY range_start
+        """;
+
+    private static final String SELECT_LONGEST_RETENTION_IN_RANGE = """
+        SELECT MAX(%s)
+        FROM (SELECT DISTINCT channel_id FROM event WHERE timestamp >= ? AND timestamp < ?) AS e
+        JOIN channel c ON c.id = e.channel_id
+        LEFT JOIN organization o ON o.id = c.organization_id
+        LEFT JOIN "user" u ON u.id = c.user_id
+        """.formatted(EFFECTIVE_RETENTION);
+
+    private static final String DROP_CHUNKS_IN_RANGE = "SELECT drop_chunks('event', older_than => ?, newer_than => ?)";
+
+    private static final String DELETE_EXPIRED_EVENTS = """
+        DELETE FROM event
+        WHERE timestamp < ?
+          AND id IN (
+            SELECT id FROM event
+            WHERE channel_id = ANY (?)
+              AND timestamp < ?
+            LIMIT ?
+          )
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds the channels of every effective retention.
+     *
+     * @return the channel IDs per retention in days, shortest retention first
+     */
+    public Map<Integer, List<Long>> findChannelsByRetention() {
+        return jdbcTemplate.query(SELECT_CHANNEL_RETENTIONS, (resultSet, row) -> Map.entry(resultSet.getInt(2), resultSet.getLong(1)))
+            .stream()
+            .collect(Collectors.groupingBy(
+                Map.Entry::getKey,
+                TreeMap::new,
+                Collectors.mapping(Map.Entry::getValue, Collectors.toList())
+            ));
+    }
+
+    /**
+     * Finds the chunks of the event hypertable that end at or before the given time, oldest first.
+     *
+     * @param end the latest end of the chunks
+     * @return the chunks
+     */
+    public List<EventChunk> findChunksEndingBefore(final OffsetDateTime end) {
+        return jdbcTemplate.query(SELECT_CHUNKS_ENDING_BEFORE, this::mapChunk, end);
+    }
+
+    /**
+     * Finds the longest effective retention of the channels with events in a chunk.
+     *
+     * @param chunk the chunk
+     * @return the retention in days, or null when the chunk holds no events
+     */
+    public Integer findLongestRetention(final EventChunk chunk) {
+        return jdbcTemplate.queryForObject(SELECT_LONGEST_RETENTION_IN_RANGE, Integer.class, chunk.getRangeStart(), chunk.getRangeEnd());
+    }
+
+    /**
+     * Drops a chunk with all of its events.
+     *
+     * @param chunk the chunk
+     * @return the number of dropped chunks
+     */
+    public int dropChunk(final EventChunk chunk) {
+        return jdbcTemplate.queryForList(DROP_CHUNKS_IN_RANGE, String.class, chunk.getRangeEnd(), chunk.getRangeStart()).size();
+    }
+
+    /**
+     * Deletes a batch of the events of the given channels older than the cutoff.
+     *
+     * @param channelIds the channel IDs
+     * @param cutoff     the time before which events have expired
+     * @param batchSize  maximum number of events to delete
+     * @return the number of deleted events
+     */
+    public int deleteExpiredEvents(final List<Long> channelIds, final OffsetDateTime cutoff, final int batchSize) {
+        return jdbcTemplate.update(connection -> {
+            final PreparedStatement statement = connection.prepareStatement(DELETE_EXPIRED_EVENTS);
+            statement.setObject(1, cutoff);
+            statement.setArray(2, connection.createArrayOf("bigint", channelIds.toArray()));
+            statement.setObject(3, cutoff);
+            statement.setInt(4, batchSize);
+            return statement;
+        });
+    }
+
+    private EventChunk mapChunk(final ResultSet resultSet, final int row) throws SQLException {
+        return new EventChunk(resultSet.getObject(1, OffsetDateTime.class), resultSet.getObject(2, OffsetDateTime.class));
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.eventify.api.event.repository;
+
+import io.github.eventify.api.event.model.Severity;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Streams the severity transitions of channels with plain JDBC, bypassing the persistence context.
+ *
+ * <p>Timelines only need the moments a channel changes severity, so only those events are returned, and only their
+ * channel, timestamp and severity: no entities are managed and no title, message or metadata is read. For
+ * heartbeat-style channels, where nearly every event repeats the previous severity, the rows scale with the number
+ * of changes instead of the event rate. Rows are read through a forward-only cursor with a fixed fetch size and
+ * handed to the caller one at a time, so memory is bounded by what the caller keeps rather than by the number of
+ * events. The PostgreSQL driver only uses a cursor inside a transaction; outside one the rows are buffered by the
+ * driver, but still never become entities.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventSeverityReader {
+
+    public static final int FETCH_SIZE = 1_000;
+
+    /**
+     * The last event before the range, then the in-range events that change the severity of their channel and the
+     * last in-range event of each channel (which closes a past window). Repeats are dropped by the database with
+     * {@code LAG} over {@code idx_event_channel_time}, so they are never sent.
+     */
+    private static final String SELECT_TRANSITIONS = """
+        SELECT e.channel_id, e.timestamp, e.severity
+        FROM (
+            SELECT DISTINCT ON (channel_id) channel_id, timestamp, severity
+            FROM event
+            WHERE timestamp < ?
+              AND channel_id = ANY (?)
+            ORDER BY channel_id, timestamp DESC
+        ) AS e
+        UNION ALL
+        SELECT r.channel_id, r.timestamp, r.severity
+        FROM (
+            SELECT ev.channel_id, ev.timestamp, ev.severity,
+                   LAG(ev.severity) OVER channel_events AS previous_severity,
+                   LEAD(ev.timestamp) OVER channel_events AS next_timestamp
+            FROM event ev
+            WHERE ev.channel_id = ANY (?)
+              AND ev.timestamp BETWEEN ? AND ?
+            WINDOW channel_events AS (PARTITION BY ev.channel_id ORDER BY ev.timestamp)
+        ) AS r
+        WHERE r.previous_severity IS DISTINCT FROM r.severity
+           OR r.next_timestamp IS NULL
+        ORDER BY 1, 2
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Streams the severity transitions of the given channels within a time range, preceded by the last event before
+     * the range of each channel (to establish its initial severity) and followed by the last event in the range.
+     * Rows arrive ordered by channel and timestamp (oldest first). Replaying them yields the same run-length history
+     * as replaying every event.
+     *
+     * @param channelIds the channel IDs
+     * @param startTime  start of time range
+     * @param endTime    end of time range
+     * @param handler    receives every row
+     */
+    public void readTransitions(
+        final List<Long> channelIds,
+        final OffsetDateTime startTime,
+        final OffsetDateTime endTime,
+        final SeverityRowHandler handler
+    ) {
+        jdbcTemplate.query(
+            connection -> prepare(connection, channelIds, startTime, endTime),
+            (RowCallbackHandler) resultSet -> handle(resultSet, handler)
+        );
+    }
+
+    private PreparedStatement prepare(
+        final Connection connection,
+        final List<Long> channelIds,
+        final OffsetDateTime startTime,
+        final OffsetDateTime endTime
+    ) throws SQLException {
+        final PreparedStatement statement = connection.prepareStatement(
+            SELECT_TRANSITIONS,
+            ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY
+        );
+        statement.setFetchSize(FETCH_SIZE);
+        final Object[] ids = channelIds.toArray();
+        statement.setObject(1, startTime);
+        statement.setArray(2, connection.createArrayOf("bigint", ids));
+        statement.setArray(3, connection.createArrayOf("bigint", ids));
+        statement.setObject(4, startTime);
+        statement.setObject(5, endTime);
+        return statement;
+    }
+
+    private void handle(final ResultSet resultSet, final SeverityRowHandler handler) throws SQLException {
+        handler.handle(
+            resultSet.getLong(1),
+            resultSet.getObject(2, OffsetDateTime.class),
+            Severity.valueOf(resultSet.getString(3))
+        );
+    }
+
+    /**
+     * Receives the rows of {@link #readTransitions}, one at a time.
+     */
+    @FunctionalInterface
+    public interface SeverityRowHandler {
+
+        /**
+         * Handles a single event row.
+         *
+         * @param channelId the channel ID
+         * @param timestamp the event timestamp
+         * @param severity  the event severity
+         */
+        void handle(long channelId, OffsetDateTime timestamp, Severity severity);
+    }
+}
@@ -4,15 +4,21 @@ import io.github.eventify.api.channel.cache.ChannelCache;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelStatus;
 import io.github.eventify.api.channel.repository.ChannelRepository;
+import io.github.eventify.api.event.buffer.EventIngestionBuffer;
 import io.github.eventify.api.event.model.Event;
 import io.github.eventify.api.event.model.request.BatchEventRequest;
 import io.github.eventify.api.event.model.request.CreateEventRequest;
+import io.github.eventify.api.event.repository.EventCopyWriter;
+import io.github.eventify.api.event.repository.EventIdAllocator;
 import io.github.eventify.api.event.repository.EventRepository;
+import io.github.eventify.common.config.properties.IngestionProperties;
 import io.github.eventify.common.exception.ChannelPausedException;
 import io.github.eventify.common.security.principal.ApiKeyPrincipal;
 import io.github.jframe.exception.core.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -26,7 +32,13 @@ import static io.github.eventify.common.exception.ApiErrorCode.CHANNEL_NOT_FOUND
 /**
  * Service for event ingestion.
  * Channels are resolved by slug within the principal's scope (userId or orgId).
- * Security layer (@PreAuthorize) runs first and caches resolved channels.
+ * Security layer (@PreAuthorize) runs first and caches resolved channels; slugs of a batch that are not cached
+ * are resolved together with a single query.
+ *
+ * <p>In accept-and-queue mode single events are given a server-assigned id and handed to the
+ * {@link EventIngestionBuffer} instead of being written synchronously. Batches are always written synchronously;
+ * batches above the configured COPY threshold are streamed with {@link EventCopyWriter} instead of JPA.
+ * Written events are handed to {@link EventWriteCallbacks}, which publishes them once the transaction commits.
  */
 @Service
 @RequiredArgsConstructor
@@ -38,34 +50,73 @@ public class EventIngestionService {
 
     private final ChannelCache channelCache;
 
+    private final EventIngestionBuffer eventIngestionBuffer;
+
+    private final EventIdAllocator eventIdAllocator;
+
+    private final EventCopyWriter eventCopyWriter;
+
+    private final IngestionProperties ingestionProperties;
+
+    private final EventWriteCallbacks eventWriteCallbacks;
+
     /**
      * Ingests a single event. Channel resolved from cache (populated by security layer) or DB.
+     * When accept-and-queue mode is enabled, the event is queued with a pre-allocated id and written in the background.
      */
     public Event ingestEvent(final CreateEventRequest request, final ApiKeyPrincipal principal) {
         final Channel channel = resolveChannel(request.getSlug(), principal);
         validateChannelActive(channel);
-        return eventRepository.save(new Event(request, channel));
+        final Event event = new Event(request, channel);
+        if (isQueueingEnabled()) {
+            event.setId(eventIdAllocator.nextId());
+            eventIngestionBuffer.enqueue(event);
+            return event;
+        }
+        final Event saved = eventRepository.save(event);
+        eventWriteCallbacks.onWritten(List.of(saved));
+        return saved;
+    }
+
+    /**
+     * Whether single events are accepted and queued (202) instead of written synchronously (201).
+     *
+     * @return true if accept-and-queue mode is enabled
+     */
+    public boolean isQueueingEnabled() {
+        return eventIngestionBuffer.isEnabled();
     }
 
     /**
      * Ingests a batch of events. All-or-nothing semantics via @Transactional.
+     * Batches larger than the COPY threshold get pre-allocated ids and are streamed with a single COPY.
      */
     @Transactional
     public List<Event> ingestBatch(final BatchEventRequest request, final ApiKeyPrincipal principal) {
         final Map<String, Channel> channelMap = resolveChannels(request.getEvents(), principal);
         channelMap.values().forEach(this::validateChannelActive);
 
-        return eventRepository.saveAll(
-            request.getEvents().stream()
-                .map(
-                    eventRequest -> new Event(
-                        eventRequest,
-                        channelMap.get(eventRequest.getSlug()),
-                        eventRequest.getTimestamp()
-                    )
+        final List<Event> events = request.getEvents().stream()
+            .map(
+                eventRequest -> new Event(
+                    eventRequest,
+                    channelMap.get(eventRequest.getSlug()),
+                    eventRequest.getTimestamp()
                 )
-                .toList()
-        );
+            )
+            .toList();
+        final List<Event> written = write(events);
+        eventWriteCallbacks.onWritten(written);
+        return written;
+    }
+
+    private List<Event> write(final List<Event> events) {
+        if (events.size() <= ingestionProperties.getCopyThreshold()) {
+            return eventRepository.saveAll(events);
+        }
+        events.forEach(event -> event.setId(eventIdAllocator.nextId()));
+        eventCopyWriter.copyAll(events);
+        return events;
     }
 
     private Channel resolveChannel(final String slug, final ApiKeyPrincipal principal) {
@@ -79,8 +130,19 @@ public class EventIngestionService {
             .map(CreateEventRequest::getSlug)
             .collect(Collectors.toSet());
 
-        return slugs.stream()
-            .collect(Collectors.toMap(slug -> slug, slug -> resolveChannel(slug, principal)));
+        final Map<String, Channel> channels = new HashMap<>();
+        final Set<String> unresolved = new HashSet<>();
+        for (final String slug : slugs) {
+            channelCache.getBySlug(slug).ifPresentOrElse(channel -> channels.put(slug, channel), () -> unresolved.add(slug));
+        }
+        if (!unresolved.isEmpty()) {
+            channelRepository.findBySlugsAndPrincipal(unresolved, principal)
+                .forEach(channel -> channels.put(channel.getSlug(), channel));
+        }
+        if (channels.size() < slugs.size()) {
+            throw new DataNotFoundException(CHANNEL_NOT_FOUND);
+        }
+        return channels;
     }
 
     private Channel resolveFromDatabase(final String slug, final ApiKeyPrincipal principal) {
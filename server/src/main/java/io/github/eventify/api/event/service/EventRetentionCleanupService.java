@@ -1,58 +1,155 @@
 package io.github.eventify.api.event.service;
 
-import io.github.eventify.api.event.repository.EventRepository;
-import lombok.RequiredArgsConstructor;
+import io.github.eventify.api.event.model.EventChunk;
+import io.github.eventify.api.event.repository.EventRetentionWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntSupplier;
 import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import static java.time.ZoneOffset.UTC;
 
 /**
  * Service for cleaning up expired events based on retention policies.
+ *
+ * <p>Channels are grouped by their effective retention: the retention of their organization, or of their owner for
+ * personal channels. Chunks of the event hypertable in which every channel's events have expired are dropped as a
+ * whole; the expired events in the remaining chunks are deleted per retention group in batches. Every chunk drop and
+ * every batch is committed on its own, so an interrupted run keeps its progress and the next run continues from there.
  */
 @Slf4j
 @Service
-@Transactional
-@RequiredArgsConstructor
 public class EventRetentionCleanupService {
 
+    public static final String CHUNKS_DROPPED_METRIC = "eventify.retention.chunks.dropped";
+
+    public static final String EVENTS_DELETED_METRIC = "eventify.retention.events.deleted";
+
+    public static final String GROUPS_PENDING_METRIC = "eventify.retention.groups.pending";
+
+    public static final String RUN_DURATION_METRIC = "eventify.retention.run.duration";
+
     private static final int BATCH_SIZE = 10_000;
 
-    private final EventRepository eventRepository;
+    private final EventRetentionWriter eventRetentionWriter;
+
+    private final Counter chunksDroppedCounter;
+
+    private final Counter eventsDeletedCounter;
+
+    private final Timer runTimer;
+
+    private final AtomicInteger pendingGroups = new AtomicInteger();
+
+    /**
+     * Creates the service and registers its progress metrics.
+     *
+     * @param eventRetentionWriter the writer that drops chunks and deletes events
+     * @param meterRegistry        the registry to expose retention metrics on
+     */
+    public EventRetentionCleanupService(final EventRetentionWriter eventRetentionWriter, final MeterRegistry meterRegistry) {
+        this.eventRetentionWriter = eventRetentionWriter;
+        this.chunksDroppedCounter = Counter.builder(CHUNKS_DROPPED_METRIC)
+            .description("Chunks of the event hypertable dropped because all of their events expired")
+            .register(meterRegistry);
+        this.eventsDeletedCounter = Counter.builder(EVENTS_DELETED_METRIC)
+            .description("Expired events deleted row by row from chunks that also hold unexpired events")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder(RUN_DURATION_METRIC)
+            .description("Time taken by a retention cleanup run")
+            .register(meterRegistry);
+        Gauge.builder(GROUPS_PENDING_METRIC, pendingGroups, AtomicInteger::get)
+            .description("Retention groups still to be cleaned in the current run")
+            .register(meterRegistry);
+    }
 
     /**
      * Cleans up expired events from both personal and organization channels.
      */
     public void cleanupExpiredEvents() {
-        final int totalPersonalDeleted = deleteInBatches(this::deleteExpiredPersonalChannelEvents);
-        final int totalOrgDeleted = deleteInBatches(this::deleteExpiredOrganizationChannelEvents);
-        log.info(
-            "Retention cleanup completed. Deleted '{}' in total: personal='{}', organization='{}'",
-            totalPersonalDeleted + totalOrgDeleted,
-            totalPersonalDeleted,
-            totalOrgDeleted
-        );
+        runTimer.record(() -> {
+            final OffsetDateTime now = OffsetDateTime.now(UTC);
+            final Map<Integer, List<Long>> channelsByRetention = eventRetentionWriter.findChannelsByRetention();
+            if (channelsByRetention.isEmpty()) {
+                log.info("Retention cleanup completed. No channels to clean up");
+                return;
+            }
+
+            final int shortestRetention = channelsByRetention.keySet().stream().min(Integer::compare).orElseThrow();
+            final int droppedChunks = dropExpiredChunks(now, shortestRetention);
+
+            final int deletedEvents = deleteExpiredEventsPerGroup(channelsByRetention, now);
+            log.info(
+                "Retention cleanup completed. Dropped '{}' chunks and deleted '{}' events from '{}' retention groups",
+                droppedChunks,
+                deletedEvents,
+                channelsByRetention.size()
+            );
+        });
     }
 
     /**
-     * Deletes a batch of expired events from personal channels.
+     * Drops the chunks in which the events of every channel have expired. No chunk ending after the shortest
+     * retention can qualify, so only older chunks are checked against the longest retention of their channels.
      *
-     * @return the number of deleted events in this batch
+     * @param now               the time of this run
+     * @param shortestRetention the shortest retention in days of any channel
+     * @return the number of dropped chunks
      */
-    public int deleteExpiredPersonalChannelEvents() {
-        return eventRepository.deleteExpiredPersonalChannelEvents(BATCH_SIZE);
+    public int dropExpiredChunks(final OffsetDateTime now, final int shortestRetention) {
+        int dropped = 0;
+        for (final EventChunk chunk : eventRetentionWriter.findChunksEndingBefore(now.minusDays(shortestRetention))) {
+            final Integer longestRetention = eventRetentionWriter.findLongestRetention(chunk);
+            if (longestRetention == null || !chunk.getRangeEnd().isAfter(now.minusDays(longestRetention))) {
+                dropped += eventRetentionWriter.dropChunk(chunk);
+            }
+        }
+        chunksDroppedCounter.increment(dropped);
+        return dropped;
     }
 
     /**
-     * Deletes a batch of expired events from organization channels.
+     * Deletes the expired events of a retention group in batches, each committed on its own.
      *
-     * @return the number of deleted events in this batch
+     * @param retentionDays the retention in days of the group
+     * @param channelIds    the channels of the group
+     * @param now           the time of this run
+     * @return the number of deleted events
      */
-    public int deleteExpiredOrganizationChannelEvents() {
-        return eventRepository.deleteExpiredOrganizationChannelEvents(BATCH_SIZE);
+    public int deleteExpiredEvents(final int retentionDays, final List<Long> channelIds, final OffsetDateTime now) {
+        final OffsetDateTime cutoff = now.minusDays(retentionDays);
+        final int deleted = deleteInBatches(() -> {
+            final int batch = eventRetentionWriter.deleteExpiredEvents(channelIds, cutoff, BATCH_SIZE);
+            eventsDeletedCounter.increment(batch);
+            return batch;
+        });
+        log.debug("Deleted '{}' expired events of '{}' channels with a retention of '{}' days", deleted, channelIds.size(), retentionDays);
+        return deleted;
+    }
+
+    private int deleteExpiredEventsPerGroup(final Map<Integer, List<Long>> channelsByRetention, final OffsetDateTime now) {
+        pendingGroups.set(channelsByRetention.size());
+        try {
+            return channelsByRetention.entrySet().stream()
+                .mapToInt(group -> {
+                    final int deleted = deleteExpiredEvents(group.getKey(), group.getValue(), now);
+                    pendingGroups.decrementAndGet();
+                    return deleted;
+                })
+                .sum();
+        } finally {
+            pendingGroups.set(0);
+        }
     }
 
     private int deleteInBatches(final IntSupplier deleteBatch) {
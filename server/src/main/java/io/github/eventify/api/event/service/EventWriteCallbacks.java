@@ -0,0 +1,50 @@
+package io.github.eventify.api.event.service;
+
+import io.github.eventify.api.channel.activity.ChannelActivityTracker;
+import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.monitor.cache.MonitorResponseCache;
+import io.github.eventify.api.monitor.stream.MonitorStreamHub;
+import io.github.eventify.api.monitor.state.TimelineStateStore;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import static io.github.eventify.common.util.TransactionCallbacks.afterCommit;
+
+/**
+ * Hands written events to the in-memory consumers that follow ingestion.
+ *
+ * <p>Events are handed over once the surrounding transaction commits (or immediately when there is none),
+ * so a rolled back batch never reaches the {@link ChannelActivityTracker}, the {@link TimelineStateStore}, the
+ * {@link MonitorResponseCache} or the {@link MonitorStreamHub}.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventWriteCallbacks {
+
+    private final ChannelActivityTracker channelActivityTracker;
+
+    private final TimelineStateStore timelineStateStore;
+
+    private final MonitorResponseCache monitorResponseCache;
+
+    private final MonitorStreamHub monitorStreamHub;
+
+    /**
+     * Publishes written events to the activity tracker, the live timeline state and the open monitor streams, and
+     * invalidates the cached monitor responses of their channels.
+     *
+     * @param events the events that were written
+     */
+    public void onWritten(final List<Event> events) {
+        final List<Event> written = List.copyOf(events);
+        afterCommit(() -> {
+            channelActivityTracker.recordAll(written);
+            timelineStateStore.recordAll(written);
+            monitorResponseCache.recordWrites(written);
+            monitorStreamHub.publish(written);
+        });
+    }
+}
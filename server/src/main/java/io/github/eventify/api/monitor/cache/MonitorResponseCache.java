@@ -0,0 +1,306 @@
+package io.github.eventify.api.monitor.cache;
+
+import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.monitor.model.MonitorFilters;
+import io.github.eventify.api.monitor.model.MonitorResult;
+import io.github.eventify.api.monitor.model.TimeRange;
+import io.github.eventify.api.monitor.model.mapper.MonitorMapper;
+import io.github.eventify.api.monitor.model.request.MonitorRequest;
+import io.github.eventify.common.cache.ExpiringCache;
+import io.github.eventify.common.config.properties.MonitorProperties;
+import io.github.eventify.common.config.properties.ResponseCacheProperties;
+import io.github.eventify.common.util.HashUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import static java.time.ZoneOffset.UTC;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Process-wide cache of rendered monitor responses, tagged with an ETag.
+ *
+ * <p>Responses are keyed by watchlist, request filters and time range. Preset ranges are relative to now, so they
+ * are rounded to the configured quantum: requests for the same preset within one quantum share a response, which
+ * expires when the quantum ends. Custom ranges are keyed by their exact bounds.
+ *
+ * <p>Ingestion invalidates responses through a write clock: every committed batch of events advances the clock and
+ * stamps the channels it wrote to, and a response is only served while none of the watchlist's channels were
+ * stamped after it was computed. Watchlist updates and deletions evict the watchlist's responses. Events written by
+ * other instances and channel renames are not seen here, so they show up once the quantum ends.
+ *
+ * <p>Responses are cached as their serialized JSON body, so a hit is written out as is. A client that sends the ETag
+ * of the response it holds in {@code If-None-Match} gets 304 Not Modified without a body while the response is
+ * unchanged.
+ */
+@Component
+public class MonitorResponseCache {
+
+    public static final String REQUEST_METRIC = "eventify.monitor.response-cache.requests";
+
+    public static final String SERVED_BYTES_METRIC = "eventify.monitor.response-cache.served-bytes";
+
+    public static final String SIZE_METRIC = "eventify.monitor.response-cache.size";
+
+    private final ResponseCacheProperties properties;
+
+    private final MonitorMapper monitorMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ExpiringCache<ResponseKey, CachedResponse> responses;
+
+    private final AtomicLong writeClock = new AtomicLong();
+
+    private final Map<Long, Long> lastWriteByChannel = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter notModifiedCounter;
+
+    private final DistributionSummary hitBytes;
+
+    private final DistributionSummary missBytes;
+
+    /**
+     * Creates the cache and registers its metrics.
+     *
+     * @param monitorProperties the monitor configuration
+     * @param monitorMapper     the mapper that renders monitor results
+     * @param meterRegistry     the registry to expose cache metrics on
+     */
+    public MonitorResponseCache(
+        final MonitorProperties monitorProperties,
+        final MonitorMapper monitorMapper,
+        final MeterRegistry meterRegistry
+    ) {
+        this.properties = monitorProperties.getResponseCache();
+        this.monitorMapper = monitorMapper;
+        this.responses = new ExpiringCache<>(properties.getMaxEntries(), properties.getQuantum());
+
+        this.hitCounter = Counter.builder(REQUEST_METRIC)
+            .tag("result", "hit")
+            .description("Monitor requests answered with a cached response")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(REQUEST_METRIC)
+            .tag("result", "miss")
+            .description("Monitor requests that required building the timelines")
+            .register(meterRegistry);
+        this.notModifiedCounter = Counter.builder(REQUEST_METRIC)
+            .tag("result", "not-modified")
+            .description("Monitor requests answered with 304 Not Modified")
+            .register(meterRegistry);
+        this.hitBytes = DistributionSummary.builder(SERVED_BYTES_METRIC)
+            .tag("result", "hit")
+            .baseUnit("bytes")
+            .description("Size of monitor responses served from the cache")
+            .register(meterRegistry);
+        this.missBytes = DistributionSummary.builder(SERVED_BYTES_METRIC)
+            .tag("result", "miss")
+            .baseUnit("bytes")
+            .description("Size of monitor responses built for the request")
+            .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, responses, ExpiringCache::size)
+            .description("Number of monitor responses in the cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Answers a monitor request from the cache, or computes, caches and returns its response.
+     *
+     * @param request     the (validated) monitor request
+     * @param ifNoneMatch the {@code If-None-Match} header of the request, may be null
+     * @param monitor     computes the monitor result on a miss
+     * @return 304 Not Modified when the client holds the current response, otherwise 200 with the JSON body of the
+     *     response
+     */
+    public ResponseEntity<byte[]> respond(
+        final MonitorRequest request,
+        final String ifNoneMatch,
+        final Supplier<MonitorResult> monitor
+    ) {
+        if (!properties.isEnabled()) {
+            return ResponseEntity.status(OK)
+                .contentType(APPLICATION_JSON)
+                .body(objectMapper.writeValueAsBytes(monitorMapper.toResponse(monitor.get())));
+        }
+
+        final Instant now = Instant.now();
+        final ResponseKey key = ResponseKey.of(request, quantumIndex(now));
+        final Optional<CachedResponse> cached = responses.get(key).filter(this::isCurrent);
+        final CachedResponse response = cached.orElseGet(() -> compute(key, monitor, now));
+
+        if (response.matches(ifNoneMatch)) {
+            notModifiedCounter.increment();
+            return ResponseEntity.status(NOT_MODIFIED).eTag(response.etag).build();
+        }
+        if (cached.isPresent()) {
+            hitCounter.increment();
+            hitBytes.record(response.body.length);
+        } else {
+            missCounter.increment();
+            missBytes.record(response.body.length);
+        }
+        return ResponseEntity.status(OK).eTag(response.etag).contentType(APPLICATION_JSON).body(response.body);
+    }
+
+    /**
+     * Advances the write clock for the channels of committed events, invalidating every response that includes them.
+     *
+     * @param events the events that were written
+     */
+    public void recordWrites(final Collection<Event> events) {
+        if (!properties.isEnabled() || events.isEmpty()) {
+            return;
+        }
+        final long write = writeClock.incrementAndGet();
+        for (final Event event : events) {
+            lastWriteByChannel.put(event.getChannel().getId(), write);
+        }
+    }
+
+    /**
+     * Evicts every response of a watchlist, e.g. after it was updated or deleted.
+     *
+     * @param watchlistId the watchlist ID
+     */
+    public void evictWatchlist(final Long watchlistId) {
+        responses.evictIf(cached -> Objects.equals(cached.watchlistId, watchlistId));
+    }
+
+    /**
+     * Computes a response. The write clock is read before the timelines are built, so events committed while
+     * building invalidate the response instead of being missed by it.
+     */
+    private CachedResponse compute(final ResponseKey key, final Supplier<MonitorResult> monitor, final Instant now) {
+        final long computedAt = writeClock.get();
+        final MonitorResult result = monitor.get();
+        final byte[] body = objectMapper.writeValueAsBytes(monitorMapper.toResponse(result));
+        final CachedResponse cached = new CachedResponse(
+            key.watchlistId,
+            List.copyOf(result.getChannelIds()),
+            computedAt,
+            body,
+            "\"" + HashUtil.sha256(body) + "\""
+        );
+        responses.put(key, cached, key.isLive() ? quantumEnd(now) : null);
+        return cached;
+    }
+
+    private boolean isCurrent(final CachedResponse cached) {
+        for (final Long channelId : cached.channelIds) {
+            final Long lastWrite = lastWriteByChannel.get(channelId);
+            if (lastWrite != null && lastWrite > cached.computedAt) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long quantumIndex(final Instant now) {
+        return now.toEpochMilli() / properties.getQuantum().toMillis();
+    }
+
+    private Instant quantumEnd(final Instant now) {
+        return Instant.ofEpochMilli((quantumIndex(now) + 1) * properties.getQuantum().toMillis());
+    }
+
+    /**
+     * The request a response was computed for. Preset ranges carry the quantum they were requested in, custom
+     * ranges their exact bounds (in UTC, so equal instants share a key).
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class ResponseKey {
+
+        private final Long watchlistId;
+
+        private final TimeRange timeRange;
+
+        private final OffsetDateTime startTime;
+
+        private final OffsetDateTime endTime;
+
+        private final Boolean onlyCritical;
+
+        private final Boolean sortBySeverity;
+
+        private final Boolean groupedView;
+
+        private final long quantum;
+
+        private static ResponseKey of(final MonitorRequest request, final long quantum) {
+            final MonitorFilters filters = request.getFilters() != null ? request.getFilters() : new MonitorFilters();
+            final boolean custom = filters.getStartTime() != null && filters.getEndTime() != null;
+            return new ResponseKey(
+                request.getWatchlistId(),
+                custom ? TimeRange.CUSTOM : filters.getTimeRange(),
+                custom ? filters.getStartTime().withOffsetSameInstant(UTC) : null,
+                custom ? filters.getEndTime().withOffsetSameInstant(UTC) : null,
+                filters.getOnlyCritical(),
+                filters.getSortBySeverity(),
+                filters.getGroupedView(),
+                custom ? 0L : quantum
+            );
+        }
+
+        private boolean isLive() {
+            return timeRange != TimeRange.CUSTOM;
+        }
+    }
+
+    /**
+     * A rendered response body, its ETag, and what it depends on.
+     */
+    @AllArgsConstructor
+    private static final class CachedResponse {
+
+        private final Long watchlistId;
+
+        private final List<Long> channelIds;
+
+        private final long computedAt;
+
+        private final byte[] body;
+
+        private final String etag;
+
+        /**
+         * Whether an {@code If-None-Match} header names this response, ignoring weak validator prefixes.
+         */
+        private boolean matches(final String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (final String candidate : ifNoneMatch.split(",")) {
+                final String tag = candidate.trim();
+                if ("*".equals(tag) || etag.equals(tag.startsWith("W/") ? tag.substring(2) : tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package io.github.eventify.api.monitor.controller;
 
-import io.github.eventify.api.monitor.model.MonitorResult;
-import io.github.eventify.api.monitor.model.mapper.MonitorMapper;
+import io.github.eventify.api.monitor.cache.MonitorResponseCache;
 import io.github.eventify.api.monitor.model.request.MonitorRequest;
 import io.github.eventify.api.monitor.model.response.MonitorResponse;
 import io.github.eventify.api.monitor.model.validator.MonitorValidator;
 import io.github.eventify.api.monitor.service.MonitorService;
+import io.github.eventify.api.monitor.stream.MonitorStreamHub;
 import io.github.eventify.common.security.principal.UserTokenPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
@@ -15,14 +18,21 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import static io.github.eventify.api.Paths.ORGANIZATION_MONITOR_PATH;
+import static io.github.eventify.api.Paths.ORGANIZATION_MONITOR_STREAM_PATH;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
 /**
  * Controller for organization monitor endpoints.
@@ -37,12 +47,26 @@ public class OrganizationMonitorController {
 
     private final MonitorService monitorService;
     private final MonitorValidator monitorValidator;
-    private final MonitorMapper monitorMapper;
+    private final MonitorResponseCache monitorResponseCache;
+    private final MonitorStreamHub monitorStreamHub;
 
     @ResponseStatus(OK)
     @Operation(
         summary = "Get organization monitor timeline",
-        description = "Returns timeline data for an organization watchlist"
+        description = "Returns timeline data for an organization watchlist. Send the ETag of a previous response in "
+            + "If-None-Match to get 304 Not Modified while it is unchanged."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "The monitor response, served from the response cache when it is unchanged",
+        content = @Content(
+            mediaType = APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = MonitorResponse.class)
+        )
+    )
+    @ApiResponse(
+        responseCode = "304",
+        description = "The response named in If-None-Match is still current"
     )
     @PostMapping(
         path = ORGANIZATION_MONITOR_PATH,
@@ -53,11 +77,36 @@ public class OrganizationMonitorController {
         "@watchlistSecurity.canAccessOrgWatchlist(#request.watchlistId, #orgId, principal.user.id) "
             + "or hasAuthority('MANAGE_ORGANIZATIONS')"
     )
-    public ResponseEntity<MonitorResponse> getOrganizationMonitor(
+    public ResponseEntity<byte[]> getOrganizationMonitor(
         @AuthenticationPrincipal final UserTokenPrincipal principal, @PathVariable final Long orgId,
+        @RequestHeader(name = IF_NONE_MATCH, required = false) final String ifNoneMatch,
         @RequestBody final MonitorRequest request) {
         monitorValidator.validateAndThrow(request);
-        final MonitorResult result = monitorService.monitorWatchlist(request);
-        return ResponseEntity.status(OK).body(monitorMapper.toResponse(result));
+        return monitorResponseCache.respond(request, ifNoneMatch, () -> monitorService.monitorWatchlist(request));
+    }
+
+    @Operation(
+        summary = "Stream organization monitor timeline",
+        description = "Sends a 'snapshot' event with the monitor response of a live range, followed by a 'delta' event "
+            + "whenever events are ingested into the watchlist's channels"
+    )
+    @GetMapping(
+        path = ORGANIZATION_MONITOR_STREAM_PATH,
+        produces = TEXT_EVENT_STREAM_VALUE
+    )
+    @PreAuthorize(
+        "@watchlistSecurity.canAccessOrgWatchlist(#watchlistId, #orgId, principal.user.id) "
+            + "or hasAuthority('MANAGE_ORGANIZATIONS')"
+    )
+    public SseEmitter streamOrganizationMonitor(
+        @AuthenticationPrincipal final UserTokenPrincipal principal, @PathVariable final Long orgId,
+        @RequestParam(name = "watchlistId") final Long watchlistId,
+        @RequestParam(name = "timeRange", required = false) final String timeRange,
+        @RequestParam(name = "onlyCritical", required = false) final Boolean onlyCritical,
+        @RequestParam(name = "sortBySeverity", required = false) final Boolean sortBySeverity,
+        @RequestParam(name = "groupedView", required = false) final Boolean groupedView) {
+        final MonitorRequest request = MonitorRequest.of(watchlistId, timeRange, onlyCritical, sortBySeverity, groupedView);
+        monitorValidator.validateAndThrow(request);
+        return monitorStreamHub.subscribe(watchlistId, () -> monitorService.monitorWatchlist(request));
     }
 }
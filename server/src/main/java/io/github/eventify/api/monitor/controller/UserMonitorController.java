@@ -1,27 +1,37 @@
 package io.github.eventify.api.monitor.controller;
 
-import io.github.eventify.api.monitor.model.MonitorResult;
-import io.github.eventify.api.monitor.model.mapper.MonitorMapper;
+import io.github.eventify.api.monitor.cache.MonitorResponseCache;
 import io.github.eventify.api.monitor.model.request.MonitorRequest;
 import io.github.eventify.api.monitor.model.response.MonitorResponse;
 import io.github.eventify.api.monitor.model.validator.MonitorValidator;
 import io.github.eventify.api.monitor.service.MonitorService;
+import io.github.eventify.api.monitor.stream.MonitorStreamHub;
 import io.github.eventify.common.security.principal.UserTokenPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import static io.github.eventify.api.Paths.USER_MONITOR_PATH;
+import static io.github.eventify.api.Paths.USER_MONITOR_STREAM_PATH;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
 /**
  * Controller for user monitor endpoints.
@@ -36,12 +46,26 @@ public class UserMonitorController {
 
     private final MonitorService monitorService;
     private final MonitorValidator monitorValidator;
-    private final MonitorMapper monitorMapper;
+    private final MonitorResponseCache monitorResponseCache;
+    private final MonitorStreamHub monitorStreamHub;
 
     @ResponseStatus(OK)
     @Operation(
         summary = "Get user monitor timeline",
-        description = "Returns timeline data for a user watchlist"
+        description = "Returns timeline data for a user watchlist. Send the ETag of a previous response in If-None-Match to "
+            + "get 304 Not Modified while it is unchanged."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "The monitor response, served from the response cache when it is unchanged",
+        content = @Content(
+            mediaType = APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = MonitorResponse.class)
+        )
+    )
+    @ApiResponse(
+        responseCode = "304",
+        description = "The response named in If-None-Match is still current"
     )
     @PostMapping(
         path = USER_MONITOR_PATH,
@@ -49,10 +73,31 @@ public class UserMonitorController {
         produces = APPLICATION_JSON_VALUE
     )
     @PreAuthorize("@watchlistSecurity.canAccessUserWatchlist(#request.watchlistId, principal.user.id)")
-    public ResponseEntity<MonitorResponse> getUserMonitor(@AuthenticationPrincipal final UserTokenPrincipal principal,
+    public ResponseEntity<byte[]> getUserMonitor(@AuthenticationPrincipal final UserTokenPrincipal principal,
+        @RequestHeader(name = IF_NONE_MATCH, required = false) final String ifNoneMatch,
         @RequestBody final MonitorRequest request) {
         monitorValidator.validateAndThrow(request);
-        final MonitorResult result = monitorService.monitorWatchlist(request);
-        return ResponseEntity.status(OK).body(monitorMapper.toResponse(result));
+        return monitorResponseCache.respond(request, ifNoneMatch, () -> monitorService.monitorWatchlist(request));
+    }
+
+    @Operation(
+        summary = "Stream user monitor timeline",
+        description = "Sends a 'snapshot' event with the monitor response of a live range, followed by a 'delta' event "
+            + "whenever events are ingested into the watchlist's channels"
+    )
+    @GetMapping(
+        path = USER_MONITOR_STREAM_PATH,
+        produces = TEXT_EVENT_STREAM_VALUE
+    )
+    @PreAuthorize("@watchlistSecurity.canAccessUserWatchlist(#watchlistId, principal.user.id)")
+    public SseEmitter streamUserMonitor(@AuthenticationPrincipal final UserTokenPrincipal principal,
+        @RequestParam(name = "watchlistId") final Long watchlistId,
+        @RequestParam(name = "timeRange", required = false) final String timeRange,
+        @RequestParam(name = "onlyCritical", required = false) final Boolean onlyCritical,
+        @RequestParam(name = "sortBySeverity", required = false) final Boolean sortBySeverity,
+        @RequestParam(name = "groupedView", required = false) final Boolean groupedView) {
+        final MonitorRequest request = MonitorRequest.of(watchlistId, timeRange, onlyCritical, sortBySeverity, groupedView);
+        monitorValidator.validateAndThrow(request);
+        return monitorStreamHub.subscribe(watchlistId, () -> monitorService.monitorWatchlist(request));
     }
 }
@@ -0,0 +1,31 @@
+package io.github.eventify.api.monitor.job;
+
+import io.github.eventify.api.monitor.stream.MonitorStreamHub;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Scheduled job for keeping open monitor streams alive.
+ */
+@Component
+@RequiredArgsConstructor
+public class MonitorStreamHeartbeatJob {
+
+    private final MonitorStreamHub monitorStreamHub;
+
+    /**
+     * Sends a heartbeat to every open monitor stream.
+     * Runs every 15 seconds, well within the idle timeout of common proxies.
+     */
+    @Scheduled(
+        fixedDelay = 15,
+        timeUnit = SECONDS
+    )
+    public void sendHeartbeats() {
+        monitorStreamHub.heartbeat();
+    }
+}
@@ -11,16 +11,18 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 /**
- * LOD bucket size for aggregate timeline queries.
+ * LOD bucket size for aggregate timeline queries, ordered from finest to coarsest.
+ * Each size is backed by its own continuous aggregate.
  */
 @Getter
 @RequiredArgsConstructor
 @Schema(description = "LOD bucket size for aggregate timeline queries")
 public enum BucketSize {
 
+    PT5M("PT5M", Duration.ofMinutes(5)),
     PT30M("PT30M", Duration.ofMinutes(30)),
     PT2H("PT2H", Duration.ofHours(2)),
-    PT4H("PT4H", Duration.ofHours(4));
+    P1D("P1D", Duration.ofDays(1));
 
     @JsonValue
     private final String value;
@@ -0,0 +1,42 @@
+package io.github.eventify.api.monitor.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+import static io.github.eventify.Main.SERIAL_VERSION_UID;
+
+/**
+ * Memoized consolidated timeline of a {@link TimelineSource} that is made up of other sources.
+ *
+ * <p>The owner computes the consolidation on the first {@link #get} and invalidates it whenever its members change,
+ * so the mapping of a monitor response (which reads a timeline several times) consolidates every level only once.
+ * Member timelines are expected to be complete before the first read, as they are after monitor enrichment.
+ */
+public class ConsolidatedTimeline implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = SERIAL_VERSION_UID;
+
+    private Timeline timeline;
+
+    /**
+     * Returns the memoized timeline, consolidating it first if needed.
+     *
+     * @param consolidation computes the consolidated timeline
+     * @return the consolidated timeline
+     */
+    public Timeline get(final Supplier<Timeline> consolidation) {
+        if (timeline == null) {
+            timeline = consolidation.get();
+        }
+        return timeline;
+    }
+
+    /**
+     * Drops the memoized timeline, e.g. because the members of the owner changed.
+     */
+    public void invalidate() {
+        timeline = null;
+    }
+}
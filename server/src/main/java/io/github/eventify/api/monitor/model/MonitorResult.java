@@ -8,6 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 /**
  * Domain result from monitor service containing the enriched configuration.
  *
@@ -45,9 +47,15 @@ public class MonitorResult {
     private WatchlistConfiguration configuration;
 
     /**
-     * The LOD bucket size used for aggregate queries (e.g. PT30M, PT2H, PT4H).
+     * The LOD bucket size used for aggregate queries (e.g. PT5M, PT30M, PT2H, P1D).
      * Null when raw event data is used (ranges <= 4h).
      */
     private BucketSize bucketSize;
 
+    /**
+     * IDs of every channel in the watchlist, captured before filters were applied.
+     * An event on any of them can change this result.
+     */
+    private List<Long> channelIds;
+
 }
@@ -0,0 +1,43 @@
+package io.github.eventify.api.monitor.model;
+
+import io.github.eventify.api.event.model.Severity;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Interface-based projection for a run of a channel: the events from one severity transition up to the next.
+ * Only the start of a run is read; it ends where the next run starts.
+ *
+ * <p>PostgreSQL JDBC returns {@link Instant} for timestamptz columns.
+ */
+public interface SeverityRun {
+
+    /** Returns the timestamp of the first event of this run, or null for a look-behind marker. */
+    Instant getStartTime();
+
+    /** Returns the severity of every event in this run. */
+    String getSeverity();
+
+    /**
+     * Returns the start of this run as OffsetDateTime (UTC).
+     */
+    default OffsetDateTime getStartDateTime() {
+        return getStartTime().atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the severity of this run as enum.
+     */
+    default Severity getSeverityLevel() {
+        return Severity.fromString(getSeverity());
+    }
+
+    /**
+     * Creates a concrete instance for testing or programmatic use.
+     */
+    static SeverityRun of(final OffsetDateTime startTime, final Severity severity) {
+        return new SeverityRunImpl(startTime != null ? startTime.toInstant() : null, severity.name());
+    }
+}
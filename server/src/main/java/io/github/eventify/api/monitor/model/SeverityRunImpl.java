@@ -0,0 +1,17 @@
+package io.github.eventify.api.monitor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Concrete implementation of {@link SeverityRun} for programmatic construction and testing.
+ */
+@Getter
+@AllArgsConstructor
+class SeverityRunImpl implements SeverityRun {
+
+    private final Instant startTime;
+    private final String severity;
+}
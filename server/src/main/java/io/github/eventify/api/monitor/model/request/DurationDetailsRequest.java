@@ -28,4 +28,12 @@ public class DurationDetailsRequest {
         requiredMode = Schema.RequiredMode.REQUIRED
     )
     private DurationDirection direction;
+
+    @Schema(
+        description = "Cursor from a previous response; when given, the page before (BEFORE) or after (AFTER) it is "
+            + "returned instead of the page relative to the timestamp",
+        example = "MjAyNi0wMi0xMlQxMDoyMDowMFo",
+        requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    private String cursor;
 }
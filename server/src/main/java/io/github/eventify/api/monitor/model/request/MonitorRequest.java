@@ -1,6 +1,7 @@
 package io.github.eventify.api.monitor.model.request;
 
 import io.github.eventify.api.monitor.model.MonitorFilters;
+import io.github.eventify.api.monitor.model.TimeRange;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -25,4 +26,34 @@ public class MonitorRequest {
         requiredMode = Schema.RequiredMode.NOT_REQUIRED
     )
     private MonitorFilters filters;
+
+    /**
+     * Creates a request for a preset (live) range from query parameters, as used by monitor streams.
+     *
+     * @param watchlistId    the watchlist ID
+     * @param timeRange      the preset range value (e.g. "24h"), or null for the watchlist default
+     * @param onlyCritical   whether to show only critical channels, or null for the watchlist default
+     * @param sortBySeverity whether to sort channels by severity, or null for the watchlist default
+     * @param groupedView    whether to show the grouped view, or null for the watchlist default
+     * @return the monitor request
+     */
+    public static MonitorRequest of(
+        final Long watchlistId,
+        final String timeRange,
+        final Boolean onlyCritical,
+        final Boolean sortBySeverity,
+        final Boolean groupedView
+    ) {
+        final MonitorRequest request = new MonitorRequest();
+        request.setWatchlistId(watchlistId);
+        request.setFilters(
+            MonitorFilters.builder()
+                .timeRange(timeRange != null ? TimeRange.fromValue(timeRange) : null)
+                .onlyCritical(onlyCritical)
+                .sortBySeverity(sortBySeverity)
+                .groupedView(groupedView)
+                .build()
+        );
+        return request;
+    }
 }
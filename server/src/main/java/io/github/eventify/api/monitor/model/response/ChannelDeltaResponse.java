@@ -0,0 +1,53 @@
+package io.github.eventify.api.monitor.model.response;
+
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.TimelineDuration;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for the events of one channel that were ingested since the previous delta.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Severity changes of a channel since the previous delta")
+public class ChannelDeltaResponse {
+
+    @Schema(
+        description = "Channel identifier",
+        example = "1",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private Long channelId;
+
+    @Schema(
+        description = "Current severity (most recent event)",
+        example = "CRITICAL",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private Severity currentSeverity;
+
+    @Schema(
+        description = "Timestamp of the most recent event",
+        example = "2026-01-24T10:15:00Z",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private OffsetDateTime lastEventAt;
+
+    @Schema(
+        description = "New durations in time order, one per severity change. The last one is open (no end time) and "
+            + "continues until the next change.",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private List<TimelineDuration> durations;
+}
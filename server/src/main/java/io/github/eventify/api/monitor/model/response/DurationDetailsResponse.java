@@ -52,4 +52,18 @@ public class DurationDetailsResponse implements Serializable {
         requiredMode = Schema.RequiredMode.REQUIRED
     )
     private boolean hasNext;
+
+    @Schema(
+        description = "Cursor for the durations before this page, absent when there are none",
+        example = "MjAyNi0wMi0xMlQxMDoyMDowMFo",
+        requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    private String previousCursor;
+
+    @Schema(
+        description = "Cursor for the durations after this page, absent when there are none",
+        example = "MjAyNi0wMi0xMlQxMDo0NTowMFo",
+        requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    private String nextCursor;
 }
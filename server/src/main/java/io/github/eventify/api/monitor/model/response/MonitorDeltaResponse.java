@@ -0,0 +1,36 @@
+package io.github.eventify.api.monitor.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Response DTO pushed to monitor streams when events are ingested into watched channels.
+ * Applied on top of the initial {@link MonitorResponse} snapshot of the stream.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Changes to a monitored watchlist since the previous delta")
+public class MonitorDeltaResponse {
+
+    @Schema(
+        description = "Watchlist identifier",
+        example = "1",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private Long watchlistId;
+
+    @Schema(
+        description = "Channels of the watchlist that received events",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private List<ChannelDeltaResponse> channels;
+}
@@ -64,7 +64,7 @@ public class MonitorResponse {
     private DashboardResponse dashboard;
 
     @Schema(
-        description = "LOD bucket size (e.g. PT30M, PT2H, PT4H). Null when using raw events.",
+        description = "LOD bucket size (e.g. PT5M, PT30M, PT2H, P1D). Null when using raw events.",
         example = "PT30M"
     )
     private BucketSize bucketSize;
@@ -13,7 +13,8 @@ import org.springframework.stereotype.Repository;
 
 /**
  * Repository for querying pre-aggregated timeline data from TimescaleDB continuous aggregates.
- * Uses Spring Data JPA with native queries for each fixed bucket size.
+ * Every bucket size has its own continuous aggregate (event_timeline_5m, _30m, _2h and _1d), so each query reads
+ * pre-bucketed rows as they are stored instead of regrouping a finer aggregate at query time.
  */
 @Repository
 public interface TimelineAggregateRepository extends org.springframework.data.repository.Repository<Event, Long> {
@@ -21,7 +22,7 @@ public interface TimelineAggregateRepository extends org.springframework.data.re
     // ========================= findBucketsForChannels =========================
 
     /**
-     * Finds aggregated 30-minute buckets for the given channels within the specified time range.
+     * Finds the 5-minute buckets of the given channels within the specified time range.
      *
      * @param channelIds the channel IDs to query
      * @param start      the start of the time range (inclusive)
@@ -31,17 +32,47 @@ public interface TimelineAggregateRepository extends org.springframework.data.re
     @Query(
         value = """
             SELECT channel_id AS channelId,
-                   time_bucket('1800 seconds'::INTERVAL, bucket) AS bucket,
-                   FIRST(first_severity, bucket) AS firstSeverity,
-                   LAST(last_severity, bucket) AS lastSeverity,
-                   SUM(event_count) AS eventCount,
-                   MIN(first_event_time) AS firstEventTime,
-                   MAX(last_event_time) AS lastEventTime
-            FROM event_timeline_hourly
+                   bucket,
+                   first_severity AS firstSeverity,
+                   last_severity AS lastSeverity,
+                   event_count AS eventCount,
+                   first_event_time AS firstEventTime,
+                   last_event_time AS lastEventTime
+            FROM event_timeline_5m
+            WHERE channel_id IN (:channelIds)
+              AND bucket >= :start
+              AND bucket < :end
+            ORDER BY channel_id, bucket
+            """,
+        nativeQuery = true
+    )
+    List<TimelineBucket> findBucketsForChannels5m(
+        @Param("channelIds") List<Long> channelIds,
+        @Param("start") OffsetDateTime start,
+        @Param("end") OffsetDateTime end
+    );
+
+    /**
+     * Finds the 30-minute buckets of the given channels within the specified time range.
+     *
+     * @param channelIds the channel IDs to query
+     * @param start      the start of the time range (inclusive)
+     * @param end        the end of the time range (exclusive)
+     * @return list of aggregated timeline buckets
+     */
+    @Query(
+        value = """
+            SELECT channel_id AS channelId,
+                   bucket,
+                   first_severity AS firstSeverity,
+                   last_severity AS lastSeverity,
+                   event_count AS eventCount,
+                   first_event_time AS firstEventTime,
+                   last_event_time AS lastEventTime
+            FROM event_timeline_30m
             WHERE channel_id IN (:channelIds)
               AND bucket >= :start
               AND bucket < :end
-            GROUP BY channel_id, time_bucket('1800 seconds'::INTERVAL, bucket)
             ORDER BY channel_id, bucket
             """,
         nativeQuery = true
@@ -53,7 +84,7 @@ public interface TimelineAggregateRepository extends org.springframework.data.re
     );
 
     /**
-     * Finds aggregated 2-hour buckets for the given channels within the specified time range.
+     * Finds the 2-hour buckets of the given channels within the specified time range.
      *
      * @param channelIds the channel IDs to query
      * @param start      the start of the time range (inclusive)
@@ -63,17 +94,16 @@ public interface TimelineAggregateRepository extends org.springframework.data.re
     @Query(
         value = """
             SELECT channel_id AS channelId,
-                   time_bucket('7200 seconds'::INTERVAL, bucket) AS bucket,
-                   FIRST(first_severity, bucket) AS firstSeverity,
-                   LAST(last_severity, bucket) AS lastSeverity,
-                   SUM(event_count) AS eventCount,
-                   MIN(first_event_time) AS firstEventTime,
-                   MAX(last_event_time) AS lastEventTime
-            FROM event_timeline_hourly
+                   bucket,
+                   first_severity AS firstSeverity,
+                   last_severity AS lastSeverity,
+                   event_count AS eventCount,
+                   first_event_time AS firstEventTime,
+                   last_event_time AS lastEventTime
+            FROM event_timeline_2h
             WHERE channel_id IN (:channelIds)
               AND bucket >= :start
               AND bucket < :end
-            GROUP BY channel_id, time_bucket('7200 seconds'::INTERVAL, bucket)
             ORDER BY channel_id, bucket
             """,
         nativeQuery = true
@@ -85,7 +115,7 @@ public interface TimelineAggregateRepository extends org.springframework.data.re
     );
 
     /**
-     * Finds aggregated 4-hour buckets for the given channels within the specified time range.
+     * Finds the 1-day buckets of the given channels within the specified time range.
      *
      * @param channelIds the channel IDs to query
      * @param start      the start of the time range (inclusive)
@@ -95,22 +125,21 @@ public interface TimelineAggregateRepository extends org.springframework.data.re
     @Query(
         value = """
             SELECT channel_id AS channelId,
-                   time_bucket('14400 seconds'::INTERVAL, bucket) AS bucket,
-                   FIRST(first_severity, bucket) AS firstSeverity,
-                   LAST(last_severity, bucket) AS lastSeverity,
-                   SUM(event_count) AS eventCount,
-                   MIN(first_event_time) AS firstEventTime,
-                   MAX(last_event_time) AS lastEventTime
-            FROM event_timeline_hourly
+                   bucket,
+                   first_severity AS firstSeverity,
+                   last_severity AS lastSeverity,
+                   event_count AS eventCount,
+                   first_event_time AS firstEventTime,
+                   last_event_time AS lastEventTime
+            FROM event_timeline_1d
             WHERE channel_id IN (:channelIds)
               AND bucket >= :start
               AND bucket < :end
-            GROUP BY channel_id, time_bucket('14400 seconds'::INTERVAL, bucket)
             ORDER BY channel_id, bucket
             """,
         nativeQuery = true
     )
-    List<TimelineBucket> findBucketsForChannels4h(
+    List<TimelineBucket> findBucketsForChannels1d(
         @Param("channelIds") List<Long> channelIds,
         @Param("start") OffsetDateTime start,
         @Param("end") OffsetDateTime end
@@ -132,45 +161,75 @@ public interface TimelineAggregateRepository extends org.springframework.data.re
         final BucketSize bucketSize
     ) {
         return switch (bucketSize) {
+            case PT5M -> findBucketsForChannels5m(channelIds, start, end);
             case PT30M -> findBucketsForChannels30m(channelIds, start, end);
             case PT2H -> findBucketsForChannels2h(channelIds, start, end);
-            case PT4H -> findBucketsForChannels4h(channelIds, start, end);
+            case P1D -> findBucketsForChannels1d(channelIds, start, end);
         };
     }
 
     // ========================= findPriorBuckets =========================
 
+    /**
+     * Finds the last 5-minute bucket before the given time for each channel.
+     *
+     * @param channelIds the channel IDs to query
+     * @param beforeTime the exclusive upper boundary (prior to this time)
+     * @return one prior bucket per channel that has one
+     */
+    @Query(
+        value = """
+            SELECT prior.channel_id AS channelId,
+                   prior.bucket,
+                   prior.first_severity AS firstSeverity,
+                   prior.last_severity AS lastSeverity,
+                   prior.event_count AS eventCount,
+                   prior.first_event_time AS firstEventTime,
+                   prior.last_event_time AS lastEventTime
+            FROM channel c
+            CROSS JOIN LATERAL (
+                SELECT *
+                FROM event_timeline_5m t
+                WHERE t.channel_id = c.id
+                  AND t.bucket < :beforeTime
+                ORDER BY t.bucket DESC
+                LIMIT 1
+            ) AS prior
+            WHERE c.id IN (:channelIds)
+            """,
+        nativeQuery = true
+    )
+    List<TimelineBucket> findPriorBuckets5m(
+        @Param("channelIds") List<Long> channelIds,
+        @Param("beforeTime") OffsetDateTime beforeTime
+    );
+
     /**
      * Finds the last 30-minute bucket before the given time for each channel.
      *
      * @param channelIds the channel IDs to query
      * @param beforeTime the exclusive upper boundary (prior to this time)
-     * @return one prior bucket per channel (DISTINCT ON channel_id)
+     * @return one prior bucket per channel that has one
      */
     @Query(
         value = """
-            SELECT DISTINCT ON (sub.channel_id)
-                   sub.channel_id AS channelId,
-                   sub.bucket,
-                   sub.firstSeverity,
-                   sub.lastSeverity,
-                   sub.eventCount,
-                   sub.firstEventTime,
-                   sub.lastEventTime
-            FROM (
-                SELECT channel_id,
-                       time_bucket('1800 seconds'::INTERVAL, bucket) AS bucket,
-                       FIRST(first_severity, bucket) AS firstSeverity,
-                       LAST(last_severity, bucket) AS lastSeverity,
-                       SUM(event_count) AS eventCount,
-                       MIN(first_event_time) AS firstEventTime,
-                       MAX(last_event_time) AS lastEventTime
-                FROM event_timeline_hourly
-                WHERE channel_id IN (:channelIds)
-                  AND bucket < :beforeTime
-                GROUP BY channel_id, time_bucket('1800 seconds'::INTERVAL, bucket)
-                ORDER BY channel_id, bucket DESC
-            ) sub
+            SELECT prior.channel_id AS channelId,
+                   prior.bucket,
+                   prior.first_severity AS firstSeverity,
+                   prior.last_severity AS lastSeverity,
+                   prior.event_count AS eventCount,
+                   prior.first_event_time AS firstEventTime,
+                   prior.last_event_time AS lastEventTime
+            FROM channel c
+            CROSS JOIN LATERAL (
+                SELECT *
+                FROM event_timeline_30m t
+                WHERE t.channel_id = c.id
+                  AND t.bucket < :beforeTime
+                ORDER BY t.bucket DESC
+                LIMIT 1
+            ) AS prior
+            WHERE c.id IN (:channelIds)
             """,
         nativeQuery = true
     )
@@ -184,32 +243,27 @@ public interface TimelineAggregateRepository extends org.springframework.data.re
      *
      * @param channelIds the channel IDs to query
      * @param beforeTime the exclusive upper boundary (prior to this time)
-     * @return one prior bucket per channel (DISTINCT ON channel_id)
+     * @return one prior bucket per channel that has one
      */
     @Query(
         value = """
-            SELECT DISTINCT ON (sub.channel_id)
-                   sub.channel_id AS channelId,
-                   sub.bucket,
-                   sub.firstSeverity,
-                   sub.lastSeverity,
-                   sub.eventCount,
-                   sub.firstEventTime,
-                   sub.lastEventTime
-            FROM (
-                SELECT channel_id,
-                       time_bucket('7200 seconds'::INTERVAL, bucket) AS bucket,
-                       FIRST(first_severity, bucket) AS firstSeverity,
-                       LAST(last_severity, bucket) AS lastSeverity,
-                       SUM(event_count) AS eventCount,
-                       MIN(first_event_time) AS firstEventTime,
-                       MAX(last_event_time) AS lastEventTime
-                FROM event_timeline_hourly
-                WHERE channel_id IN (:channelIds)
-                  AND bucket < :beforeTime
-                GROUP BY channel_id, time_bucket('7200 seconds'::INTERVAL, bucket)
-                ORDER BY channel_id, bucket DESC
-            ) sub
+            SELECT prior.channel_id AS channelId,
+                   prior.bucket,
+                   prior.first_severity AS firstSeverity,
+                   prior.last_severity AS lastSeverity,
+                   prior.event_count AS eventCount,
+                   prior.first_event_time AS firstEventTime,
+                   prior.last_event_time AS lastEventTime
+            FROM channel c
+            CROSS JOIN LATERAL (
+                SELECT *
+                FROM event_timeline_2h t
+                WHERE t.channel_id = c.id
+                  AND t.bucket < :beforeTime
+                ORDER BY t.bucket DESC
+                LIMIT 1
+            ) AS prior
+            WHERE c.id IN (:channelIds)
             """,
         nativeQuery = true
     )
@@ -219,40 +273,35 @@ public interface TimelineAggregateRepository extends org.springframework.data.re
     );
 
     /**
-     * Finds the last 4-hour bucket before the given time for each channel.
+     * Finds the last 1-day bucket before the given time for each channel.
      *
      * @param channelIds the channel IDs to query
      * @param beforeTime the exclusive upper boundary (prior to this time)
-     * @return one prior bucket per channel (DISTINCT ON channel_id)
+     * @return one prior bucket per channel that has one
      */
     @Query(
         value = """
-            SELECT DISTINCT ON (sub.channel_id)
-                   sub.channel_id AS channelId,
-                   sub.bucket,
-                   sub.firstSeverity,
-                   sub.lastSeverity,
-                   sub.eventCount,
-                   sub.firstEventTime,
-                   sub.lastEventTime
-            FROM (
-                SELECT channel_id,
-                       time_bucket('14400 seconds'::INTERVAL, bucket) AS bucket,
-                       FIRST(first_severity, bucket) AS firstSeverity,
-                       LAST(last_severity, bucket) AS lastSeverity,
-                       SUM(event_count) AS eventCount,
-                       MIN(first_event_time) AS firstEventTime,
-                       MAX(last_event_time) AS lastEventTime
-                FROM event_timeline_hourly
-                WHERE channel_id IN (:channelIds)
-                  AND bucket < :beforeTime
-                GROUP BY channel_id, time_bucket('14400 seconds'::INTERVAL, bucket)
-                ORDER BY channel_id, bucket DESC
-            ) sub
+            SELECT prior.channel_id AS channelId,
+                   prior.bucket,
+                   prior.first_severity AS firstSeverity,
+                   prior.last_severity AS lastSeverity,
+                   prior.event_count AS eventCount,
+                   prior.first_event_time AS firstEventTime,
+                   prior.last_event_time AS lastEventTime
+            FROM channel c
+            CROSS JOIN LATERAL (
+                SELECT *
+                FROM event_timeline_1d t
+                WHERE t.channel_id = c.id
+                  AND t.bucket < :beforeTime
+                ORDER BY t.bucket DESC
+                LIMIT 1
+            ) AS prior
+            WHERE c.id IN (:channelIds)
             """,
         nativeQuery = true
     )
-    List<TimelineBucket> findPriorBuckets4h(
+    List<TimelineBucket> findPriorBuckets1d(
         @Param("channelIds") List<Long> channelIds,
         @Param("beforeTime") OffsetDateTime beforeTime
     );
@@ -271,9 +320,10 @@ public interface TimelineAggregateRepository extends org.springframework.data.re
         final BucketSize bucketSize
     ) {
         return switch (bucketSize) {
+            case PT5M -> findPriorBuckets5m(channelIds, beforeTime);
             case PT30M -> findPriorBuckets30m(channelIds, beforeTime);
             case PT2H -> findPriorBuckets2h(channelIds, beforeTime);
-            case PT4H -> findPriorBuckets4h(channelIds, beforeTime);
+            case P1D -> findPriorBuckets1d(channelIds, beforeTime);
         };
     }
 }
@@ -1,54 +1,68 @@
 package io.github.eventify.api.monitor.service;
 
-import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.api.channel.repository.ChannelRepository;
 import io.github.eventify.api.event.model.Severity;
 import io.github.eventify.api.event.repository.EventRepository;
 import io.github.eventify.api.monitor.model.DurationDirection;
+import io.github.eventify.api.monitor.model.SeverityRun;
 import io.github.eventify.api.monitor.model.TimelineDuration;
 import io.github.eventify.api.monitor.model.response.DurationDetailsResponse;
 import io.github.eventify.api.monitor.util.DurationBuilder;
+import io.github.eventify.api.monitor.util.DurationCursor;
+import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Service for fetching duration details around specific timestamps.
+ * Service for paging through the durations of a channel.
+ *
+ * <p>Durations are read as runs: the stretches between two severity transitions. The repository walks from one
+ * transition to the next with index probes, so a page costs the same however many repeated events a channel has.
+ * Every page carries opaque cursors naming the first and last run it shows; the page before or after a cursor
+ * continues exactly where the previous page stopped.
  */
 @Service
 @RequiredArgsConstructor
-@SuppressWarnings("PMD.GodClass")
 public class DurationService {
 
     private static final Duration MINIMUM_DISPLAY_WINDOW = Duration.ofMinutes(15);
     private static final int MAXIMUM_DURATIONS = 10;
-    private static final int FETCH_LIMIT = 50;
+    private static final List<String> SEVERITIES = Arrays.stream(Severity.values()).map(Severity::name).toList();
 
     private final EventRepository eventRepository;
 
+    private final ChannelRepository channelRepository;
+
     /**
-     * Gets durations based on direction and timestamp.
+     * Gets durations based on direction and timestamp, or on direction and cursor when a cursor is given.
      *
      * @param channelId the channel ID
      * @param timestamp the reference timestamp
      * @param direction the direction to fetch (AROUND, BEFORE, AFTER)
+     * @param cursor    a cursor of a previous page, may be null
      * @return duration details response
      */
     @Transactional(readOnly = true)
     public DurationDetailsResponse getDurations(
         final Long channelId,
         final OffsetDateTime timestamp,
-        final DurationDirection direction
+        final DurationDirection direction,
+        final String cursor
     ) {
+        final OffsetDateTime position = cursor != null ? DurationCursor.decode(cursor) : timestamp;
         return switch (direction) {
-            case AROUND -> getDurationsAround(channelId, timestamp);
-            case BEFORE -> getDurationsBefore(channelId, timestamp);
-            case AFTER -> getDurationsAfter(channelId, timestamp);
+            case AROUND -> getDurationsAround(channelId, position);
+            case BEFORE -> getDurationsBefore(channelId, position);
+            case AFTER -> getDurationsAfter(channelId, position);
         };
     }
 
@@ -61,85 +75,74 @@ public class DurationService {
      */
     @Transactional(readOnly = true)
     public DurationDetailsResponse getDurationsAround(final Long channelId, final OffsetDateTime timestamp) {
-        final List<Event> events = eventRepository.findEventsAroundTimestamp(channelId, timestamp, FETCH_LIMIT);
-
-        if (events.isEmpty()) {
+        final List<SeverityRun> before = eventRepository.findRunsBefore(channelId, timestamp, SEVERITIES, MAXIMUM_DURATIONS);
+        final List<SeverityRun> from = eventRepository.findRunStartsFrom(channelId, timestamp, SEVERITIES, MAXIMUM_DURATIONS + 1);
+        final boolean hasEarlierRuns = hasEarlierRuns(before);
+        final boolean hasLaterRuns = from.size() > MAXIMUM_DURATIONS;
+
+        final List<SeverityRun> runs = new ArrayList<>(withoutMarker(before));
+        runs.addAll(hasLaterRuns ? from.subList(0, MAXIMUM_DURATIONS) : from);
+        if (runs.isEmpty()) {
             return createEmptyResponse();
         }
 
-        final List<Event> sortedEvents = DurationBuilder.sortByTimestamp(events);
-        final List<TimelineDuration> allDurations = buildDurationsWithNoDataPrefix(sortedEvents);
-        final int selectedIndex = findSelectedIndex(allDurations, timestamp);
-
-        final List<TimelineDuration> windowDurations = expandWindow(
-            allDurations,
-            selectedIndex,
-            timestamp
-        );
+        final OffsetDateTime lastEnd = hasLaterRuns ? from.getLast().getStartDateTime() : null;
+        final List<TimelineDuration> allDurations = DurationBuilder.fromRuns(runs, lastEnd);
+        if (!hasEarlierRuns) {
+            addNoDataPrefix(channelId, allDurations);
+        }
 
-        final boolean hasPrevious = hasEarlierDurations(windowDurations, allDurations);
-        final boolean hasNext = hasLaterDurations(windowDurations, allDurations);
+        final Window window = expandWindow(allDurations, findSelectedIndex(allDurations, timestamp));
+        final boolean hasPrevious = hasEarlierRuns || window.first > 0;
+        final boolean hasNext = hasLaterRuns || window.last < allDurations.size() - 1;
+        final List<TimelineDuration> windowDurations = new ArrayList<>(allDurations.subList(window.first, window.last + 1));
 
-        final int adjustedIndex = findSelectedIndex(windowDurations, timestamp);
+        // Cursors name run starts, so they are taken before the window boundaries are cut off
+        final String previousCursor = hasPrevious ? DurationCursor.encode(windowDurations.getFirst().getStartTime()) : null;
+        final String nextCursor = hasNext ? DurationCursor.encode(windowDurations.getLast().getStartTime()) : null;
+        cutOffWindowBoundaries(windowDurations, timestamp);
 
         return new DurationDetailsResponse()
             .setDurations(windowDurations)
-            .setSelectedIndex(adjustedIndex)
+            .setSelectedIndex(findSelectedIndex(windowDurations, timestamp))
             .setHasPrevious(hasPrevious)
-            .setHasNext(hasNext);
+            .setHasNext(hasNext)
+            .setPreviousCursor(previousCursor)
+            .setNextCursor(nextCursor);
     }
 
     /**
-     * Gets durations before a specific timestamp.
+     * Gets the durations before a specific timestamp. The last duration ends at the timestamp.
      *
      * @param channelId the channel ID
      * @param timestamp the timestamp boundary
      * @return duration details response
      */
     @Transactional(readOnly = true)
-    @SuppressWarnings("checkstyle:ReturnCount")
     public DurationDetailsResponse getDurationsBefore(final Long channelId, final OffsetDateTime timestamp) {
-        final List<Event> events = eventRepository.findEventsBefore(channelId, timestamp, FETCH_LIMIT);
-
-        if (events.isEmpty()) {
+        final List<SeverityRun> before = eventRepository.findRunsBefore(channelId, timestamp, SEVERITIES, MAXIMUM_DURATIONS);
+        final List<SeverityRun> runs = withoutMarker(before);
+        if (runs.isEmpty()) {
             return createEmptyResponse();
         }
 
-        final List<Event> sortedEvents = DurationBuilder.sortByTimestamp(events);
-        final List<TimelineDuration> allDurations = buildDurationsWithNoDataPrefix(sortedEvents);
-
-        // Filter to only durations that end before the timestamp (or contain it as an earlier duration)
-        final List<TimelineDuration> durationsBeforeTimestamp = filterDurationsEndingBeforeOrAt(allDurations, timestamp);
-
-        if (durationsBeforeTimestamp.isEmpty()) {
-            return createEmptyResponse();
+        final boolean hasEarlierRuns = hasEarlierRuns(before);
+        final List<TimelineDuration> durations = DurationBuilder.fromRuns(runs, timestamp);
+        if (!hasEarlierRuns) {
+            addNoDataPrefix(channelId, durations);
         }
 
-        final int limit = Math.min(durationsBeforeTimestamp.size(), MAXIMUM_DURATIONS);
-        final List<TimelineDuration> windowDurations = new ArrayList<>(
-            durationsBeforeTimestamp.subList(
-                Math.max(0, durationsBeforeTimestamp.size() - limit),
-                durationsBeforeTimestamp.size()
-            )
-        );
-
-        // hasPrevious is false if:
-        // 1. Window shows all available durations, AND
-        // 2. The first duration is NO_DATA (meaning we've reached the channel's beginning)
-        final boolean atChannelStart = !windowDurations.isEmpty()
-            && windowDurations.getFirst().getSeverity() == Severity.NO_DATA;
-        final boolean hasMoreDurations = durationsBeforeTimestamp.size() > limit;
-        final boolean hasPrevious = hasMoreDurations || !atChannelStart;
-
         return new DurationDetailsResponse()
-            .setDurations(windowDurations)
-            .setSelectedIndex(windowDurations.size() - 1)
-            .setHasPrevious(hasPrevious)
-            .setHasNext(true);
+            .setDurations(durations)
+            .setSelectedIndex(durations.size() - 1)
+            .setHasPrevious(hasEarlierRuns)
+            .setHasNext(true)
+            .setPreviousCursor(hasEarlierRuns ? DurationCursor.encode(runs.getFirst().getStartDateTime()) : null)
+            .setNextCursor(DurationCursor.encode(runs.getLast().getStartDateTime()));
     }
 
     /**
-     * Gets durations after a specific timestamp.
+     * Gets the durations that start after a specific timestamp.
      *
      * @param channelId the channel ID
      * @param timestamp the timestamp boundary
@@ -147,23 +150,28 @@ public class DurationService {
      */
     @Transactional(readOnly = true)
     public DurationDetailsResponse getDurationsAfter(final Long channelId, final OffsetDateTime timestamp) {
-        final List<Event> events = eventRepository.findEventsAfter(channelId, timestamp, FETCH_LIMIT);
-
-        if (events.isEmpty()) {
+        final List<SeverityRun> from = new ArrayList<>(
+            eventRepository.findRunStartsFrom(channelId, timestamp, SEVERITIES, MAXIMUM_DURATIONS + 2)
+        );
+        // A run starting at the boundary itself is the one the previous page ended with
+        if (!from.isEmpty() && from.getFirst().getStartDateTime().isEqual(timestamp)) {
+            from.removeFirst();
+        }
+        if (from.isEmpty()) {
             return createEmptyResponse();
         }
 
-        final List<Event> sortedEvents = DurationBuilder.sortByTimestamp(events);
-        final List<TimelineDuration> durations = DurationBuilder.fromEventsStartingAfter(sortedEvents, timestamp);
-
-        final int limit = Math.min(durations.size(), MAXIMUM_DURATIONS);
-        final List<TimelineDuration> windowDurations = durations.subList(0, limit);
+        final boolean hasLaterRuns = from.size() > MAXIMUM_DURATIONS;
+        final List<SeverityRun> runs = hasLaterRuns ? from.subList(0, MAXIMUM_DURATIONS) : from;
+        final OffsetDateTime lastEnd = hasLaterRuns ? from.get(MAXIMUM_DURATIONS).getStartDateTime() : null;
 
         return new DurationDetailsResponse()
-            .setDurations(windowDurations)
+            .setDurations(DurationBuilder.fromRuns(runs, lastEnd))
             .setSelectedIndex(0)
             .setHasPrevious(true)
-            .setHasNext(durations.size() > limit);
+            .setHasNext(hasLaterRuns)
+            .setPreviousCursor(DurationCursor.encode(runs.getFirst().getStartDateTime()))
+            .setNextCursor(hasLaterRuns ? DurationCursor.encode(runs.getLast().getStartDateTime()) : null);
     }
 
     private DurationDetailsResponse createEmptyResponse() {
@@ -175,58 +183,25 @@ public class DurationService {
     }
 
     /**
-     * Builds durations from events, adding NO_DATA prefix if this is the channel's first event.
+     * Whether the repository walked past the runs it returned; it then returns a marker without start first.
      */
-    private List<TimelineDuration> buildDurationsWithNoDataPrefix(final List<Event> sortedEvents) {
-        if (sortedEvents.isEmpty()) {
-            return List.of();
-        }
-
-        final List<TimelineDuration> durations = new ArrayList<>(DurationBuilder.fromEvents(sortedEvents));
-
-        // Add NO_DATA prefix for channel's first event
-        final Event firstEvent = sortedEvents.getFirst();
-        if (shouldAddNoDataPrefix(sortedEvents) && firstEvent.getChannel() != null) {
-            final TimelineDuration noDataDuration = DurationBuilder.createNoDataDuration(
-                firstEvent.getChannel().getCreatedAt(),
-                firstEvent.getTimestamp()
-            );
-            durations.addFirst(noDataDuration);
-        }
-
-        return durations;
+    private boolean hasEarlierRuns(final List<SeverityRun> before) {
+        return !before.isEmpty() && before.getFirst().getStartTime() == null;
     }
 
-    private boolean shouldAddNoDataPrefix(final List<Event> events) {
-        // NO_DATA is needed if the first event is the channel's very first event
-        // We determine this by checking if all events share the same timestamp
-        final long uniqueTimestamps = events.stream()
-            .map(Event::getTimestamp)
-            .distinct()
-            .count();
-
-        return uniqueTimestamps == 1;
+    private List<SeverityRun> withoutMarker(final List<SeverityRun> before) {
+        return hasEarlierRuns(before) ? before.subList(1, before.size()) : before;
     }
 
     /**
-     * Filters durations to only those that end before or at the given timestamp.
-     * This includes durations where endTime <= timestamp, or ongoing durations that started before timestamp.
+     * Adds the NO_DATA duration between the creation of the channel and its first event, which starts the durations.
      */
-    private List<TimelineDuration> filterDurationsEndingBeforeOrAt(
-        final List<TimelineDuration> durations,
-        final OffsetDateTime timestamp
-    ) {
-        final List<TimelineDuration> result = new ArrayList<>();
-        for (final TimelineDuration duration : durations) {
-            // Include if duration ends before or at the timestamp
-            if (duration.getEndTime() != null && !duration.getEndTime().isAfter(timestamp)) {
-                result.add(duration);
-            } else if (duration.getStartTime().isBefore(timestamp)) {
-                // Also include if duration contains the timestamp (for partial overlap)
-                result.add(duration);
-            }
-        }
-        return result;
+    private void addNoDataPrefix(final Long channelId, final List<TimelineDuration> durations) {
+        final OffsetDateTime firstEventTime = durations.getFirst().getStartTime();
+        channelRepository.findById(channelId)
+            .map(Channel::getCreatedAt)
+            .filter(createdAt -> createdAt.isBefore(firstEventTime))
+            .ifPresent(createdAt -> durations.addFirst(DurationBuilder.createNoDataDuration(createdAt, firstEventTime)));
     }
 
     private int findSelectedIndex(final List<TimelineDuration> durations, final OffsetDateTime timestamp) {
@@ -245,20 +220,14 @@ public class DurationService {
         return afterStart && beforeEnd;
     }
 
-    private List<TimelineDuration> expandWindow(
-        final List<TimelineDuration> allDurations,
-        final int selectedIndex,
-        final OffsetDateTime timestamp
-    ) {
-        if (allDurations.isEmpty()) {
-            return List.of();
-        }
-
+    /**
+     * Expands the window around the selected duration, alternating prev/next, until max durations are reached.
+     */
+    private Window expandWindow(final List<TimelineDuration> allDurations, final int selectedIndex) {
         int startIdx = selectedIndex;
         int endIdx = selectedIndex;
 
-        // Expand window alternating prev/next until max durations reached
-        while (true) {
+        while (endIdx - startIdx + 1 < MAXIMUM_DURATIONS) {
             final boolean canExpandPrev = startIdx > 0;
             final boolean canExpandNext = endIdx < allDurations.size() - 1;
 
@@ -266,27 +235,17 @@ public class DurationService {
                 break;
             }
 
-            final int currentSize = (endIdx - startIdx + 1);
-            if (currentSize >= MAXIMUM_DURATIONS) {
-                break;
-            }
-
             // Expand alternating: prev, next, prev, next, ...
-            if (canExpandPrev && (startIdx - selectedIndex) <= (endIdx - selectedIndex)) {
+            if (canExpandPrev && (selectedIndex - startIdx) <= (endIdx - selectedIndex)) {
                 startIdx--;
             } else if (canExpandNext) {
                 endIdx++;
+            } else {
+                startIdx--;
             }
         }
 
-        final List<TimelineDuration> windowDurations = new ArrayList<>(allDurations.subList(startIdx, endIdx + 1));
-
-        // Cut off durations that extend before/after window boundaries
-        if (!windowDurations.isEmpty()) {
-            cutOffWindowBoundaries(windowDurations, timestamp);
-        }
-
-        return windowDurations;
+        return new Window(startIdx, endIdx);
     }
 
     private void cutOffWindowBoundaries(final List<TimelineDuration> durations, final OffsetDateTime center) {
@@ -321,42 +280,14 @@ public class DurationService {
         }
     }
 
-    private boolean hasEarlierDurations(
-        final List<TimelineDuration> windowDurations,
-        final List<TimelineDuration> allDurations
-    ) {
-        if (windowDurations.isEmpty() || allDurations.isEmpty()) {
-            return false;
-        }
-
-        // hasPrevious is false only if we're at the very start of the channel (NO_DATA present)
-        return allDurations.getFirst().getSeverity() != Severity.NO_DATA;
-    }
-
-    @SuppressWarnings("checkstyle:ReturnCount")
-    private boolean hasLaterDurations(
-        final List<TimelineDuration> windowDurations,
-        final List<TimelineDuration> allDurations
-    ) {
-        if (windowDurations.isEmpty() || allDurations.isEmpty()) {
-            return false;
-        }
-
-        // If last duration has null end time, it's the current/live duration
-        final TimelineDuration lastWindowDuration = windowDurations.getLast();
-        if (lastWindowDuration.getEndTime() == null) {
-            return false;
-        }
-
-        // Check if the window ends before the last duration in all durations
-        final TimelineDuration lastAllDuration = allDurations.getLast();
-        final OffsetDateTime allEnd = lastAllDuration.getEndTime();
+    /**
+     * Inclusive bounds of the displayed window within all fetched durations.
+     */
+    @AllArgsConstructor
+    private static final class Window {
 
-        // If all durations also ends with null (live duration), compare start times
-        if (allEnd == null) {
-            return !lastWindowDuration.getStartTime().equals(lastAllDuration.getStartTime());
-        }
+        private final int first;
 
-        return lastWindowDuration.getEndTime().isBefore(allEnd);
+        private final int last;
     }
 }
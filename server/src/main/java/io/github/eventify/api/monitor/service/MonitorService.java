@@ -4,8 +4,6 @@ import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelGroup;
 import io.github.eventify.api.channel.model.ChannelStatus;
 import io.github.eventify.api.channel.repository.ChannelRepository;
-import io.github.eventify.api.event.model.Event;
-import io.github.eventify.api.event.repository.EventRepository;
 import io.github.eventify.api.monitor.model.BucketSize;
 import io.github.eventify.api.monitor.model.MonitorFilters;
 import io.github.eventify.api.monitor.model.MonitorResult;
@@ -15,9 +13,10 @@ import io.github.eventify.api.monitor.model.TimelineBucket;
 import io.github.eventify.api.monitor.model.TimelineDuration;
 import io.github.eventify.api.monitor.model.request.MonitorRequest;
 import io.github.eventify.api.monitor.repository.TimelineAggregateRepository;
+import io.github.eventify.api.monitor.state.ChannelTimelineState;
+import io.github.eventify.api.monitor.state.TimelineStateStore;
 import io.github.eventify.api.monitor.util.AggregateTimelineBuilder;
 import io.github.eventify.api.monitor.util.LodSelector;
-import io.github.eventify.api.monitor.util.TimelineBuilder;
 import io.github.eventify.api.watchlist.model.Watchlist;
 import io.github.eventify.api.watchlist.model.WatchlistConfiguration;
 import io.github.eventify.api.watchlist.repository.WatchlistRepository;
@@ -41,6 +40,9 @@ import static io.github.eventify.common.exception.ApiErrorCode.WATCHLIST_NOT_FOU
 
 /**
  * Service for monitor timeline aggregation. Orchestrates data fetching and delegates timeline building to utility classes.
+ * Live windows within the retained horizon are served from the {@link TimelineStateStore} instead of raw events.
+ * Once the data of all channels is fetched, their timelines and the group consolidations are built in parallel by the
+ * {@link TimelineBuildExecutor}.
  */
 @Service
 @RequiredArgsConstructor
@@ -58,10 +60,12 @@ public class MonitorService {
 
     private final ChannelRepository channelRepository;
 
-    private final EventRepository eventRepository;
-
     private final TimelineAggregateRepository timelineAggregateRepository;
 
+    private final TimelineStateStore timelineStateStore;
+
+    private final TimelineBuildExecutor timelineBuildExecutor;
+
     /**
      * Gets monitor timeline data for a watchlist.
      *
@@ -77,9 +81,11 @@ public class MonitorService {
         final MonitorFilters filters = watchlist.resolveFilters(request.getFilters());
         final WatchlistConfiguration configuration = watchlist.getConfiguration();
         final BucketSize bucketSize = LodSelector.selectBucket(timeRange);
+        final List<Long> channelIds = configuration.getAllChannelIds();
 
         enrichConfiguration(configuration, timeRange, bucketSize);
         filters.apply(configuration);
+        timelineBuildExecutor.forEach(configuration.getGroups(), 1, ChannelGroup::getTimeline);
 
         return MonitorResult.builder()
             .watchlist(watchlist)
@@ -87,12 +93,13 @@ public class MonitorService {
             .filters(filters)
             .configuration(configuration)
             .bucketSize(bucketSize)
+            .channelIds(channelIds)
             .build();
     }
 
     /**
      * Enriches the configuration with channel data and timelines.
-     * Routes to aggregate or raw-event path based on the LOD bucket size.
+     * Routes to aggregate, live-state or raw-event path based on the LOD bucket size and the requested window.
      *
      * @param configuration the watchlist configuration to enrich
      * @param timeRange     the time span
@@ -111,7 +118,9 @@ public class MonitorService {
         final List<Channel> channels = channelRepository.findAllById(allChannelIds);
         final Map<Long, Channel> enrichedChannelsById;
 
-        if (bucketSize == null) {
+        if (bucketSize == null && timelineStateStore.covers(timeRange)) {
+            enrichedChannelsById = enrichWithLiveState(channels, allChannelIds, timeRange);
+        } else if (bucketSize == null) {
             enrichedChannelsById = enrichWithRawEvents(channels, allChannelIds, timeRange);
         } else if (timeRange.isLive()) {
             enrichedChannelsById = enrichWithAggregateAndStitch(channels, allChannelIds, timeRange, bucketSize);
@@ -129,18 +138,35 @@ public class MonitorService {
     }
 
     /**
-     * Raw-event path: fetches events directly for short time ranges (&lt;= 4h).
+     * Raw-event path for short time ranges (&lt;= 4h): streams the severity transitions of the window into a transient
+     * run-length state per channel, so the work scales with the number of changes rather than the number of events.
      */
     private Map<Long, Channel> enrichWithRawEvents(
         final List<Channel> channels,
         final List<Long> allChannelIds,
         final TimeSpan timeRange
     ) {
-        final Map<Long, List<Event>> eventsByChannel = groupEventsByChannel(
-            eventRepository.findEventsWithLastBeforeRange(allChannelIds, timeRange.getStart(), timeRange.getEnd())
+        final Map<Long, ChannelTimelineState> statesByChannel = timelineStateStore.readStates(
+            allChannelIds,
+            timeRange.getStart(),
+            timeRange.getEnd()
         );
 
-        channels.forEach(channel -> buildTimelineFromEvents(channel, eventsByChannel, timeRange));
+        timelineBuildExecutor.forEach(channels, channel -> buildTimelineFromState(channel, statesByChannel, timeRange));
+        return toChannelMap(channels);
+    }
+
+    /**
+     * Live-state path: builds the timelines of a live window from the in-memory state of each channel.
+     */
+    private Map<Long, Channel> enrichWithLiveState(
+        final List<Channel> channels,
+        final List<Long> allChannelIds,
+        final TimeSpan timeRange
+    ) {
+        final Map<Long, ChannelTimelineState> statesByChannel = timelineStateStore.getStates(allChannelIds, timeRange.getStart());
+
+        timelineBuildExecutor.forEach(channels, channel -> buildTimelineFromState(channel, statesByChannel, timeRange));
         return toChannelMap(channels);
     }
 
@@ -160,14 +186,14 @@ public class MonitorService {
             bucketSize
         );
 
-        channels.forEach(channel -> buildTimelineFromBuckets(channel, bucketsByChannel, timeRange, bucketSize));
+        timelineBuildExecutor.forEach(channels, channel -> buildTimelineFromBuckets(channel, bucketsByChannel, timeRange, bucketSize));
         return toChannelMap(channels);
     }
 
     /**
      * Aggregate path for live ranges, stitching historical aggregates with recent raw events.
      * Historical: aggregate from range start to (now - 1h).
-     * Recent: raw events from (now - 1h) to range end.
+     * Recent: live state or raw events from (now - 1h) to range end.
      */
     private Map<Long, Channel> enrichWithAggregateAndStitch(
         final List<Channel> channels,
@@ -184,15 +210,18 @@ public class MonitorService {
             bucketSize
         );
 
-        final Map<Long, List<Event>> recentEventsByChannel = groupEventsByChannel(
-            eventRepository.findEventsWithLastBeforeRange(allChannelIds, historicalEnd, timeRange.getEnd())
-        );
+        final TimeSpan recentRange = new TimeSpan(historicalEnd, timeRange.getEnd());
+        if (timelineStateStore.covers(recentRange)) {
+            enrichWithLiveState(channels, allChannelIds, recentRange);
+        } else {
+            enrichWithRawEvents(channels, allChannelIds, recentRange);
+        }
 
-        channels.forEach(
-            channel -> buildStitchedTimeline(
+        timelineBuildExecutor.forEach(
+            channels,
+            channel -> prependHistoricalTimeline(
                 channel,
                 bucketsByChannel,
-                recentEventsByChannel,
                 timeRange,
                 bucketSize,
                 historicalEnd
@@ -244,13 +273,6 @@ public class MonitorService {
         return result;
     }
 
-    /**
-     * Groups a flat list of events by channel ID.
-     */
-    private Map<Long, List<Event>> groupEventsByChannel(final List<Event> events) {
-        return events.stream().collect(Collectors.groupingBy(e -> e.getChannel().getId()));
-    }
-
     /**
      * Converts a list of channels to a map keyed by channel ID.
      */
@@ -272,55 +294,53 @@ public class MonitorService {
     }
 
     /**
-     * Builds a timeline from raw events for a channel.
+     * Builds a timeline from aggregate buckets for a channel.
      */
-    private void buildTimelineFromEvents(
+    private void buildTimelineFromBuckets(
         final Channel channel,
-        final Map<Long, List<Event>> eventsByChannel,
-        final TimeSpan timeRange
+        final Map<Long, List<TimelineBucket>> bucketsByChannel,
+        final TimeSpan timeRange,
+        final BucketSize bucketSize
     ) {
         if (isPaused(channel)) {
             applyPausedTimeline(channel);
             return;
         }
 
-        final List<Event> events = eventsByChannel.getOrDefault(channel.getId(), List.of());
-        channel.setTimeline(TimelineBuilder.fromEvents(events, timeRange));
-        channel.setCurrentSeverity(TimelineBuilder.getCurrentSeverity(events, timeRange.getStart(), timeRange.getEnd()));
+        final List<TimelineBucket> channelBuckets = bucketsByChannel.getOrDefault(channel.getId(), List.of());
+        channel.setTimeline(AggregateTimelineBuilder.fromBuckets(channelBuckets, timeRange, bucketSize));
+        channel.setCurrentSeverity(null);
     }
 
     /**
-     * Builds a timeline from aggregate buckets for a channel.
+     * Builds a timeline from the live or transient run-length state of a channel.
      */
-    private void buildTimelineFromBuckets(
+    private void buildTimelineFromState(
         final Channel channel,
-        final Map<Long, List<TimelineBucket>> bucketsByChannel,
-        final TimeSpan timeRange,
-        final BucketSize bucketSize
+        final Map<Long, ChannelTimelineState> statesByChannel,
+        final TimeSpan timeRange
     ) {
         if (isPaused(channel)) {
             applyPausedTimeline(channel);
             return;
         }
 
-        final List<TimelineBucket> channelBuckets = bucketsByChannel.getOrDefault(channel.getId(), List.of());
-        channel.setTimeline(AggregateTimelineBuilder.fromBuckets(channelBuckets, timeRange, bucketSize));
-        channel.setCurrentSeverity(null);
+        final ChannelTimelineState state = statesByChannel.get(channel.getId());
+        channel.setTimeline(state.timelineFor(timeRange));
+        channel.setCurrentSeverity(state.severityAt(timeRange.getEnd()));
     }
 
     /**
-     * Builds a stitched timeline: historical aggregates + recent raw events.
+     * Stitches historical aggregates in front of the recent timeline already set on a channel.
      */
-    private void buildStitchedTimeline(
+    private void prependHistoricalTimeline(
         final Channel channel,
         final Map<Long, List<TimelineBucket>> bucketsByChannel,
-        final Map<Long, List<Event>> recentEventsByChannel,
         final TimeSpan fullRange,
         final BucketSize bucketSize,
         final OffsetDateTime historicalEnd
     ) {
         if (isPaused(channel)) {
-            applyPausedTimeline(channel);
             return;
         }
 
@@ -328,17 +348,9 @@ public class MonitorService {
         final TimeSpan historicalRange = new TimeSpan(fullRange.getStart(), historicalEnd);
         final Timeline historicalTimeline = AggregateTimelineBuilder.fromBuckets(channelBuckets, historicalRange, bucketSize);
 
-        final List<Event> recentEvents = recentEventsByChannel.getOrDefault(channel.getId(), List.of());
-        final TimeSpan recentRange = new TimeSpan(historicalEnd, fullRange.getEnd());
-        final Timeline recentTimeline = TimelineBuilder.fromEvents(recentEvents, recentRange);
-
         final List<TimelineDuration> allDurations = new ArrayList<>(historicalTimeline.getDurations());
-        allDurations.addAll(recentTimeline.getDurations());
+        allDurations.addAll(channel.getTimeline().getDurations());
         channel.setTimeline(Timeline.builder().durations(allDurations).build());
-
-        channel.setCurrentSeverity(
-            TimelineBuilder.getCurrentSeverity(recentEvents, historicalEnd, fullRange.getEnd())
-        );
     }
 
     private boolean isPaused(final Channel channel) {
@@ -0,0 +1,130 @@
+package io.github.eventify.api.monitor.service;
+
+import io.github.eventify.common.config.properties.MonitorProperties;
+import io.github.eventify.common.config.properties.ParallelBuildProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Fork-join stage that builds the timelines of a monitor request in parallel.
+ *
+ * <p>Building timelines is CPU-bound and every channel (or group) is independent, so a request's work is split into
+ * at most {@code parallelism} contiguous chunks that run on a pool shared by all requests. The pool bounds the
+ * threads of the whole instance and the chunk count bounds what a single request can claim of it. Requests below
+ * the per-task minimum are built on the request thread.
+ *
+ * <p>Actions must only touch their own item: each item is handled by exactly one task, and the caller sees all
+ * results once {@link #forEach} returns.
+ */
+@Slf4j
+@Component
+public class TimelineBuildExecutor {
+
+    private final ParallelBuildProperties properties;
+
+    private final int parallelism;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates the executor and its worker pool.
+     *
+     * @param monitorProperties the monitor configuration
+     */
+    public TimelineBuildExecutor(final MonitorProperties monitorProperties) {
+        this.properties = monitorProperties.getParallelBuild();
+        this.parallelism = properties.resolveParallelism();
+        this.pool = new ForkJoinPool(parallelism, TimelineBuildExecutor::newWorker, null, false);
+        log.info(
+            "Timeline building: parallel='{}', parallelism='{}', minChannelsPerTask='{}'",
+            properties.isEnabled(),
+            parallelism,
+            properties.getMinChannelsPerTask()
+        );
+    }
+
+    /**
+     * Shuts down the worker pool.
+     */
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Applies an action to every channel-level item, in parallel when there are enough items to pay for it.
+     *
+     * @param items  the items to process, e.g. channels
+     * @param action the action to apply to each item
+     * @param <T>    the item type
+     */
+    public <T> void forEach(final List<T> items, final Consumer<T> action) {
+        forEach(items, properties.getMinChannelsPerTask(), action);
+    }
+
+    /**
+     * Applies an action to every item, in parallel when there are enough items to pay for it.
+     * Coarse items (e.g. group consolidations) can use a lower minimum per task than channels.
+     *
+     * @param items           the items to process
+     * @param minItemsPerTask the minimum number of items worth a task of their own
+     * @param action          the action to apply to each item
+     * @param <T>             the item type
+     */
+    public <T> void forEach(final List<T> items, final int minItemsPerTask, final Consumer<T> action) {
+        final int tasks = taskCount(items.size(), minItemsPerTask);
+        if (tasks <= 1) {
+            items.forEach(action);
+            return;
+        }
+
+        final int chunkSize = Math.ceilDiv(items.size(), tasks);
+        final List<ForkJoinTask<?>> submitted = new ArrayList<>(tasks);
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            final List<T> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+            submitted.add(pool.submit(() -> chunk.forEach(action)));
+        }
+        joinAll(submitted);
+    }
+
+    private int taskCount(final int items, final int minItemsPerTask) {
+        if (!properties.isEnabled() || parallelism <= 1) {
+            return 1;
+        }
+        return Math.min(parallelism, items / Math.max(1, minItemsPerTask));
+    }
+
+    /**
+     * Waits for every task, so no task is still writing to the request's items when the first failure is rethrown.
+     */
+    private void joinAll(final List<ForkJoinTask<?>> tasks) {
+        RuntimeException failure = null;
+        for (final ForkJoinTask<?> task : tasks) {
+            try {
+                task.join();
+            } catch (final RuntimeException exception) {
+                if (failure == null) {
+                    failure = exception;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static ForkJoinWorkerThread newWorker(final ForkJoinPool pool) {
+        final ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        worker.setName("timeline-builder-" + worker.getPoolIndex());
+        return worker;
+    }
+}
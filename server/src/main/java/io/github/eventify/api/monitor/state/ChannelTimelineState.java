@@ -0,0 +1,218 @@
+package io.github.eventify.api.monitor.state;
+
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.TimeSpan;
+import io.github.eventify.api.monitor.model.Timeline;
+import io.github.eventify.api.monitor.model.TimelineDuration;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Run-length severity history of a single channel, kept up to date as events are written.
+ *
+ * <p>Only severity transitions are stored: each run starts at the first event of a new severity and lasts until
+ * the next run. Everything before {@code coveredFrom} is folded into the severity that was current at that moment,
+ * so the state answers any window that starts at or after {@code coveredFrom}. Events must arrive in timestamp
+ * order; an event older than the last one applied is rejected and the caller rebuilds the state instead.
+ *
+ * <p>States are also built for a single request, straight from the rows of
+ * {@link io.github.eventify.api.event.repository.EventSeverityReader}, so a raw-event window is held as its severity
+ * transitions rather than as its events.
+ */
+public class ChannelTimelineState {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Deque<Run> runs = new ArrayDeque<>();
+
+    private OffsetDateTime coveredFrom;
+
+    private Severity priorSeverity;
+
+    private OffsetDateTime lastEventAt;
+
+    /**
+     * Creates an empty state.
+     *
+     * @param coveredFrom   the earliest moment the state can answer for
+     * @param priorSeverity the severity of the last event before that moment, or null if there was none
+     */
+    public ChannelTimelineState(final OffsetDateTime coveredFrom, final Severity priorSeverity) {
+        this.coveredFrom = coveredFrom;
+        this.priorSeverity = priorSeverity;
+    }
+
+    /**
+     * Replays an event read from the database: an event before {@code coveredFrom} sets the prior severity,
+     * later events are appended.
+     *
+     * @param severity  the event severity
+     * @param timestamp the event timestamp
+     */
+    public void replay(final Severity severity, final OffsetDateTime timestamp) {
+        if (timestamp.isBefore(coveredFrom)) {
+            lock.lock();
+            try {
+                priorSeverity = severity;
+            } finally {
+                lock.unlock();
+            }
+        } else {
+            apply(severity, timestamp);
+        }
+    }
+
+    /**
+     * Appends a written event.
+     *
+     * @param severity  the event severity
+     * @param timestamp the event timestamp
+     * @return false if the event is out of order and the state can no longer be trusted
+     */
+    public boolean apply(final Severity severity, final OffsetDateTime timestamp) {
+        lock.lock();
+        try {
+            if (timestamp.isBefore(coveredFrom) || lastEventAt != null && timestamp.isBefore(lastEventAt)) {
+                return false;
+            }
+            if (runs.isEmpty() || runs.getLast().severity != severity) {
+                runs.addLast(new Run(severity, timestamp));
+            }
+            lastEventAt = timestamp;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the runs that ended before the given moment, folding them into the prior severity.
+     *
+     * @param horizon the earliest moment that still has to be answerable
+     */
+    public void trim(final OffsetDateTime horizon) {
+        lock.lock();
+        try {
+            while (runs.size() > 1 && !secondRunStart().isAfter(horizon)) {
+                priorSeverity = runs.removeFirst().severity;
+                coveredFrom = runs.getFirst().start;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether the state can answer for a window starting at the given moment.
+     *
+     * @param start the window start
+     * @return true if the window is within the retained history
+     */
+    public boolean covers(final OffsetDateTime start) {
+        lock.lock();
+        try {
+            return !start.isBefore(coveredFrom);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Builds the timeline of a window: consecutive durations covering the window. In a live window the last one
+     * extends to the window end; in a past window it ends at the last event, as a past timeline does not claim a
+     * severity after the last event it saw.
+     *
+     * @param range the window, starting at or after {@code coveredFrom}
+     * @return the timeline
+     */
+    public Timeline timelineFor(final TimeSpan range) {
+        lock.lock();
+        try {
+            final OffsetDateTime end = endOf(range);
+            final List<TimelineDuration> durations = new ArrayList<>();
+            Severity current = severityAtLocked(range.getStart());
+            OffsetDateTime durationStart = range.getStart();
+            for (final Run run : runs) {
+                if (run.start.isAfter(end)) {
+                    break;
+                }
+                if (run.start.isAfter(range.getStart()) && run.severity != current) {
+                    durations.add(TimelineDuration.of(orNoData(current), durationStart, run.start));
+                    current = run.severity;
+                    durationStart = run.start;
+                }
+            }
+            durations.add(TimelineDuration.of(orNoData(current), durationStart, end));
+            return Timeline.builder().durations(durations).build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Severity of the most recent event at or before the given moment.
+     *
+     * @param moment the moment
+     * @return the severity, or null if the channel had no event yet
+     */
+    public Severity severityAt(final OffsetDateTime moment) {
+        lock.lock();
+        try {
+            return severityAtLocked(moment);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Severity severityAtLocked(final OffsetDateTime moment) {
+        Severity severity = priorSeverity;
+        for (final Run run : runs) {
+            if (run.start.isAfter(moment)) {
+                break;
+            }
+            severity = run.severity;
+        }
+        return severity;
+    }
+
+    /**
+     * The end of the last duration: the window end, or the last event of a past window that has events.
+     */
+    private OffsetDateTime endOf(final TimeSpan range) {
+        if (range.isLive() || lastEventAt == null || lastEventAt.isBefore(range.getStart()) || lastEventAt.isAfter(range.getEnd())) {
+            return range.getEnd();
+        }
+        return lastEventAt;
+    }
+
+    private OffsetDateTime secondRunStart() {
+        final Iterator<Run> iterator = runs.iterator();
+        iterator.next();
+        return iterator.next().start;
+    }
+
+    private static Severity orNoData(final Severity severity) {
+        return severity == null ? Severity.NO_DATA : severity;
+    }
+
+    /**
+     * A severity that holds from its first event until the next run starts.
+     */
+    private static final class Run {
+
+        private final Severity severity;
+
+        private final OffsetDateTime start;
+
+        private Run(final Severity severity, final OffsetDateTime start) {
+            this.severity = severity;
+            this.start = start;
+        }
+    }
+}
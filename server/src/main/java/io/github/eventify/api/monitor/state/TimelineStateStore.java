@@ -0,0 +1,233 @@
+package io.github.eventify.api.monitor.state;
+
+import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.event.repository.EventSeverityReader;
+import io.github.eventify.api.monitor.model.TimeSpan;
+import io.github.eventify.common.cache.ExpiringCache;
+import io.github.eventify.common.config.properties.LiveStateProperties;
+import io.github.eventify.common.config.properties.MonitorProperties;
+import io.github.eventify.common.util.TimeProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-instance store of {@link ChannelTimelineState}s for the channels that are being monitored live.
+ *
+ * <p>A channel's state is built from the database the first time a live monitor view needs it, then kept current
+ * by the events this instance writes, so repeated polls of a wall display are served from memory. Windows that
+ * start before the retained horizon, and channels whose state is missing or expired, fall back to the database.
+ *
+ * <p>Events written by other instances never reach this store; states are therefore rebuilt after the configured
+ * refresh interval, which bounds how long such events can be missing from a live view.
+ *
+ * <p>Events recorded while a state is being read from the database are held for it and applied once it is stored,
+ * so an event committed after the read cannot be missed by the new state.
+ *
+ * <p>States are built from the lean rows of the {@link EventSeverityReader}; {@link #readStates} builds the same
+ * states for a single request without keeping them, which is how past raw-event windows are served.
+ */
+@Component
+public class TimelineStateStore {
+
+    public static final String LOOKUP_METRIC = "eventify.monitor.live-state.lookups";
+
+    public static final String SIZE_METRIC = "eventify.monitor.live-state.size";
+
+    private final LiveStateProperties properties;
+
+    private final EventSeverityReader eventSeverityReader;
+
+    private final ExpiringCache<Long, ChannelTimelineState> states;
+
+    private final Map<Long, PendingEvents> loading = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    /**
+     * Creates the store and registers its metrics.
+     *
+     * @param monitorProperties the monitor configuration
+     * @param eventSeverityReader the reader used to build missing states
+     * @param meterRegistry       the registry to expose store metrics on
+     */
+    public TimelineStateStore(final MonitorProperties monitorProperties, final EventSeverityReader eventSeverityReader,
+        final MeterRegistry meterRegistry) {
+        this.properties = monitorProperties.getLiveState();
+        this.eventSeverityReader = eventSeverityReader;
+        this.states = new ExpiringCache<>(properties.getMaxChannels(), properties.getRefreshInterval());
+
+        this.hitCounter = Counter.builder(LOOKUP_METRIC)
+            .tag("result", "hit")
+            .description("Channel timelines served from the live state")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(LOOKUP_METRIC)
+            .tag("result", "miss")
+            .description("Channel timelines that required building the live state from the database")
+            .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, states, ExpiringCache::size)
+            .description("Number of channels with a live timeline state")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Whether a window can be served from the live state.
+     *
+     * @param range the requested window
+     * @return true if the store is enabled, the window is live and it starts within the retained horizon
+     */
+    public boolean covers(final TimeSpan range) {
+        return properties.isEnabled()
+            && range.isLive()
+            && !range.getStart().isBefore(TimeProvider.now().minus(properties.getHorizon()));
+    }
+
+    /**
+     * Returns the states of the given channels, building the missing ones with a single query.
+     *
+     * @param channelIds  the channel IDs
+     * @param windowStart the start of the window the states must cover
+     * @return the state per channel ID
+     */
+    public Map<Long, ChannelTimelineState> getStates(final List<Long> channelIds, final OffsetDateTime windowStart) {
+        final OffsetDateTime horizon = TimeProvider.now().minus(properties.getHorizon());
+        final OffsetDateTime trimTo = windowStart.isBefore(horizon) ? windowStart : horizon;
+        final Map<Long, ChannelTimelineState> result = new HashMap<>();
+        final List<Long> missing = new ArrayList<>();
+        for (final Long channelId : channelIds) {
+            states.get(channelId)
+                .filter(state -> state.covers(windowStart))
+                .ifPresentOrElse(
+                    state -> {
+                        state.trim(trimTo);
+                        result.put(channelId, state);
+                    },
+                    () -> missing.add(channelId)
+                );
+        }
+        hitCounter.increment(result.size());
+        missCounter.increment(missing.size());
+        if (!missing.isEmpty()) {
+            result.putAll(load(missing, trimTo));
+        }
+        return result;
+    }
+
+    /**
+     * Applies written events to the states of the channels that are being monitored.
+     * A state that receives an out-of-order event is dropped and rebuilt on its next use.
+     *
+     * @param events the committed events
+     */
+    public void recordAll(final Collection<Event> events) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        events.stream()
+            .sorted(Comparator.comparing(Event::getTimestamp))
+            .forEach(this::record);
+    }
+
+    private void record(final Event event) {
+        final Long channelId = event.getChannel().getId();
+        loading.computeIfPresent(channelId, (id, pending) -> pending.add(event));
+        states.get(channelId)
+            .filter(state -> !state.apply(event.getSeverity(), event.getTimestamp()))
+            .ifPresent(state -> states.evict(channelId));
+    }
+
+    /**
+     * Builds the states of the given channels for a window straight from the database, without keeping them.
+     * Only the severity transitions of each channel are held, however many events the window has.
+     *
+     * @param channelIds  the channel IDs
+     * @param coveredFrom the window start
+     * @param until       the window end
+     * @return the state per channel ID, for every given channel
+     */
+    public Map<Long, ChannelTimelineState> readStates(
+        final List<Long> channelIds,
+        final OffsetDateTime coveredFrom,
+        final OffsetDateTime until
+    ) {
+        final Map<Long, ChannelTimelineState> read = new HashMap<>();
+        for (final Long channelId : channelIds) {
+            read.put(channelId, new ChannelTimelineState(coveredFrom, null));
+        }
+        eventSeverityReader.readTransitions(
+            channelIds,
+            coveredFrom,
+            until,
+            (channelId, timestamp, severity) -> read.get(channelId).replay(severity, timestamp)
+        );
+        return read;
+    }
+
+    /**
+     * Reads and stores the states of the given channels. The channels are marked as loading before the read, so
+     * events recorded in the meantime are applied to the new states as they are stored. Events older than the last
+     * event read are already part of the read, and are rejected by {@link ChannelTimelineState#apply}.
+     */
+    private Map<Long, ChannelTimelineState> load(final List<Long> channelIds, final OffsetDateTime coveredFrom) {
+        for (final Long channelId : channelIds) {
+            loading.compute(channelId, (id, pending) -> (pending == null ? new PendingEvents() : pending).startLoad());
+        }
+        final Map<Long, ChannelTimelineState> loaded = new HashMap<>();
+        try {
+            loaded.putAll(readStates(channelIds, coveredFrom, TimeProvider.now()));
+        } finally {
+            for (final Long channelId : channelIds) {
+                loading.computeIfPresent(channelId, (id, pending) -> {
+                    final ChannelTimelineState state = loaded.get(channelId);
+                    if (state != null) {
+                        pending.events.forEach(event -> state.apply(event.getSeverity(), event.getTimestamp()));
+                        states.put(channelId, state);
+                    }
+                    return pending.finishLoad();
+                });
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Events recorded for a channel while one or more requests read its state.
+     */
+    private static final class PendingEvents {
+
+        private final List<Event> events = new ArrayList<>();
+
+        private int loads;
+
+        private PendingEvents add(final Event event) {
+            events.add(event);
+            return this;
+        }
+
+        private PendingEvents startLoad() {
+            loads++;
+            return this;
+        }
+
+        /**
+         * Ends a load, returning null once no load is left so the channel is no longer marked as loading.
+         */
+        private PendingEvents finishLoad() {
+            loads--;
+            return loads == 0 ? null : this;
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package io.github.eventify.api.monitor.stream;
+
+import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.MonitorResult;
+import io.github.eventify.api.monitor.model.TimelineDuration;
+import io.github.eventify.api.monitor.model.mapper.MonitorMapper;
+import io.github.eventify.api.monitor.model.response.ChannelDeltaResponse;
+import io.github.eventify.api.monitor.model.response.MonitorDeltaResponse;
+import io.github.eventify.common.config.properties.MonitorProperties;
+import io.github.eventify.common.config.properties.StreamProperties;
+import io.github.eventify.common.exception.MonitorStreamLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes live monitor views to open Server-Sent Events streams.
+ *
+ * <p>A stream starts with a full {@code snapshot} (the regular monitor response) and then receives a {@code delta}
+ * whenever events are committed to one of the watchlist's channels: per channel its current severity and the new
+ * durations, one per severity change. Deltas are built once per batch and serialized once per watchlist, however
+ * many screens show it, so an open screen costs a write per ingested batch instead of a full timeline rebuild per
+ * poll.
+ *
+ * <p>Every stream has a bounded queue and is drained by at most one virtual thread at a time, so deltas arrive in
+ * commit order, a slow client only delays itself, and ingestion never waits for a client. A stream that falls
+ * behind by more than the configured number of deltas is closed; its client reconnects and receives a fresh
+ * snapshot. The number of streams per watchlist is bounded as well.
+ *
+ * <p>Only events committed on this instance are pushed. Events committed while the first stream of a watchlist
+ * builds its snapshot are reflected by the next event of their channel.
+ */
+@Slf4j
+@Component
+public class MonitorStreamHub {
+
+    public static final String SUBSCRIBERS_METRIC = "eventify.monitor.stream.subscribers";
+
+    public static final String DELTAS_METRIC = "eventify.monitor.stream.deltas";
+
+    public static final String REJECTED_METRIC = "eventify.monitor.stream.rejected";
+
+    public static final String DROPPED_METRIC = "eventify.monitor.stream.dropped";
+
+    public static final String SNAPSHOT_EVENT = "snapshot";
+
+    public static final String DELTA_EVENT = "delta";
+
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final StreamProperties properties;
+
+    private final MonitorMapper monitorMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("monitor-stream-", 0).factory()
+    );
+
+    private final Map<Long, List<Subscription>> subscriptionsByWatchlist = new ConcurrentHashMap<>();
+
+    private final Map<Long, Set<Long>> watchlistsByChannel = new ConcurrentHashMap<>();
+
+    private final Map<Long, Integer> reservedSlotsByWatchlist = new ConcurrentHashMap<>();
+
+    private final ReentrantLock registrationLock = new ReentrantLock();
+
+    private final Counter deltaCounter;
+
+    private final Counter rejectedCounter;
+
+    private final Counter droppedCounter;
+
+    /**
+     * Creates the hub and registers its metrics.
+     *
+     * @param monitorProperties the monitor configuration
+     * @param monitorMapper     the mapper that renders snapshots
+     * @param meterRegistry     the registry to expose stream metrics on
+     */
+    public MonitorStreamHub(
+        final MonitorProperties monitorProperties,
+        final MonitorMapper monitorMapper,
+        final MeterRegistry meterRegistry
+    ) {
+        this.properties = monitorProperties.getStream();
+        this.monitorMapper = monitorMapper;
+
+        Gauge.builder(SUBSCRIBERS_METRIC, this, MonitorStreamHub::subscriberCount)
+            .description("Number of open monitor streams")
+            .register(meterRegistry);
+        this.deltaCounter = Counter.builder(DELTAS_METRIC)
+            .description("Deltas queued for open monitor streams")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC)
+            .description("Monitor streams rejected because their watchlist had too many")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder(DROPPED_METRIC)
+            .description("Monitor streams closed because their client fell behind")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for a watchlist: builds its snapshot, then keeps pushing deltas until the stream times out or
+     * the client disconnects.
+     *
+     * @param watchlistId the watchlist ID
+     * @param monitor     builds the monitor result of the snapshot
+     * @return the stream
+     * @throws MonitorStreamLimitException if the watchlist already has the maximum number of streams
+     */
+    public SseEmitter subscribe(final Long watchlistId, final Supplier<MonitorResult> monitor) {
+        if (!properties.isEnabled()) {
+            final Subscription subscription = subscriptionFor(watchlistId, monitor.get());
+            subscription.completeAfterDrain();
+            send(subscription);
+            return subscription.emitter;
+        }
+
+        if (!reserveSlot(watchlistId)) {
+            rejectedCounter.increment();
+            throw new MonitorStreamLimitException(properties.getMaxSubscribersPerWatchlist());
+        }
+        final Subscription subscription;
+        try {
+            subscription = subscriptionFor(watchlistId, monitor.get());
+        } catch (final RuntimeException exception) {
+            releaseSlot(watchlistId);
+            throw exception;
+        }
+
+        subscription.emitter.onCompletion(() -> unregister(subscription));
+        subscription.emitter.onTimeout(() -> unregister(subscription));
+        subscription.emitter.onError(error -> unregister(subscription));
+        register(subscription);
+        send(subscription);
+        return subscription.emitter;
+    }
+
+    /**
+     * Pushes the committed events of watched channels to the streams of their watchlists.
+     *
+     * @param events the events that were written
+     */
+    public void publish(final Collection<Event> events) {
+        if (!properties.isEnabled() || watchlistsByChannel.isEmpty()) {
+            return;
+        }
+
+        final Map<Long, List<Event>> eventsByChannel = new HashMap<>();
+        for (final Event event : events) {
+            final Long channelId = event.getChannel().getId();
+            if (watchlistsByChannel.containsKey(channelId)) {
+                eventsByChannel.computeIfAbsent(channelId, id -> new ArrayList<>()).add(event);
+            }
+        }
+
+        final Map<Long, List<ChannelDeltaResponse>> deltasByWatchlist = new HashMap<>();
+        eventsByChannel.forEach((channelId, channelEvents) -> {
+            final ChannelDeltaResponse delta = toChannelDelta(channelId, channelEvents);
+            for (final Long watchlistId : watchlistsByChannel.getOrDefault(channelId, Set.of())) {
+                deltasByWatchlist.computeIfAbsent(watchlistId, id -> new ArrayList<>()).add(delta);
+            }
+        });
+
+        deltasByWatchlist.forEach(this::publishDelta);
+    }
+
+    /**
+     * Sends a comment to every stream, so proxies keep idle connections open and disconnected clients are noticed.
+     */
+    public void heartbeat() {
+        for (final List<Subscription> subscriptions : subscriptionsByWatchlist.values()) {
+            for (final Subscription subscription : subscriptions) {
+                if (subscription.offer(SseEmitter.event().comment(HEARTBEAT_COMMENT))) {
+                    send(subscription);
+                }
+            }
+        }
+    }
+
+    /**
+     * Completes every stream and stops the senders.
+     */
+    @PreDestroy
+    public void stop() {
+        for (final List<Subscription> subscriptions : subscriptionsByWatchlist.values()) {
+            subscriptions.forEach(subscription -> subscription.emitter.complete());
+        }
+        senders.shutdownNow();
+    }
+
+    /**
+     * Number of open streams.
+     *
+     * @return the number of streams
+     */
+    public int subscriberCount() {
+        int count = 0;
+        for (final List<Subscription> subscriptions : subscriptionsByWatchlist.values()) {
+            count += subscriptions.size();
+        }
+        return count;
+    }
+
+    private void publishDelta(final Long watchlistId, final List<ChannelDeltaResponse> channels) {
+        final String payload = objectMapper.writeValueAsString(
+            MonitorDeltaResponse.builder().watchlistId(watchlistId).channels(channels).build()
+        );
+        for (final Subscription subscription : subscriptionsOf(watchlistId)) {
+            deltaCounter.increment();
+            if (subscription.offer(SseEmitter.event().name(DELTA_EVENT).data(payload))) {
+                send(subscription);
+            } else {
+                droppedCounter.increment();
+                subscription.emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * Condenses the events of one channel into its current severity and one duration per severity change.
+     */
+    private ChannelDeltaResponse toChannelDelta(final Long channelId, final List<Event> events) {
+        events.sort(Comparator.comparing(Event::getTimestamp));
+        final List<TimelineDuration> durations = new ArrayList<>();
+        for (final Event event : events) {
+            final Severity severity = event.getSeverity();
+            if (durations.isEmpty() || durations.getLast().getSeverity() != severity) {
+                if (!durations.isEmpty()) {
+                    durations.getLast().setEndTime(event.getTimestamp());
+                }
+                durations.add(TimelineDuration.of(severity, event.getTimestamp(), null));
+            }
+        }
+        final Event last = events.getLast();
+        return ChannelDeltaResponse.builder()
+            .channelId(channelId)
+            .currentSeverity(last.getSeverity())
+            .lastEventAt(last.getTimestamp())
+            .durations(durations)
+            .build();
+    }
+
+    /**
+     * Creates a stream with the snapshot of the given monitor result as its first event.
+     */
+    private Subscription subscriptionFor(final Long watchlistId, final MonitorResult result) {
+        final Subscription subscription = new Subscription(
+            watchlistId,
+            List.copyOf(result.getChannelIds()),
+            new SseEmitter(properties.getTimeout().toMillis()),
+            properties.getMaxPendingDeltas()
+        );
+        subscription.offer(SseEmitter.event().name(SNAPSHOT_EVENT).data(monitorMapper.toResponse(result)));
+        return subscription;
+    }
+
+    /**
+     * Claims one of the stream slots of a watchlist before its snapshot is built, so concurrent subscribers cannot
+     * exceed the limit. The slot is released when the stream is unregistered.
+     */
+    private boolean reserveSlot(final Long watchlistId) {
+        final AtomicBoolean reserved = new AtomicBoolean();
+        reservedSlotsByWatchlist.compute(watchlistId, (id, slots) -> {
+            final int taken = slots == null ? 0 : slots;
+            if (taken >= properties.getMaxSubscribersPerWatchlist()) {
+                return slots;
+            }
+            reserved.set(true);
+            return taken + 1;
+        });
+        return reserved.get();
+    }
+
+    private void releaseSlot(final Long watchlistId) {
+        reservedSlotsByWatchlist.computeIfPresent(watchlistId, (id, slots) -> slots > 1 ? slots - 1 : null);
+    }
+
+    private void send(final Subscription subscription) {
+        if (subscription.startDraining()) {
+            senders.execute(subscription::drain);
+        }
+    }
+
+    private List<Subscription> subscriptionsOf(final Long watchlistId) {
+        return subscriptionsByWatchlist.getOrDefault(watchlistId, List.of());
+    }
+
+    private void register(final Subscription subscription) {
+        registrationLock.lock();
+        try {
+            subscriptionsByWatchlist.computeIfAbsent(subscription.watchlistId, id -> new CopyOnWriteArrayList<>()).add(subscription);
+            for (final Long channelId : subscription.channelIds) {
+                watchlistsByChannel.computeIfAbsent(channelId, id -> ConcurrentHashMap.newKeySet()).add(subscription.watchlistId);
+            }
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a stream and releases its slot, and removes the channels of its watchlist from the index once its last
+     * stream is gone.
+     */
+    private void unregister(final Subscription subscription) {
+        registrationLock.lock();
+        try {
+            final List<Subscription> subscriptions = subscriptionsByWatchlist.get(subscription.watchlistId);
+            if (subscriptions == null || !subscriptions.remove(subscription)) {
+                return;
+            }
+            releaseSlot(subscription.watchlistId);
+            if (!subscriptions.isEmpty()) {
+                return;
+            }
+            subscriptionsByWatchlist.remove(subscription.watchlistId);
+            for (final Long channelId : subscription.channelIds) {
+                final Set<Long> watchlistIds = watchlistsByChannel.get(channelId);
+                if (watchlistIds != null) {
+                    watchlistIds.remove(subscription.watchlistId);
+                    if (watchlistIds.isEmpty()) {
+                        watchlistsByChannel.remove(channelId);
+                    }
+                }
+            }
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+
+    /**
+     * An open stream: its emitter, the channels it watches and the events waiting to be sent.
+     */
+    private static final class Subscription {
+
+        private final Long watchlistId;
+
+        private final List<Long> channelIds;
+
+        private final SseEmitter emitter;
+
+        private final Queue<SseEmitter.SseEventBuilder> pending;
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private volatile boolean completeAfterDrain;
+
+        private Subscription(
+            final Long watchlistId,
+            final List<Long> channelIds,
+            final SseEmitter emitter,
+            final int maxPending
+        ) {
+            this.watchlistId = watchlistId;
+            this.channelIds = channelIds;
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(maxPending + 1);
+        }
+
+        /**
+         * Queues an event, returning false when the stream is too far behind to take it.
+         */
+        private boolean offer(final SseEmitter.SseEventBuilder event) {
+            return pending.offer(event);
+        }
+
+        private void completeAfterDrain() {
+            this.completeAfterDrain = true;
+        }
+
+        /**
+         * Claims the stream for a sender, returning false when another sender is already draining it.
+         */
+        private boolean startDraining() {
+            return draining.compareAndSet(false, true);
+        }
+
+        /**
+         * Sends the queued events in order. Re-checks the queue after releasing the claim, so an event queued while
+         * the previous sender was finishing is not left behind.
+         */
+        private void drain() {
+            do {
+                try {
+                    SseEmitter.SseEventBuilder event = pending.poll();
+                    while (event != null) {
+                        emitter.send(event);
+                        event = pending.poll();
+                    }
+                    if (completeAfterDrain) {
+                        emitter.complete();
+                    }
+                } catch (final IOException | IllegalStateException exception) {
+                    log.debug("Closing monitor stream of watchlist '{}': {}", watchlistId, exception.getMessage());
+                    pending.clear();
+                    emitter.completeWithError(exception);
+                } finally {
+                    draining.set(false);
+                }
+            } while (!pending.isEmpty() && startDraining());
+        }
+    }
+}
@@ -16,7 +16,10 @@ import java.util.List;
 
 /**
  * Builds aggregate timelines from pre-computed time-series buckets.
- * Extracted from TimelineBuilder to separate aggregate vs raw-event logic.
+ * Raw-event windows are built from a {@link io.github.eventify.api.monitor.state.ChannelTimelineState} instead.
+ *
+ * <p>The builder is stateless and never modifies the buckets it is given, so timelines of different channels can be
+ * built concurrently.
  */
 @UtilityClass
 public class AggregateTimelineBuilder {
@@ -58,12 +61,16 @@ public class AggregateTimelineBuilder {
         final OffsetDateTime rangeStart = range.getStart();
         final OffsetDateTime rangeEnd = range.getEnd();
 
-        final List<TimelineBucket> sortedBuckets = buckets.stream()
-            .sorted(Comparator.comparing(TimelineBucket::getBucketTime))
-            .toList();
+        TimelineBucket priorBucket = null;
+        final List<TimelineBucket> inRangeBuckets = new ArrayList<>(buckets.size());
+        for (final TimelineBucket bucket : sortByBucketTime(buckets)) {
+            if (bucket.getBucketTime().isBefore(rangeStart)) {
+                priorBucket = bucket;
+            } else if (bucket.getBucketTime().isBefore(rangeEnd)) {
+                inRangeBuckets.add(bucket);
+            }
+        }
 
-        final TimelineBucket priorBucket = findPriorBucket(sortedBuckets, rangeStart);
-        final List<TimelineBucket> inRangeBuckets = filterInRangeBuckets(sortedBuckets, rangeStart, rangeEnd);
         final Severity initialSeverity = resolveInitialSeverity(priorBucket);
 
         if (inRangeBuckets.isEmpty()) {
@@ -85,24 +92,19 @@ public class AggregateTimelineBuilder {
         return durations;
     }
 
-    private TimelineBucket findPriorBucket(
-        final List<TimelineBucket> sortedBuckets,
-        final OffsetDateTime rangeStart
-    ) {
-        return sortedBuckets.stream()
-            .filter(b -> b.getBucketTime().isBefore(rangeStart))
-            .reduce((a, b) -> b)
-            .orElse(null);
-    }
-
-    private List<TimelineBucket> filterInRangeBuckets(
-        final List<TimelineBucket> sortedBuckets,
-        final OffsetDateTime start,
-        final OffsetDateTime end
-    ) {
-        return sortedBuckets.stream()
-            .filter(b -> !b.getBucketTime().isBefore(start) && b.getBucketTime().isBefore(end))
-            .toList();
+    /**
+     * Returns the buckets in time order; the aggregate queries already return them ordered (after the prior bucket),
+     * so this is normally a single check without a copy.
+     */
+    private List<TimelineBucket> sortByBucketTime(final List<TimelineBucket> buckets) {
+        for (int index = 1; index < buckets.size(); index++) {
+            if (buckets.get(index).getBucketTime().isBefore(buckets.get(index - 1).getBucketTime())) {
+                return buckets.stream()
+                    .sorted(Comparator.comparing(TimelineBucket::getBucketTime))
+                    .toList();
+            }
+        }
+        return buckets;
     }
 
     private Severity resolveInitialSeverity(final TimelineBucket priorBucket) {
@@ -1,82 +1,37 @@
 package io.github.eventify.api.monitor.util;
 
-import io.github.eventify.api.event.model.Event;
 import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.SeverityRun;
 import io.github.eventify.api.monitor.model.TimelineDuration;
 import lombok.experimental.UtilityClass;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 /**
- * Utility class for building duration lists from events.
- * Provides common operations for converting events to timeline durations.
+ * Utility class for building duration lists from severity runs.
+ * Provides common operations for converting runs to timeline durations.
  */
 @UtilityClass
 public class DurationBuilder {
 
     /**
-     * Builds a list of durations from sorted events.
-     * Consecutive events with the same severity are grouped into a single duration.
-     * A new duration starts only when the severity changes.
-     * The last duration has a null end time (live/ongoing).
+     * Builds a list of durations from consecutive runs.
+     * Every run lasts until the next run starts; the last run lasts until the given end time.
      *
-     * @param sortedEvents events sorted by timestamp
-     * @return list of durations
+     * @param runs    consecutive runs sorted by start time
+     * @param endTime the end of the last run (null for live/ongoing)
+     * @return a mutable list of durations
      */
-    public List<TimelineDuration> fromEvents(final List<Event> sortedEvents) {
-        if (sortedEvents.isEmpty()) {
-            return new ArrayList<>();
+    public List<TimelineDuration> fromRuns(final List<SeverityRun> runs, final OffsetDateTime endTime) {
+        final List<TimelineDuration> durations = new ArrayList<>(runs.size());
+        for (int i = 0; i < runs.size(); i++) {
+            final SeverityRun run = runs.get(i);
+            final OffsetDateTime end = i + 1 < runs.size() ? runs.get(i + 1).getStartDateTime() : endTime;
+            durations.add(TimelineDuration.of(run.getSeverityLevel(), run.getStartDateTime(), end));
         }
-        return buildDurations(sortedEvents, null);
-    }
-
-    /**
-     * Builds durations from events, filtering to only include those before a boundary.
-     * Consecutive events with the same severity are grouped into a single duration.
-     * Durations are cut off at the boundary if they extend past it.
-     *
-     * @param sortedEvents events sorted by timestamp
-     * @param boundary     the timestamp boundary
-     * @return list of durations ending before or at the boundary
-     */
-    public List<TimelineDuration> fromEventsEndingBefore(
-        final List<Event> sortedEvents,
-        final OffsetDateTime boundary
-    ) {
-        final List<Event> eventsBeforeBoundary = sortedEvents.stream()
-            .filter(e -> e.getTimestamp().isBefore(boundary))
-            .toList();
-
-        if (eventsBeforeBoundary.isEmpty()) {
-            return new ArrayList<>();
-        }
-        return buildDurations(eventsBeforeBoundary, boundary);
-    }
-
-    /**
-     * Builds durations from events, filtering to only include those starting after a boundary.
-     * Consecutive events with the same severity are grouped into a single duration.
-     * The last duration has null end time (live/ongoing).
-     *
-     * @param sortedEvents events sorted by timestamp
-     * @param boundary     the timestamp boundary
-     * @return list of durations starting after the boundary
-     */
-    public List<TimelineDuration> fromEventsStartingAfter(
-        final List<Event> sortedEvents,
-        final OffsetDateTime boundary
-    ) {
-        final List<Event> eventsAfterBoundary = sortedEvents.stream()
-            .filter(e -> e.getTimestamp().isAfter(boundary))
-            .toList();
-
-        if (eventsAfterBoundary.isEmpty()) {
-            return new ArrayList<>();
-        }
-        return buildDurations(eventsAfterBoundary, null);
+        return durations;
     }
 
     /**
@@ -92,39 +47,4 @@ public class DurationBuilder {
     ) {
         return TimelineDuration.of(Severity.NO_DATA, channelCreatedAt, firstEventTime);
     }
-
-    /**
-     * Sorts events by timestamp.
-     *
-     * @param events the events to sort
-     * @return a new list of events sorted by timestamp
-     */
-    public List<Event> sortByTimestamp(final List<Event> events) {
-        return events.stream()
-            .sorted(Comparator.comparing(Event::getTimestamp))
-            .toList();
-    }
-
-    /**
-     * Core loop: merges consecutive same-severity events into durations.
-     * If {@code endTime} is non-null, it overrides the last duration's end; otherwise null (live/ongoing).
-     */
-    private List<TimelineDuration> buildDurations(final List<Event> events, final OffsetDateTime endTime) {
-        final List<TimelineDuration> durations = new ArrayList<>();
-
-        Severity currentSeverity = events.getFirst().getSeverity();
-        OffsetDateTime durationStart = events.getFirst().getTimestamp();
-
-        for (int i = 1; i < events.size(); i++) {
-            final Event event = events.get(i);
-            if (event.getSeverity() != currentSeverity) {
-                durations.add(TimelineDuration.of(currentSeverity, durationStart, event.getTimestamp()));
-                currentSeverity = event.getSeverity();
-                durationStart = event.getTimestamp();
-            }
-        }
-
-        durations.add(TimelineDuration.of(currentSeverity, durationStart, endTime));
-        return durations;
-    }
 }
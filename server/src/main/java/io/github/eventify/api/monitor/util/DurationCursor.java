@@ -0,0 +1,56 @@
+package io.github.eventify.api.monitor.util;
+
+import io.github.jframe.exception.core.ValidationException;
+import io.github.jframe.validation.ValidationResult;
+import lombok.experimental.UtilityClass;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * Utility class for the opaque cursors of duration pages.
+ *
+ * <p>A cursor names the start of a run. Runs start at the events that change a channel's severity, which stay put
+ * while newer events arrive, so a cursor keeps pointing at the same place in the channel's history.
+ */
+@UtilityClass
+public class DurationCursor {
+
+    public static final String CURSOR_INVALID = "Cursor is not a valid duration cursor";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Encodes the start of a run as cursor.
+     *
+     * @param runStart the start of the run
+     * @return the opaque cursor
+     */
+    public String encode(final OffsetDateTime runStart) {
+        return ENCODER.encodeToString(runStart.toInstant().toString().getBytes(UTF_8));
+    }
+
+    /**
+     * Decodes a cursor to the start of the run it names.
+     *
+     * @param cursor the opaque cursor
+     * @return the start of the run (UTC)
+     * @throws ValidationException when the cursor was not created by {@link #encode}
+     */
+    public OffsetDateTime decode(final String cursor) {
+        try {
+            return Instant.parse(new String(DECODER.decode(cursor), UTF_8)).atOffset(UTC);
+        } catch (final IllegalArgumentException | DateTimeParseException exception) {
+            final ValidationResult result = new ValidationResult();
+            result.reject(CURSOR_INVALID);
+            throw new ValidationException(result);
+        }
+    }
+}
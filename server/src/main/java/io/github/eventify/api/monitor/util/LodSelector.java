@@ -11,17 +11,29 @@ import java.time.Duration;
  * for a given time range. Returns null for short ranges where raw events are used,
  * or a BucketSize for longer ranges using aggregated data.
  *
- * <p>LOD mapping:
+ * <p>Longer ranges use the finest bucket size that keeps a timeline within {@link #MAX_BUCKETS} buckets, which is
+ * about as many segments as a timeline row can show. Daily buckets would leave only 30 segments on the 30d preset,
+ * so PT2H stays in use up to {@link #MAX_TWO_HOUR_RANGE} and P1D is only used for longer custom ranges.
+ * This yields the following mapping:
  * <ul>
  * <li>&lt;= 4h: null (raw events)</li>
- * <li>&lt;= 24h: PT30M buckets</li>
- * <li>&lt;= 7d: PT2H buckets</li>
- * <li>&gt; 7d: PT4H buckets</li>
+ * <li>&lt;= 10h: PT5M buckets</li>
+ * <li>&lt;= 60h (12h, 24h): PT30M buckets</li>
+ * <li>&lt;= 30d (7d, 30d): PT2H buckets</li>
+ * <li>&gt; 30d: P1D buckets</li>
  * </ul>
  */
 @UtilityClass
 public class LodSelector {
 
+    /** Pixel budget: the maximum number of buckets a single timeline is rendered with. */
+    public static final int MAX_BUCKETS = 120;
+
+    /** The longest range still shown with PT2H buckets. */
+    private static final Duration MAX_TWO_HOUR_RANGE = Duration.ofDays(30);
+
+    private static final Duration RAW_EVENT_THRESHOLD = Duration.ofHours(4);
+
     /**
      * Selects the bucket size for the given time range.
      * Returns null if raw events should be used (range &lt;= 4h).
@@ -32,16 +44,21 @@ public class LodSelector {
     public BucketSize selectBucket(final TimeSpan timeRange) {
         final Duration effective = Duration.between(timeRange.getStart(), timeRange.getEnd()).abs();
 
-        if (effective.compareTo(Duration.ofHours(4)) <= 0) {
+        if (effective.compareTo(RAW_EVENT_THRESHOLD) <= 0) {
             return null;
         }
         return resolveAggregateBucket(effective);
     }
 
     private BucketSize resolveAggregateBucket(final Duration effective) {
-        if (effective.compareTo(Duration.ofHours(24)) <= 0) {
-            return BucketSize.PT30M;
+        if (effective.compareTo(MAX_TWO_HOUR_RANGE) > 0) {
+            return BucketSize.P1D;
+        }
+        for (final BucketSize bucketSize : BucketSize.values()) {
+            if (bucketSize == BucketSize.PT2H || effective.dividedBy(bucketSize.getDuration()) <= MAX_BUCKETS) {
+                return bucketSize;
+            }
         }
-        return effective.compareTo(Duration.ofDays(7)) <= 0 ? BucketSize.PT2H : BucketSize.PT4H;
+        return BucketSize.PT2H;
     }
 }
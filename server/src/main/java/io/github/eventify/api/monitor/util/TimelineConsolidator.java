@@ -1,7 +1,6 @@
 package io.github.eventify.api.monitor.util;
 
 import io.github.eventify.api.event.model.Severity;
-import io.github.eventify.api.monitor.model.TimePoint;
 import io.github.eventify.api.monitor.model.Timeline;
 import io.github.eventify.api.monitor.model.TimelineDuration;
 import io.github.eventify.api.monitor.model.TimelineSource;
@@ -9,10 +8,9 @@ import lombok.experimental.UtilityClass;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -26,10 +24,21 @@ import java.util.Objects;
  * </ul>
  *
  * <p>All entities that can be consolidated implement {@link TimelineSource}.
+ *
+ * <p>Each timeline is encoded as two sorted streams of boundaries (the starts and the ends of its durations) held in
+ * epoch-microsecond {@code long[]}s with the severity ordinal of every boundary in a parallel {@code byte[]}.
+ * Timelines are already ordered, so a k-way merge over the streams replaces a global sort, and the active durations
+ * are counted per severity in a fixed {@code int[]}.
  */
 @UtilityClass
 public class TimelineConsolidator {
 
+    private static final Severity[] SEVERITIES_BY_PRIORITY = Arrays.stream(Severity.values())
+        .sorted(Comparator.comparingInt(Severity::getPriority))
+        .toArray(Severity[]::new);
+
+    private static final Severity[] SEVERITIES = Severity.values();
+
     /**
      * Consolidates timeline sources into a single timeline showing the worst severity at each point in time.
      * This is the primary entry point for consolidation, accepting any mix of channels, groups, or other sources.
@@ -41,9 +50,10 @@ public class TimelineConsolidator {
         if (sources == null || sources.isEmpty()) {
             return Timeline.empty();
         }
-        final List<Timeline> timelines = sources.stream()
-            .map(TimelineSource::getTimeline)
-            .toList();
+        final List<Timeline> timelines = new ArrayList<>(sources.size());
+        for (final TimelineSource source : sources) {
+            timelines.add(source.getTimeline());
+        }
         return consolidateTimelines(timelines);
     }
 
@@ -72,10 +82,15 @@ public class TimelineConsolidator {
             return activeTimelines.getFirst();
         }
 
-        final List<TimePoint> timePoints = extractTimePoints(activeTimelines);
-        final List<TimelineDuration> durations = processTimePoints(timePoints);
-
-        return mergeDurations(durations);
+        final List<BoundaryStream> streams = new ArrayList<>(activeTimelines.size() * 2);
+        for (final Timeline timeline : activeTimelines) {
+            streams.add(BoundaryStream.startsOf(timeline.getDurations()));
+            final BoundaryStream ends = BoundaryStream.endsOf(timeline.getDurations());
+            if (ends.hasNext()) {
+                streams.add(ends);
+            }
+        }
+        return sweep(new BoundaryHeap(streams));
     }
 
     /**
@@ -85,128 +100,97 @@ public class TimelineConsolidator {
         if (timelines == null) {
             return List.of();
         }
-        return timelines.stream()
-            .filter(t -> t != null && t.getDurations() != null && !t.getDurations().isEmpty())
-            .toList();
-    }
-
-    /**
-     * Extracts all time points (start and end) from all durations in all timelines.
-     */
-    private List<TimePoint> extractTimePoints(final List<Timeline> timelines) {
-        return timelines.stream()
-            .flatMap(t -> t.getDurations().stream())
-            .flatMap(d -> createTimePointsFromDuration(d).stream())
-            .sorted(Comparator.comparing(TimePoint::getTime))
-            .toList();
-    }
-
-    /**
-     * Creates start and end time points from a duration.
-     */
-    private List<TimePoint> createTimePointsFromDuration(final TimelineDuration duration) {
-        final List<TimePoint> points = new ArrayList<>();
-        points.add(TimePoint.startOf(duration.getStartTime(), duration.getSeverity()));
-        if (duration.getEndTime() != null) {
-            points.add(TimePoint.endOf(duration.getEndTime(), duration.getSeverity()));
+        final List<Timeline> active = new ArrayList<>(timelines.size());
+        for (final Timeline timeline : timelines) {
+            if (timeline != null && timeline.getDurations() != null && !timeline.getDurations().isEmpty()) {
+                active.add(timeline);
+            }
         }
-        return points;
+        return active;
     }
 
     /**
-     * Processes time points using a sweep line algorithm.
-     * Tracks active severities and creates durations based on the worst severity at each interval.
-     * Time points at the same instant are grouped and processed together.
+     * Sweeps over the merged boundaries in time order, counting the active durations per severity.
+     * Boundaries at the same instant are processed together; every interval between two instants gets the worst
+     * active severity, and consecutive intervals with the same severity are merged as they are produced.
      */
-    private List<TimelineDuration> processTimePoints(final List<TimePoint> timePoints) {
+    private Timeline sweep(final BoundaryHeap heap) {
         final List<TimelineDuration> durations = new ArrayList<>();
-        final Map<Severity, Integer> activeSeverityCounts = new EnumMap<>(Severity.class);
+        final int[] activeCounts = new int[SEVERITIES.length];
         OffsetDateTime intervalStart = null;
 
-        int i = 0;
-        while (i < timePoints.size()) {
-            final OffsetDateTime currentTime = timePoints.get(i).getTime();
+        while (!heap.isEmpty()) {
+            final long currentTime = heap.peek().time();
+            final OffsetDateTime currentInstant = heap.peek().instant();
 
-            // Close previous interval if we have a start and active severities
-            if (intervalStart != null && !currentTime.equals(intervalStart)) {
-                final Severity worstSeverity = getWorstActiveSeverity(activeSeverityCounts);
+            // Close previous interval if there are active severities
+            if (intervalStart != null) {
+                final Severity worstSeverity = getWorstActiveSeverity(activeCounts);
                 if (worstSeverity != null) {
-                    durations.add(createDuration(worstSeverity, intervalStart, currentTime));
+                    append(durations, worstSeverity, intervalStart, currentInstant);
                 }
             }
 
-            // Process all time points at the same instant together
-            while (i < timePoints.size() && timePoints.get(i).getTime().equals(currentTime)) {
-                updateActiveCounts(activeSeverityCounts, timePoints.get(i));
-                i++;
+            // Process all boundaries at the same instant together
+            while (!heap.isEmpty() && heap.peek().time() == currentTime) {
+                updateActiveCounts(activeCounts, heap.peek());
+                heap.advance();
             }
 
-            intervalStart = currentTime;
+            intervalStart = currentInstant;
         }
 
-        // Handle the last interval if there are still active severities
-        final Severity finalWorst = getWorstActiveSeverity(activeSeverityCounts);
+        // Handle the last interval if there are still active (open-ended) severities
+        final Severity finalWorst = getWorstActiveSeverity(activeCounts);
         if (finalWorst != null && intervalStart != null) {
-            durations.add(createDuration(finalWorst, intervalStart, null));
+            append(durations, finalWorst, intervalStart, null);
         }
 
-        return durations;
+        return durations.isEmpty() ? Timeline.empty() : Timeline.builder().durations(durations).build();
     }
 
     /**
-     * Updates the count of active severities based on a time point.
-     * Increments for start points, decrements for end points.
+     * Increments the count of a severity for a start boundary, decrements it for an end boundary.
      */
-    private void updateActiveCounts(final Map<Severity, Integer> counts, final TimePoint point) {
-        if (point.isStart()) {
-            counts.merge(point.getSeverity(), 1, Integer::sum);
-        } else {
-            counts.computeIfPresent(point.getSeverity(), (k, v) -> v - 1);
-            counts.remove(point.getSeverity(), 0);
+    private void updateActiveCounts(final int[] counts, final BoundaryStream stream) {
+        final int ordinal = stream.severity();
+        if (stream.isStart()) {
+            counts[ordinal]++;
+        } else if (counts[ordinal] > 0) {
+            counts[ordinal]--;
         }
     }
 
     /**
      * Gets the worst (highest priority) severity from the active severities.
      */
-    private Severity getWorstActiveSeverity(final Map<Severity, Integer> counts) {
-        return counts.keySet().stream()
-            .filter(s -> counts.get(s) > 0)
-            .min(Comparator.comparingInt(Severity::getPriority))
-            .orElse(null);
-    }
-
-    /**
-     * Merges consecutive durations with the same severity.
-     */
-    private Timeline mergeDurations(final List<TimelineDuration> durations) {
-        if (durations.isEmpty()) {
-            return Timeline.empty();
-        }
-
-        final List<TimelineDuration> merged = new ArrayList<>();
-        TimelineDuration current = durations.getFirst();
-
-        for (int i = 1; i < durations.size(); i++) {
-            final TimelineDuration next = durations.get(i);
-            if (canMerge(current, next)) {
-                current = createDuration(current.getSeverity(), current.getStartTime(), next.getEndTime());
-            } else {
-                merged.add(current);
-                current = next;
+    private Severity getWorstActiveSeverity(final int[] counts) {
+        for (final Severity severity : SEVERITIES_BY_PRIORITY) {
+            if (counts[severity.ordinal()] > 0) {
+                return severity;
             }
         }
-
-        merged.add(current);
-        return Timeline.builder().durations(merged).build();
+        return null;
     }
 
     /**
-     * Checks if two consecutive durations can be merged (same severity and adjacent times).
+     * Appends an interval, extending the previous duration instead when it has the same severity and ends where
+     * the interval starts.
      */
-    private boolean canMerge(final TimelineDuration current, final TimelineDuration next) {
-        return current.getSeverity() == next.getSeverity()
-            && Objects.equals(current.getEndTime(), next.getStartTime());
+    private void append(
+        final List<TimelineDuration> durations,
+        final Severity severity,
+        final OffsetDateTime start,
+        final OffsetDateTime end
+    ) {
+        if (!durations.isEmpty()) {
+            final TimelineDuration previous = durations.getLast();
+            if (previous.getSeverity() == severity && Objects.equals(previous.getEndTime(), start)) {
+                previous.setEndTime(end);
+                return;
+            }
+        }
+        durations.add(createDuration(severity, start, end));
     }
 
     private TimelineDuration createDuration(
@@ -219,4 +203,182 @@ public class TimelineConsolidator {
             .setStartTime(start)
             .setEndTime(end);
     }
+
+    /**
+     * The start or the end boundaries of one timeline's durations, sorted by time, with a read position.
+     * Boundaries keep the {@link OffsetDateTime} they were encoded from, so consolidated durations reuse it.
+     */
+    private static final class BoundaryStream {
+
+        private static final long MICROS_PER_SECOND = 1_000_000L;
+
+        private static final int NANOS_PER_MICRO = 1_000;
+
+        private final boolean start;
+
+        private final long[] times;
+
+        private final byte[] severities;
+
+        private final OffsetDateTime[] instants;
+
+        private int position;
+
+        private BoundaryStream(final boolean start, final int size) {
+            this.start = start;
+            this.times = new long[size];
+            this.severities = new byte[size];
+            this.instants = new OffsetDateTime[size];
+        }
+
+        private static BoundaryStream startsOf(final List<TimelineDuration> durations) {
+            final BoundaryStream stream = new BoundaryStream(true, durations.size());
+            int size = 0;
+            for (final TimelineDuration duration : durations) {
+                stream.set(size++, duration.getStartTime(), duration.getSeverity());
+            }
+            stream.sortIfNeeded();
+            return stream;
+        }
+
+        private static BoundaryStream endsOf(final List<TimelineDuration> durations) {
+            int size = 0;
+            for (final TimelineDuration duration : durations) {
+                if (duration.getEndTime() != null) {
+                    size++;
+                }
+            }
+            final BoundaryStream stream = new BoundaryStream(false, size);
+            int index = 0;
+            for (final TimelineDuration duration : durations) {
+                if (duration.getEndTime() != null) {
+                    stream.set(index++, duration.getEndTime(), duration.getSeverity());
+                }
+            }
+            stream.sortIfNeeded();
+            return stream;
+        }
+
+        private void set(final int index, final OffsetDateTime instant, final Severity severity) {
+            times[index] = toEpochMicros(instant);
+            severities[index] = (byte) severity.ordinal();
+            instants[index] = instant;
+        }
+
+        /**
+         * Timelines are built in time order, so this is normally a single pass; out-of-order input is insertion sorted.
+         */
+        private void sortIfNeeded() {
+            for (int index = 1; index < times.length; index++) {
+                if (times[index] < times[index - 1]) {
+                    insert(index);
+                }
+            }
+        }
+
+        private void insert(final int index) {
+            final long time = times[index];
+            final byte severity = severities[index];
+            final OffsetDateTime instant = instants[index];
+            int target = index;
+            while (target > 0 && times[target - 1] > time) {
+                times[target] = times[target - 1];
+                severities[target] = severities[target - 1];
+                instants[target] = instants[target - 1];
+                target--;
+            }
+            times[target] = time;
+            severities[target] = severity;
+            instants[target] = instant;
+        }
+
+        private static long toEpochMicros(final OffsetDateTime time) {
+            return time.toEpochSecond() * MICROS_PER_SECOND + time.getNano() / NANOS_PER_MICRO;
+        }
+
+        private boolean hasNext() {
+            return position < times.length;
+        }
+
+        private boolean isStart() {
+            return start;
+        }
+
+        private long time() {
+            return times[position];
+        }
+
+        private int severity() {
+            return severities[position];
+        }
+
+        private OffsetDateTime instant() {
+            return instants[position];
+        }
+    }
+
+    /**
+     * Binary min-heap of boundary streams keyed by the time of their next boundary (the k-way merge).
+     */
+    private static final class BoundaryHeap {
+
+        private final BoundaryStream[] heap;
+
+        private int size;
+
+        private BoundaryHeap(final List<BoundaryStream> streams) {
+            this.heap = new BoundaryStream[streams.size()];
+            for (final BoundaryStream stream : streams) {
+                if (stream.hasNext()) {
+                    heap[size++] = stream;
+                }
+            }
+            for (int index = size / 2 - 1; index >= 0; index--) {
+                siftDown(index);
+            }
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private BoundaryStream peek() {
+            return heap[0];
+        }
+
+        /**
+         * Moves the head stream to its next boundary, dropping it once exhausted.
+         */
+        private void advance() {
+            final BoundaryStream head = heap[0];
+            head.position++;
+            if (!head.hasNext()) {
+                heap[0] = heap[--size];
+                heap[size] = null;
+            }
+            if (size > 0) {
+                siftDown(0);
+            }
+        }
+
+        private void siftDown(final int from) {
+            final BoundaryStream stream = heap[from];
+            final long time = stream.time();
+            int index = from;
+            while (true) {
+                final int left = 2 * index + 1;
+                if (left >= size) {
+                    break;
+                }
+                final int right = left + 1;
+                final int child = right < size && heap[right].time() < heap[left].time() ? right : left;
+                if (heap[child].time() >= time) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = stream;
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package io.github.eventify.api.organization.cache;
+
+import io.github.eventify.api.organization.model.OrganizationalRole;
+import io.github.eventify.common.cache.ExpiringCache;
+import io.github.eventify.common.config.properties.OrganizationRoleCacheProperties;
+import io.github.eventify.common.config.properties.SecurityProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-wide cache of the organization roles of users.
+ *
+ * <p>Every organization endpoint is guarded by a membership check. Instead of looking up one membership per check,
+ * all roles of a user are loaded at once and kept per user, so the checks of later requests are answered from memory.
+ * Every membership change evicts the users it affects, and the short TTL bounds how long another instance may serve
+ * roles that were changed elsewhere.
+ */
+@Component
+public class OrganizationRoleCache {
+
+    public static final String LOOKUP_METRIC = "eventify.organization.role-cache.lookups";
+
+    public static final String HIT_RATIO_METRIC = "eventify.organization.role-cache.hit.ratio";
+
+    public static final String SIZE_METRIC = "eventify.organization.role-cache.size";
+
+    private final OrganizationRoleCacheProperties properties;
+
+    private final ExpiringCache<Long, Map<Long, OrganizationalRole>> roles;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    /**
+     * Creates the cache and registers its metrics.
+     *
+     * @param securityProperties the security configuration
+     * @param meterRegistry      the registry to expose cache metrics on
+     */
+    public OrganizationRoleCache(final SecurityProperties securityProperties, final MeterRegistry meterRegistry) {
+        this.properties = securityProperties.getOrganizationRoleCache();
+        this.roles = new ExpiringCache<>(properties.getMaxSize(), properties.getTtl());
+
+        this.hitCounter = Counter.builder(LOOKUP_METRIC)
+            .tag("result", "hit")
+            .description("Organization role lookups served from the role cache")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(LOOKUP_METRIC)
+            .tag("result", "miss")
+            .description("Organization role lookups that required a database query")
+            .register(meterRegistry);
+        Gauge.builder(HIT_RATIO_METRIC, this, OrganizationRoleCache::getHitRatio)
+            .description("Fraction of organization role lookups served from the cache")
+            .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, roles, ExpiringCache::size)
+            .description("Number of users whose organization roles are in the cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached roles of a user, or loads and caches them.
+     *
+     * @param userId the user ID
+     * @param loader the database lookup of all roles of the user by organization ID, only invoked on a cache miss
+     * @return the role of the user by organization ID; organizations the user is no member of are absent
+     */
+    public Map<Long, OrganizationalRole> getOrLoad(final Long userId, final Function<Long, Map<Long, OrganizationalRole>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(userId);
+        }
+        return lookup(userId).orElseGet(() -> loadAndStore(userId, loader));
+    }
+
+    /**
+     * Evicts the cached roles of a user, e.g. after the user joined or left an organization or got another role.
+     *
+     * @param userId the user ID
+     */
+    public void evictUser(final Long userId) {
+        roles.evict(userId);
+    }
+
+    /**
+     * Fraction of lookups served from the cache since startup.
+     *
+     * @return the hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+        final double lookups = hitCounter.count() + missCounter.count();
+        return lookups == 0 ? 0 : hitCounter.count() / lookups;
+    }
+
+    private Optional<Map<Long, OrganizationalRole>> lookup(final Long userId) {
+        final Optional<Map<Long, OrganizationalRole>> cached = roles.get(userId);
+        (cached.isPresent() ? hitCounter : missCounter).increment();
+        return cached;
+    }
+
+    private Map<Long, OrganizationalRole> loadAndStore(final Long userId,
+        final Function<Long, Map<Long, OrganizationalRole>> loader) {
+        final Map<Long, OrganizationalRole> loaded = loader.apply(userId);
+        roles.put(userId, loaded);
+        return loaded;
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.eventify.api.organization.model;
+
+/**
+ * Interface-based projection for the role a user has in one organization.
+ */
+public interface MembershipRole {
+
+    /** Returns the ID of the organization. */
+    Long getOrganizationId();
+
+    /** Returns the role of the user in the organization. */
+    OrganizationalRole getRole();
+}
@@ -1,5 +1,6 @@
 package io.github.eventify.api.organization.repository;
 
+import io.github.eventify.api.organization.model.MembershipRole;
 import io.github.eventify.api.organization.model.OrganizationMembership;
 import io.github.eventify.api.organization.model.OrganizationalRole;
 
@@ -79,6 +80,15 @@ public interface OrganizationMembershipRepository extends JpaRepository<Organiza
      */
     List<OrganizationMembership> findAllByUserId(Long userId);
 
+    /**
+     * Find the role of a user in each organization it is a member of, without loading the memberships.
+     *
+     * @param userId the user ID
+     * @return list of organization IDs with the role of the user
+     */
+    @Query("SELECT m.organization.id AS organizationId, m.role AS role FROM OrganizationMembership m WHERE m.user.id = :userId")
+    List<MembershipRole> findRolesByUserId(@Param("userId") Long userId);
+
     /**
      * Find a membership by organization and role.
      *
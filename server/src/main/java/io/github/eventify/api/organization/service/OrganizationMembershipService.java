@@ -1,5 +1,6 @@
 package io.github.eventify.api.organization.service;
 
+import io.github.eventify.api.organization.cache.OrganizationRoleCache;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.organization.model.OrganizationMembership;
 import io.github.eventify.api.organization.model.OrganizationMembershipMetaData;
@@ -36,6 +37,7 @@ import static io.github.eventify.api.authentication.model.Permission.MANAGE_ORGA
 import static io.github.eventify.api.user.model.UserMetaData.ORGANIZATION_TERM;
 import static io.github.eventify.common.exception.ApiErrorCode.*;
 import static io.github.eventify.common.security.SecurityUtil.getLoggedInUser;
+import static io.github.eventify.common.util.TransactionCallbacks.afterCommit;
 import static java.util.Objects.nonNull;
 
 /**
@@ -59,6 +61,8 @@ public class OrganizationMembershipService {
     private final OrganizationMembershipRepository membershipRepository;
     private final OrganizationMembershipMetaData membershipMetaData;
 
+    private final OrganizationRoleCache organizationRoleCache;
+
     /**
      * Add a member to an organization.
      *
@@ -83,6 +87,7 @@ public class OrganizationMembershipService {
         final OrganizationMembership membership = new OrganizationMembership(organization, user, request.getRole());
         membership.setInvitedBy(getLoggedInUser());
 
+        afterCommit(() -> organizationRoleCache.evictUser(user.getId()));
         return membershipRepository.save(membership);
     }
 
@@ -111,6 +116,7 @@ public class OrganizationMembershipService {
             throw new DisabledUserException();
         }
 
+        afterCommit(() -> organizationRoleCache.evictUser(user.getId()));
         final OrganizationMembership existingMembership = membershipRepository
             .findByOrganizationIdAndUserId(orgId, user.getId())
             .orElse(null);
@@ -146,6 +152,7 @@ public class OrganizationMembershipService {
 
         membership.setRole(role);
         final OrganizationMembership saved = membershipRepository.save(membership);
+        afterCommit(() -> organizationRoleCache.evictUser(userId));
         return membershipRepository.findAllByOrganizationIdWithUser(orgId).stream()
             .filter(m -> m.getUser().getId().equals(userId))
             .findFirst()
@@ -166,6 +173,7 @@ public class OrganizationMembershipService {
 
         canUpdateMemberRole(orgId, membership, callerUser);
         membershipRepository.delete(membership);
+        afterCommit(() -> organizationRoleCache.evictUser(userId));
     }
 
     /**
@@ -201,6 +209,10 @@ public class OrganizationMembershipService {
         currentOwnerMembership.setRole(OrganizationalRole.ADMIN);
         newOwnerMembership.setRole(OrganizationalRole.OWNER);
         membershipRepository.saveAll(List.of(currentOwnerMembership, newOwnerMembership));
+        afterCommit(() -> {
+            organizationRoleCache.evictUser(currentOwnerId);
+            organizationRoleCache.evictUser(newOwnerId);
+        });
     }
 
     /**
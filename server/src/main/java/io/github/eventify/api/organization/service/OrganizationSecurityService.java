@@ -1,12 +1,17 @@
 package io.github.eventify.api.organization.service;
 
-import io.github.eventify.api.organization.model.OrganizationMembership;
+import io.github.eventify.api.organization.cache.OrganizationRoleCache;
+import io.github.eventify.api.organization.model.MembershipRole;
 import io.github.eventify.api.organization.model.OrganizationalRole;
 import io.github.eventify.api.organization.repository.OrganizationMembershipRepository;
 import io.github.eventify.api.organization.repository.OrganizationRepository;
 import io.github.jframe.exception.core.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import org.springframework.stereotype.Service;
 
 import static io.github.eventify.common.exception.ApiErrorCode.ORGANIZATION_NOT_FOUND_ERROR;
@@ -14,6 +19,9 @@ import static io.github.eventify.common.exception.ApiErrorCode.ORGANIZATION_NOT_
 /**
  * Security service for organization access control.
  * Bean name "orgSecurity" for use in SpEL expressions.
+ *
+ * <p>The roles of a user are resolved from the {@link OrganizationRoleCache}. Only when the user has no role in the
+ * organization, its existence is checked to tell a missing organization (404) from a denied one.
  */
 @Service("orgSecurity")
 @RequiredArgsConstructor
@@ -23,6 +31,8 @@ public class OrganizationSecurityService {
 
     private final OrganizationRepository organizationRepository;
 
+    private final OrganizationRoleCache organizationRoleCache;
+
     /**
      * Check if user is a member of the organization.
      *
@@ -32,10 +42,7 @@ public class OrganizationSecurityService {
      * @throws DataNotFoundException if organization does not exist
      */
     public boolean isMember(final Long orgId, final Long userId) {
-        if (!organizationRepository.existsById(orgId)) {
-            throw new DataNotFoundException(ORGANIZATION_NOT_FOUND_ERROR);
-        }
-        return membershipRepository.existsByOrganizationIdAndUserId(orgId, userId);
+        return resolveRole(orgId, userId).isPresent();
     }
 
     /**
@@ -47,11 +54,7 @@ public class OrganizationSecurityService {
      * @throws DataNotFoundException if organization does not exist
      */
     public boolean isOwner(final Long orgId, final Long userId) {
-        if (!organizationRepository.existsById(orgId)) {
-            throw new DataNotFoundException(ORGANIZATION_NOT_FOUND_ERROR);
-        }
-        return membershipRepository.findByOrganizationIdAndUserId(orgId, userId)
-            .map(OrganizationMembership::getRole)
+        return resolveRole(orgId, userId)
             .map(role -> role == OrganizationalRole.OWNER)
             .orElse(false);
     }
@@ -65,11 +68,7 @@ public class OrganizationSecurityService {
      * @throws DataNotFoundException if organization does not exist
      */
     public boolean isAdmin(final Long orgId, final Long userId) {
-        if (!organizationRepository.existsById(orgId)) {
-            throw new DataNotFoundException(ORGANIZATION_NOT_FOUND_ERROR);
-        }
-        return membershipRepository.findByOrganizationIdAndUserId(orgId, userId)
-            .map(OrganizationMembership::getRole)
+        return resolveRole(orgId, userId)
             .map(role -> role == OrganizationalRole.ADMIN)
             .orElse(false);
     }
@@ -83,6 +82,22 @@ public class OrganizationSecurityService {
      * @throws DataNotFoundException if organization does not exist
      */
     public boolean isOwnerOrAdmin(final Long orgId, final Long userId) {
-        return isOwner(orgId, userId) || isAdmin(orgId, userId);
+        return resolveRole(orgId, userId)
+            .map(role -> role == OrganizationalRole.OWNER || role == OrganizationalRole.ADMIN)
+            .orElse(false);
+    }
+
+    private Optional<OrganizationalRole> resolveRole(final Long orgId, final Long userId) {
+        final OrganizationalRole role = organizationRoleCache.getOrLoad(userId, this::loadRoles).get(orgId);
+        // A membership implies the organization exists; without one, a missing organization must still be a 404
+        if (role == null && !organizationRepository.existsById(orgId)) {
+            throw new DataNotFoundException(ORGANIZATION_NOT_FOUND_ERROR);
+        }
+        return Optional.ofNullable(role);
+    }
+
+    private Map<Long, OrganizationalRole> loadRoles(final Long userId) {
+        return membershipRepository.findRolesByUserId(userId).stream()
+            .collect(Collectors.toUnmodifiableMap(MembershipRole::getOrganizationId, MembershipRole::getRole));
     }
 }
@@ -1,5 +1,6 @@
 package io.github.eventify.api.organization.service;
 
+import io.github.eventify.api.organization.cache.OrganizationRoleCache;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.organization.model.OrganizationMembership;
 import io.github.eventify.api.organization.model.OrganizationMetaData;
@@ -28,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static io.github.eventify.api.organization.model.OrganizationalRole.OWNER;
 import static io.github.eventify.common.exception.ApiErrorCode.ORGANIZATION_NOT_FOUND_ERROR;
+import static io.github.eventify.common.util.TransactionCallbacks.afterCommit;
 import static io.github.jframe.util.constants.Constants.Characters.HYPHEN;
 import static java.util.stream.Stream.*;
 
@@ -47,6 +49,8 @@ public class OrganizationService {
 
     private final OrganizationMembershipRepository organizationMembershipRepository;
 
+    private final OrganizationRoleCache organizationRoleCache;
+
     /**
      * Search and filter organizations with pagination using SortablePageInput.
      *
@@ -109,6 +113,7 @@ public class OrganizationService {
         );
 
         organizationMembershipRepository.save(new OrganizationMembership(organization, owner, OWNER));
+        afterCommit(() -> organizationRoleCache.evictUser(owner.getId()));
         organization.setOwner(owner);
         return organization;
     }
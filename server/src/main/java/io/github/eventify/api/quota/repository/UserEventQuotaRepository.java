@@ -5,10 +5,8 @@ import io.github.eventify.api.quota.model.UserEventQuota;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
-import jakarta.persistence.LockModeType;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,23 +29,90 @@ public interface UserEventQuotaRepository extends JpaRepository<UserEventQuota,
     Optional<UserEventQuota> findByUserId(Long userId);
 
     /**
-     * Find quota record by user ID with pessimistic write lock. Prevents race conditions during quota checks.
+     * Atomically add events to a user's quota, but only while the result stays within the limit.
+     * Runs as a single statement, so the row is only locked for the duration of the update.
      *
-     * @param userId the user ID
-     * @return optional quota record
+     * <p>A record of an earlier period is rolled over to the given period first, so counts never carry over into a
+     * new month, whether or not the monthly reset already ran.
+     *
+     * @param userId      the user ID
+     * @param eventCount  the number of events to add
+     * @param limit       the maximum event count for the period
+     * @param periodStart the start of the current period
+     * @return the new event count, or empty when the quota record is missing or the limit would be exceeded
+     */
+    @Transactional
+    @Query(
+        value = """
+            UPDATE user_event_quota
+            SET event_count = CASE
+                    WHEN period_start < CAST(:periodStart AS timestamptz) THEN :eventCount
+                    ELSE event_count + :eventCount
+                END,
+                period_start = GREATEST(period_start, CAST(:periodStart AS timestamptz)),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE user_id = :userId
+              AND CASE WHEN period_start < CAST(:periodStart AS timestamptz) THEN 0 ELSE event_count END + :eventCount <= :limit
+            RETURNING CAST(event_count AS INTEGER)
+            """,
+        nativeQuery = true
+    )
+    Optional<Integer> incrementWithinLimit(
+        @Param("userId") Long userId,
+        @Param("eventCount") int eventCount,
+        @Param("limit") int limit,
+        @Param("periodStart") OffsetDateTime periodStart
+    );
+
+    /**
+     * Give back events that were reserved within the given period but never accepted.
+     * A record that was already rolled over to a later period is left untouched.
+     *
+     * @param userId      the user ID
+     * @param eventCount  the number of events to give back
+     * @param periodStart the start of the period the events were reserved in
      */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT q FROM UserEventQuota q WHERE q.user.id = :userId")
-    Optional<UserEventQuota> findByUserIdWithLock(@Param("userId") Long userId);
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            UPDATE user_event_quota
+            SET event_count = GREATEST(event_count - :eventCount, 0),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE user_id = :userId
+              AND period_start = CAST(:periodStart AS timestamptz)
+            """,
+        nativeQuery = true
+    )
+    void release(@Param("userId") Long userId, @Param("eventCount") int eventCount, @Param("periodStart") OffsetDateTime periodStart);
+
+    /**
+     * Create an empty quota record for a user unless one already exists.
+     *
+     * @param userId      the user ID
+     * @param periodStart the start of the current period
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            INSERT INTO user_event_quota (user_id, event_count, period_start)
+            VALUES (:userId, 0, :periodStart)
+            ON CONFLICT (user_id) DO NOTHING
+            """,
+        nativeQuery = true
+    )
+    void createIfAbsent(@Param("userId") Long userId, @Param("periodStart") OffsetDateTime periodStart);
 
     /**
-     * Reset all user quotas to 0 for new period.
+     * Reset all user quotas of earlier periods to 0 for the new period.
+     * Records that were already rolled over by {@link #incrementWithinLimit} keep their count.
      *
      * @param periodStart the new period start date
      * @return number of quotas reset
      */
     @Modifying
-    @Query("UPDATE UserEventQuota q SET q.eventCount = 0, q.periodStart = :periodStart")
+    @Query("UPDATE UserEventQuota q SET q.eventCount = 0, q.periodStart = :periodStart WHERE q.periodStart < :periodStart")
     int resetAllQuotas(@Param("periodStart") OffsetDateTime periodStart);
 
     /**
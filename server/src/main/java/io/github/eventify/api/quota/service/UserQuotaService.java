@@ -3,7 +3,6 @@ package io.github.eventify.api.quota.service;
 import io.github.eventify.api.quota.model.UserEventQuota;
 import io.github.eventify.api.quota.model.response.UserQuotaResponse;
 import io.github.eventify.api.quota.repository.UserEventQuotaRepository;
-import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.service.UserService;
 import io.github.eventify.common.exception.QuotaExceededException;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +10,10 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +22,10 @@ import static java.time.ZoneOffset.UTC;
 
 /**
  * Service for managing user event quota.
+ *
+ * <p>Quota checks never lock the quota row: events are reserved with a single conditional UPDATE that only succeeds
+ * while the new count stays within the limit. The highest count seen per user and period is kept in memory, so users
+ * that already exhausted their quota are rejected without a database round trip.
  */
 @Slf4j
 @Service
@@ -27,6 +34,8 @@ public class UserQuotaService {
 
     public static final int MONTHLY_EVENT_LIMIT = 1000;
 
+    private final Map<Long, PeriodUsage> knownUsage = new ConcurrentHashMap<>();
+
     private final UserEventQuotaRepository quotaRepository;
 
     private final UserService userService;
@@ -38,17 +47,32 @@ public class UserQuotaService {
      * @param eventCount the number of events to increment
      * @throws QuotaExceededException if quota would be exceeded
      */
-    @Transactional
     public void checkAndIncrementOrThrow(final Long userId, final int eventCount) {
-        final UserEventQuota quota = getOrCreateQuotaWithLock(userId);
-        final int newCount = quota.getEventCount() + eventCount;
-
-        if (newCount > MONTHLY_EVENT_LIMIT) {
-            throw new QuotaExceededException(MONTHLY_EVENT_LIMIT, quota.getEventCount(), getNextResetDate());
+        final OffsetDateTime periodStart = getCurrentPeriodStart();
+        final PeriodUsage usage = usageFor(userId, periodStart);
+        if (usage.get() + eventCount > MONTHLY_EVENT_LIMIT) {
+            throw new QuotaExceededException(MONTHLY_EVENT_LIMIT, usage.get(), getNextResetDate());
         }
 
-        quota.setEventCount(newCount);
-        quotaRepository.save(quota);
+        final int used = quotaRepository.incrementWithinLimit(userId, eventCount, MONTHLY_EVENT_LIMIT, periodStart)
+            .or(() -> createAndIncrement(userId, eventCount, periodStart))
+            .orElseThrow(() -> quotaExceeded(userId, usage, periodStart));
+        usage.observe(used);
+    }
+
+    /**
+     * Give back events that were charged but then rejected, e.g. because the ingestion buffer was full.
+     *
+     * @param userId     the user ID
+     * @param eventCount the number of events to give back
+     */
+    public void release(final Long userId, final int eventCount) {
+        final OffsetDateTime periodStart = getCurrentPeriodStart();
+        quotaRepository.release(userId, eventCount, periodStart);
+        final PeriodUsage usage = knownUsage.get(userId);
+        if (usage != null && usage.isFor(periodStart)) {
+            usage.release(eventCount);
+        }
     }
 
     /**
@@ -59,7 +83,7 @@ public class UserQuotaService {
      */
     @Transactional
     public UserQuotaResponse getQuotaStatus(final Long userId) {
-        final UserEventQuota quota = getOrCreateQuotaWithLock(userId);
+        final UserEventQuota quota = getOrCreateQuota(userId);
         final Integer used = quota.getEventCount();
         final Integer remaining = Math.max(0, MONTHLY_EVENT_LIMIT - used);
         final Double percentUsed = Math.min(100.0, ((double) used / MONTHLY_EVENT_LIMIT) * 100.0);
@@ -77,15 +101,14 @@ public class UserQuotaService {
     }
 
     /**
-     * Get or create quota record for user with pessimistic lock (for write operations).
+     * Get or create quota record for user.
      *
      * @param userId the user ID
      * @return the quota record
      */
-    public UserEventQuota getOrCreateQuotaWithLock(final Long userId) {
-        final User user = userService.findById(userId);
-        return quotaRepository.findByUserIdWithLock(userId)
-            .orElseGet(() -> quotaRepository.save(new UserEventQuota(user)));
+    public UserEventQuota getOrCreateQuota(final Long userId) {
+        return quotaRepository.findByUserId(userId)
+            .orElseGet(() -> quotaRepository.save(new UserEventQuota(userService.findById(userId))));
     }
 
     /**
@@ -99,4 +122,78 @@ public class UserQuotaService {
             .withDayOfMonth(1)
             .with(LocalTime.MIN);
     }
+
+    /**
+     * Get the start of the current period (1st of this month at midnight UTC).
+     *
+     * @return the current period start
+     */
+    OffsetDateTime getCurrentPeriodStart() {
+        return OffsetDateTime.now(UTC)
+            .withDayOfMonth(1)
+            .with(LocalTime.MIN);
+    }
+
+    private PeriodUsage usageFor(final Long userId, final OffsetDateTime periodStart) {
+        final PeriodUsage usage = knownUsage.get(userId);
+        if (usage != null && usage.isFor(periodStart)) {
+            return usage;
+        }
+        final PeriodUsage fresh = new PeriodUsage(periodStart);
+        knownUsage.put(userId, fresh);
+        return fresh;
+    }
+
+    private Optional<Integer> createAndIncrement(final Long userId, final int eventCount, final OffsetDateTime periodStart) {
+        quotaRepository.createIfAbsent(userId, periodStart);
+        return quotaRepository.incrementWithinLimit(userId, eventCount, MONTHLY_EVENT_LIMIT, periodStart);
+    }
+
+    private QuotaExceededException quotaExceeded(final Long userId, final PeriodUsage usage, final OffsetDateTime periodStart) {
+        final int used = quotaRepository.findByUserId(userId)
+            .map(quota -> countInPeriod(quota, periodStart))
+            .orElse(MONTHLY_EVENT_LIMIT);
+        usage.observe(used);
+        return new QuotaExceededException(MONTHLY_EVENT_LIMIT, used, getNextResetDate());
+    }
+
+    /**
+     * The count of a quota record within the given period. A record of an earlier period holds the count of that
+     * period, which must not be held against the user in the current one.
+     */
+    private static int countInPeriod(final UserEventQuota quota, final OffsetDateTime periodStart) {
+        return quota.getPeriodStart().isBefore(periodStart) ? 0 : quota.getEventCount();
+    }
+
+    /**
+     * Highest event count seen for a user within one period.
+     * Counts only grow within a period unless events are released, which lowers the known count by the same amount,
+     * so this is a safe lower bound to reject on without asking the database.
+     */
+    private static final class PeriodUsage {
+
+        private final OffsetDateTime periodStart;
+
+        private final AtomicInteger used = new AtomicInteger();
+
+        private PeriodUsage(final OffsetDateTime periodStart) {
+            this.periodStart = periodStart;
+        }
+
+        private boolean isFor(final OffsetDateTime period) {
+            return periodStart.equals(period);
+        }
+
+        private int get() {
+            return used.get();
+        }
+
+        private void observe(final int count) {
+            used.accumulateAndGet(count, Math::max);
+        }
+
+        private void release(final int count) {
+            used.accumulateAndGet(count, (current, released) -> Math.max(current - released, 0));
+        }
+    }
 }
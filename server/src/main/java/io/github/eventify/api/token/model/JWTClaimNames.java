@@ -59,6 +59,12 @@ public final class JWTClaimNames {
      */
     public static final String CREATED = "created";
 
+    /**
+     * A custom claim that contains the id of the refresh token of the session the token was issued for. The name is the one
+     * OpenID Connect uses for its session id.
+     */
+    public static final String SESSION_ID = "sid";
+
     /* ------------------------------- RFC REGISTERED CLAIMS ------------------------------- */
 
     /**
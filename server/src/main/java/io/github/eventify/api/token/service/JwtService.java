@@ -44,8 +44,11 @@ public class JwtService {
 
     /**
      * Generate a JWT access token for the user with the given claims.
+     *
+     * @param user      the user to generate the token for
+     * @param sessionId the id of the refresh token of the session the access token belongs to, or {@code null}
      */
-    public <T extends UserDetails> Token generateAccessToken(final T user) {
+    public <T extends UserDetails> Token generateAccessToken(final T user, final Long sessionId) {
         final OffsetDateTime now = OffsetDateTime.now(UTC);
         final User userDetails = (User) user;
         final String[] permissions = user.getAuthorities().stream()
@@ -69,6 +72,11 @@ public class JwtService {
             .claim(PERMISSIONS, permissions)
             .claim(ENABLED, userDetails.isEnabled())
             .claim(VALIDATED, userDetails.isValidated())
+            .claims(claims -> {
+                if (sessionId != null) {
+                    claims.put(SESSION_ID, sessionId);
+                }
+            })
             .build();
 
         return Token.builder()
@@ -124,20 +132,31 @@ public class JwtService {
      * Extract the user from the JWT token.
      */
     public String extractSubject(final String token) {
-        return toJwt(token).getSubject();
+        return decode(token).getSubject();
     }
 
     /**
      * Extract the expiration date from the JWT token.
      */
     public Instant extractExpiration(final String token) {
-        return toJwt(token).getExpiresAt();
+        return decode(token).getExpiresAt();
     }
 
     /**
-     * transforms the jwt token string to a Jwt object.
+     * Extract the session id from a decoded JWT token, or {@code null} for tokens issued without one.
      */
-    private Jwt toJwt(final String token) {
+    public Long extractSessionId(final Jwt jwt) {
+        final Object sessionId = jwt.getClaim(SESSION_ID);
+        return sessionId instanceof final Number number ? number.longValue() : null;
+    }
+
+    /**
+     * Verifies the signature of the jwt token string and transforms it to a Jwt object, so its claims can be read
+     * without decoding the token again.
+     *
+     * @throws InvalidJwtException when the token cannot be decoded or verified
+     */
+    public Jwt decode(final String token) {
         try {
             return decoder.decode(token);
         } catch (final Exception exception) {
@@ -152,16 +171,28 @@ public class JwtService {
      * Check if the token is valid for the given user and not expired.
      */
     public <T extends UserDetails> boolean isTokenValid(final String token, final T principal) {
-        final String email = extractSubject(token);
-        return principal.getUsername().equalsIgnoreCase(email)
-            && !isTokenExpired(token);
+        return isTokenValid(decode(token), principal);
+    }
+
+    /**
+     * Check if the decoded token is valid for the given user and not expired.
+     */
+    public <T extends UserDetails> boolean isTokenValid(final Jwt jwt, final T principal) {
+        return principal.getUsername().equalsIgnoreCase(jwt.getSubject())
+            && !isTokenExpired(jwt);
     }
 
     /**
      * Check if the token is expired.
      */
     public boolean isTokenExpired(final String jwt) {
-        final Instant expirationDate = extractExpiration(jwt);
-        return expirationDate.isBefore(Instant.now());
+        return isTokenExpired(decode(jwt));
+    }
+
+    /**
+     * Check if the decoded token is expired.
+     */
+    public boolean isTokenExpired(final Jwt jwt) {
+        return jwt.getExpiresAt().isBefore(Instant.now());
     }
 }
@@ -57,7 +57,6 @@ public class TokenService {
             existingSessions.size()
         );
 
-        final Token accessToken = jwtService.generateAccessToken(user);
         final Token newRefreshToken = jwtService.generateRefreshToken(user, rememberMe);
 
         final String rawRefreshValue = newRefreshToken.getRawValue();
@@ -67,6 +66,8 @@ public class TokenService {
             upsertRefreshToken(newRefreshToken, rawRefreshValue, refreshHash, familyId, user, request)
         );
         savedRefreshToken.setRawValue(rawRefreshValue);
+        // The access token names its session, so requests need no refresh-token lookup to know which one it is
+        final Token accessToken = jwtService.generateAccessToken(user, savedRefreshToken.getId());
         log.info("Generated Access & Refresh tokens for user '{}'", user.getEmail());
 
         user.setRefreshToken(savedRefreshToken);
@@ -108,7 +109,6 @@ public class TokenService {
         final User user = existingToken.getUser();
         log.info("Refreshing tokens for user '{}'", user.getUsername());
 
-        final Token accessToken = jwtService.generateAccessToken(user);
         // Intentional MVP downgrade: rotated refresh tokens never inherit remember-me lifetime.
         final Token newRefreshToken = jwtService.generateRefreshToken(user, false);
         newRefreshToken.inheritDeviceMetadataFrom(existingToken);
@@ -123,6 +123,7 @@ public class TokenService {
         tokenRepository.delete(existingToken);
         final Token savedRefreshToken = tokenRepository.save(newRefreshToken);
         savedRefreshToken.setRawValue(newRawValue);
+        final Token accessToken = jwtService.generateAccessToken(user, savedRefreshToken.getId());
 
         user.setRefreshToken(savedRefreshToken);
         user.setAccessToken(accessToken);
@@ -166,13 +167,6 @@ public class TokenService {
         tokenRepository.invalidateTokensWithTypeForUser(List.of(types), user);
     }
 
-    /**
-     * Check if the token is a valid access token for the given user.
-     */
-    public boolean isValidAccessToken(final String jwt, final User user) {
-        return jwtService.isTokenValid(jwt, user);
-    }
-
     /**
      * Returns token details for the given raw token value if it exists (access or refresh tokens only).
      */
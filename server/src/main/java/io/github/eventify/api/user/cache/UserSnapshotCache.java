@@ -0,0 +1,134 @@
+package io.github.eventify.api.user.cache;
+
+import io.github.eventify.api.user.model.User;
+import io.github.eventify.common.cache.ExpiringCache;
+import io.github.eventify.common.config.properties.SecurityProperties;
+import io.github.eventify.common.config.properties.UserCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-wide cache of the users that authenticate with an access token.
+ *
+ * <p>The access token proves who is calling; the user behind it decides whether the account is enabled and which
+ * authorities it has. Entries are keyed by username and hold a snapshot of the user as it was loaded, so a request
+ * that hits the cache needs no database query to authenticate. Every change to a user evicts its entry, and the short
+ * TTL bounds how long another instance may serve a user that was changed elsewhere.
+ *
+ * <p>Every lookup returns its own copy of the snapshot, so a request that changes its user cannot change the user
+ * that concurrent requests see. Copies only hold the columns of the user, not its associations, and are never saved;
+ * writes load the user from the database.
+ */
+@Component
+public class UserSnapshotCache {
+
+    public static final String LOOKUP_METRIC = "eventify.user.cache.lookups";
+
+    public static final String HIT_RATIO_METRIC = "eventify.user.cache.hit.ratio";
+
+    public static final String SIZE_METRIC = "eventify.user.cache.size";
+
+    private final UserCacheProperties properties;
+
+    private final ExpiringCache<String, User> users;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    /**
+     * Creates the cache and registers its metrics.
+     *
+     * @param securityProperties the security configuration
+     * @param meterRegistry      the registry to expose cache metrics on
+     */
+    public UserSnapshotCache(final SecurityProperties securityProperties, final MeterRegistry meterRegistry) {
+        this.properties = securityProperties.getUserCache();
+        this.users = new ExpiringCache<>(properties.getMaxSize(), properties.getTtl());
+
+        this.hitCounter = Counter.builder(LOOKUP_METRIC)
+            .tag("result", "hit")
+            .description("Authenticated user lookups served from the user cache")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(LOOKUP_METRIC)
+            .tag("result", "miss")
+            .description("Authenticated user lookups that required a database query")
+            .register(meterRegistry);
+        Gauge.builder(HIT_RATIO_METRIC, this, UserSnapshotCache::getHitRatio)
+            .description("Fraction of authenticated user lookups served from the cache")
+            .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, users, ExpiringCache::size)
+            .description("Number of authenticated users in the cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached user for a username, or loads the user and caches the result.
+     *
+     * @param username the username (email) from the access token
+     * @param loader   the database lookup, only invoked on a cache miss; its exceptions are propagated
+     * @return a copy of the user
+     */
+    public User getOrLoad(final String username, final Function<String, User> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(username);
+        }
+        final String key = username.toLowerCase(Locale.ROOT);
+        return snapshotOf(lookup(key).orElseGet(() -> loadAndStore(key, username, loader)));
+    }
+
+    /**
+     * Evicts the cached user, e.g. after its details, role, password or enabled flag changed.
+     *
+     * @param userId the user ID
+     */
+    public void evictUser(final Long userId) {
+        users.evictIf(user -> Objects.equals(user.getId(), userId));
+    }
+
+    /**
+     * Fraction of lookups served from the cache since startup.
+     *
+     * @return the hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+        final double lookups = hitCounter.count() + missCounter.count();
+        return lookups == 0 ? 0 : hitCounter.count() / lookups;
+    }
+
+    private Optional<User> lookup(final String key) {
+        final Optional<User> cached = users.get(key);
+        (cached.isPresent() ? hitCounter : missCounter).increment();
+        return cached;
+    }
+
+    private User loadAndStore(final String key, final String username, final Function<String, User> loader) {
+        final User user = snapshotOf(loader.apply(username));
+        users.put(key, user);
+        return user;
+    }
+
+    private static User snapshotOf(final User user) {
+        final User snapshot = new User();
+        snapshot.setId(user.getId());
+        snapshot.setEmail(user.getEmail());
+        snapshot.setFirstName(user.getFirstName());
+        snapshot.setLastName(user.getLastName());
+        snapshot.setPassword(user.getPassword());
+        snapshot.setEnabled(user.isEnabled());
+        snapshot.setValidated(user.isValidated());
+        snapshot.setLastLogin(user.getLastLogin());
+        snapshot.setCreatedAt(user.getCreatedAt());
+        snapshot.setRole(user.getRole());
+        snapshot.setRetentionDays(user.getRetentionDays());
+        return snapshot;
+    }
+}
@@ -54,7 +54,7 @@ public class UserController {
     )
     public ResponseEntity<UserDetailsResponse> updateUserDetails(@RequestBody final UpdateUserDetailsRequest request,
         @AuthenticationPrincipal final UserTokenPrincipal principal) {
-        final User user = userService.updateUserDetails(principal.getUser(), request);
+        final User user = userService.updateUserDetails(principal.getUser().getId(), request);
         return ResponseEntity.status(OK).body(userDetailsMapper.toResourceObject(user));
     }
 }
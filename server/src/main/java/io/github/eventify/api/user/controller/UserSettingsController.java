@@ -62,7 +62,7 @@ public class UserSettingsController {
         @AuthenticationPrincipal final UserTokenPrincipal principal
     ) {
         retentionValidator.validate(request, new ValidationResult());
-        final User user = userService.updateRetentionDays(principal.getUser(), request.getRetentionDays());
+        final User user = userService.updateRetentionDays(principal.getUser().getId(), request.getRetentionDays());
         final RetentionSettingsResponse response = new RetentionSettingsResponse();
         response.setRetentionDays(user.getRetentionDays());
         return ResponseEntity.status(OK).body(response);
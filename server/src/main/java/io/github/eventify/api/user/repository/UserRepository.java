@@ -1,6 +1,5 @@
 package io.github.eventify.api.user.repository;
 
-import io.github.eventify.api.admin.model.projection.DailyGrowthData;
 import io.github.eventify.api.authentication.model.Role;
 import io.github.eventify.api.user.model.User;
 
@@ -95,40 +94,6 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     @Query("DELETE FROM User u WHERE u.validated = false AND u.createdAt <= :limit")
     int deleteUnvalidatedAccounts(@NonNull OffsetDateTime limit);
 
-    /**
-     * Count validated users.
-     *
-     * @return the count of validated users.
-     */
-    long countByValidatedTrue();
-
-    /**
-     * Find the count of new users created in the given date range.
-     *
-     * @param start the start date of the range.
-     * @param end   the end date of the range.
-     * @return the count of new users.
-     */
-    @Query(
-        value = """
-            SELECT
-                gs.date::date AS date,
-                (SELECT COUNT(*) FROM "user" WHERE created_at < gs.date + INTERVAL '1 day') AS total,
-                (SELECT COUNT(*) FROM "user" WHERE created_at >= gs.date AND created_at < gs.date + INTERVAL '1 day') AS new
-            FROM generate_series(
-                CAST(:start AS timestamp),
-                CAST(:end AS timestamp),
-                CAST('1 day' AS interval)
-            ) AS gs(date)
-            ORDER BY gs.date ASC
-            """,
-        nativeQuery = true
-    )
-    List<DailyGrowthData> findDailyGrowthCounts(
-        @Param("start") OffsetDateTime start,
-        @Param("end") OffsetDateTime end
-    );
-
     /**
      * Find user by id with organizations eagerly loaded.
      *
@@ -3,6 +3,7 @@ package io.github.eventify.api.user.service;
 import io.github.eventify.api.token.model.Token;
 import io.github.eventify.api.token.model.TokenType;
 import io.github.eventify.api.token.service.TokenService;
+import io.github.eventify.api.user.cache.UserSnapshotCache;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.model.request.UpdatePasswordRequest;
 import io.github.eventify.api.user.repository.UserRepository;
@@ -34,6 +35,8 @@ public class PasswordService {
 
     private final EmailService emailService;
 
+    private final UserSnapshotCache userSnapshotCache;
+
     /**
      * Initiates a password reset flow for the given email address. If a user with the
      * given email exists, a password reset email is sent. No error is thrown if the user
@@ -58,6 +61,7 @@ public class PasswordService {
         }
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        userSnapshotCache.evictUser(user.getId());
     }
 
     /**
@@ -73,6 +77,7 @@ public class PasswordService {
         tokenService.invalidateTokensForUser(user, TokenType.RESET_PASSWORD_TOKEN);
         user.setPassword(passwordEncoder.encode(password));
         userRepository.save(user);
+        userSnapshotCache.evictUser(user.getId());
     }
 
     /**
@@ -89,6 +94,7 @@ public class PasswordService {
 
         user.setPassword(passwordEncoder.encode(UUID.randomUUID().toString()));
         userRepository.save(user);
+        userSnapshotCache.evictUser(user.getId());
 
         tokenService.invalidateTokensForUser(user, TokenType.values());
         emailService.sendPasswordResetEmail(user);
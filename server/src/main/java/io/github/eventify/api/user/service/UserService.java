@@ -1,6 +1,8 @@
 package io.github.eventify.api.user.service;
 
+import io.github.eventify.api.apikey.cache.ApiKeyCredentialCache;
 import io.github.eventify.api.authentication.model.Role;
+import io.github.eventify.api.user.cache.UserSnapshotCache;
 import io.github.eventify.api.user.model.AuthProvider;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.model.UserAuthProvider;
@@ -62,6 +64,10 @@ public class UserService implements UserDetailsService {
 
     private final EmailService emailService;
 
+    private final ApiKeyCredentialCache apiKeyCredentialCache;
+
+    private final UserSnapshotCache userSnapshotCache;
+
     /**
      * Loads a user by their email address (username) for Spring Security authentication.
      *
@@ -128,7 +134,10 @@ public class UserService implements UserDetailsService {
             throw new SelfLockingException();
         }
         user.setEnabled(!lockUser);
-        return userRepository.save(user);
+        final User saved = userRepository.save(user);
+        apiKeyCredentialCache.evictUser(saved.getId());
+        userSnapshotCache.evictUser(saved.getId());
+        return saved;
     }
 
     /**
@@ -145,17 +154,19 @@ public class UserService implements UserDetailsService {
             throw new DemoteLastAdminException();
         }
         user.setRole(role);
-        return userRepository.save(user);
+        return save(user);
     }
 
     /**
      * Updates the first and last name of a user from the given request.
      *
-     * @param user    the user to update
+     * @param id      the ID of the user to update
      * @param request the request containing the new first and last name
      * @return the updated {@link User}
+     * @throws DataNotFoundException if no user with the given ID exists
      */
-    public User updateUserDetails(final User user, final UpdateUserDetailsRequest request) {
+    public User updateUserDetails(final Long id, final UpdateUserDetailsRequest request) {
+        final User user = findById(id);
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         return updateUserDetails(user);
@@ -168,7 +179,7 @@ public class UserService implements UserDetailsService {
      * @return the saved {@link User}
      */
     public User updateUserDetails(final User user) {
-        return userRepository.save(user);
+        return save(user);
     }
 
     /**
@@ -224,13 +235,21 @@ public class UserService implements UserDetailsService {
     /**
      * Updates the event retention period (in days) for the given user.
      *
-     * @param user          the user to update
+     * @param id            the ID of the user to update
      * @param retentionDays the number of days to retain events
      * @return the updated {@link User}
+     * @throws DataNotFoundException if no user with the given ID exists
      */
-    public User updateRetentionDays(final User user, final Integer retentionDays) {
+    public User updateRetentionDays(final Long id, final Integer retentionDays) {
+        final User user = findById(id);
         user.setRetentionDays(retentionDays);
-        return userRepository.save(user);
+        return save(user);
+    }
+
+    private User save(final User user) {
+        final User saved = userRepository.save(user);
+        userSnapshotCache.evictUser(saved.getId());
+        return saved;
     }
 
     private User handleExistingUserOnRegister(final User existingUser) {
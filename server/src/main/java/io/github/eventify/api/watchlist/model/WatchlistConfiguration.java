@@ -2,13 +2,18 @@ package io.github.eventify.api.watchlist.model;
 
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelGroup;
+import io.github.eventify.api.monitor.model.ConsolidatedTimeline;
 import io.github.eventify.api.monitor.model.Timeline;
 import io.github.eventify.api.monitor.model.TimelineSource;
 import io.github.eventify.api.monitor.util.TimelineConsolidator;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -59,6 +64,15 @@ public class WatchlistConfiguration implements Serializable, TimelineSource {
     @Builder.Default
     private List<ChannelGroup> groups = new ArrayList<>();
 
+    /**
+     * Dashboard timeline consolidated from the channels and groups, computed once and reset when they change.
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private final ConsolidatedTimeline consolidatedTimeline = new ConsolidatedTimeline();
+
     /**
      * Creates a default empty configuration.
      *
@@ -68,6 +82,26 @@ public class WatchlistConfiguration implements Serializable, TimelineSource {
         return WatchlistConfiguration.builder().build();
     }
 
+    /**
+     * Replaces the standalone channels and resets the dashboard timeline.
+     *
+     * @param channels the channels
+     */
+    public void setChannels(final List<Channel> channels) {
+        this.channels = channels;
+        consolidatedTimeline.invalidate();
+    }
+
+    /**
+     * Replaces the groups and resets the dashboard timeline.
+     *
+     * @param groups the groups
+     */
+    public void setGroups(final List<ChannelGroup> groups) {
+        this.groups = groups;
+        consolidatedTimeline.invalidate();
+    }
+
     /**
      * Gets channel IDs for JSON serialization.
      * Extracts IDs from the channels list.
@@ -89,12 +123,14 @@ public class WatchlistConfiguration implements Serializable, TimelineSource {
     @JsonProperty("channelIds")
     public void setChannelIds(final List<Long> channelIds) {
         if (channelIds == null) {
-            this.channels = new ArrayList<>();
+            setChannels(new ArrayList<>());
             return;
         }
-        this.channels = channelIds.stream()
-            .map(Channel::new)
-            .collect(Collectors.toCollection(ArrayList::new));
+        setChannels(
+            channelIds.stream()
+                .map(Channel::new)
+                .collect(Collectors.toCollection(ArrayList::new))
+        );
     }
 
     /**
@@ -124,7 +160,7 @@ public class WatchlistConfiguration implements Serializable, TimelineSource {
      */
     @JsonIgnore
     public List<TimelineSource> getTimelineSources() {
-        final List<TimelineSource> sources = new ArrayList<>();
+        final List<TimelineSource> sources = new ArrayList<>(channels.size() + groups.size());
         sources.addAll(channels);
         sources.addAll(groups);
         return sources;
@@ -133,12 +169,14 @@ public class WatchlistConfiguration implements Serializable, TimelineSource {
     /**
      * Returns the consolidated timeline for this configuration.
      * The timeline shows the worst severity at each point in time across all channels and groups.
+     * Consolidation runs bottom-up: every group contributes its own memoized timeline, and the result is memoized
+     * until the channels or groups change.
      *
      * @return the consolidated timeline, never null
      */
     @Override
     @JsonIgnore
     public Timeline getTimeline() {
-        return TimelineConsolidator.consolidate(getTimelineSources());
+        return consolidatedTimeline.get(() -> TimelineConsolidator.consolidate(getTimelineSources()));
     }
 }
@@ -26,6 +26,24 @@ public interface WatchlistRepository extends JpaRepository<Watchlist, Long>, Jpa
      */
     Optional<Watchlist> findByIdAndUserId(Long id, Long userId);
 
+    /**
+     * Checks whether a watchlist belongs to a user, without loading its configuration.
+     *
+     * @param id     the watchlist ID
+     * @param userId the user ID
+     * @return true if the watchlist exists and belongs to the user
+     */
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Checks whether a watchlist belongs to an organization, without loading its configuration.
+     *
+     * @param id             the watchlist ID
+     * @param organizationId the organization ID
+     * @return true if the watchlist exists and belongs to the organization
+     */
+    boolean existsByIdAndOrganizationId(Long id, Long organizationId);
+
     /**
      * Finds a watchlist by user ID and name (case-insensitive).
      *
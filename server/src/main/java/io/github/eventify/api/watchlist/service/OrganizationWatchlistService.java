@@ -2,6 +2,7 @@ package io.github.eventify.api.watchlist.service;
 
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.repository.ChannelRepository;
+import io.github.eventify.api.monitor.cache.MonitorResponseCache;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.organization.service.OrganizationService;
 import io.github.eventify.api.user.model.User;
@@ -36,23 +37,28 @@ public class OrganizationWatchlistService extends WatchlistService {
 
     private final OrganizationService organizationService;
 
+    private final MonitorResponseCache monitorResponseCache;
+
     /**
      * Constructor.
      *
-     * @param watchlistRepository the watchlist repository
-     * @param channelRepository   the channel repository
-     * @param watchlistMetaData   the watchlist metadata
-     * @param organizationService the organization service
+     * @param watchlistRepository  the watchlist repository
+     * @param channelRepository    the channel repository
+     * @param watchlistMetaData    the watchlist metadata
+     * @param organizationService  the organization service
+     * @param monitorResponseCache the cache of monitor responses to evict on changes
      */
     public OrganizationWatchlistService(
                                         final WatchlistRepository watchlistRepository,
                                         final ChannelRepository channelRepository,
                                         final WatchlistMetaData watchlistMetaData,
-                                        final OrganizationService organizationService
+                                        final OrganizationService organizationService,
+                                        final MonitorResponseCache monitorResponseCache
     ) {
         super(watchlistRepository, watchlistMetaData);
         this.channelRepository = channelRepository;
         this.organizationService = organizationService;
+        this.monitorResponseCache = monitorResponseCache;
     }
 
     /**
@@ -147,6 +153,7 @@ public class OrganizationWatchlistService extends WatchlistService {
             validateChannelIds(updated.getConfiguration().getChannelIds(), organizationId);
         }
         applyUpdates(watchlist, updated);
+        monitorResponseCache.evictWatchlist(watchlistId);
 
         return watchlistRepository.save(watchlist);
     }
@@ -162,6 +169,7 @@ public class OrganizationWatchlistService extends WatchlistService {
     public void deleteWatchlist(final Long organizationId, final Long watchlistId) {
         final Watchlist watchlist = getWatchlist(organizationId, watchlistId);
         watchlistRepository.delete(watchlist);
+        monitorResponseCache.evictWatchlist(watchlistId);
     }
 
     /**
@@ -2,6 +2,7 @@ package io.github.eventify.api.watchlist.service;
 
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.repository.ChannelRepository;
+import io.github.eventify.api.monitor.cache.MonitorResponseCache;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.watchlist.model.Watchlist;
 import io.github.eventify.api.watchlist.model.WatchlistMetaData;
@@ -34,20 +35,25 @@ public class UserWatchlistService extends WatchlistService {
 
     private final ChannelRepository channelRepository;
 
+    private final MonitorResponseCache monitorResponseCache;
+
     /**
      * Constructor.
      *
-     * @param watchlistRepository the watchlist repository
-     * @param channelRepository   the channel repository
-     * @param watchlistMetaData   the watchlist metadata
+     * @param watchlistRepository  the watchlist repository
+     * @param channelRepository    the channel repository
+     * @param watchlistMetaData    the watchlist metadata
+     * @param monitorResponseCache the cache of monitor responses to evict on changes
      */
     public UserWatchlistService(
                                 final WatchlistRepository watchlistRepository,
                                 final ChannelRepository channelRepository,
-                                final WatchlistMetaData watchlistMetaData
+                                final WatchlistMetaData watchlistMetaData,
+                                final MonitorResponseCache monitorResponseCache
     ) {
         super(watchlistRepository, watchlistMetaData);
         this.channelRepository = channelRepository;
+        this.monitorResponseCache = monitorResponseCache;
     }
 
     /**
@@ -130,6 +136,7 @@ public class UserWatchlistService extends WatchlistService {
             validateChannelIds(updated.getConfiguration().getChannelIds(), user.getId());
         }
         applyUpdates(watchlist, updated);
+        monitorResponseCache.evictWatchlist(watchlistId);
 
         return watchlistRepository.save(watchlist);
     }
@@ -144,6 +151,7 @@ public class UserWatchlistService extends WatchlistService {
     public void deleteWatchlist(final Long watchlistId) {
         final Watchlist watchlist = getWatchlist(watchlistId);
         watchlistRepository.delete(watchlist);
+        monitorResponseCache.evictWatchlist(watchlistId);
     }
 
     /**
@@ -1,7 +1,6 @@
 package io.github.eventify.api.watchlist.service;
 
-import io.github.eventify.api.organization.repository.OrganizationMembershipRepository;
-import io.github.eventify.api.watchlist.model.Watchlist;
+import io.github.eventify.api.organization.service.OrganizationSecurityService;
 import io.github.eventify.api.watchlist.repository.WatchlistRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -10,13 +9,16 @@ import org.springframework.stereotype.Service;
 /**
  * Security service for watchlist access control.
  * Bean name "watchlistSecurity" for use in SpEL expressions.
+ *
+ * <p>Ownership is checked without loading the watchlist and its configuration; the service layer loads it once, and
+ * only when a response has to be built. Organization membership comes from {@link OrganizationSecurityService}.
  */
 @Service("watchlistSecurity")
 @RequiredArgsConstructor
 public class WatchlistSecurityService {
 
     private final WatchlistRepository watchlistRepository;
-    private final OrganizationMembershipRepository membershipRepository;
+    private final OrganizationSecurityService organizationSecurityService;
 
     /**
      * Check if user owns this personal watchlist.
@@ -29,11 +31,7 @@ public class WatchlistSecurityService {
         if (watchlistId == null || userId == null) {
             return false;
         }
-
-        final Watchlist watchlist = watchlistRepository.findById(watchlistId).orElse(null);
-        return watchlist != null
-            && watchlist.getUser() != null
-            && watchlist.getUser().getId().equals(userId);
+        return watchlistRepository.existsByIdAndUserId(watchlistId, userId);
     }
 
     /**
@@ -48,12 +46,8 @@ public class WatchlistSecurityService {
         if (watchlistId == null || orgId == null || userId == null) {
             return false;
         }
-
-        final Watchlist watchlist = watchlistRepository.findById(watchlistId).orElse(null);
-        final boolean watchlistValid = watchlist != null
-            && watchlist.getOrganization() != null
-            && watchlist.getOrganization().getId().equals(orgId);
-
-        return watchlistValid && membershipRepository.existsByOrganizationIdAndUserId(orgId, userId);
+        // A watchlist of the organization proves it exists, so the membership check cannot fail with a 404
+        return watchlistRepository.existsByIdAndOrganizationId(watchlistId, orgId)
+            && organizationSecurityService.isMember(orgId, userId);
     }
 }
@@ -0,0 +1,151 @@
+package io.github.eventify.common.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static io.github.eventify.common.util.TransactionCallbacks.afterCompletion;
+
+/**
+ * Bounded, process-wide in-memory cache whose entries expire after a fixed time to live.
+ *
+ * <p>Lookups are lock-free reads from a {@link ConcurrentHashMap}. When the cache is full, expired entries are
+ * purged first and an arbitrary entry is dropped if that is not enough. Evictions made inside a transaction are
+ * repeated once it completes, so entries re-populated from the not yet committed state do not survive.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class ExpiringCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+
+    private final Duration ttl;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxSize the maximum number of entries
+     * @param ttl     how long an entry lives after it was stored
+     */
+    public ExpiringCache(final int maxSize, final Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Returns the value for a key if it is present and not expired.
+     *
+     * @param key the key
+     * @return the cached value, or empty on a miss
+     */
+    public Optional<V> get(final K key) {
+        final Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired(Instant.now())) {
+            return Optional.of(entry.getValue());
+        }
+        if (entry != null) {
+            entries.remove(key, entry);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Stores a value for the configured time to live.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(final K key, final V value) {
+        put(key, value, null);
+    }
+
+    /**
+     * Stores a value until the given moment or the configured time to live, whichever comes first.
+     *
+     * @param key       the key
+     * @param value     the value
+     * @param expiresAt the latest moment the value may be served, or null for the time to live only
+     */
+    public void put(final K key, final V value, final Instant expiresAt) {
+        final Instant now = Instant.now();
+        final Instant ttlExpiry = now.plus(ttl);
+        final Instant expiry = expiresAt != null && expiresAt.isBefore(ttlExpiry) ? expiresAt : ttlExpiry;
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom(now);
+        }
+        entries.put(key, new Entry<>(value, expiry));
+    }
+
+    /**
+     * Evicts a single key.
+     *
+     * @param key the key
+     */
+    public void evict(final K key) {
+        entries.remove(key);
+        afterCompletion(() -> entries.remove(key));
+    }
+
+    /**
+     * Evicts every entry whose value matches the predicate.
+     *
+     * @param predicate the values to evict
+     */
+    public void evictIf(final Predicate<V> predicate) {
+        entries.values().removeIf(entry -> predicate.test(entry.getValue()));
+        afterCompletion(() -> entries.values().removeIf(entry -> predicate.test(entry.getValue())));
+    }
+
+    /**
+     * Evicts every entry.
+     */
+    public void clear() {
+        entries.clear();
+        afterCompletion(entries::clear);
+    }
+
+    /**
+     * Number of entries, including expired ones that were not purged yet.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void makeRoom(final Instant now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        if (entries.size() >= maxSize) {
+            entries.keySet().stream().findAny().ifPresent(entries::remove);
+        }
+    }
+
+    /**
+     * A cached value and the moment it stops being served.
+     */
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private final Instant expiresAt;
+
+        private Entry(final V value, final Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private V getValue() {
+            return value;
+        }
+
+        private boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Properties for the cache of verified API keys.
+ *
+ * These properties are bound from application.yml under the "security.api-key-cache" prefix.
+ */
+@Data
+public class ApiKeyCacheProperties {
+
+    /**
+     * Whether successfully verified API keys are cached so repeat requests skip the lookup and the hash check.
+     * Configured via: security.api-key-cache.enabled (optional, defaults to true)
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a verified key is trusted before it is verified against the database again.
+     * Configured via: security.api-key-cache.ttl
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Maximum number of verified keys kept in memory.
+     * Configured via: security.api-key-cache.max-size
+     */
+    private int maxSize = 10_000;
+}
@@ -0,0 +1,44 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Properties for the accept-and-queue ingestion mode.
+ *
+ * These properties are bound from application.yml under the "ingestion.async" prefix.
+ */
+@Data
+public class AsyncIngestionProperties {
+
+    /**
+     * Whether single events are queued in memory and written in the background (202) instead of synchronously (201).
+     * Configured via: ingestion.async.enabled (optional, defaults to false)
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of events waiting to be written. Requests are rejected with 429 once the buffer is full.
+     * Configured via: ingestion.async.buffer-capacity
+     */
+    private int bufferCapacity = 10_000;
+
+    /**
+     * Maximum number of events written in a single micro-batch.
+     * Configured via: ingestion.async.batch-size
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum time a queued event waits before its (partial) batch is flushed.
+     * Configured via: ingestion.async.flush-interval
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * Number of virtual-thread writers draining the buffer.
+     * Configured via: ingestion.async.writers
+     */
+    private int writers = 2;
+}
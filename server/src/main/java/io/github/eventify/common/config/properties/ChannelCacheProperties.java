@@ -0,0 +1,32 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Properties for the process-wide cache of channels resolved by slug during ingestion.
+ *
+ * These properties are bound from application.yml under the "ingestion.channel-cache" prefix.
+ */
+@Data
+public class ChannelCacheProperties {
+
+    /**
+     * Whether channels resolved by slug are cached so repeat ingestion requests skip the channel lookup.
+     * Configured via: ingestion.channel-cache.enabled (optional, defaults to true)
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a resolved channel is served before it is looked up again.
+     * Configured via: ingestion.channel-cache.ttl
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of channels kept in memory.
+     * Configured via: ingestion.channel-cache.max-size
+     */
+    private int maxSize = 10_000;
+}
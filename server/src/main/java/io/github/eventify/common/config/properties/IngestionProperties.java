@@ -0,0 +1,34 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the event ingestion pipeline.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ingestion")
+public class IngestionProperties {
+
+    /**
+     * Settings for the opt-in accept-and-queue ingestion mode.
+     * Configured via: ingestion.async
+     */
+    private AsyncIngestionProperties async = new AsyncIngestionProperties();
+
+    /**
+     * Batches with more events than this are streamed into the event table with COPY instead of JPA inserts.
+     * Configured via: ingestion.copy-threshold (optional, defaults to 50)
+     */
+    private int copyThreshold = 50;
+
+    /**
+     * Settings for the cache of channels resolved by slug.
+     * Configured via: ingestion.channel-cache
+     */
+    private ChannelCacheProperties channelCache = new ChannelCacheProperties();
+
+}
@@ -0,0 +1,40 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Properties for the in-memory timeline state of recently monitored channels.
+ *
+ * These properties are bound from application.yml under the "monitor.live-state" prefix.
+ */
+@Data
+public class LiveStateProperties {
+
+    /**
+     * Whether live monitor views are served from the in-memory timeline state instead of querying raw events.
+     * Configured via: monitor.live-state.enabled (optional, defaults to true)
+     */
+    private boolean enabled = true;
+
+    /**
+     * How far back the state of a channel is retained. Live windows starting earlier are read from the database,
+     * so this should exceed the longest raw-event window (4h).
+     * Configured via: monitor.live-state.horizon
+     */
+    private Duration horizon = Duration.ofHours(5);
+
+    /**
+     * How long the state of a channel is served before it is rebuilt from the database. Bounds how long events
+     * written by other instances (which never reach this instance's state) can be missing from live views.
+     * Configured via: monitor.live-state.refresh-interval
+     */
+    private Duration refreshInterval = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of channels whose state is kept in memory.
+     * Configured via: monitor.live-state.max-channels
+     */
+    private int maxChannels = 10_000;
+}
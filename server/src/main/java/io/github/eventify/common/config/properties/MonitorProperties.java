@@ -0,0 +1,40 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the watchlist monitor.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "monitor")
+public class MonitorProperties {
+
+    /**
+     * Settings for the in-memory timeline state that serves live monitor views.
+     * Configured via: monitor.live-state
+     */
+    private LiveStateProperties liveState = new LiveStateProperties();
+
+    /**
+     * Settings for building the timelines of a monitor request in parallel.
+     * Configured via: monitor.parallel-build
+     */
+    private ParallelBuildProperties parallelBuild = new ParallelBuildProperties();
+
+    /**
+     * Settings for caching rendered monitor responses and answering unchanged dashboards with 304 Not Modified.
+     * Configured via: monitor.response-cache
+     */
+    private ResponseCacheProperties responseCache = new ResponseCacheProperties();
+
+    /**
+     * Settings for pushing live monitor deltas over Server-Sent Events.
+     * Configured via: monitor.stream
+     */
+    private StreamProperties stream = new StreamProperties();
+
+}
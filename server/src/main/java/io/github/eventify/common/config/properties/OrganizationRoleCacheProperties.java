@@ -0,0 +1,32 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Properties for the cache of the organization roles of users.
+ *
+ * These properties are bound from application.yml under the "security.organization-role-cache" prefix.
+ */
+@Data
+public class OrganizationRoleCacheProperties {
+
+    /**
+     * Whether the organization roles of a user are cached so access checks skip the membership lookups.
+     * Configured via: security.organization-role-cache.enabled (optional, defaults to true)
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long the roles of a user are served before they are loaded from the database again.
+     * Configured via: security.organization-role-cache.ttl
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of users whose roles are kept in memory.
+     * Configured via: security.organization-role-cache.max-size
+     */
+    private int maxSize = 10_000;
+}
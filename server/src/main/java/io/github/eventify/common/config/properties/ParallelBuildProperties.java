@@ -0,0 +1,41 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+/**
+ * Properties for building the timelines of a monitor request in parallel.
+ *
+ * These properties are bound from application.yml under the "monitor.parallel-build" prefix.
+ */
+@Data
+public class ParallelBuildProperties {
+
+    /**
+     * Whether channel timelines and group consolidations are built in parallel instead of on the request thread.
+     * Configured via: monitor.parallel-build.enabled (optional, defaults to true)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of worker threads shared by all monitor requests, and the maximum number of tasks a single request
+     * is split into. Zero uses the number of available processors.
+     * Configured via: monitor.parallel-build.parallelism
+     */
+    private int parallelism;
+
+    /**
+     * Minimum number of channels per task. Smaller requests are built on the request thread, as forking them costs
+     * more than it saves.
+     * Configured via: monitor.parallel-build.min-channels-per-task
+     */
+    private int minChannelsPerTask = 64;
+
+    /**
+     * Resolves the configured parallelism.
+     *
+     * @return the parallelism, or the number of available processors when not configured
+     */
+    public int resolveParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
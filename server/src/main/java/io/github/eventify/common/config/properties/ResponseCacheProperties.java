@@ -0,0 +1,35 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Properties for the cache of rendered monitor responses.
+ *
+ * These properties are bound from application.yml under the "monitor.response-cache" prefix.
+ */
+@Data
+public class ResponseCacheProperties {
+
+    /**
+     * Whether monitor responses are cached and tagged with an ETag, so unchanged dashboards are answered from
+     * memory or with 304 Not Modified.
+     * Configured via: monitor.response-cache.enabled (optional, defaults to true)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time quantum that live (preset) ranges are rounded to. Requests for the same preset within one quantum share
+     * a response, so this is also the longest a response can lag behind the clock or behind events written by other
+     * instances.
+     * Configured via: monitor.response-cache.quantum
+     */
+    private Duration quantum = Duration.ofSeconds(15);
+
+    /**
+     * Maximum number of responses kept in memory.
+     * Configured via: monitor.response-cache.max-entries
+     */
+    private int maxEntries = 1_000;
+}
@@ -32,6 +32,12 @@ public class SecurityProperties {
 
     private BootstrapProperties bootstrap;
 
+    private ApiKeyCacheProperties apiKeyCache = new ApiKeyCacheProperties();
+
+    private UserCacheProperties userCache = new UserCacheProperties();
+
+    private OrganizationRoleCacheProperties organizationRoleCache = new OrganizationRoleCacheProperties();
+
     /**
      * Whether to set the {@code Secure} flag on authentication cookies.
      * Should be {@code true} in production (HTTPS) and {@code false} in local development (HTTP).
@@ -0,0 +1,40 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Properties for the Server-Sent Events stream of live monitor views.
+ *
+ * These properties are bound from application.yml under the "monitor.stream" prefix.
+ */
+@Data
+public class StreamProperties {
+
+    /**
+     * Whether monitor streams push deltas as events are ingested. When disabled, a stream sends its initial
+     * snapshot and completes, so clients fall back to polling.
+     * Configured via: monitor.stream.enabled (optional, defaults to true)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of open streams per watchlist. Further screens are rejected (429) and keep polling.
+     * Configured via: monitor.stream.max-subscribers-per-watchlist
+     */
+    private int maxSubscribersPerWatchlist = 1_000;
+
+    /**
+     * Maximum number of deltas waiting to be sent to a single stream. A stream that falls further behind is
+     * closed, and its client reconnects with a fresh snapshot.
+     * Configured via: monitor.stream.max-pending-deltas
+     */
+    private int maxPendingDeltas = 64;
+
+    /**
+     * How long a stream stays open before the client has to reconnect (and receives a fresh snapshot).
+     * Configured via: monitor.stream.timeout
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+}
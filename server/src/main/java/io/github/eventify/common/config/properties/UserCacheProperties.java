@@ -0,0 +1,32 @@
+package io.github.eventify.common.config.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Properties for the cache of authenticated users.
+ *
+ * These properties are bound from application.yml under the "security.user-cache" prefix.
+ */
+@Data
+public class UserCacheProperties {
+
+    /**
+     * Whether users resolved from an access token are cached so repeat requests skip the user lookup.
+     * Configured via: security.user-cache.enabled (optional, defaults to true)
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a cached user is served before it is loaded from the database again.
+     * Configured via: security.user-cache.ttl
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of users kept in memory.
+     * Configured via: security.user-cache.max-size
+     */
+    private int maxSize = 10_000;
+}
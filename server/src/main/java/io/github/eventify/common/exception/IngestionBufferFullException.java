@@ -0,0 +1,33 @@
+package io.github.eventify.common.exception;
+
+import io.github.jframe.exception.core.RateLimitExceededException;
+
+import java.io.Serial;
+
+import static io.github.eventify.Main.SERIAL_VERSION_UID;
+import static io.github.eventify.common.util.TimeProvider.now;
+
+/**
+ * Exception thrown when the in-memory ingestion buffer is full and the event cannot be accepted.
+ */
+public class IngestionBufferFullException extends RateLimitExceededException {
+
+    @Serial
+    private static final long serialVersionUID = SERIAL_VERSION_UID;
+
+    private static final long RETRY_AFTER_SECONDS = 1L;
+
+    /**
+     * Constructs a new IngestionBufferFullException.
+     *
+     * @param capacity the capacity of the ingestion buffer
+     */
+    public IngestionBufferFullException(final int capacity) {
+        super(
+            String.format("Ingestion buffer is full: capacity=%d, retry shortly", capacity),
+            capacity,
+            0,
+            now().plusSeconds(RETRY_AFTER_SECONDS)
+        );
+    }
+}
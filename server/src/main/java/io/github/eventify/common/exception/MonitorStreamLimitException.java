@@ -0,0 +1,33 @@
+package io.github.eventify.common.exception;
+
+import io.github.jframe.exception.core.RateLimitExceededException;
+
+import java.io.Serial;
+
+import static io.github.eventify.Main.SERIAL_VERSION_UID;
+import static io.github.eventify.common.util.TimeProvider.now;
+
+/**
+ * Exception thrown when a watchlist already has the maximum number of open monitor streams.
+ */
+public class MonitorStreamLimitException extends RateLimitExceededException {
+
+    @Serial
+    private static final long serialVersionUID = SERIAL_VERSION_UID;
+
+    private static final long RETRY_AFTER_SECONDS = 30L;
+
+    /**
+     * Constructs a new MonitorStreamLimitException.
+     *
+     * @param limit the maximum number of streams per watchlist
+     */
+    public MonitorStreamLimitException(final int limit) {
+        super(
+            String.format("Too many open monitor streams for this watchlist: limit=%d, poll instead", limit),
+            limit,
+            0,
+            now().plusSeconds(RETRY_AFTER_SECONDS)
+        );
+    }
+}
@@ -4,6 +4,7 @@ import io.github.eventify.api.authentication.service.CookieService;
 import io.github.eventify.api.token.model.Token;
 import io.github.eventify.api.token.service.JwtService;
 import io.github.eventify.api.token.service.TokenService;
+import io.github.eventify.api.user.cache.UserSnapshotCache;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.service.UserService;
 import io.github.eventify.common.exception.ApiErrorCode;
@@ -28,6 +29,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.NonNull;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -48,6 +50,9 @@ import static org.springframework.util.StringUtils.hasText;
  * The filter to extract the JWT token from the request and set the security context, when the token is validated against the user and the
  * expiration date. The filter is only applied once per request. When there is already an authentication object in the security context, the
  * filter is skipped.
+ *
+ * <p>The access token is decoded once and kept on the principal. Its user comes from the {@link UserSnapshotCache} and its session from
+ * the session id claim, so a request with a valid access token normally needs no database query.
  */
 @Slf4j
 @Component
@@ -65,6 +70,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final TokenService tokenService;
     private final UserService userService;
     private final CookieService cookieService;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Override
     protected boolean shouldNotFilter(@NonNull final HttpServletRequest request) {
@@ -106,10 +112,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String accessToken = hasText(headerToken) ? headerToken : cookieToken;
 
         if (hasText(accessToken)) {
-            final User authenticatedUser = tryAuthenticateWithAccessToken(accessToken);
+            final Jwt jwt = tryDecodeAccessToken(accessToken);
+            final User authenticatedUser = nonNull(jwt) ? tryAuthenticateWithAccessToken(jwt) : null;
             if (nonNull(authenticatedUser) && !isUserRestricted(authenticatedUser, response)) {
-                final Long refreshTokenId = resolveRefreshTokenId(request);
-                setSecurityContext(authenticatedUser, accessToken, refreshTokenId, request);
+                final Long refreshTokenId = resolveRefreshTokenId(jwt, request);
+                setSecurityContext(new UserTokenPrincipal(authenticatedUser, jwt, refreshTokenId), request);
                 return authenticatedUser;
             }
         }
@@ -122,11 +129,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private User tryAuthenticateWithAccessToken(final String accessToken) {
+    private Jwt tryDecodeAccessToken(final String accessToken) {
         try {
-            final String email = jwtService.extractSubject(accessToken);
-            final User user = userService.loadUserByUsername(email);
-            if (tokenService.isValidAccessToken(accessToken, user)) {
+            final Jwt jwt = jwtService.decode(accessToken);
+            return jwtService.isTokenExpired(jwt) ? null : jwt;
+        } catch (final ApiException ex) {
+            log.debug("Access token could not be decoded: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private User tryAuthenticateWithAccessToken(final Jwt jwt) {
+        try {
+            final User user = userSnapshotCache.getOrLoad(jwt.getSubject(), userService::loadUserByUsername);
+            if (jwtService.isTokenValid(jwt, user)) {
                 return user;
             }
         } catch (final ApiException ex) {
@@ -164,7 +180,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String accessTokenValue = nonNull(refreshedUser.getAccessToken())
             ? refreshedUser.getAccessToken().getRawValue()
             : originalRefreshToken;
-        setSecurityContext(refreshedUser, accessTokenValue, refreshTokenId, request);
+        setSecurityContext(new UserTokenPrincipal(refreshedUser, accessTokenValue, refreshTokenId), request);
     }
 
     private String extractJwtFromHeader(final HttpServletRequest request) {
@@ -187,9 +203,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             .orElse(null);
     }
 
-    private void setSecurityContext(final User user, final String tokenValue, final Long refreshTokenId, final HttpServletRequest request) {
-        final UserTokenPrincipal principal = new UserTokenPrincipal(user, tokenValue, refreshTokenId);
-
+    private void setSecurityContext(final UserTokenPrincipal principal, final HttpServletRequest request) {
+        final User user = principal.getUser();
         final JwtUserPrincipalAuthenticationToken authentication = new JwtUserPrincipalAuthenticationToken(
             principal,
             user.getAuthorities()
@@ -200,7 +215,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         log.debug("Authentication successful for user '{}'. Setting security context.", user.getUsername());
     }
 
-    private Long resolveRefreshTokenId(final HttpServletRequest request) {
+    private Long resolveRefreshTokenId(final Jwt jwt, final HttpServletRequest request) {
+        final Long sessionId = jwtService.extractSessionId(jwt);
+        if (nonNull(sessionId)) {
+            return sessionId;
+        }
+        // Access tokens issued before the session id claim existed only name their session through the refresh-token cookie
         final String refreshTokenValue = extractJwtFromCookies(request, REFRESH_TOKEN_COOKIE);
         if (!hasText(refreshTokenValue)) {
             return null;
@@ -1,5 +1,6 @@
 package io.github.eventify.common.security.oauth2;
 
+import io.github.eventify.api.user.cache.UserSnapshotCache;
 import io.github.eventify.api.user.model.AuthProvider;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.model.UserAuthProvider;
@@ -51,6 +52,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final UserSnapshotCache userSnapshotCache;
+
     /**
      * Loads the OAuth2 user from the provider and processes the authentication or linking flow.
      *
@@ -173,7 +176,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         try {
             final User user = new User(oAuth2UserInfo);
             user.setPassword(passwordEncoder.encode(UUID.randomUUID().toString()));
-            return userRepository.save(user);
+            return save(user);
         } catch (final DataIntegrityViolationException exception) {
             log.debug("User already exists with email: {}", oAuth2UserInfo.getEmail());
             throw new OAuth2Exception(USER_ALREADY_EXISTS_ERROR.getReason(), exception);
@@ -191,10 +194,16 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             existingUser.setLastName(oAuth2UserInfo.getLastName());
         }
         if (firstNameMissing || lastNameMissing) {
-            userRepository.save(existingUser);
+            save(existingUser);
         }
     }
 
+    private User save(final User user) {
+        final User saved = userRepository.save(user);
+        userSnapshotCache.evictUser(user.getId());
+        return saved;
+    }
+
     private User getCurrentUserFromAttributes() {
         final Object raw = OAuth2AttributesHolder.getAttribute(LINK_USER_ID);
         if (raw == null) {
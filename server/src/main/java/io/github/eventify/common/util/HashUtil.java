@@ -22,9 +22,20 @@ public class HashUtil {
      * @throws NullPointerException if rawValue is null
      */
     public static String sha256(@NonNull final String rawValue) {
+        return sha256(rawValue.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hashes the given bytes using SHA-256 and returns a 64-character lowercase hex string.
+     *
+     * @param rawBytes the bytes to hash
+     * @return a 64-character lowercase hex string representing the SHA-256 hash
+     * @throws NullPointerException if rawBytes is null
+     */
+    public static String sha256(@NonNull final byte[] rawBytes) {
         try {
             final MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            final byte[] hashBytes = digest.digest(rawValue.getBytes(StandardCharsets.UTF_8));
+            final byte[] hashBytes = digest.digest(rawBytes);
             return HexFormat.of().formatHex(hashBytes);
         } catch (final NoSuchAlgorithmException ex) {
             throw new IllegalStateException("SHA-256 algorithm not available", ex);
@@ -0,0 +1,49 @@
+package io.github.eventify.common.util;
+
+import lombok.experimental.UtilityClass;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class for deferring in-memory side effects until the surrounding transaction has finished.
+ */
+@UtilityClass
+public class TransactionCallbacks {
+
+    /**
+     * Runs the action once the surrounding transaction commits, or immediately when there is none.
+     * The action is dropped when the transaction rolls back.
+     *
+     * @param action the action to run
+     */
+    public static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Runs the action again once the surrounding transaction completes, whether it committed or rolled back.
+     * Does nothing when there is no surrounding transaction.
+     *
+     * @param action the action to repeat
+     */
+    public static void afterCompletion(final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,19 @@
+CREATE OR REPLACE FUNCTION update_daily_organization_growth()
+    RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('DELETE', 'UPDATE') THEN
+        INSERT INTO daily_growth AS growth (day, new_organizations)
+        VALUES ((OLD.created_at AT TIME ZONE 'UTC')::date, -1)
+        ON CONFLICT (day) DO UPDATE
+        SET new_organizations = growth.new_organizations + EXCLUDED.new_organizations;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO daily_growth AS growth (day, new_organizations)
+        VALUES ((NEW.created_at AT TIME ZONE 'UTC')::date, 1)
+        ON CONFLICT (day) DO UPDATE
+        SET new_organizations = growth.new_organizations + EXCLUDED.new_organizations;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
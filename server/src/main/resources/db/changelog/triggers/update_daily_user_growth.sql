@@ -0,0 +1,21 @@
+CREATE OR REPLACE FUNCTION update_daily_user_growth()
+    RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('DELETE', 'UPDATE') THEN
+        INSERT INTO daily_growth AS growth (day, new_users, validated_users)
+        VALUES ((OLD.created_at AT TIME ZONE 'UTC')::date, -1, CASE WHEN OLD.validated THEN -1 ELSE 0 END)
+        ON CONFLICT (day) DO UPDATE
+        SET new_users = growth.new_users + EXCLUDED.new_users,
+            validated_users = growth.validated_users + EXCLUDED.validated_users;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO daily_growth AS growth (day, new_users, validated_users)
+        VALUES ((NEW.created_at AT TIME ZONE 'UTC')::date, 1, CASE WHEN NEW.validated THEN 1 ELSE 0 END)
+        ON CONFLICT (day) DO UPDATE
+        SET new_users = growth.new_users + EXCLUDED.new_users,
+            validated_users = growth.validated_users + EXCLUDED.validated_users;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
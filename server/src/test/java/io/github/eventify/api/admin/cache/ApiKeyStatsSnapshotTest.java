@@ -0,0 +1,80 @@
+package io.github.eventify.api.admin.cache;
+
+import io.github.eventify.api.admin.model.response.ApiKeyStatsResponse;
+import io.github.eventify.support.UnitTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("Unit Test - API Key Stats Snapshot")
+public class ApiKeyStatsSnapshotTest extends UnitTest {
+
+    private ApiKeyStatsSnapshot snapshot;
+
+    private AtomicInteger computations;
+
+    @BeforeEach
+    public void setUp() {
+        snapshot = new ApiKeyStatsSnapshot();
+        computations = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should compute the statistics once for repeated reads")
+    public void shouldComputeStatisticsOnceForRepeatedReads() {
+        // When: Reading the statistics twice
+        final ApiKeyStatsResponse first = snapshot.getOrCompute(counting());
+        final ApiKeyStatsResponse second = snapshot.getOrCompute(counting());
+
+        // Then: The second read should be served from the snapshot
+        assertThat(second, is(sameInstance(first)));
+        assertThat(computations.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("Should only refresh a snapshot that was read since the previous refresh")
+    public void shouldOnlyRefreshSnapshotThatWasRead() {
+        // Given: A snapshot that was read
+        snapshot.getOrCompute(counting());
+
+        // When: Refreshing twice without a read in between
+        final boolean firstRefresh = snapshot.refreshIfRead(counting());
+        final boolean secondRefresh = snapshot.refreshIfRead(counting());
+
+        // Then: Only the first refresh should have computed the statistics
+        assertThat(firstRefresh, is(true));
+        assertThat(secondRefresh, is(false));
+        assertThat(computations.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Should compute the statistics again after the snapshot was invalidated")
+    public void shouldComputeStatisticsAgainAfterInvalidation() {
+        // Given: A computed snapshot
+        final ApiKeyStatsResponse first = snapshot.getOrCompute(counting());
+
+        // When: The snapshot is invalidated and read again
+        snapshot.invalidate();
+        final ApiKeyStatsResponse second = snapshot.getOrCompute(counting());
+
+        // Then: The statistics should have been computed again
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(computations.get(), is(2));
+    }
+
+    // ========================= HELPER METHODS =========================
+
+    private Supplier<ApiKeyStatsResponse> counting() {
+        return () -> {
+            computations.incrementAndGet();
+            return ApiKeyStatsResponse.builder().totalKeys((long) computations.get()).build();
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.eventify.api.admin.service;
 
+import io.github.eventify.api.admin.cache.ApiKeyStatsSnapshot;
+import io.github.eventify.api.apikey.cache.ApiKeyCredentialCache;
 import io.github.eventify.api.apikey.model.ApiKey;
 import io.github.eventify.api.apikey.model.ApiKeyAudit;
 import io.github.eventify.api.apikey.model.ApiKeyScope;
@@ -37,6 +39,12 @@ public class AdminApiKeyServiceTest extends UnitTest {
     @Mock
     private ApiKeyAuditRepository apiKeyAuditRepository;
 
+    @Mock
+    private ApiKeyCredentialCache credentialCache;
+
+    @Mock
+    private ApiKeyStatsSnapshot statsSnapshot;
+
     @InjectMocks
     private AdminApiKeyService adminApiKeyService;
 
@@ -106,6 +114,10 @@ public class AdminApiKeyServiceTest extends UnitTest {
 
         // Then: Key should be deleted
         verify(apiKeyRepository).delete(userApiKey);
+        verify(credentialCache).evictApiKey(1L);
+
+        // And: The statistics snapshot should be dropped
+        verify(statsSnapshot).invalidate();
 
         // And: Audit record should be created
         final ArgumentCaptor<ApiKeyAudit> auditCaptor = ArgumentCaptor.forClass(ApiKeyAudit.class);
@@ -1,10 +1,10 @@
 package io.github.eventify.api.admin.service;
 
 import io.github.eventify.api.admin.model.projection.DailyGrowthData;
+import io.github.eventify.api.admin.model.projection.GrowthTotals;
 import io.github.eventify.api.admin.model.response.AdminStatsResponse;
 import io.github.eventify.api.admin.model.response.GrowthDataPoint;
-import io.github.eventify.api.organization.repository.OrganizationRepository;
-import io.github.eventify.api.user.repository.UserRepository;
+import io.github.eventify.api.admin.repository.DailyGrowthRepository;
 import io.github.eventify.support.UnitTest;
 
 import java.time.LocalDate;
@@ -28,14 +28,11 @@ public class AdminStatsServiceTest extends UnitTest {
     private AdminStatsService adminStatsService;
 
     @Mock
-    private UserRepository userRepository;
-
-    @Mock
-    private OrganizationRepository organizationRepository;
+    private DailyGrowthRepository dailyGrowthRepository;
 
     @BeforeEach
     public void setUp() {
-        adminStatsService = new AdminStatsService(userRepository, organizationRepository);
+        adminStatsService = new AdminStatsService(dailyGrowthRepository);
     }
 
     private DailyGrowthData createMockGrowthData(final LocalDate date, final long total, final long newCount) {
@@ -58,16 +55,34 @@ public class AdminStatsServiceTest extends UnitTest {
         };
     }
 
+    private GrowthTotals createMockTotals(final long totalUsers, final long activeUsers, final long totalOrganizations) {
+        return new GrowthTotals() {
+
+            @Override
+            public Long getTotalUsers() {
+                return totalUsers;
+            }
+
+            @Override
+            public Long getActiveUsers() {
+                return activeUsers;
+            }
+
+            @Override
+            public Long getTotalOrganizations() {
+                return totalOrganizations;
+            }
+        };
+    }
+
     @Test
     @DisplayName("Should calculate total organizations count")
     public void shouldCalculateTotalOrganizationsCount() {
         // Given: 5 organizations exist in the database
         final long totalOrgs = 5L;
-        when(organizationRepository.count()).thenReturn(totalOrgs);
-        when(userRepository.count()).thenReturn(0L);
-        when(userRepository.countByValidatedTrue()).thenReturn(0L);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(0L, 0L, totalOrgs));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -81,11 +96,9 @@ public class AdminStatsServiceTest extends UnitTest {
     public void shouldCalculateTotalUsersCount() {
         // Given: 10 users exist in the database
         final long totalUsers = 10L;
-        when(userRepository.count()).thenReturn(totalUsers);
-        when(organizationRepository.count()).thenReturn(0L);
-        when(userRepository.countByValidatedTrue()).thenReturn(0L);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(totalUsers, 0L, 0L));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -98,11 +111,9 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should calculate active users count with validated users only")
     public void shouldCalculateActiveUsersCountWithValidatedUsersOnly() {
         // Given: 10 total users but only 7 are validated
-        when(userRepository.count()).thenReturn(10L);
-        when(userRepository.countByValidatedTrue()).thenReturn(7L);
-        when(organizationRepository.count()).thenReturn(0L);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(10L, 7L, 0L));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -115,11 +126,9 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should return zero for active users when no validated users exist")
     public void shouldReturnZeroForActiveUsersWhenNoValidatedUsersExist() {
         // Given: 5 users but none are validated
-        when(userRepository.count()).thenReturn(5L);
-        when(userRepository.countByValidatedTrue()).thenReturn(0L);
-        when(organizationRepository.count()).thenReturn(0L);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(5L, 0L, 0L));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -132,11 +141,9 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should return zero counts when database is empty")
     public void shouldReturnZeroCountsWhenDatabaseIsEmpty() {
         // Given: Empty database
-        when(userRepository.count()).thenReturn(0L);
-        when(organizationRepository.count()).thenReturn(0L);
-        when(userRepository.countByValidatedTrue()).thenReturn(0L);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(0L, 0L, 0L));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -151,9 +158,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should return growth data points with cumulative and relative fields")
     public void shouldReturnGrowthDataPointsWithCumulativeAndRelativeFields() {
         // Given: Mock counts and growth data
-        when(userRepository.count()).thenReturn(100L);
-        when(organizationRepository.count()).thenReturn(50L);
-        when(userRepository.countByValidatedTrue()).thenReturn(80L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(100L, 80L, 50L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -168,8 +173,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 50L, 2L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -207,11 +212,9 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should return growth data with zero counts for days without activity")
     public void shouldReturnGrowthDataWithZeroCountsForDaysWithoutActivity() {
         // Given: Setup for querying 30-day period with no activity
-        when(userRepository.count()).thenReturn(5L);
-        when(organizationRepository.count()).thenReturn(2L);
-        when(userRepository.countByValidatedTrue()).thenReturn(4L);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(5L, 4L, 2L));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -226,11 +229,9 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should include all required fields in AdminStatsResponse")
     public void shouldIncludeAllRequiredFieldsInAdminStatsResponse() {
         // Given: Mock data for all stats
-        when(userRepository.count()).thenReturn(50L);
-        when(organizationRepository.count()).thenReturn(25L);
-        when(userRepository.countByValidatedTrue()).thenReturn(40L);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(50L, 40L, 25L));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -250,11 +251,9 @@ public class AdminStatsServiceTest extends UnitTest {
         final long largeOrgCount = 100_000L;
         final long largeActiveCount = 800_000L;
 
-        when(userRepository.count()).thenReturn(largeUserCount);
-        when(organizationRepository.count()).thenReturn(largeOrgCount);
-        when(userRepository.countByValidatedTrue()).thenReturn(largeActiveCount);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(largeUserCount, largeActiveCount, largeOrgCount));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -269,11 +268,9 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should return proper date range for growth data calculation")
     public void shouldReturnProperDateRangeForGrowthDataCalculation() {
         // Given: Current date and expected date range
-        when(userRepository.count()).thenReturn(100L);
-        when(organizationRepository.count()).thenReturn(50L);
-        when(userRepository.countByValidatedTrue()).thenReturn(80L);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(100L, 80L, 50L));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -286,11 +283,9 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should have growth data with zero counts for 30-day window")
     public void shouldHaveGrowthDataWithZeroCountsFor30DayWindow() {
         // Given: Counts exist but no growth data in last 30 days
-        when(userRepository.count()).thenReturn(10L);
-        when(organizationRepository.count()).thenReturn(5L);
-        when(userRepository.countByValidatedTrue()).thenReturn(8L);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(10L, 8L, 5L));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -307,11 +302,9 @@ public class AdminStatsServiceTest extends UnitTest {
         final long totalUsers = 100L;
         final long activeUsers = 75L;
 
-        when(userRepository.count()).thenReturn(totalUsers);
-        when(userRepository.countByValidatedTrue()).thenReturn(activeUsers);
-        when(organizationRepository.count()).thenReturn(0L);
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(totalUsers, activeUsers, 0L));
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(Collections.emptyList());
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(Collections.emptyList());
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -326,9 +319,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should calculate positive growth percentage when users increase")
     public void shouldCalculatePositiveGrowthPercentageWhenUsersIncrease() {
         // Given: Yesterday total 100 users, today total 150 users (50% cumulative growth)
-        when(userRepository.count()).thenReturn(150L);
-        when(organizationRepository.count()).thenReturn(50L);
-        when(userRepository.countByValidatedTrue()).thenReturn(80L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(150L, 80L, 50L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -343,8 +334,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 50L, 2L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -365,9 +356,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should calculate negative growth percentage when users decrease")
     public void shouldCalculateNegativeGrowthPercentageWhenUsersDecrease() {
         // Given: Yesterday total 100 users, today total 75 users (-25% cumulative growth)
-        when(userRepository.count()).thenReturn(75L);
-        when(organizationRepository.count()).thenReturn(50L);
-        when(userRepository.countByValidatedTrue()).thenReturn(60L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(75L, 60L, 50L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -382,8 +371,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 50L, 2L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -404,9 +393,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should handle zero growth percentage when cumulative totals are equal")
     public void shouldHandleZeroGrowthPercentageWhenCountsAreEqual() {
         // Given: Yesterday total 100 users, today total 100 users (0% cumulative growth)
-        when(userRepository.count()).thenReturn(100L);
-        when(organizationRepository.count()).thenReturn(50L);
-        when(userRepository.countByValidatedTrue()).thenReturn(80L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(100L, 80L, 50L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -421,8 +408,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 50L, 0L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -443,9 +430,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should handle division by zero gracefully when previous day had zero total users")
     public void shouldHandleDivisionByZeroGracefullyWhenPreviousDayHadZeroNewUsers() {
         // Given: Yesterday total 0 users, today total 5 users (division by zero scenario)
-        when(userRepository.count()).thenReturn(5L);
-        when(organizationRepository.count()).thenReturn(2L);
-        when(userRepository.countByValidatedTrue()).thenReturn(5L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(5L, 5L, 2L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -460,8 +445,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 2L, 2L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -483,9 +468,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should calculate organizations growth percentage independently from users")
     public void shouldCalculateOrganizationsGrowthPercentageIndependentlyFromUsers() {
         // Given: Organizations with different cumulative growth metrics than users
-        when(userRepository.count()).thenReturn(150L);
-        when(organizationRepository.count()).thenReturn(52L);
-        when(userRepository.countByValidatedTrue()).thenReturn(120L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(150L, 120L, 52L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -502,8 +485,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 52L, 26L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -526,9 +509,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should calculate negative organizations growth percentage")
     public void shouldCalculateNegativeOrganizationsGrowthPercentage() {
         // Given: Organizations declining from 100 to 75 (-25% cumulative growth)
-        when(userRepository.count()).thenReturn(200L);
-        when(organizationRepository.count()).thenReturn(75L);
-        when(userRepository.countByValidatedTrue()).thenReturn(150L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(200L, 150L, 75L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -545,8 +526,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 75L, 0L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -567,9 +548,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should have no growth percentage for first day (no previous day)")
     public void shouldHaveNoGrowthPercentageForFirstDay() {
         // Given: Only one day of data (first day, no previous day)
-        when(userRepository.count()).thenReturn(100L);
-        when(organizationRepository.count()).thenReturn(50L);
-        when(userRepository.countByValidatedTrue()).thenReturn(80L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(100L, 80L, 50L));
 
         final LocalDate today = LocalDate.now();
 
@@ -582,8 +561,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 50L, 2L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -608,9 +587,7 @@ public class AdminStatsServiceTest extends UnitTest {
     public void shouldCalculatePrecisePercentageWithDecimalValues() {
         // Given: Data that results in precise percentage based on cumulative totals
         // Users: 100 -> 150 = 50%, Organizations: 50 -> 80 = 60%
-        when(userRepository.count()).thenReturn(150L);
-        when(organizationRepository.count()).thenReturn(80L);
-        when(userRepository.countByValidatedTrue()).thenReturn(120L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(150L, 120L, 80L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -625,8 +602,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 80L, 30L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -649,9 +626,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should handle organizations with zero previous day total gracefully")
     public void shouldHandleOrganizationsWithZeroPreviousDayGrowthGracefully() {
         // Given: Organizations with zero total yesterday, some today (division by zero scenario)
-        when(userRepository.count()).thenReturn(200L);
-        when(organizationRepository.count()).thenReturn(3L);
-        when(userRepository.countByValidatedTrue()).thenReturn(150L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(200L, 150L, 3L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -668,8 +643,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 3L, 3L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -693,9 +668,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should calculate multiple days of growth percentages correctly")
     public void shouldCalculateMultipleDaysOfGrowthPercentagesCorrectly() {
         // Given: Data spanning 3 days with varying cumulative growth patterns
-        when(userRepository.count()).thenReturn(120L);
-        when(organizationRepository.count()).thenReturn(60L);
-        when(userRepository.countByValidatedTrue()).thenReturn(100L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(120L, 100L, 60L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -715,8 +688,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 60L, 0L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
@@ -751,9 +724,7 @@ public class AdminStatsServiceTest extends UnitTest {
     @DisplayName("Should include percentage fields in all growth data points")
     public void shouldIncludePercentageFieldsInAllGrowthDataPoints() {
         // Given: Data for multiple days
-        when(userRepository.count()).thenReturn(100L);
-        when(organizationRepository.count()).thenReturn(50L);
-        when(userRepository.countByValidatedTrue()).thenReturn(80L);
+        when(dailyGrowthRepository.findGrowthTotals()).thenReturn(createMockTotals(100L, 80L, 50L));
 
         final LocalDate today = LocalDate.now();
         final LocalDate yesterday = today.minusDays(1);
@@ -768,8 +739,8 @@ public class AdminStatsServiceTest extends UnitTest {
             createMockGrowthData(today, 50L, 2L)
         );
 
-        when(userRepository.findDailyGrowthCounts(any(), any())).thenReturn(userGrowthData);
-        when(organizationRepository.findDailyGrowthCounts(any(), any())).thenReturn(orgGrowthData);
+        when(dailyGrowthRepository.findDailyUserGrowth(any(), any())).thenReturn(userGrowthData);
+        when(dailyGrowthRepository.findDailyOrganizationGrowth(any(), any())).thenReturn(orgGrowthData);
 
         // When: Getting admin stats
         final AdminStatsResponse stats = adminStatsService.getAdminStats();
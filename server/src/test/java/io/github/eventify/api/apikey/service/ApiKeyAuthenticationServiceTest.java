@@ -1,16 +1,20 @@
 package io.github.eventify.api.apikey.service;
 
+import io.github.eventify.api.apikey.cache.ApiKeyCredentialCache;
 import io.github.eventify.api.apikey.model.ApiKey;
 import io.github.eventify.api.apikey.model.ApiKeyScope;
 import io.github.eventify.api.apikey.repository.ApiKeyRepository;
+import io.github.eventify.api.apikey.usage.ApiKeyUsageAccumulator;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.user.model.User;
+import io.github.eventify.common.config.properties.SecurityProperties;
 import io.github.eventify.common.exception.ApiKeyExpiredException;
 import io.github.eventify.common.exception.InvalidApiKeyException;
 import io.github.eventify.common.exception.UserDisabledException;
 import io.github.eventify.common.security.principal.ApiKeyPrincipal;
 import io.github.eventify.support.TestBuilders;
 import io.github.eventify.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.time.OffsetDateTime;
 import java.util.Optional;
@@ -20,12 +24,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +45,12 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApiKeyUsageAccumulator usageAccumulator;
+
+    @Spy
+    private ApiKeyCredentialCache credentialCache = new ApiKeyCredentialCache(new SecurityProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private ApiKeyAuthenticationService apiKeyAuthenticationService;
 
@@ -65,7 +78,6 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
 
         when(apiKeyRepository.findBySuffix("3456")).thenReturn(Optional.of(apiKey));
         when(passwordEncoder.matches(rawKey, "hashed_key")).thenReturn(true);
-        when(apiKeyRepository.save(any(ApiKey.class))).thenReturn(apiKey);
 
         // When: Authenticating with the API key
         final ApiKeyPrincipal principal = apiKeyAuthenticationService.authenticate(rawKey);
@@ -78,7 +90,7 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
         assertThat(principal.getOrganizationId(), is(nullValue()));
 
         // And: Usage stats should be updated
-        verify(apiKeyRepository).save(any(ApiKey.class));
+        verify(usageAccumulator).record(principal.getApiKeyId());
     }
 
     @Test
@@ -92,7 +104,6 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
 
         when(apiKeyRepository.findBySuffix("3456")).thenReturn(Optional.of(apiKey));
         when(passwordEncoder.matches(rawKey, "hashed_key")).thenReturn(true);
-        when(apiKeyRepository.save(any(ApiKey.class))).thenReturn(apiKey);
 
         // When: Authenticating with organization API key
         final ApiKeyPrincipal principal = apiKeyAuthenticationService.authenticate(rawKey);
@@ -104,7 +115,7 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
         assertThat(principal.getOrganizationId(), is(100L));
 
         // And: Usage stats should be updated
-        verify(apiKeyRepository).save(any(ApiKey.class));
+        verify(usageAccumulator).record(principal.getApiKeyId());
     }
 
     @Test
@@ -216,18 +227,13 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
 
         when(apiKeyRepository.findBySuffix("3456")).thenReturn(Optional.of(apiKey));
         when(passwordEncoder.matches(rawKey, "hashed_key")).thenReturn(true);
-        when(apiKeyRepository.save(any(ApiKey.class))).thenReturn(apiKey);
 
         // When: Authenticating with the API key
         apiKeyAuthenticationService.authenticate(rawKey);
 
-        // Then: Should update usage stats
-        verify(apiKeyRepository).save(
-            org.mockito.ArgumentMatchers.argThat(
-                savedKey -> savedKey.getTotalRequests().equals(101L) &&
-                    savedKey.getLastUsedAt() != null
-            )
-        );
+        // Then: Should record the usage in memory instead of saving the entity
+        verify(usageAccumulator).record(1L);
+        verify(apiKeyRepository, never()).save(any(ApiKey.class));
     }
 
     @Test
@@ -240,7 +246,6 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
 
         when(apiKeyRepository.findBySuffix("3456")).thenReturn(Optional.of(apiKey));
         when(passwordEncoder.matches(rawKey, "hashed_key")).thenReturn(true);
-        when(apiKeyRepository.save(any(ApiKey.class))).thenReturn(apiKey);
 
         // When: Authenticating with the API key
         final ApiKeyPrincipal principal = apiKeyAuthenticationService.authenticate(rawKey);
@@ -265,7 +270,6 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
 
         when(apiKeyRepository.findBySuffix("3456")).thenReturn(Optional.of(apiKey));
         when(passwordEncoder.matches(rawKey, "hashed_key")).thenReturn(true);
-        when(apiKeyRepository.save(any(ApiKey.class))).thenReturn(apiKey);
 
         // When: Authenticating with the API key
         final ApiKeyPrincipal principal = apiKeyAuthenticationService.authenticate(rawKey);
@@ -286,7 +290,6 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
 
         when(apiKeyRepository.findBySuffix("3456")).thenReturn(Optional.of(apiKey));
         when(passwordEncoder.matches(rawKey, "hashed_key")).thenReturn(true);
-        when(apiKeyRepository.save(any(ApiKey.class))).thenReturn(apiKey);
 
         // When: Authenticating with the API key
         final ApiKeyPrincipal principal = apiKeyAuthenticationService.authenticate(rawKey);
@@ -306,7 +309,6 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
 
         when(apiKeyRepository.findBySuffix("test")).thenReturn(Optional.of(apiKey));
         when(passwordEncoder.matches(rawKey, "hashed_key")).thenReturn(true);
-        when(apiKeyRepository.save(any(ApiKey.class))).thenReturn(apiKey);
 
         // When: Authenticating with the API key
         final ApiKeyPrincipal principal = apiKeyAuthenticationService.authenticate(rawKey);
@@ -316,4 +318,71 @@ public class ApiKeyAuthenticationServiceTest extends UnitTest {
         verify(apiKeyRepository).findBySuffix("test");
     }
 
+    @Test
+    @DisplayName("Should serve repeat requests from the verified-key cache")
+    public void shouldServeRepeatRequestsFromCache() {
+        // Given: A valid API key that was authenticated once
+        final String rawKey = "evt_abcdefghijklmnopqrstuvwxyz123456";
+        final ApiKey apiKey = anApiKey(1L, "3456", "Production Key", user);
+        apiKey.setHashedKey("hashed_key");
+
+        when(apiKeyRepository.findBySuffix("3456")).thenReturn(Optional.of(apiKey));
+        when(passwordEncoder.matches(rawKey, "hashed_key")).thenReturn(true);
+        apiKeyAuthenticationService.authenticate(rawKey);
+
+        // When: Authenticating again with the same key
+        final ApiKeyPrincipal principal = apiKeyAuthenticationService.authenticate(rawKey);
+
+        // Then: The lookup and the hash check ran only once
+        assertThat(principal.getApiKeyId(), is(1L));
+        verify(apiKeyRepository, times(1)).findBySuffix("3456");
+        verify(passwordEncoder, times(1)).matches(rawKey, "hashed_key");
+        assertThat(credentialCache.getHitRatio(), is(closeTo(0.5, 0.001)));
+
+        // And: Both requests are counted as usage
+        verify(usageAccumulator, times(2)).record(1L);
+    }
+
+    @Test
+    @DisplayName("Should verify again after the key is evicted")
+    public void shouldVerifyAgainAfterEviction() {
+        // Given: A cached API key
+        final String rawKey = "evt_abcdefghijklmnopqrstuvwxyz123456";
+        final ApiKey apiKey = anApiKey(1L, "3456", "Production Key", user);
+        apiKey.setHashedKey("hashed_key");
+
+        when(apiKeyRepository.findBySuffix("3456")).thenReturn(Optional.of(apiKey));
+        when(passwordEncoder.matches(rawKey, "hashed_key")).thenReturn(true);
+        apiKeyAuthenticationService.authenticate(rawKey);
+
+        // When: The user is disabled and the key is used again
+        apiKey.getUser().setEnabled(false);
+        credentialCache.evictUser(user.getId());
+
+        // Then: The key is verified against the database and rejected
+        assertThrows(
+            UserDisabledException.class,
+            () -> apiKeyAuthenticationService.authenticate(rawKey)
+        );
+        verify(apiKeyRepository, times(2)).findBySuffix("3456");
+    }
+
+    @Test
+    @DisplayName("Should not cache failed verifications")
+    public void shouldNotCacheFailedVerifications() {
+        // Given: API key with wrong hash
+        final String rawKey = "evt_abcdefghijklmnopqrstuvwxyz123456";
+        final ApiKey apiKey = anApiKey(1L, "3456", "Production Key", user);
+        apiKey.setHashedKey("different_hash");
+
+        when(apiKeyRepository.findBySuffix("3456")).thenReturn(Optional.of(apiKey));
+        when(passwordEncoder.matches(rawKey, "different_hash")).thenReturn(false);
+
+        // When: Authenticating twice
+        assertThrows(InvalidApiKeyException.class, () -> apiKeyAuthenticationService.authenticate(rawKey));
+        assertThrows(InvalidApiKeyException.class, () -> apiKeyAuthenticationService.authenticate(rawKey));
+
+        // Then: Both attempts ran the full verification
+        verify(passwordEncoder, times(2)).matches(rawKey, "different_hash");
+    }
 }
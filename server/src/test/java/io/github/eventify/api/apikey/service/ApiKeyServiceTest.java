@@ -1,5 +1,6 @@
 package io.github.eventify.api.apikey.service;
 
+import io.github.eventify.api.apikey.cache.ApiKeyCredentialCache;
 import io.github.eventify.api.apikey.model.ApiKey;
 import io.github.eventify.api.apikey.model.ApiKeyAudit;
 import io.github.eventify.api.apikey.model.ApiKeyScope;
@@ -53,6 +54,9 @@ public class ApiKeyServiceTest extends UnitTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApiKeyCredentialCache credentialCache;
+
     @InjectMocks
     private ApiKeyService apiKeyService;
 
@@ -279,6 +283,9 @@ public class ApiKeyServiceTest extends UnitTest {
 
         // Then: Key should be deleted
         verify(apiKeyRepository).delete(key);
+
+        // And: Its cached verification should be evicted
+        verify(credentialCache).evictApiKey(1L);
     }
 
     @Test
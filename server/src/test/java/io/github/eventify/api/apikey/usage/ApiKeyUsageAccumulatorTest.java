@@ -0,0 +1,96 @@
+package io.github.eventify.api.apikey.usage;
+
+import io.github.eventify.api.apikey.model.ApiKeyUsage;
+import io.github.eventify.api.apikey.repository.ApiKeyUsageWriter;
+import io.github.eventify.support.UnitTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Unit Test - API Key Usage Accumulator")
+public class ApiKeyUsageAccumulatorTest extends UnitTest {
+
+    @Mock
+    private ApiKeyUsageWriter apiKeyUsageWriter;
+
+    @Captor
+    private ArgumentCaptor<List<ApiKeyUsage>> usagesCaptor;
+
+    @InjectMocks
+    private ApiKeyUsageAccumulator accumulator;
+
+    @Test
+    @DisplayName("Should write accumulated usage per key in one batch")
+    public void shouldWriteAccumulatedUsagePerKeyInOneBatch() {
+        // Given: Three requests for key 1 and one for key 2
+        accumulator.record(1L);
+        accumulator.record(1L);
+        accumulator.record(1L);
+        accumulator.record(2L);
+
+        // When: Flushing
+        final int flushed = accumulator.flush();
+
+        // Then: Both keys are written in a single batch with their totals
+        assertThat(flushed, is(2));
+        final Map<Long, ApiKeyUsage> usages = captureAppliedUsages();
+        assertThat(usages.get(1L).getRequests(), is(3L));
+        assertThat(usages.get(2L).getRequests(), is(1L));
+        assertThat(usages.get(1L).getLastUsedAt(), is(notNullValue()));
+    }
+
+    @Test
+    @DisplayName("Should not write anything when no usage is pending")
+    public void shouldNotWriteWhenNothingPending() {
+        // Given: Usage that was already flushed
+        accumulator.record(1L);
+        accumulator.flush();
+
+        // When: Flushing again
+        final int flushed = accumulator.flush();
+
+        // Then: No second write happens
+        assertThat(flushed, is(0));
+        verify(apiKeyUsageWriter, times(1)).applyAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep usage pending when a flush fails")
+    public void shouldKeepUsagePendingWhenFlushFails() {
+        // Given: Pending usage and a failing first write
+        accumulator.record(1L);
+        accumulator.record(1L);
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(apiKeyUsageWriter).applyAll(anyList());
+        assertThrows(QueryTimeoutException.class, () -> accumulator.flush());
+
+        // When: A request arrives and the next flush succeeds
+        accumulator.record(1L);
+        accumulator.flush();
+
+        // Then: The retried flush includes the earlier requests
+        verify(apiKeyUsageWriter, times(2)).applyAll(usagesCaptor.capture());
+        assertThat(usagesCaptor.getAllValues().getLast().getFirst().getRequests(), is(3L));
+    }
+
+    // ===== Factory Methods =====
+
+    private Map<Long, ApiKeyUsage> captureAppliedUsages() {
+        verify(apiKeyUsageWriter).applyAll(usagesCaptor.capture());
+        return usagesCaptor.getValue().stream().collect(Collectors.toMap(ApiKeyUsage::getApiKeyId, usage -> usage));
+    }
+}
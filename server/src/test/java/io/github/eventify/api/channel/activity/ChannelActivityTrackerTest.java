@@ -0,0 +1,106 @@
+package io.github.eventify.api.channel.activity;
+
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.api.channel.model.ChannelActivity;
+import io.github.eventify.api.channel.repository.ChannelActivityWriter;
+import io.github.eventify.api.event.model.Event;
+import io.github.eventify.support.UnitTest;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Unit Test - Channel Activity Tracker")
+public class ChannelActivityTrackerTest extends UnitTest {
+
+    private static final OffsetDateTime NOON = OffsetDateTime.parse("2026-10-18T12:00:00Z");
+
+    @Mock
+    private ChannelActivityWriter channelActivityWriter;
+
+    @Captor
+    private ArgumentCaptor<List<ChannelActivity>> activitiesCaptor;
+
+    @InjectMocks
+    private ChannelActivityTracker tracker;
+
+    @Test
+    @DisplayName("Should write the latest event timestamp per channel in one batch")
+    public void shouldWriteLatestTimestampPerChannelInOneBatch() {
+        // Given: Out-of-order events for channel 1 and a single event for channel 2
+        tracker.recordAll(List.of(anEvent(1L, NOON), anEvent(1L, NOON.plusMinutes(5)), anEvent(2L, NOON)));
+        tracker.recordAll(List.of(anEvent(1L, NOON.minusMinutes(5))));
+
+        // When: Flushing
+        final int flushed = tracker.flush();
+
+        // Then: Both channels are written in a single batch with their newest timestamp
+        assertThat(flushed, is(2));
+        final Map<Long, ChannelActivity> activities = captureAppliedActivities();
+        assertThat(activities.get(1L).getLastEventAt(), is(NOON.plusMinutes(5)));
+        assertThat(activities.get(2L).getLastEventAt(), is(NOON));
+    }
+
+    @Test
+    @DisplayName("Should not write anything when no activity is pending")
+    public void shouldNotWriteWhenNothingPending() {
+        // Given: Activity that was already flushed
+        tracker.recordAll(List.of(anEvent(1L, NOON)));
+        tracker.flush();
+
+        // When: Flushing again
+        final int flushed = tracker.flush();
+
+        // Then: No second write happens
+        assertThat(flushed, is(0));
+        verify(channelActivityWriter, times(1)).applyAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep activity pending when a flush fails")
+    public void shouldKeepActivityPendingWhenFlushFails() {
+        // Given: Pending activity and a failing first write
+        tracker.recordAll(List.of(anEvent(1L, NOON)));
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(channelActivityWriter).applyAll(anyList());
+        assertThrows(QueryTimeoutException.class, () -> tracker.flush());
+
+        // When: The next flush succeeds
+        tracker.flush();
+
+        // Then: The retried flush still carries the timestamp
+        verify(channelActivityWriter, times(2)).applyAll(activitiesCaptor.capture());
+        assertThat(activitiesCaptor.getAllValues().getLast().getFirst().getLastEventAt(), is(NOON));
+    }
+
+    // ===== Factory Methods =====
+
+    private Event anEvent(final Long channelId, final OffsetDateTime timestamp) {
+        final Channel channel = new Channel();
+        channel.setId(channelId);
+        final Event event = new Event();
+        event.setChannel(channel);
+        event.setTimestamp(timestamp);
+        return event;
+    }
+
+    private Map<Long, ChannelActivity> captureAppliedActivities() {
+        verify(channelActivityWriter).applyAll(activitiesCaptor.capture());
+        return activitiesCaptor.getValue().stream()
+            .collect(Collectors.toMap(ChannelActivity::getChannelId, activity -> activity));
+    }
+}
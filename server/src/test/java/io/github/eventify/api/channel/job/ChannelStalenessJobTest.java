@@ -1,13 +1,21 @@
 package io.github.eventify.api.channel.job;
 
 import io.github.eventify.api.channel.repository.ChannelRepository;
+import io.github.eventify.common.util.TimeProvider;
 import io.github.eventify.support.UnitTest;
 
+import java.time.OffsetDateTime;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -42,6 +50,7 @@ public class ChannelStalenessJobTest extends UnitTest {
         channelStalenessJob.markStaleChannels();
 
         // Then: Should call repository to mark channels as stale and clear active ones
+        verify(channelRepository).syncLastEventAtSince(any());
         verify(channelRepository).markChannelsAsStale(any(), any());
         verify(channelRepository).clearStaleForActiveChannels(any());
         verifyNoMoreInteractions(channelRepository);
@@ -74,6 +83,7 @@ public class ChannelStalenessJobTest extends UnitTest {
         channelStalenessJob.markStaleChannels();
 
         // Then: Should complete without errors
+        verify(channelRepository).syncLastEventAtSince(any());
         verify(channelRepository).markChannelsAsStale(any(), any());
         verify(channelRepository).clearStaleForActiveChannels(any());
         verifyNoMoreInteractions(channelRepository);
@@ -121,8 +131,27 @@ public class ChannelStalenessJobTest extends UnitTest {
         channelStalenessJob.markStaleChannels();
 
         // Then: Should call both mark and clear methods
+        verify(channelRepository).syncLastEventAtSince(any());
         verify(channelRepository).markChannelsAsStale(any(), any());
         verify(channelRepository).clearStaleForActiveChannels(any());
         verifyNoMoreInteractions(channelRepository);
     }
+
+    @Test
+    @DisplayName("Should only reconcile lastEventAt with the events since the previous run")
+    public void shouldOnlyReconcileLastEventAtWithTheEventsSinceThePreviousRun() {
+        // Given: The job runs every 5 minutes
+        final OffsetDateTime before = TimeProvider.now();
+
+        // When: Job executes
+        channelStalenessJob.markStaleChannels();
+
+        // Then: The events of the last 5 minutes and a margin are reconciled, not those of the last hour
+        final ArgumentCaptor<OffsetDateTime> since = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(channelRepository).syncLastEventAtSince(since.capture());
+        assertThat(since.getValue(), allOf(
+            greaterThanOrEqualTo(before.minusMinutes(10)),
+            lessThan(before.minusMinutes(5))
+        ));
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.eventify.api.channel.service;
 
+import io.github.eventify.api.channel.cache.ChannelResolutionCache;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelStatus;
 import io.github.eventify.api.channel.repository.ChannelRepository;
@@ -34,6 +35,9 @@ public class ChannelCleanupServiceTest extends UnitTest {
     @Mock
     private WatchlistRepository watchlistRepository;
 
+    @Mock
+    private ChannelResolutionCache channelResolutionCache;
+
     @InjectMocks
     private ChannelCleanupService channelCleanupService;
 
@@ -2,16 +2,21 @@ package io.github.eventify.api.channel.service;
 
 import io.github.eventify.api.apikey.model.ApiKeyScope;
 import io.github.eventify.api.channel.cache.ChannelCache;
+import io.github.eventify.api.channel.cache.ChannelResolutionCache;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelStatus;
 import io.github.eventify.api.channel.repository.ChannelRepository;
+import io.github.eventify.api.event.model.request.BatchEventRequest;
+import io.github.eventify.api.event.model.request.CreateEventRequest;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.common.security.principal.ApiKeyPrincipal;
 import io.github.eventify.support.TestBuilders;
 import io.github.eventify.support.UnitTest;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +26,10 @@ import org.mockito.Mock;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @DisplayName("Unit Test - Channel Security Service")
@@ -32,6 +41,9 @@ public class ChannelSecurityServiceTest extends UnitTest {
     @Mock
     private ChannelCache channelCache;
 
+    @Mock
+    private ChannelResolutionCache channelResolutionCache;
+
     @InjectMocks
     private ChannelSecurityService channelSecurityService;
 
@@ -218,6 +230,68 @@ public class ChannelSecurityServiceTest extends UnitTest {
         assertThat(result, is(true));
     }
 
+    @Test
+    @DisplayName("Should resolve channel from resolution cache without querying the database")
+    public void shouldResolveChannelFromResolutionCacheWithoutQuery() {
+        // Given: Personal principal whose channel is already in the resolution cache
+        final ApiKeyPrincipal principal = aPersonalPrincipal(user1);
+        final Channel channel = aPersonalChannel("my-channel", user1);
+
+        when(channelResolutionCache.get(channel.getSlug(), principal)).thenReturn(Optional.of(channel));
+
+        // When: canAccess called
+        final boolean result = channelSecurityService.canAccess(channel.getSlug(), principal);
+
+        // Then: Access granted, channel handed to the request cache, no database query
+        assertThat(result, is(true));
+        verify(channelCache).put(channel);
+        verifyNoInteractions(channelRepository);
+    }
+
+    @Test
+    @DisplayName("Should remember channel in resolution cache after a database lookup")
+    public void shouldRememberChannelInResolutionCacheAfterLookup() {
+        // Given: Org principal whose channel is not cached yet
+        final ApiKeyPrincipal principal = anOrgPrincipal(user1, org1);
+        final Channel channel = anOrgChannel("org-channel", user1, org1);
+
+        when(channelRepository.findBySlugAndPrincipal(channel.getSlug(), principal))
+            .thenReturn(Optional.of(channel));
+
+        // When: canAccess called
+        channelSecurityService.canAccess(channel.getSlug(), principal);
+
+        // Then: Channel stored for subsequent requests
+        verify(channelResolutionCache).put(channel);
+    }
+
+    @Test
+    @DisplayName("Should resolve uncached batch slugs with a single scoped query")
+    public void shouldResolveUncachedBatchSlugsWithSingleQuery() {
+        // Given: Org principal, batch across a cached channel and two uncached channels
+        final ApiKeyPrincipal principal = anOrgPrincipal(user1, org1);
+        final Channel cached = anOrgChannel("cached-channel", user1, org1);
+        final Channel first = anOrgChannel("first-channel", user1, org1);
+        final Channel second = anOrgChannel("second-channel", user1, org1);
+        final BatchEventRequest request = new BatchEventRequest().setEvents(
+            List.of(anEventFor(cached), anEventFor(first), anEventFor(second), anEventFor(first))
+        );
+
+        when(channelResolutionCache.get(cached.getSlug(), principal)).thenReturn(Optional.of(cached));
+        when(channelRepository.findBySlugsAndPrincipal(Set.of(first.getSlug(), second.getSlug()), principal))
+            .thenReturn(List.of(first, second));
+
+        // When: canAccessBatch called
+        final boolean result = channelSecurityService.canAccessBatch(request, principal);
+
+        // Then: Access granted, one query for the uncached slugs, all channels cached for the request
+        assertThat(result, is(true));
+        verify(channelRepository, never()).findBySlugAndPrincipal(any(), any());
+        verify(channelCache).putAll(List.of(cached, first, second));
+        verify(channelResolutionCache).put(first);
+        verify(channelResolutionCache).put(second);
+    }
+
     // ===== Factory Methods =====
 
     /**
@@ -257,6 +331,16 @@ public class ChannelSecurityServiceTest extends UnitTest {
         return channel;
     }
 
+    /**
+     * Creates an event request for a channel.
+     *
+     * @param channel the target channel
+     * @return event request
+     */
+    private CreateEventRequest anEventFor(final Channel channel) {
+        return new CreateEventRequest().setSlug(channel.getSlug());
+    }
+
     /**
      * Creates a personal API key principal (organizationId=null).
      *
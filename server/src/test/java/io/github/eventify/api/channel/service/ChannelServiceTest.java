@@ -1,5 +1,6 @@
 package io.github.eventify.api.channel.service;
 
+import io.github.eventify.api.channel.cache.ChannelResolutionCache;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelMetaData;
 import io.github.eventify.api.channel.model.ChannelStatus;
@@ -47,6 +48,9 @@ public class ChannelServiceTest extends UnitTest {
     @Mock
     private ChannelCreationService channelCreationService;
 
+    @Mock
+    private ChannelResolutionCache channelResolutionCache;
+
     @Spy
     private ChannelMetaData channelMetaData = new ChannelMetaData();
 
@@ -4,17 +4,16 @@ import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelStatus;
 import io.github.eventify.api.channel.repository.ChannelRepository;
 import io.github.eventify.api.dashboard.model.response.DashboardStatsResponse;
-import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.event.model.LatestChannelEvent;
 import io.github.eventify.api.event.model.Severity;
 import io.github.eventify.api.event.repository.EventRepository;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.user.model.User;
-import io.github.eventify.support.TestBuilders;
 import io.github.eventify.support.UnitTest;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +24,8 @@ import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("Unit Test - Dashboard Stats Service")
 public class DashboardStatsServiceTest extends UnitTest {
@@ -50,18 +51,15 @@ public class DashboardStatsServiceTest extends UnitTest {
             .willReturn(channels);
 
         // And: 2 channels have CRITICAL as last event
-        final Event criticalEvent1 = TestBuilders.anEvent(channels.get(0), Severity.CRITICAL, OffsetDateTime.now());
-        final Event criticalEvent2 = TestBuilders.anEvent(channels.get(1), Severity.CRITICAL, OffsetDateTime.now());
-        final Event okEvent = TestBuilders.anEvent(channels.get(2), Severity.OK, OffsetDateTime.now());
-
-        given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channels.get(0).getId()))
-            .willReturn(Optional.of(criticalEvent1));
-        given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channels.get(1).getId()))
-            .willReturn(Optional.of(criticalEvent2));
+        final LatestChannelEvent criticalEvent1 = aLatestEvent(channels.get(0), Severity.CRITICAL, OffsetDateTime.now());
+        final LatestChannelEvent criticalEvent2 = aLatestEvent(channels.get(1), Severity.CRITICAL, OffsetDateTime.now());
+        final LatestChannelEvent okEvent = aLatestEvent(channels.get(2), Severity.OK, OffsetDateTime.now());
+
+        final List<LatestChannelEvent> latestEvents = new ArrayList<>(List.of(criticalEvent1, criticalEvent2));
         for (int i = 2; i < 10; i++) {
-            given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channels.get(i).getId()))
-                .willReturn(Optional.of(okEvent));
+            latestEvents.add(okEvent);
         }
+        given(eventRepository.findLatestEventPerChannel(any())).willReturn(latestEvents);
 
         // When: Getting personal dashboard stats
         final DashboardStatsResponse stats = dashboardStatsService.getPersonalStats(user.getId());
@@ -105,11 +103,8 @@ public class DashboardStatsServiceTest extends UnitTest {
             .willReturn(expectedEventCount);
 
         // And: Mock last events for channels
-        for (final Channel channel : channels) {
-            final Event okEvent = TestBuilders.anEvent(channel, Severity.OK, OffsetDateTime.now());
-            given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channel.getId()))
-                .willReturn(Optional.of(okEvent));
-        }
+        given(eventRepository.findLatestEventPerChannel(any()))
+            .willReturn(latestEventsOf(channels, Severity.OK));
 
         // When: Getting personal dashboard stats
         final DashboardStatsResponse stats = dashboardStatsService.getPersonalStats(user.getId());
@@ -129,10 +124,7 @@ public class DashboardStatsServiceTest extends UnitTest {
 
         // And: Mock events
         given(eventRepository.countByChannelIdInAndTimestampAfter(any(), any())).willReturn(0L);
-        for (final Channel channel : channels) {
-            given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channel.getId()))
-                .willReturn(Optional.empty());
-        }
+        given(eventRepository.findLatestEventPerChannel(any())).willReturn(List.of());
 
         // When: Getting personal dashboard stats
         final DashboardStatsResponse stats = dashboardStatsService.getPersonalStats(user.getId());
@@ -155,12 +147,11 @@ public class DashboardStatsServiceTest extends UnitTest {
         final OffsetDateTime oneHourAgo = now.minusHours(1);
         final OffsetDateTime twoHoursAgo = now.minusHours(2);
 
-        given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channels.get(0).getId()))
-            .willReturn(Optional.of(TestBuilders.anEvent(channels.get(0), Severity.OK, twoHoursAgo)));
-        given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channels.get(1).getId()))
-            .willReturn(Optional.of(TestBuilders.anEvent(channels.get(1), Severity.OK, now)));
-        given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channels.get(2).getId()))
-            .willReturn(Optional.of(TestBuilders.anEvent(channels.get(2), Severity.OK, oneHourAgo)));
+        given(eventRepository.findLatestEventPerChannel(any())).willReturn(List.of(
+            aLatestEvent(channels.get(0), Severity.OK, twoHoursAgo),
+            aLatestEvent(channels.get(1), Severity.OK, now),
+            aLatestEvent(channels.get(2), Severity.OK, oneHourAgo)
+        ));
 
         given(eventRepository.countByChannelIdInAndTimestampAfter(any(), any())).willReturn(0L);
 
@@ -168,7 +159,7 @@ public class DashboardStatsServiceTest extends UnitTest {
         final DashboardStatsResponse stats = dashboardStatsService.getPersonalStats(user.getId());
 
         // Then: Last event timestamp should be the most recent
-        assertThat(stats.lastEventAt(), is(equalTo(now)));
+        assertThat(stats.lastEventAt().toInstant(), is(equalTo(now.toInstant())));
     }
 
     @Test
@@ -182,10 +173,7 @@ public class DashboardStatsServiceTest extends UnitTest {
 
         // And: Mock events
         given(eventRepository.countByChannelIdInAndTimestampAfter(any(), any())).willReturn(0L);
-        for (final Channel channel : personalChannels) {
-            given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channel.getId()))
-                .willReturn(Optional.empty());
-        }
+        given(eventRepository.findLatestEventPerChannel(any())).willReturn(List.of());
 
         // When: Getting personal dashboard stats
         final DashboardStatsResponse stats = dashboardStatsService.getPersonalStats(user.getId());
@@ -205,10 +193,7 @@ public class DashboardStatsServiceTest extends UnitTest {
 
         // And: Mock events
         given(eventRepository.countByChannelIdInAndTimestampAfter(any(), any())).willReturn(0L);
-        for (final Channel channel : orgChannels) {
-            given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channel.getId()))
-                .willReturn(Optional.empty());
-        }
+        given(eventRepository.findLatestEventPerChannel(any())).willReturn(List.of());
 
         // When: Getting org dashboard stats
         final DashboardStatsResponse stats = dashboardStatsService.getOrganizationStats(orgId);
@@ -227,10 +212,7 @@ public class DashboardStatsServiceTest extends UnitTest {
             .willReturn(channels);
 
         // And: No events for any channel
-        for (final Channel channel : channels) {
-            given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channel.getId()))
-                .willReturn(Optional.empty());
-        }
+        given(eventRepository.findLatestEventPerChannel(any())).willReturn(List.of());
 
         given(eventRepository.countByChannelIdInAndTimestampAfter(any(), any())).willReturn(0L);
 
@@ -251,11 +233,8 @@ public class DashboardStatsServiceTest extends UnitTest {
             .willReturn(channels);
 
         // And: All channels have CRITICAL as last event
-        for (final Channel channel : channels) {
-            final Event criticalEvent = TestBuilders.anEvent(channel, Severity.CRITICAL, OffsetDateTime.now());
-            given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channel.getId()))
-                .willReturn(Optional.of(criticalEvent));
-        }
+        given(eventRepository.findLatestEventPerChannel(any()))
+            .willReturn(latestEventsOf(channels, Severity.CRITICAL));
 
         given(eventRepository.countByChannelIdInAndTimestampAfter(any(), any())).willReturn(0L);
 
@@ -276,14 +255,12 @@ public class DashboardStatsServiceTest extends UnitTest {
             .willReturn(channels);
 
         // And: Various severity levels (only 1 CRITICAL)
-        given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channels.get(0).getId()))
-            .willReturn(Optional.of(TestBuilders.anEvent(channels.get(0), Severity.CRITICAL, OffsetDateTime.now())));
-        given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channels.get(1).getId()))
-            .willReturn(Optional.of(TestBuilders.anEvent(channels.get(1), Severity.WARNING, OffsetDateTime.now())));
-        given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channels.get(2).getId()))
-            .willReturn(Optional.of(TestBuilders.anEvent(channels.get(2), Severity.OK, OffsetDateTime.now())));
-        given(eventRepository.findTopByChannelIdOrderByTimestampDesc(channels.get(3).getId()))
-            .willReturn(Optional.of(TestBuilders.anEvent(channels.get(3), Severity.NO_DATA, OffsetDateTime.now())));
+        given(eventRepository.findLatestEventPerChannel(any())).willReturn(List.of(
+            aLatestEvent(channels.get(0), Severity.CRITICAL, OffsetDateTime.now()),
+            aLatestEvent(channels.get(1), Severity.WARNING, OffsetDateTime.now()),
+            aLatestEvent(channels.get(2), Severity.OK, OffsetDateTime.now()),
+            aLatestEvent(channels.get(3), Severity.NO_DATA, OffsetDateTime.now())
+        ));
 
         given(eventRepository.countByChannelIdInAndTimestampAfter(any(), any())).willReturn(0L);
 
@@ -294,10 +271,42 @@ public class DashboardStatsServiceTest extends UnitTest {
         assertThat(stats.errorRate(), is(equalTo(25.0)));
     }
 
+    @Test
+    @DisplayName("Should fetch latest events of all channels with a single query")
+    public void shouldFetchLatestEventsOfAllChannelsWithSingleQuery() {
+        // Given: Organization with many active channels
+        final Long orgId = 1L;
+        final List<Channel> orgChannels = createMockChannels(2_000, aValidUser(), new Organization());
+        given(channelRepository.findByOrganizationIdAndStatus(orgId, ChannelStatus.ACTIVE))
+            .willReturn(orgChannels);
+        given(eventRepository.countByChannelIdInAndTimestampAfter(any(), any())).willReturn(0L);
+        given(eventRepository.findLatestEventPerChannel(any()))
+            .willReturn(latestEventsOf(orgChannels, Severity.OK));
+
+        // When: Getting org dashboard stats
+        final DashboardStatsResponse stats = dashboardStatsService.getOrganizationStats(orgId);
+
+        // Then: Latest events were fetched once for all channel ids
+        assertThat(stats.activeChannels(), is(equalTo(2_000)));
+        verify(eventRepository, times(1)).findLatestEventPerChannel(
+            orgChannels.stream().map(Channel::getId).toList()
+        );
+    }
+
     // ========================= HELPER METHODS =========================
 
+    private List<LatestChannelEvent> latestEventsOf(final List<Channel> channels, final Severity severity) {
+        return channels.stream()
+            .map(channel -> aLatestEvent(channel, severity, OffsetDateTime.now()))
+            .toList();
+    }
+
+    private LatestChannelEvent aLatestEvent(final Channel channel, final Severity severity, final OffsetDateTime timestamp) {
+        return LatestChannelEvent.of(channel.getId(), timestamp, severity);
+    }
+
     private List<Channel> createMockChannels(final int count, final User user, final Organization org) {
-        final List<Channel> channels = new java.util.ArrayList<>();
+        final List<Channel> channels = new ArrayList<>();
         for (int i = 0; i < count; i++) {
             final Channel channel = new Channel();
             channel.setId((long) (i + 1));
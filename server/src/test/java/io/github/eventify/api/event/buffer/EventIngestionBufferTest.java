@@ -0,0 +1,246 @@
+package io.github.eventify.api.event.buffer;
+
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.event.model.request.CreateEventRequest;
+import io.github.eventify.api.event.repository.EventBatchWriter;
+import io.github.eventify.api.event.service.EventWriteCallbacks;
+import io.github.eventify.common.config.properties.IngestionProperties;
+import io.github.eventify.common.exception.IngestionBufferFullException;
+import io.github.eventify.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static io.github.eventify.api.event.buffer.EventIngestionBuffer.BATCH_SIZE_METRIC;
+import static io.github.eventify.api.event.buffer.EventIngestionBuffer.DROPPED_METRIC;
+import static io.github.eventify.api.event.buffer.EventIngestionBuffer.PUBLISH_ERRORS_METRIC;
+import static io.github.eventify.api.event.buffer.EventIngestionBuffer.QUEUE_DEPTH_METRIC;
+import static io.github.eventify.api.event.buffer.EventIngestionBuffer.REJECTED_METRIC;
+import static io.github.eventify.api.event.buffer.EventIngestionBuffer.WRITER_ERRORS_METRIC;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Unit Test - Event Ingestion Buffer")
+public class EventIngestionBufferTest extends UnitTest {
+
+    private static final int CAPACITY = 3;
+    private static final int BATCH_SIZE = 2;
+    private static final long VERIFY_TIMEOUT_MILLIS = 2_000L;
+
+    @Mock
+    private EventBatchWriter eventBatchWriter;
+
+    @Mock
+    private EventWriteCallbacks eventWriteCallbacks;
+
+    private IngestionProperties ingestionProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private EventIngestionBuffer buffer;
+
+    @BeforeEach
+    public void setUp() {
+        ingestionProperties = new IngestionProperties();
+        ingestionProperties.getAsync().setBufferCapacity(CAPACITY);
+        ingestionProperties.getAsync().setBatchSize(BATCH_SIZE);
+        ingestionProperties.getAsync().setFlushInterval(Duration.ofMillis(50));
+        ingestionProperties.getAsync().setWriters(1);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        buffer.stop();
+    }
+
+    @Test
+    @DisplayName("Should reject events with backpressure when the buffer is full")
+    public void shouldRejectEventsWhenBufferFull() {
+        // Given: A buffer without running writers, filled to capacity
+        buffer = new EventIngestionBuffer(ingestionProperties, eventBatchWriter, eventWriteCallbacks, meterRegistry);
+        for (long id = 1; id <= CAPACITY; id++) {
+            buffer.enqueue(anEvent(id));
+        }
+
+        // When & Then: The next event is rejected
+        assertThrows(IngestionBufferFullException.class, () -> buffer.enqueue(anEvent(CAPACITY + 1L)));
+
+        // And: Queue depth and rejections are exposed as metrics
+        assertThat(meterRegistry.get(QUEUE_DEPTH_METRIC).gauge().value(), is((double) CAPACITY));
+        assertThat(meterRegistry.get(REJECTED_METRIC).counter().count(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("Should flush a micro-batch as soon as the batch size is reached")
+    public void shouldFlushWhenBatchSizeReached() {
+        // Given: A running buffer
+        ingestionProperties.getAsync().setEnabled(true);
+        ingestionProperties.getAsync().setFlushInterval(Duration.ofSeconds(10));
+        buffer = new EventIngestionBuffer(ingestionProperties, eventBatchWriter, eventWriteCallbacks, meterRegistry);
+        buffer.start();
+
+        // When: Queuing a full batch
+        buffer.enqueue(anEvent(1L));
+        buffer.enqueue(anEvent(2L));
+
+        // Then: The batch is written well before the flush interval elapses
+        final ArgumentCaptor<List<Event>> batchCaptor = batchCaptor();
+        verify(eventBatchWriter, timeout(VERIFY_TIMEOUT_MILLIS)).insertAll(batchCaptor.capture());
+        assertThat(batchCaptor.getValue(), hasSize(BATCH_SIZE));
+
+        // And: The written batch is tracked as channel activity
+        verify(eventWriteCallbacks, timeout(VERIFY_TIMEOUT_MILLIS)).onWritten(batchCaptor.getValue());
+    }
+
+    @Test
+    @DisplayName("Should flush a partial micro-batch once the flush interval elapses")
+    public void shouldFlushPartialBatchAfterFlushInterval() {
+        // Given: A running buffer
+        ingestionProperties.getAsync().setEnabled(true);
+        buffer = new EventIngestionBuffer(ingestionProperties, eventBatchWriter, eventWriteCallbacks, meterRegistry);
+        buffer.start();
+
+        // When: Queuing fewer events than the batch size
+        buffer.enqueue(anEvent(1L));
+
+        // Then: The partial batch is written after the flush interval
+        verify(eventBatchWriter, timeout(VERIFY_TIMEOUT_MILLIS)).insertAll(anyList());
+
+        // And: Batch size is recorded
+        assertThat(meterRegistry.get(BATCH_SIZE_METRIC).summary().count(), is(1L));
+    }
+
+    @Test
+    @DisplayName("Should drain queued events on shutdown")
+    public void shouldDrainQueuedEventsOnShutdown() {
+        // Given: A running buffer with a long flush interval
+        ingestionProperties.getAsync().setEnabled(true);
+        ingestionProperties.getAsync().setFlushInterval(Duration.ofMillis(500));
+        buffer = new EventIngestionBuffer(ingestionProperties, eventBatchWriter, eventWriteCallbacks, meterRegistry);
+        buffer.start();
+        buffer.enqueue(anEvent(1L));
+
+        // When: Stopping the buffer
+        buffer.stop();
+
+        // Then: The queued event has been written
+        verify(eventBatchWriter).insertAll(anyList());
+        assertThat(meterRegistry.get(QUEUE_DEPTH_METRIC).gauge().value(), is(0.0));
+    }
+
+    @Test
+    @DisplayName("Should retry a failed micro-batch event by event and only drop the failing events")
+    public void shouldRetryFailedBatchEventByEvent() {
+        // Given: A running buffer whose writer rejects the batch because of one bad event
+        ingestionProperties.getAsync().setEnabled(true);
+        ingestionProperties.getAsync().setFlushInterval(Duration.ofSeconds(10));
+        final Event good = anEvent(1L);
+        final Event bad = anEvent(2L);
+        doAnswer(invocation -> {
+            if (invocation.<List<Event>>getArgument(0).contains(bad)) {
+                throw new DataIntegrityViolationException("bad event");
+            }
+            return null;
+        }).when(eventBatchWriter).insertAll(anyList());
+        buffer = new EventIngestionBuffer(ingestionProperties, eventBatchWriter, eventWriteCallbacks, meterRegistry);
+        buffer.start();
+
+        // When: Queuing a full batch
+        buffer.enqueue(good);
+        buffer.enqueue(bad);
+
+        // Then: The good event is written and published on its own
+        verify(eventBatchWriter, timeout(VERIFY_TIMEOUT_MILLIS)).insertAll(List.of(good));
+        verify(eventWriteCallbacks, timeout(VERIFY_TIMEOUT_MILLIS)).onWritten(List.of(good));
+
+        // And: Only the bad event is counted as dropped
+        assertThat(meterRegistry.get(DROPPED_METRIC).counter().count(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("Should not count written events as dropped when publishing them fails")
+    public void shouldNotCountEventsAsDroppedWhenPublishingFails() {
+        // Given: A running buffer whose write callbacks fail
+        ingestionProperties.getAsync().setEnabled(true);
+        ingestionProperties.getAsync().setFlushInterval(Duration.ofSeconds(10));
+        doThrow(new IllegalStateException("publish failed")).doNothing().when(eventWriteCallbacks).onWritten(anyList());
+        buffer = new EventIngestionBuffer(ingestionProperties, eventBatchWriter, eventWriteCallbacks, meterRegistry);
+        buffer.start();
+
+        // When: Queuing two full batches
+        buffer.enqueue(anEvent(1L));
+        buffer.enqueue(anEvent(2L));
+        verify(eventWriteCallbacks, timeout(VERIFY_TIMEOUT_MILLIS)).onWritten(anyList());
+        buffer.enqueue(anEvent(3L));
+        buffer.enqueue(anEvent(4L));
+
+        // Then: The writer keeps running and writes and publishes the second batch
+        verify(eventWriteCallbacks, timeout(VERIFY_TIMEOUT_MILLIS).times(2)).onWritten(anyList());
+        verify(eventBatchWriter, times(2)).insertAll(anyList());
+
+        // And: The failure is counted as a publish error, not as dropped events
+        assertThat(meterRegistry.get(PUBLISH_ERRORS_METRIC).counter().count(), is(1.0));
+        assertThat(meterRegistry.get(DROPPED_METRIC).counter().count(), is(0.0));
+    }
+
+    @Test
+    @DisplayName("Should keep draining after an unexpected writer failure")
+    public void shouldKeepDrainingAfterUnexpectedWriterFailure() {
+        // Given: A running buffer whose writer fails unexpectedly once
+        ingestionProperties.getAsync().setEnabled(true);
+        ingestionProperties.getAsync().setFlushInterval(Duration.ofSeconds(10));
+        doThrow(new IllegalStateException("unexpected")).doNothing().when(eventBatchWriter).insertAll(anyList());
+        buffer = new EventIngestionBuffer(ingestionProperties, eventBatchWriter, eventWriteCallbacks, meterRegistry);
+        buffer.start();
+
+        // When: Queuing two full batches
+        buffer.enqueue(anEvent(1L));
+        buffer.enqueue(anEvent(2L));
+        verify(eventBatchWriter, timeout(VERIFY_TIMEOUT_MILLIS)).insertAll(anyList());
+        buffer.enqueue(anEvent(3L));
+        buffer.enqueue(anEvent(4L));
+
+        // Then: The second batch is still written and published
+        verify(eventWriteCallbacks, timeout(VERIFY_TIMEOUT_MILLIS)).onWritten(anyList());
+
+        // And: The failure is counted
+        assertThat(meterRegistry.get(WRITER_ERRORS_METRIC).counter().count(), is(1.0));
+    }
+
+    // ===== Factory Methods =====
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Event>> batchCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static Event anEvent(final long id) {
+        final Channel channel = new Channel();
+        channel.setId(1L);
+        final CreateEventRequest request = new CreateEventRequest()
+            .setSlug("test-channel")
+            .setSeverity(Severity.OK)
+            .setTitle("Queued Event");
+        final Event event = new Event(request, channel);
+        event.setId(id);
+        return event;
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.eventify.api.event.repository;
+
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.user.model.User;
+import io.github.eventify.support.IntegrationTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Integration Test - Event Repository - Batch Inserts
+ */
+@DisplayName("Integration Test - Event Repository Batch Insert")
+public class EventRepositoryBatchInsertTest extends IntegrationTest {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final long MAX_BATCHED_STATEMENTS = 5L;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should insert a 1000-event batch with a few prepared statements")
+    public void shouldInsertEventBatchWithAFewPreparedStatements() {
+        // Given: A channel and a batch of 1000 events
+        final User user = aValidatedUser();
+        final Channel channel = aChannelForUser(user, "Batch Channel");
+        final List<Event> batch = IntStream.range(0, BATCH_SIZE)
+            .mapToObj(index -> anEventForChannel(channel, 0))
+            .toList();
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When: Inserting the batch with saveAll in a single transaction
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        final long preparedStatements;
+        try {
+            transactionTemplate.executeWithoutResult(status -> eventRepository.saveAll(batch));
+            preparedStatements = statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // Then: The pooled sequence and JDBC batching need a few statements rather than one per event
+        assertThat(preparedStatements, is(lessThanOrEqualTo(MAX_BATCHED_STATEMENTS)));
+        assertThat(eventRepository.countByChannelId(channel.getId()), is((long) BATCH_SIZE));
+    }
+}
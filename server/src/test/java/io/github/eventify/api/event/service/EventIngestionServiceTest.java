@@ -5,20 +5,31 @@ import io.github.eventify.api.channel.cache.ChannelCache;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.model.ChannelStatus;
 import io.github.eventify.api.channel.repository.ChannelRepository;
+import io.github.eventify.api.event.buffer.EventIngestionBuffer;
 import io.github.eventify.api.event.model.Event;
 import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.event.model.request.BatchEventRequest;
 import io.github.eventify.api.event.model.request.CreateEventRequest;
+import io.github.eventify.api.event.repository.EventCopyWriter;
+import io.github.eventify.api.event.repository.EventIdAllocator;
 import io.github.eventify.api.event.repository.EventRepository;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.quota.service.UserQuotaService;
 import io.github.eventify.api.user.model.User;
+import io.github.eventify.common.config.properties.IngestionProperties;
+import io.github.eventify.common.exception.IngestionBufferFullException;
 import io.github.eventify.common.security.principal.ApiKeyPrincipal;
 import io.github.eventify.support.UnitTest;
 import io.github.jframe.exception.core.DataNotFoundException;
 
+import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +37,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -48,6 +60,21 @@ public class EventIngestionServiceTest extends UnitTest {
     @Mock
     private UserQuotaService userQuotaService;
 
+    @Mock
+    private EventIngestionBuffer eventIngestionBuffer;
+
+    @Mock
+    private EventIdAllocator eventIdAllocator;
+
+    @Mock
+    private EventCopyWriter eventCopyWriter;
+
+    @Spy
+    private IngestionProperties ingestionProperties = new IngestionProperties();
+
+    @Mock
+    private EventWriteCallbacks eventWriteCallbacks;
+
     @InjectMocks
     private EventIngestionService eventIngestionService;
 
@@ -264,12 +291,173 @@ public class EventIngestionServiceTest extends UnitTest {
         verify(eventRepository).save(any(Event.class));
     }
 
+    @Test
+    @DisplayName("Should queue event with server-assigned id when accept-and-queue mode is enabled")
+    public void shouldQueueEventWhenQueueingEnabled() {
+        // Given: Accept-and-queue mode is enabled and the channel is cached
+        final CreateEventRequest request = new CreateEventRequest()
+            .setSlug(channel.getSlug())
+            .setSeverity(Severity.WARNING)
+            .setTitle("Queued Event");
+
+        when(channelCache.getBySlug(channel.getSlug())).thenReturn(Optional.of(channel));
+        when(eventIngestionBuffer.isEnabled()).thenReturn(true);
+        when(eventIdAllocator.nextId()).thenReturn(110L);
+
+        // When: Ingesting event
+        final Event result = eventIngestionService.ingestEvent(request, principal);
+
+        // Then: Event carries the pre-allocated id and server timestamp
+        assertThat(result.getId(), is(equalTo(110L)));
+        assertThat(result.getTimestamp(), is(notNullValue()));
+
+        // And: Event is queued instead of saved synchronously
+        verify(eventIngestionBuffer).enqueue(result);
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    @DisplayName("Should propagate backpressure when the ingestion buffer is full")
+    public void shouldPropagateBackpressureWhenBufferFull() {
+        // Given: Accept-and-queue mode is enabled but the buffer is full
+        final CreateEventRequest request = new CreateEventRequest()
+            .setSlug(channel.getSlug())
+            .setSeverity(Severity.OK)
+            .setTitle("Rejected Event");
+
+        when(channelCache.getBySlug(channel.getSlug())).thenReturn(Optional.of(channel));
+        when(eventIngestionBuffer.isEnabled()).thenReturn(true);
+        when(eventIdAllocator.nextId()).thenReturn(111L);
+        doThrow(new IngestionBufferFullException(1)).when(eventIngestionBuffer).enqueue(any(Event.class));
+
+        // When & Then: Should throw IngestionBufferFullException
+        assertThrows(
+            IngestionBufferFullException.class,
+            () -> eventIngestionService.ingestEvent(request, principal)
+        );
+
+        // And: Event should not be saved synchronously
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    @DisplayName("Should stream batches above the COPY threshold with pre-allocated ids")
+    public void shouldCopyBatchAboveThreshold() {
+        // Given: A batch one event larger than the COPY threshold
+        final BatchEventRequest request = aBatchOf(ingestionProperties.getCopyThreshold() + 1);
+
+        when(channelCache.getBySlug(channel.getSlug())).thenReturn(Optional.of(channel));
+        when(eventIdAllocator.nextId()).thenReturn(1L, 2L, 3L);
+
+        // When: Ingesting the batch
+        final List<Event> result = eventIngestionService.ingestBatch(request, principal);
+
+        // Then: Every event carries a pre-allocated id
+        assertThat(result, hasSize(request.getEvents().size()));
+        assertThat(result.stream().map(Event::getId).toList(), everyItem(is(notNullValue())));
+
+        // And: Events are copied instead of saved through JPA
+        verify(eventCopyWriter).copyAll(result);
+        verify(eventRepository, never()).saveAll(any());
+
+        // And: The copied events are tracked as channel activity
+        verify(eventWriteCallbacks).onWritten(result);
+    }
+
+    @Test
+    @DisplayName("Should save batches up to the COPY threshold through JPA")
+    public void shouldSaveBatchUpToThreshold() {
+        // Given: A batch exactly at the COPY threshold
+        final BatchEventRequest request = aBatchOf(ingestionProperties.getCopyThreshold());
+
+        when(channelCache.getBySlug(channel.getSlug())).thenReturn(Optional.of(channel));
+        when(eventRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: Ingesting the batch
+        final List<Event> result = eventIngestionService.ingestBatch(request, principal);
+
+        // Then: Events are saved through JPA
+        assertThat(result, hasSize(request.getEvents().size()));
+        verify(eventCopyWriter, never()).copyAll(any());
+        verify(eventIdAllocator, never()).nextId();
+    }
+
+    @Test
+    @DisplayName("Should resolve uncached batch slugs with a single query")
+    public void shouldResolveUncachedBatchSlugsWithSingleQuery() {
+        // Given: A batch across a cached channel and two channels the security layer did not cache
+        final Channel second = aChannel(2L, "second-channel", "Second Channel", user, null);
+        final Channel third = aChannel(3L, "third-channel", "Third Channel", user, null);
+        final BatchEventRequest request = aBatchAcross(channel, second, third);
+
+        when(channelCache.getBySlug(channel.getSlug())).thenReturn(Optional.of(channel));
+        when(channelCache.getBySlug(second.getSlug())).thenReturn(Optional.empty());
+        when(channelCache.getBySlug(third.getSlug())).thenReturn(Optional.empty());
+        when(channelRepository.findBySlugsAndPrincipal(Set.of(second.getSlug(), third.getSlug()), principal))
+            .thenReturn(List.of(second, third));
+        when(eventRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: Ingesting the batch
+        final List<Event> result = eventIngestionService.ingestBatch(request, principal);
+
+        // Then: Every event is bound to its channel
+        assertThat(result.stream().map(event -> event.getChannel().getId()).toList(), contains(1L, 2L, 3L));
+
+        // And: The uncached slugs were resolved together, never one by one
+        verify(channelRepository).findBySlugsAndPrincipal(any(), any());
+        verify(channelRepository, never()).findBySlugAndPrincipal(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw not found when a batch slug does not resolve")
+    public void shouldThrowNotFoundWhenBatchSlugDoesNotResolve() {
+        // Given: A batch with a slug outside the principal's scope
+        final Channel unknown = aChannel(2L, "unknown-channel", "Unknown Channel", user, null);
+        final BatchEventRequest request = aBatchAcross(channel, unknown);
+
+        when(channelCache.getBySlug(channel.getSlug())).thenReturn(Optional.of(channel));
+        when(channelCache.getBySlug(unknown.getSlug())).thenReturn(Optional.empty());
+        when(channelRepository.findBySlugsAndPrincipal(Set.of(unknown.getSlug()), principal)).thenReturn(List.of());
+
+        // When & Then: Not found, nothing written
+        assertThrows(DataNotFoundException.class, () -> eventIngestionService.ingestBatch(request, principal));
+        verify(eventRepository, never()).saveAll(any());
+    }
+
     // NOTE: Quota enforcement tests omitted from unit tests
     // These are tested at integration level in EventIngestionControllerTest
     // where the full flow including UserQuotaService is validated
 
     // ===== Factory Methods =====
 
+    private BatchEventRequest aBatchOf(final int size) {
+        final OffsetDateTime timestamp = OffsetDateTime.now();
+        return new BatchEventRequest().setEvents(
+            IntStream.range(0, size)
+                .mapToObj(
+                    index -> new CreateEventRequest()
+                        .setSlug(channel.getSlug())
+                        .setSeverity(Severity.OK)
+                        .setTitle("Batch Event " + index)
+                        .setTimestamp(timestamp)
+                )
+                .toList()
+        );
+    }
+
+    private BatchEventRequest aBatchAcross(final Channel... channels) {
+        return new BatchEventRequest().setEvents(
+            Arrays.stream(channels)
+                .map(
+                    target -> new CreateEventRequest()
+                        .setSlug(target.getSlug())
+                        .setSeverity(Severity.OK)
+                        .setTitle("Event for " + target.getName())
+                )
+                .toList()
+        );
+    }
+
     private Channel aChannel(final Long id, final String slug, final String name, final User owner,
         final Organization org) {
         final Channel ch = new Channel();
@@ -1,18 +1,30 @@
 package io.github.eventify.api.event.service;
 
-import io.github.eventify.api.event.repository.EventRepository;
+import io.github.eventify.api.event.model.EventChunk;
+import io.github.eventify.api.event.repository.EventRetentionWriter;
 import io.github.eventify.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import static io.github.eventify.api.event.service.EventRetentionCleanupService.CHUNKS_DROPPED_METRIC;
+import static io.github.eventify.api.event.service.EventRetentionCleanupService.EVENTS_DELETED_METRIC;
+import static io.github.eventify.api.event.service.EventRetentionCleanupService.GROUPS_PENDING_METRIC;
+import static java.time.ZoneOffset.UTC;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -21,188 +33,146 @@ import static org.mockito.Mockito.*;
 @DisplayName("Unit Test - Event Retention Cleanup Service")
 public class EventRetentionCleanupServiceTest extends UnitTest {
 
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 10, 18, 12, 0, 0, 0, UTC);
+
     @Mock
-    private EventRepository eventRepository;
+    private EventRetentionWriter eventRetentionWriter;
+
+    private SimpleMeterRegistry meterRegistry;
 
-    @InjectMocks
     private EventRetentionCleanupService eventRetentionCleanupService;
 
     @BeforeEach
     public void setUp() {
-        // Given: Service is initialized with mocked EventRepository
-    }
-
-    @Test
-    @DisplayName("Should delete expired personal channel events when retention exceeded")
-    public void shouldDeleteExpiredPersonalChannelEventsWhenRetentionExceeded() {
-        // Given: 50 expired events in personal channels
-        when(eventRepository.deleteExpiredPersonalChannelEvents(anyInt())).thenReturn(50);
-
-        // When: Deleting expired personal channel events
-        final int deletedCount = eventRetentionCleanupService.deleteExpiredPersonalChannelEvents();
-
-        // Then: Should return count of deleted events
-        assertThat(deletedCount, is(equalTo(50)));
-        verify(eventRepository).deleteExpiredPersonalChannelEvents(anyInt());
+        meterRegistry = new SimpleMeterRegistry();
+        eventRetentionCleanupService = new EventRetentionCleanupService(eventRetentionWriter, meterRegistry);
     }
 
     @Test
-    @DisplayName("Should delete expired organization channel events when retention exceeded")
-    public void shouldDeleteExpiredOrganizationChannelEventsWhenRetentionExceeded() {
-        // Given: 75 expired events in organization channels
-        when(eventRepository.deleteExpiredOrganizationChannelEvents(anyInt())).thenReturn(75);
-
-        // When: Deleting expired organization channel events
-        final int deletedCount = eventRetentionCleanupService.deleteExpiredOrganizationChannelEvents();
-
-        // Then: Should return count of deleted events
-        assertThat(deletedCount, is(equalTo(75)));
-        verify(eventRepository).deleteExpiredOrganizationChannelEvents(anyInt());
+    @DisplayName("Should drop a chunk when the events of all its channels expired")
+    public void shouldDropChunkWhenEventsOfAllChannelsExpired() {
+        // Given: A chunk that ended 200 days ago, holding events of channels with a retention of at most 180 days
+        final EventChunk chunk = aChunkEndingDaysAgo(200);
+        when(eventRetentionWriter.findChunksEndingBefore(NOW.minusDays(90))).thenReturn(List.of(chunk));
+        when(eventRetentionWriter.findLongestRetention(chunk)).thenReturn(180);
+        when(eventRetentionWriter.dropChunk(chunk)).thenReturn(1);
+
+        // When: Dropping expired chunks
+        final int dropped = eventRetentionCleanupService.dropExpiredChunks(NOW, 90);
+
+        // Then: The chunk should be dropped
+        assertThat(dropped, is(equalTo(1)));
+        verify(eventRetentionWriter).dropChunk(chunk);
+        assertThat(meterRegistry.get(CHUNKS_DROPPED_METRIC).counter().count(), is(1.0));
     }
 
     @Test
-    @DisplayName("Should return zero when no personal channel events expired")
-    public void shouldReturnZeroWhenNoPersonalChannelEventsExpired() {
-        // Given: No expired events in personal channels
-        when(eventRepository.deleteExpiredPersonalChannelEvents(anyInt())).thenReturn(0);
-
-        // When: Deleting expired personal channel events
-        final int deletedCount = eventRetentionCleanupService.deleteExpiredPersonalChannelEvents();
-
-        // Then: Should return zero
-        assertThat(deletedCount, is(equalTo(0)));
-        verify(eventRepository).deleteExpiredPersonalChannelEvents(anyInt());
+    @DisplayName("Should keep a chunk when one of its channels retains its events longer")
+    public void shouldKeepChunkWhenOneOfItsChannelsRetainsEventsLonger() {
+        // Given: A chunk that ended 200 days ago, holding events of a channel with a retention of 365 days
+        final EventChunk chunk = aChunkEndingDaysAgo(200);
+        when(eventRetentionWriter.findChunksEndingBefore(NOW.minusDays(90))).thenReturn(List.of(chunk));
+        when(eventRetentionWriter.findLongestRetention(chunk)).thenReturn(365);
+
+        // When: Dropping expired chunks
+        final int dropped = eventRetentionCleanupService.dropExpiredChunks(NOW, 90);
+
+        // Then: The chunk should be kept
+        assertThat(dropped, is(equalTo(0)));
+        verify(eventRetentionWriter, never()).dropChunk(any());
     }
 
     @Test
-    @DisplayName("Should return zero when no organization channel events expired")
-    public void shouldReturnZeroWhenNoOrganizationChannelEventsExpired() {
-        // Given: No expired events in organization channels
-        when(eventRepository.deleteExpiredOrganizationChannelEvents(anyInt())).thenReturn(0);
-
-        // When: Deleting expired organization channel events
-        final int deletedCount = eventRetentionCleanupService.deleteExpiredOrganizationChannelEvents();
-
-        // Then: Should return zero
-        assertThat(deletedCount, is(equalTo(0)));
-        verify(eventRepository).deleteExpiredOrganizationChannelEvents(anyInt());
-    }
-
-    @Test
-    @DisplayName("Should orchestrate cleanup of both channel types when called")
-    public void shouldOrchestrateCleanupOfBothChannelTypesWhenCalled() {
-        // Given: Multiple batches of expired events
-        when(eventRepository.deleteExpiredPersonalChannelEvents(anyInt()))
-            .thenReturn(100)  // First batch personal
-            .thenReturn(50)   // Second batch personal
-            .thenReturn(0);   // Third batch personal (done)
-        when(eventRepository.deleteExpiredOrganizationChannelEvents(anyInt()))
-            .thenReturn(80)   // First batch org
-            .thenReturn(40)   // Second batch org
-            .thenReturn(0);   // Third batch org (done)
-
-        // When: Running cleanup
-        eventRetentionCleanupService.cleanupExpiredEvents();
-
-        // Then: Should delete from both personal and org channels until 0 returned
-        verify(eventRepository, times(3)).deleteExpiredPersonalChannelEvents(anyInt());
-        verify(eventRepository, times(3)).deleteExpiredOrganizationChannelEvents(anyInt());
+    @DisplayName("Should drop a chunk without events")
+    public void shouldDropChunkWithoutEvents() {
+        // Given: A chunk that holds no events
+        final EventChunk chunk = aChunkEndingDaysAgo(100);
+        when(eventRetentionWriter.findChunksEndingBefore(NOW.minusDays(90))).thenReturn(List.of(chunk));
+        when(eventRetentionWriter.findLongestRetention(chunk)).thenReturn(null);
+        when(eventRetentionWriter.dropChunk(chunk)).thenReturn(1);
+
+        // When: Dropping expired chunks
+        final int dropped = eventRetentionCleanupService.dropExpiredChunks(NOW, 90);
+
+        // Then: The chunk should be dropped
+        assertThat(dropped, is(equalTo(1)));
     }
 
     @Test
     @DisplayName("Should continue batch processing until zero deleted")
     public void shouldContinueBatchProcessingUntilZeroDeleted() {
-        // Given: Multiple batches needed for personal channels
-        when(eventRepository.deleteExpiredPersonalChannelEvents(anyInt()))
+        // Given: Multiple batches of expired events
+        final List<Long> channelIds = List.of(1L, 2L);
+        when(eventRetentionWriter.deleteExpiredEvents(eq(channelIds), eq(NOW.minusDays(90)), anyInt()))
             .thenReturn(1000)  // First batch
-            .thenReturn(1000)  // Second batch
-            .thenReturn(500)   // Third batch
-            .thenReturn(0);    // Fourth batch (done)
-        when(eventRepository.deleteExpiredOrganizationChannelEvents(anyInt()))
-            .thenReturn(0);    // Org channels (none)
+            .thenReturn(500)   // Second batch
+            .thenReturn(0);    // Third batch (done)
 
-        // When: Running cleanup for personal channels
-        eventRetentionCleanupService.cleanupExpiredEvents();
+        // When: Deleting the expired events of the group
+        final int deleted = eventRetentionCleanupService.deleteExpiredEvents(90, channelIds, NOW);
 
         // Then: Should loop until zero returned
-        verify(eventRepository, times(4)).deleteExpiredPersonalChannelEvents(anyInt());
-        verify(eventRepository, times(1)).deleteExpiredOrganizationChannelEvents(anyInt());
+        assertThat(deleted, is(equalTo(1500)));
+        verify(eventRetentionWriter, times(3)).deleteExpiredEvents(eq(channelIds), eq(NOW.minusDays(90)), anyInt());
+        assertThat(meterRegistry.get(EVENTS_DELETED_METRIC).counter().count(), is(1500.0));
     }
 
     @Test
-    @DisplayName("Should complete gracefully when no events need deletion")
-    public void shouldCompleteGracefullyWhenNoEventsNeedDeletion() {
-        // Given: No expired events
-        when(eventRepository.deleteExpiredPersonalChannelEvents(anyInt())).thenReturn(0);
-        when(eventRepository.deleteExpiredOrganizationChannelEvents(anyInt())).thenReturn(0);
+    @DisplayName("Should drop chunks older than the shortest retention and clean up every retention group")
+    public void shouldDropChunksAndCleanUpEveryRetentionGroup() {
+        // Given: Channels with a retention of 90 and 365 days
+        final Map<Integer, List<Long>> channelsByRetention = new TreeMap<>(Map.of(90, List.of(1L), 365, List.of(2L, 3L)));
+        when(eventRetentionWriter.findChannelsByRetention()).thenReturn(channelsByRetention);
+        when(eventRetentionWriter.findChunksEndingBefore(any())).thenReturn(List.of());
+        when(eventRetentionWriter.deleteExpiredEvents(any(), any(), anyInt())).thenReturn(0);
 
         // When: Running cleanup
         eventRetentionCleanupService.cleanupExpiredEvents();
 
-        // Then: Should query both channel types once each
-        verify(eventRepository, times(1)).deleteExpiredPersonalChannelEvents(anyInt());
-        verify(eventRepository, times(1)).deleteExpiredOrganizationChannelEvents(anyInt());
+        // Then: Both groups should be cleaned up with their own cutoff
+        verify(eventRetentionWriter).findChunksEndingBefore(any());
+        verify(eventRetentionWriter).deleteExpiredEvents(eq(List.of(1L)), any(), anyInt());
+        verify(eventRetentionWriter).deleteExpiredEvents(eq(List.of(2L, 3L)), any(), anyInt());
+
+        // And: No groups should be pending after the run
+        assertThat(meterRegistry.get(GROUPS_PENDING_METRIC).gauge().value(), is(0.0));
     }
 
     @Test
-    @DisplayName("Should handle database exception during personal channel cleanup")
-    public void shouldHandleDatabaseExceptionDuringPersonalChannelCleanup() {
-        // Given: Database throws exception
-        when(eventRepository.deleteExpiredPersonalChannelEvents(anyInt()))
-            .thenThrow(new RuntimeException("Database error"));
+    @DisplayName("Should complete gracefully when there are no channels")
+    public void shouldCompleteGracefullyWhenThereAreNoChannels() {
+        // Given: No channels
+        when(eventRetentionWriter.findChannelsByRetention()).thenReturn(Map.of());
 
-        // When & Then: Exception should propagate
-        try {
-            eventRetentionCleanupService.deleteExpiredPersonalChannelEvents();
-        } catch (final RuntimeException e) {
-            assertThat(e.getMessage(), is(equalTo("Database error")));
-        }
+        // When: Running cleanup
+        eventRetentionCleanupService.cleanupExpiredEvents();
 
-        verify(eventRepository).deleteExpiredPersonalChannelEvents(anyInt());
+        // Then: Nothing should be dropped or deleted
+        verify(eventRetentionWriter, never()).findChunksEndingBefore(any());
+        verify(eventRetentionWriter, never()).deleteExpiredEvents(any(), any(), anyInt());
     }
 
     @Test
-    @DisplayName("Should handle database exception during organization channel cleanup")
-    public void shouldHandleDatabaseExceptionDuringOrganizationChannelCleanup() {
+    @DisplayName("Should handle database exception during cleanup")
+    public void shouldHandleDatabaseExceptionDuringCleanup() {
         // Given: Database throws exception
-        when(eventRepository.deleteExpiredOrganizationChannelEvents(anyInt()))
+        when(eventRetentionWriter.deleteExpiredEvents(any(), any(), anyInt()))
             .thenThrow(new RuntimeException("Connection timeout"));
 
         // When & Then: Exception should propagate
         try {
-            eventRetentionCleanupService.deleteExpiredOrganizationChannelEvents();
+            eventRetentionCleanupService.deleteExpiredEvents(90, List.of(1L), NOW);
         } catch (final RuntimeException e) {
             assertThat(e.getMessage(), is(equalTo("Connection timeout")));
         }
 
-        verify(eventRepository).deleteExpiredOrganizationChannelEvents(anyInt());
+        verify(eventRetentionWriter).deleteExpiredEvents(any(), any(), anyInt());
     }
 
-    @Test
-    @DisplayName("Should process large batch counts correctly")
-    public void shouldProcessLargeBatchCountsCorrectly() {
-        // Given: Large number of expired events
-        when(eventRepository.deleteExpiredPersonalChannelEvents(anyInt())).thenReturn(10000);
-
-        // When: Deleting expired events
-        final int deletedCount = eventRetentionCleanupService.deleteExpiredPersonalChannelEvents();
-
-        // Then: Should return correct count
-        assertThat(deletedCount, is(equalTo(10000)));
-        verify(eventRepository).deleteExpiredPersonalChannelEvents(anyInt());
-    }
-
-    @Test
-    @DisplayName("Should process negative return gracefully")
-    public void shouldProcessNegativeReturnGracefully() {
-        // Given: Unexpected negative count from database
-        when(eventRepository.deleteExpiredPersonalChannelEvents(anyInt())).thenReturn(-1);
-
-        // When: Deleting expired events
-        final int deletedCount = eventRetentionCleanupService.deleteExpiredPersonalChannelEvents();
+    // ========================= HELPER METHODS =========================
 
-        // Then: Should return the value as-is
-        assertThat(deletedCount, is(equalTo(-1)));
-        verify(eventRepository).deleteExpiredPersonalChannelEvents(anyInt());
+    private EventChunk aChunkEndingDaysAgo(final int days) {
+        final OffsetDateTime end = NOW.minusDays(days);
+        return new EventChunk(end.minusDays(7), end);
     }
 }
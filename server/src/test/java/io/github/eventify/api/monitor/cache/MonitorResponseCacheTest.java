@@ -0,0 +1,197 @@
+package io.github.eventify.api.monitor.cache;
+
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.MonitorFilters;
+import io.github.eventify.api.monitor.model.MonitorResult;
+import io.github.eventify.api.monitor.model.TimeRange;
+import io.github.eventify.api.monitor.model.mapper.MonitorMapper;
+import io.github.eventify.api.monitor.model.request.MonitorRequest;
+import io.github.eventify.api.monitor.model.response.MonitorResponse;
+import io.github.eventify.common.config.properties.MonitorProperties;
+import io.github.eventify.support.TestBuilders;
+import io.github.eventify.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.ResponseEntity;
+
+import static io.github.eventify.api.monitor.cache.MonitorResponseCache.REQUEST_METRIC;
+import static io.github.eventify.api.monitor.cache.MonitorResponseCache.SERVED_BYTES_METRIC;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+@DisplayName("Unit Test - Monitor Response Cache")
+public class MonitorResponseCacheTest extends UnitTest {
+
+    private static final Long WATCHLIST_ID = 1L;
+    private static final Long MEMBER_CHANNEL_ID = 10L;
+    private static final Long OTHER_CHANNEL_ID = 20L;
+
+    @Mock
+    private MonitorMapper monitorMapper;
+
+    private MonitorProperties monitorProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger computations;
+
+    @BeforeEach
+    public void setUp() {
+        monitorProperties = new MonitorProperties();
+        monitorProperties.getResponseCache().setQuantum(Duration.ofMinutes(10));
+        meterRegistry = new SimpleMeterRegistry();
+        computations = new AtomicInteger();
+        when(monitorMapper.toResponse(any(MonitorResult.class)))
+            .thenAnswer(invocation -> MonitorResponse.builder().watchlistId(WATCHLIST_ID).watchlistName("Watchlist").build());
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated request from the cache with the same ETag")
+    public void shouldAnswerRepeatedRequestFromCache() {
+        // Given: A response cache
+        final MonitorResponseCache cache = aCache();
+
+        // When: Requesting the same dashboard twice
+        final ResponseEntity<byte[]> first = cache.respond(aRequest(), null, monitor());
+        final ResponseEntity<byte[]> second = cache.respond(aRequest(), null, monitor());
+
+        // Then: The timelines are built once and both responses carry the same ETag
+        assertThat(computations.get(), is(1));
+        assertThat(first.getStatusCode(), is(OK));
+        assertThat(second.getStatusCode(), is(OK));
+        assertThat(first.getHeaders().getETag(), is(notNullValue()));
+        assertThat(second.getHeaders().getETag(), is(equalTo(first.getHeaders().getETag())));
+        assertThat(second.getBody(), is(sameInstance(first.getBody())));
+
+        // And: The hit is written from the cached JSON body without serializing the response again
+        assertThat(second.getHeaders().getContentType(), is(APPLICATION_JSON));
+        assertThat(new String(second.getBody(), UTF_8), containsString("\"watchlistName\":\"Watchlist\""));
+
+        // And: The hit, the miss and the served bytes are exposed as metrics
+        assertThat(meterRegistry.get(REQUEST_METRIC).tag("result", "hit").counter().count(), is(1.0));
+        assertThat(meterRegistry.get(REQUEST_METRIC).tag("result", "miss").counter().count(), is(1.0));
+        assertThat(meterRegistry.get(SERVED_BYTES_METRIC).tag("result", "hit").summary().totalAmount(), is(greaterThan(0.0)));
+    }
+
+    @Test
+    @DisplayName("Should answer with 304 Not Modified when the client holds the current response")
+    public void shouldAnswerNotModifiedWhenETagMatches() {
+        // Given: A client that received a response before
+        final MonitorResponseCache cache = aCache();
+        final String etag = cache.respond(aRequest(), null, monitor()).getHeaders().getETag();
+
+        // When: Requesting the dashboard again with its ETag
+        final ResponseEntity<byte[]> response = cache.respond(aRequest(), "W/" + etag, monitor());
+
+        // Then: No body is sent
+        assertThat(response.getStatusCode(), is(NOT_MODIFIED));
+        assertThat(response.getBody(), is(nullValue()));
+        assertThat(response.getHeaders().getETag(), is(equalTo(etag)));
+        assertThat(meterRegistry.get(REQUEST_METRIC).tag("result", "not-modified").counter().count(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("Should recompute the response after an event on one of the watchlist's channels")
+    public void shouldRecomputeAfterWriteToMemberChannel() {
+        // Given: A cached response
+        final MonitorResponseCache cache = aCache();
+        cache.respond(aRequest(), null, monitor());
+
+        // When: An event is written to another channel, then to a channel of the watchlist
+        cache.recordWrites(List.of(anEvent(OTHER_CHANNEL_ID)));
+        cache.respond(aRequest(), null, monitor());
+        cache.recordWrites(List.of(anEvent(MEMBER_CHANNEL_ID)));
+        cache.respond(aRequest(), null, monitor());
+
+        // Then: Only the write to the member channel invalidates the response
+        assertThat(computations.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Should recompute the response after the watchlist is evicted")
+    public void shouldRecomputeAfterWatchlistEvicted() {
+        // Given: A cached response
+        final MonitorResponseCache cache = aCache();
+        cache.respond(aRequest(), null, monitor());
+
+        // When: The watchlist is updated
+        cache.evictWatchlist(WATCHLIST_ID);
+        cache.respond(aRequest(), null, monitor());
+
+        // Then: The timelines are built again
+        assertThat(computations.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Should cache different filters separately")
+    public void shouldCacheDifferentFiltersSeparately() {
+        // Given: A cached response for the grouped view
+        final MonitorResponseCache cache = aCache();
+        cache.respond(aRequest(), null, monitor());
+
+        // When: Requesting the flat view
+        final MonitorRequest flat = aRequest();
+        flat.getFilters().setGroupedView(false);
+        cache.respond(flat, null, monitor());
+
+        // Then: The flat view is built separately
+        assertThat(computations.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Should compute every request without an ETag when disabled")
+    public void shouldComputeEveryRequestWhenDisabled() {
+        // Given: A disabled response cache
+        monitorProperties.getResponseCache().setEnabled(false);
+        final MonitorResponseCache cache = aCache();
+
+        // When: Requesting the same dashboard twice
+        cache.respond(aRequest(), null, monitor());
+        final ResponseEntity<byte[]> response = cache.respond(aRequest(), null, monitor());
+
+        // Then: Both requests build the timelines
+        assertThat(computations.get(), is(2));
+        assertThat(response.getStatusCode(), is(OK));
+        assertThat(response.getHeaders().getETag(), is(nullValue()));
+    }
+
+    // ========================= HELPER METHODS =========================
+
+    private MonitorResponseCache aCache() {
+        return new MonitorResponseCache(monitorProperties, monitorMapper, meterRegistry);
+    }
+
+    private MonitorRequest aRequest() {
+        final MonitorRequest request = new MonitorRequest();
+        request.setWatchlistId(WATCHLIST_ID);
+        request.setFilters(MonitorFilters.builder().timeRange(TimeRange.LAST_24H).groupedView(true).build());
+        return request;
+    }
+
+    private Supplier<MonitorResult> monitor() {
+        return () -> {
+            computations.incrementAndGet();
+            return MonitorResult.builder().channelIds(List.of(MEMBER_CHANNEL_ID)).build();
+        };
+    }
+
+    private Event anEvent(final Long channelId) {
+        final Channel channel = TestBuilders.aChannel(channelId, "Channel " + channelId, aValidUser());
+        return TestBuilders.anEvent(channelId, channel, Severity.OK);
+    }
+}
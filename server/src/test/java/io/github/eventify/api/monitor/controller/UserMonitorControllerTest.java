@@ -1,30 +1,50 @@
 package io.github.eventify.api.monitor.controller;
 
+import io.github.eventify.api.apikey.model.ApiKey;
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.event.model.request.CreateEventRequest;
+import io.github.eventify.api.monitor.model.MonitorFilters;
 import io.github.eventify.api.monitor.model.TimeRange;
 import io.github.eventify.api.monitor.model.request.MonitorRequest;
 import io.github.eventify.api.monitor.model.response.MonitorResponse;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.watchlist.model.Watchlist;
+import io.github.eventify.common.config.properties.MonitorProperties;
 import io.github.eventify.support.IntegrationTest;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import static io.github.eventify.api.Paths.EXTERNAL_EVENTS_PATH;
 import static io.github.eventify.api.Paths.USER_MONITOR_PATH;
+import static io.github.eventify.api.Paths.USER_MONITOR_STREAM_PATH;
+import static io.github.eventify.api.monitor.stream.MonitorStreamHub.DELTA_EVENT;
+import static io.github.eventify.api.monitor.stream.MonitorStreamHub.SNAPSHOT_EVENT;
+import static io.github.eventify.common.security.filter.ApiKeyAuthenticationFilter.API_KEY_HEADER;
 import static io.github.eventify.common.constant.Constants.Security.BEARER;
 import static io.github.jframe.util.mapper.ObjectMappers.fromJson;
 import static io.github.jframe.util.mapper.ObjectMappers.toJson;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -33,6 +53,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("Integration Test - User Monitor Controller")
 class UserMonitorControllerTest extends IntegrationTest {
 
+    private static final String SNAPSHOT_EVENT_LINE = "event:" + SNAPSHOT_EVENT;
+    private static final String DELTA_EVENT_LINE = "event:" + DELTA_EVENT;
+    private static final Duration STREAM_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration STREAM_POLL_INTERVAL = Duration.ofMillis(50);
+
+    @Autowired
+    private MonitorProperties monitorProperties;
+
+    @AfterEach
+    void disableResponseCache() {
+        monitorProperties.getResponseCache().setEnabled(false);
+    }
+
     // ========================= SUCCESSFUL REQUESTS =========================
 
     @Test
@@ -390,4 +423,184 @@ class UserMonitorControllerTest extends IntegrationTest {
         // Then: Should return unauthorized
         result.andExpect(status().isUnauthorized());
     }
+
+    // ========================= RESPONSE CACHE =========================
+
+    @Test
+    @DisplayName("Should answer 304 Not Modified while the ETag of the cached response is current")
+    void shouldAnswerNotModifiedWhileETagIsCurrent() throws Exception {
+        // Given: An enabled response cache and a watchlist containing a channel
+        monitorProperties.getResponseCache().setEnabled(true);
+        final User user = aValidatedUser();
+        final Watchlist watchlist = aWatchlistForUser(user, "Cached Watchlist");
+        addChannelToWatchlist(watchlist, aChannelForUser(user, "cached-channel"));
+
+        // And: A first monitor response with its ETag
+        final MvcResult first = mockMvc.perform(aMonitorRequest(user, watchlist))
+            .andExpect(status().isOk())
+            .andReturn();
+        final String etag = first.getResponse().getHeader(ETAG);
+        assertThat(etag, is(notNullValue()));
+        assertThat(first.getResponse().getContentType(), startsWith(APPLICATION_JSON_VALUE));
+
+        // When: Requesting the monitor again with that ETag
+        final ResultActions result = mockMvc.perform(aMonitorRequest(user, watchlist).header(IF_NONE_MATCH, etag));
+
+        // Then: Should return not modified without a body
+        result.andExpect(status().isNotModified());
+        assertThat(result.andReturn().getResponse().getContentAsString(), is(emptyString()));
+    }
+
+    @Test
+    @DisplayName("Should serve a new response after an event is ingested into a channel of the watchlist")
+    void shouldServeNewResponseAfterEventIngested() throws Exception {
+        // Given: An enabled response cache and a watchlist containing a channel
+        monitorProperties.getResponseCache().setEnabled(true);
+        final User user = aValidatedUser();
+        final Watchlist watchlist = aWatchlistForUser(user, "Cached Watchlist");
+        final Channel channel = aChannelForUser(user, "cached-channel");
+        addChannelToWatchlist(watchlist, channel);
+        final ApiKey apiKey = anApiKeyForUser(user, "Cache Key");
+
+        // And: A first monitor response with its ETag
+        final String etag = mockMvc.perform(aMonitorRequest(user, watchlist))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(ETAG);
+
+        // When: An event is ingested into the channel and the monitor is requested again with that ETag
+        ingestEvent(apiKey, channel, Severity.CRITICAL);
+        final ResultActions result = mockMvc.perform(aMonitorRequest(user, watchlist).header(IF_NONE_MATCH, etag));
+
+        // Then: Should return the new response with a new ETag
+        result.andExpect(status().isOk());
+        assertThat(result.andReturn().getResponse().getHeader(ETAG), is(not(equalTo(etag))));
+        final MonitorResponse response = fromJson(result.andReturn().getResponse().getContentAsString(), MonitorResponse.class);
+        assertThat(response.getWatchlistId(), is(equalTo(watchlist.getId())));
+    }
+
+    // ========================= MONITOR STREAM =========================
+
+    @Test
+    @DisplayName("Should open a stream that starts with a snapshot of the watchlist")
+    void shouldOpenStreamWithSnapshot() throws Exception {
+        // Given: User with a watchlist containing a channel
+        final User user = aValidatedUser();
+        final Watchlist watchlist = aWatchlistForUser(user, "Streamed Watchlist");
+        final Channel channel = aChannelForUser(user, "streamed-channel");
+        addChannelToWatchlist(watchlist, channel);
+
+        // When: Opening a stream for the watchlist
+        final MvcResult result = mockMvc.perform(aStreamRequest(user, watchlist))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then: The stream is an event stream that starts with a snapshot of the watchlist
+        assertThat(result.getResponse().getContentType(), startsWith(TEXT_EVENT_STREAM_VALUE));
+        final String content = awaitStreamContent(result, SNAPSHOT_EVENT_LINE);
+        assertThat(content, containsString(SNAPSHOT_EVENT_LINE));
+        assertThat(content, containsString("Streamed Watchlist"));
+    }
+
+    @Test
+    @DisplayName("Should push a delta when an event is ingested into a channel of the watchlist")
+    void shouldPushDeltaWhenEventIngested() throws Exception {
+        // Given: An open stream for a watchlist containing a channel
+        final User user = aValidatedUser();
+        final Watchlist watchlist = aWatchlistForUser(user, "Streamed Watchlist");
+        final Channel channel = aChannelForUser(user, "streamed-channel");
+        addChannelToWatchlist(watchlist, channel);
+        final ApiKey apiKey = anApiKeyForUser(user, "Stream Key");
+
+        final MvcResult result = mockMvc.perform(aStreamRequest(user, watchlist))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        awaitStreamContent(result, SNAPSHOT_EVENT_LINE);
+
+        // When: An event is ingested into the channel
+        ingestEvent(apiKey, channel, Severity.CRITICAL);
+
+        // Then: The stream receives a delta with the new severity of the channel
+        final String content = awaitStreamContent(result, DELTA_EVENT_LINE);
+        assertThat(content, containsString(DELTA_EVENT_LINE));
+        assertThat(content, containsString("\"currentSeverity\":\"CRITICAL\""));
+    }
+
+    @Test
+    @DisplayName("Should fail to open a stream when user does not own watchlist")
+    void shouldFailToOpenStreamWhenUserDoesNotOwnWatchlist() throws Exception {
+        // Given: A watchlist owned by a different user
+        final User user1 = aValidatedUser();
+        final User user2 = aValidatedUser();
+        final Watchlist watchlist = aWatchlistForUser(user2, "Other User's Watchlist");
+
+        // When: User1 tries to stream user2's watchlist
+        final ResultActions result = mockMvc.perform(aStreamRequest(user1, watchlist));
+
+        // Then: Should return forbidden without opening a stream
+        result.andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should fail to open a stream when not authenticated")
+    void shouldFailToOpenStreamWhenNotAuthenticated() throws Exception {
+        // Given: A watchlist
+        final User user = aValidatedUser();
+        final Watchlist watchlist = aWatchlistForUser(user, "My Watchlist");
+
+        // When: Opening a stream without auth header
+        final ResultActions result = mockMvc.perform(
+            get(USER_MONITOR_STREAM_PATH).param("watchlistId", String.valueOf(watchlist.getId()))
+        );
+
+        // Then: Should return unauthorized
+        result.andExpect(status().isUnauthorized());
+    }
+
+    // ========================= HELPER METHODS =========================
+
+    private static MockHttpServletRequestBuilder aMonitorRequest(final User user, final Watchlist watchlist) {
+        final MonitorRequest request = new MonitorRequest();
+        request.setWatchlistId(watchlist.getId());
+        request.setFilters(MonitorFilters.builder().timeRange(TimeRange.LAST_24H).build());
+        return post(USER_MONITOR_PATH)
+            .header(AUTHORIZATION, BEARER + user.getAccessToken().getValue())
+            .contentType(APPLICATION_JSON)
+            .content(toJson(request));
+    }
+
+    private void ingestEvent(final ApiKey apiKey, final Channel channel, final Severity severity) throws Exception {
+        final CreateEventRequest request = new CreateEventRequest()
+            .setSlug(channel.getSlug())
+            .setSeverity(severity)
+            .setTitle("Ingested Event");
+        mockMvc.perform(
+            post(EXTERNAL_EVENTS_PATH)
+                .contentType(APPLICATION_JSON)
+                .header(API_KEY_HEADER, apiKey.getKey())
+                .content(toJson(request))
+        ).andExpect(status().isCreated());
+    }
+
+    private static MockHttpServletRequestBuilder aStreamRequest(final User user, final Watchlist watchlist) {
+        return get(USER_MONITOR_STREAM_PATH)
+            .header(AUTHORIZATION, BEARER + user.getAccessToken().getValue())
+            .accept(TEXT_EVENT_STREAM)
+            .param("watchlistId", String.valueOf(watchlist.getId()))
+            .param("timeRange", TimeRange.LAST_24H.getValue());
+    }
+
+    /**
+     * Waits until the stream has written the expected content, as events are sent from a separate thread.
+     */
+    private static String awaitStreamContent(final MvcResult result, final String expected) throws Exception {
+        final long deadline = System.nanoTime() + STREAM_TIMEOUT.toNanos();
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(STREAM_POLL_INTERVAL.toMillis());
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
 }
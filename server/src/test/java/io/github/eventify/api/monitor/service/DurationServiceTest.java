@@ -1,16 +1,21 @@
 package io.github.eventify.api.monitor.service;
 
 import io.github.eventify.api.channel.model.Channel;
-import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.channel.repository.ChannelRepository;
 import io.github.eventify.api.event.model.Severity;
 import io.github.eventify.api.event.repository.EventRepository;
+import io.github.eventify.api.monitor.model.DurationDirection;
+import io.github.eventify.api.monitor.model.SeverityRun;
 import io.github.eventify.api.monitor.model.TimelineDuration;
 import io.github.eventify.api.monitor.model.response.DurationDetailsResponse;
-import io.github.eventify.support.TestBuilders;
+import io.github.eventify.api.monitor.util.DurationCursor;
 import io.github.eventify.support.UnitTest;
+import io.github.jframe.exception.core.ValidationException;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,44 +24,44 @@ import org.junit.jupiter.api.Test;
 import static java.time.ZoneOffset.UTC;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("Unit Test - Duration Service")
 public class DurationServiceTest extends UnitTest {
 
+    private static final Long CHANNEL_ID = 1L;
+
     private DurationService durationService;
     private EventRepository eventRepository;
+    private ChannelRepository channelRepository;
 
     @BeforeEach
     public void setUp() {
         eventRepository = mock(EventRepository.class);
-        durationService = new DurationService(eventRepository);
+        channelRepository = mock(ChannelRepository.class);
+        durationService = new DurationService(eventRepository, channelRepository);
     }
 
     @Test
     @DisplayName("Should return durations with selected index when timestamp points to middle duration")
     public void shouldReturnDurationsWithSelectedIndexWhenTimestampPointsToMiddleDuration() {
-        // Given: A channel with three events creating three durations
-        final Channel channel = aChannel();
+        // Given: A channel with three runs
         final OffsetDateTime t1 = OffsetDateTime.of(2026, 2, 12, 9, 50, 0, 0, UTC);
         final OffsetDateTime t2 = OffsetDateTime.of(2026, 2, 12, 10, 20, 0, 0, UTC);
         final OffsetDateTime t3 = OffsetDateTime.of(2026, 2, 12, 10, 45, 0, 0, UTC);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.OK, t1),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, t2),
-            TestBuilders.anEvent(channel, Severity.OK, t3)
-        );
-
-        given(eventRepository.findEventsAroundTimestamp(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events);
+        givenRunsBefore(aRun(Severity.OK, t1));
+        givenRunStartsFrom(aRun(Severity.CRITICAL, t2), aRun(Severity.OK, t3));
 
         // When: Requesting durations around the CRITICAL timestamp
-        final DurationDetailsResponse response = durationService.getDurationsAround(channel.getId(), t2);
+        final DurationDetailsResponse response = durationService.getDurationsAround(CHANNEL_ID, t2);
 
         // Then: Should return 3 durations
         assertThat(response.getDurations(), hasSize(3));
@@ -86,53 +91,47 @@ public class DurationServiceTest extends UnitTest {
     @Test
     @DisplayName("Should cut off duration that extends before minimum display window")
     public void shouldCutOffDurationThatExtendsBeforeMinimumDisplayWindow() {
-        // Given: A duration that started hours ago
-        final Channel channel = aChannel();
+        // Given: A run that started hours ago
         final OffsetDateTime veryOldStart = OffsetDateTime.of(2026, 2, 12, 6, 0, 0, 0, UTC);
         final OffsetDateTime selectedTime = OffsetDateTime.of(2026, 2, 12, 10, 20, 0, 0, UTC);
         final OffsetDateTime recentTime = OffsetDateTime.of(2026, 2, 12, 10, 45, 0, 0, UTC);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.OK, veryOldStart),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, selectedTime),
-            TestBuilders.anEvent(channel, Severity.OK, recentTime)
-        );
-
-        given(eventRepository.findEventsAroundTimestamp(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events);
+        givenRunsBefore(aMarker(), aRun(Severity.OK, veryOldStart));
+        givenRunStartsFrom(aRun(Severity.CRITICAL, selectedTime), aRun(Severity.OK, recentTime));
 
         // When: Requesting durations around the CRITICAL timestamp
-        final DurationDetailsResponse response = durationService.getDurationsAround(channel.getId(), selectedTime);
+        final DurationDetailsResponse response = durationService.getDurationsAround(CHANNEL_ID, selectedTime);
 
         // Then: The OK duration should be cut off at window start
         final TimelineDuration d1 = response.getDurations().get(0);
         assertThat(d1.getSeverity(), is(Severity.OK));
         assertThat(d1.getStartTime(), not(equalTo(veryOldStart)));
         assertThat(d1.getEndTime(), is(selectedTime));
+
+        // And: The previous cursor still names the start of the run
+        assertThat(response.getPreviousCursor(), is(DurationCursor.encode(veryOldStart)));
     }
 
     @Test
     @DisplayName("Should return enough durations to fill display window when flapping occurs")
     public void shouldReturnEnoughDurationsToFillDisplayWindowWhenFlappingOccurs() {
         // Given: Multiple rapid severity changes (flapping)
-        final Channel channel = aChannel();
         final OffsetDateTime base = OffsetDateTime.of(2026, 2, 12, 10, 0, 0, 0, UTC);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.OK, base),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, base.plusMinutes(2)),
-            TestBuilders.anEvent(channel, Severity.OK, base.plusMinutes(4)),
-            TestBuilders.anEvent(channel, Severity.WARNING, base.plusMinutes(6)),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, base.plusMinutes(8)),
-            TestBuilders.anEvent(channel, Severity.OK, base.plusMinutes(10)),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, base.plusMinutes(12))
+        givenRunsBefore(
+            aRun(Severity.OK, base),
+            aRun(Severity.CRITICAL, base.plusMinutes(2)),
+            aRun(Severity.OK, base.plusMinutes(4))
+        );
+        givenRunStartsFrom(
+            aRun(Severity.WARNING, base.plusMinutes(6)),
+            aRun(Severity.CRITICAL, base.plusMinutes(8)),
+            aRun(Severity.OK, base.plusMinutes(10)),
+            aRun(Severity.CRITICAL, base.plusMinutes(12))
         );
-
-        given(eventRepository.findEventsAroundTimestamp(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events);
 
         // When: Requesting durations around middle of flapping period
-        final DurationDetailsResponse response = durationService.getDurationsAround(channel.getId(), base.plusMinutes(6));
+        final DurationDetailsResponse response = durationService.getDurationsAround(CHANNEL_ID, base.plusMinutes(6));
 
         // Then: Should return multiple durations to cover the window
         assertThat(response.getDurations(), hasSize(greaterThan(3)));
@@ -146,20 +145,14 @@ public class DurationServiceTest extends UnitTest {
     @DisplayName("Should handle very long previous duration without performance issues")
     public void shouldHandleVeryLongPreviousDurationWithoutPerformanceIssues() {
         // Given: A 41-day OK period before selected CRITICAL
-        final Channel channel = aChannel();
         final OffsetDateTime longAgo = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, UTC);
         final OffsetDateTime now = OffsetDateTime.of(2026, 2, 12, 10, 20, 0, 0, UTC);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.OK, longAgo),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, now)
-        );
-
-        given(eventRepository.findEventsAroundTimestamp(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events);
+        givenRunsBefore(aRun(Severity.OK, longAgo));
+        givenRunStartsFrom(aRun(Severity.CRITICAL, now));
 
         // When: Requesting durations around the CRITICAL timestamp
-        final DurationDetailsResponse response = durationService.getDurationsAround(channel.getId(), now);
+        final DurationDetailsResponse response = durationService.getDurationsAround(CHANNEL_ID, now);
 
         // Then: Should return 2 durations
         assertThat(response.getDurations(), hasSize(2));
@@ -177,41 +170,36 @@ public class DurationServiceTest extends UnitTest {
         final Channel channel = aChannel();
         final OffsetDateTime firstEvent = OffsetDateTime.of(2026, 2, 12, 10, 0, 0, 0, UTC);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.OK, firstEvent)
-        );
-
-        given(eventRepository.findEventsAroundTimestamp(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events);
+        givenRunsBefore();
+        givenRunStartsFrom(aRun(Severity.OK, firstEvent));
+        given(channelRepository.findById(CHANNEL_ID)).willReturn(Optional.of(channel));
 
         // When: Requesting durations around the first event
-        final DurationDetailsResponse response = durationService.getDurationsAround(channel.getId(), firstEvent);
+        final DurationDetailsResponse response = durationService.getDurationsAround(CHANNEL_ID, firstEvent);
 
-        // Then: Should have NO_DATA as first duration
-        assertThat(response.getDurations().get(0).getSeverity(), is(Severity.NO_DATA));
+        // Then: Should have NO_DATA from the channel's creation as first duration
+        final TimelineDuration noData = response.getDurations().get(0);
+        assertThat(noData.getSeverity(), is(Severity.NO_DATA));
+        assertThat(noData.getStartTime(), is(channel.getCreatedAt()));
+        assertThat(noData.getEndTime(), is(firstEvent));
 
         // And: hasPrevious should be false
         assertThat(response.isHasPrevious(), is(false));
+        assertThat(response.getPreviousCursor(), is(nullValue()));
     }
 
     @Test
     @DisplayName("Should mark live duration with null end time")
     public void shouldMarkLiveDurationWithNullEndTime() {
-        // Given: Events with last one being the most recent
-        final Channel channel = aChannel();
+        // Given: Runs with the last one being the most recent
         final OffsetDateTime t1 = OffsetDateTime.of(2026, 2, 12, 10, 0, 0, 0, UTC);
         final OffsetDateTime t2 = OffsetDateTime.of(2026, 2, 12, 10, 30, 0, 0, UTC);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.OK, t1),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, t2)
-        );
-
-        given(eventRepository.findEventsAroundTimestamp(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events);
+        givenRunsBefore(aRun(Severity.OK, t1));
+        givenRunStartsFrom(aRun(Severity.CRITICAL, t2));
 
         // When: Requesting durations around the latest event
-        final DurationDetailsResponse response = durationService.getDurationsAround(channel.getId(), t2);
+        final DurationDetailsResponse response = durationService.getDurationsAround(CHANNEL_ID, t2);
 
         // Then: Last duration should have null endTime (ongoing)
         final TimelineDuration lastDuration = response.getDurations().get(response.getDurations().size() - 1);
@@ -221,141 +209,173 @@ public class DurationServiceTest extends UnitTest {
     @Test
     @DisplayName("Should fetch durations before given timestamp when direction is before")
     public void shouldFetchDurationsBeforeGivenTimestampWhenDirectionIsBefore() {
-        // Given: Multiple durations across time
-        final Channel channel = aChannel();
+        // Given: Two runs before the timestamp
         final OffsetDateTime base = OffsetDateTime.of(2026, 2, 12, 10, 0, 0, 0, UTC);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.OK, base.minusHours(2)),
-            TestBuilders.anEvent(channel, Severity.WARNING, base.minusHours(1)),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, base),
-            TestBuilders.anEvent(channel, Severity.OK, base.plusHours(1))
-        );
-
-        given(eventRepository.findEventsBefore(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events.subList(0, 3));
+        givenRunsBefore(aMarker(), aRun(Severity.OK, base.minusHours(2)), aRun(Severity.WARNING, base.minusHours(1)));
 
         // When: Requesting durations before timestamp
-        final DurationDetailsResponse response = durationService.getDurationsBefore(channel.getId(), base);
+        final DurationDetailsResponse response = durationService.getDurationsBefore(CHANNEL_ID, base);
 
         // Then: Should only return durations ending before timestamp
         assertThat(response.getDurations(), hasSize(2));
         assertThat(response.getDurations().get(0).getSeverity(), is(Severity.OK));
         assertThat(response.getDurations().get(1).getSeverity(), is(Severity.WARNING));
+        assertThat(response.getDurations().get(1).getEndTime(), is(base));
+
+        // And: Both cursors name the outer runs of the page
+        assertThat(response.isHasPrevious(), is(true));
+        assertThat(response.getPreviousCursor(), is(DurationCursor.encode(base.minusHours(2))));
+        assertThat(response.getNextCursor(), is(DurationCursor.encode(base.minusHours(1))));
     }
 
     @Test
     @DisplayName("Should fetch durations after given timestamp when direction is after")
     public void shouldFetchDurationsAfterGivenTimestampWhenDirectionIsAfter() {
-        // Given: Multiple durations across time
-        final Channel channel = aChannel();
+        // Given: Runs starting at and after the timestamp
         final OffsetDateTime base = OffsetDateTime.of(2026, 2, 12, 10, 0, 0, 0, UTC);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.OK, base.minusHours(1)),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, base),
-            TestBuilders.anEvent(channel, Severity.WARNING, base.plusHours(1)),
-            TestBuilders.anEvent(channel, Severity.OK, base.plusHours(2))
+        givenRunStartsFrom(
+            aRun(Severity.CRITICAL, base),
+            aRun(Severity.WARNING, base.plusHours(1)),
+            aRun(Severity.OK, base.plusHours(2))
         );
 
-        given(eventRepository.findEventsAfter(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events.subList(1, 4));
-
         // When: Requesting durations after timestamp
-        final DurationDetailsResponse response = durationService.getDurationsAfter(channel.getId(), base);
+        final DurationDetailsResponse response = durationService.getDurationsAfter(CHANNEL_ID, base);
 
         // Then: Should only return durations starting after timestamp
         assertThat(response.getDurations(), hasSize(2));
         assertThat(response.getDurations().get(0).getSeverity(), is(Severity.WARNING));
         assertThat(response.getDurations().get(1).getSeverity(), is(Severity.OK));
+
+        // And: The live duration ends the channel
+        assertThat(response.isHasNext(), is(false));
+        assertThat(response.getNextCursor(), is(nullValue()));
     }
 
     @Test
-    @DisplayName("Should respect maximum durations limit when many durations exist")
-    public void shouldRespectMaximumDurationsLimitWhenManyDurationsExist() {
-        // Given: More than max durations (>10)
-        final Channel channel = aChannel();
+    @DisplayName("Should page after the run named by a cursor")
+    public void shouldPageAfterCursor() {
+        // Given: A cursor naming the last run of a page
         final OffsetDateTime base = OffsetDateTime.of(2026, 2, 12, 10, 0, 0, 0, UTC);
+        final String cursor = DurationCursor.encode(base);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.OK, base),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, base.plusMinutes(1)),
-            TestBuilders.anEvent(channel, Severity.OK, base.plusMinutes(2)),
-            TestBuilders.anEvent(channel, Severity.WARNING, base.plusMinutes(3)),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, base.plusMinutes(4)),
-            TestBuilders.anEvent(channel, Severity.OK, base.plusMinutes(5)),
-            TestBuilders.anEvent(channel, Severity.WARNING, base.plusMinutes(6)),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, base.plusMinutes(7)),
-            TestBuilders.anEvent(channel, Severity.OK, base.plusMinutes(8)),
-            TestBuilders.anEvent(channel, Severity.WARNING, base.plusMinutes(9)),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, base.plusMinutes(10)),
-            TestBuilders.anEvent(channel, Severity.OK, base.plusMinutes(11)),
-            TestBuilders.anEvent(channel, Severity.WARNING, base.plusMinutes(12))
+        givenRunStartsFrom(aRun(Severity.CRITICAL, base), aRun(Severity.OK, base.plusHours(1)));
+
+        // When: Requesting the next page with the cursor, whatever the timestamp
+        final DurationDetailsResponse response = durationService.getDurations(CHANNEL_ID, null, DurationDirection.AFTER, cursor);
+
+        // Then: The transitions are walked from the run named by the cursor
+        verify(eventRepository).findRunStartsFrom(eq(CHANNEL_ID), eq(base), anyList(), anyInt());
+
+        // And: The page continues after that run
+        assertThat(response.getDurations(), hasSize(1));
+        assertThat(response.getDurations().get(0).getStartTime(), is(base.plusHours(1)));
+        assertThat(response.getPreviousCursor(), is(DurationCursor.encode(base.plusHours(1))));
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor it did not create")
+    public void shouldRejectInvalidCursor() {
+        // When & Then: A tampered cursor is rejected
+        assertThrows(
+            ValidationException.class,
+            () -> durationService.getDurations(CHANNEL_ID, null, DurationDirection.BEFORE, "not-a-cursor")
         );
+    }
 
-        given(eventRepository.findEventsAroundTimestamp(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events);
+    @Test
+    @DisplayName("Should respect maximum durations limit when many durations exist")
+    public void shouldRespectMaximumDurationsLimitWhenManyDurationsExist() {
+        // Given: More than max runs on both sides of the timestamp
+        final OffsetDateTime base = OffsetDateTime.of(2026, 2, 12, 10, 0, 0, 0, UTC);
+
+        givenRunsBefore(aFlappingPage(base.minusMinutes(10), 10, true).toArray(SeverityRun[]::new));
+        givenRunStartsFrom(aFlappingPage(base, 11, false).toArray(SeverityRun[]::new));
 
         // When: Requesting durations around timestamp
-        final DurationDetailsResponse response = durationService.getDurationsAround(channel.getId(), base.plusMinutes(6));
+        final DurationDetailsResponse response = durationService.getDurationsAround(CHANNEL_ID, base);
 
         // Then: Should return at most 10 durations
         assertThat(response.getDurations(), hasSize(lessThanOrEqualTo(10)));
+
+        // And: Both directions have more durations
+        assertThat(response.isHasPrevious(), is(true));
+        assertThat(response.isHasNext(), is(true));
     }
 
     @Test
     @DisplayName("Should mark hasNext as false when at end of timeline")
     public void shouldMarkHasNextAsFalseWhenAtEndOfTimeline() {
-        // Given: Events ending at current time
-        final Channel channel = aChannel();
+        // Given: Runs ending at current time
         final OffsetDateTime t1 = OffsetDateTime.of(2026, 2, 12, 10, 0, 0, 0, UTC);
         final OffsetDateTime t2 = OffsetDateTime.of(2026, 2, 12, 10, 30, 0, 0, UTC);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.OK, t1),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, t2)
-        );
-
-        given(eventRepository.findEventsAroundTimestamp(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events);
+        givenRunsBefore(aRun(Severity.OK, t1));
+        givenRunStartsFrom(aRun(Severity.CRITICAL, t2));
 
         // When: Requesting durations at the end
-        final DurationDetailsResponse response = durationService.getDurationsAround(channel.getId(), t2);
+        final DurationDetailsResponse response = durationService.getDurationsAround(CHANNEL_ID, t2);
 
         // Then: hasNext should be false
         assertThat(response.isHasNext(), is(false));
+        assertThat(response.getNextCursor(), is(nullValue()));
     }
 
     @Test
     @DisplayName("Should mark hasPrevious as true when earlier durations exist")
     public void shouldMarkHasPreviousAsTrueWhenEarlierDurationsExist() {
-        // Given: Events with history before current window
-        final Channel channel = aChannel();
+        // Given: Runs with history before the returned runs
         final OffsetDateTime t1 = OffsetDateTime.of(2026, 2, 12, 8, 0, 0, 0, UTC);
         final OffsetDateTime t2 = OffsetDateTime.of(2026, 2, 12, 10, 0, 0, 0, UTC);
         final OffsetDateTime t3 = OffsetDateTime.of(2026, 2, 12, 10, 30, 0, 0, UTC);
 
-        final List<Event> events = List.of(
-            TestBuilders.anEvent(channel, Severity.WARNING, t1),
-            TestBuilders.anEvent(channel, Severity.OK, t2),
-            TestBuilders.anEvent(channel, Severity.CRITICAL, t3)
-        );
-
-        given(eventRepository.findEventsAroundTimestamp(eq(channel.getId()), any(), anyInt()))
-            .willReturn(events);
+        givenRunsBefore(aMarker(), aRun(Severity.WARNING, t1), aRun(Severity.OK, t2));
+        givenRunStartsFrom(aRun(Severity.CRITICAL, t3));
 
         // When: Requesting durations around t3
-        final DurationDetailsResponse response = durationService.getDurationsAround(channel.getId(), t3);
+        final DurationDetailsResponse response = durationService.getDurationsAround(CHANNEL_ID, t3);
 
         // Then: hasPrevious should be true
         assertThat(response.isHasPrevious(), is(true));
     }
 
-    // ==================== Helper Methods ====================
+    // ========================= HELPER METHODS =========================
+
+    private void givenRunsBefore(final SeverityRun... runs) {
+        given(eventRepository.findRunsBefore(eq(CHANNEL_ID), any(), anyList(), anyInt())).willReturn(List.of(runs));
+    }
+
+    private void givenRunStartsFrom(final SeverityRun... runs) {
+        given(eventRepository.findRunStartsFrom(eq(CHANNEL_ID), any(), anyList(), anyInt())).willReturn(List.of(runs));
+    }
+
+    private SeverityRun aRun(final Severity severity, final OffsetDateTime startTime) {
+        return SeverityRun.of(startTime, severity);
+    }
+
+    /**
+     * The marker the repository returns first when earlier runs exist than it returned.
+     */
+    private SeverityRun aMarker() {
+        return SeverityRun.of(null, Severity.OK);
+    }
+
+    private List<SeverityRun> aFlappingPage(final OffsetDateTime start, final int count, final boolean withMarker) {
+        final List<SeverityRun> runs = new ArrayList<>();
+        if (withMarker) {
+            runs.add(aMarker());
+        }
+        for (int i = 0; i < count; i++) {
+            runs.add(aRun(i % 2 == 0 ? Severity.OK : Severity.CRITICAL, start.plusSeconds(i * 50L)));
+        }
+        return runs;
+    }
 
     private Channel aChannel() {
         final Channel channel = new Channel();
-        channel.setId(1L);
+        channel.setId(CHANNEL_ID);
         channel.setName("Test Channel");
         channel.setCreatedAt(OffsetDateTime.of(2026, 2, 12, 9, 0, 0, 0, UTC));
         return channel;
@@ -6,25 +6,29 @@ import io.github.eventify.api.channel.model.ChannelStatus;
 import io.github.eventify.api.channel.repository.ChannelRepository;
 import io.github.eventify.api.event.model.Event;
 import io.github.eventify.api.event.model.Severity;
-import io.github.eventify.api.event.repository.EventRepository;
+import io.github.eventify.api.event.repository.EventSeverityReader;
 import io.github.eventify.api.monitor.model.BucketSize;
 import io.github.eventify.api.monitor.model.MonitorFilters;
 import io.github.eventify.api.monitor.model.MonitorResult;
 import io.github.eventify.api.monitor.model.TimeRange;
 import io.github.eventify.api.monitor.model.request.MonitorRequest;
 import io.github.eventify.api.monitor.repository.TimelineAggregateRepository;
+import io.github.eventify.api.monitor.state.TimelineStateStore;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.watchlist.model.Watchlist;
 import io.github.eventify.api.watchlist.model.WatchlistConfiguration;
 import io.github.eventify.api.watchlist.model.WatchlistFilters;
 import io.github.eventify.api.watchlist.repository.WatchlistRepository;
+import io.github.eventify.common.config.properties.MonitorProperties;
 import io.github.eventify.support.TestBuilders;
 import io.github.eventify.support.UnitTest;
 import io.github.jframe.exception.core.DataNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -43,8 +47,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -57,22 +63,18 @@ class MonitorServiceTest extends UnitTest {
     private MonitorService monitorService;
     private WatchlistRepository watchlistRepository;
     private ChannelRepository channelRepository;
-    private EventRepository eventRepository;
+    private EventSeverityReader eventSeverityReader;
     private TimelineAggregateRepository timelineAggregateRepository;
+    private TimelineStateStore timelineStateStore;
 
     @BeforeEach
     void setUp() {
         watchlistRepository = mock(WatchlistRepository.class);
         channelRepository = mock(ChannelRepository.class);
-        eventRepository = mock(EventRepository.class);
+        eventSeverityReader = mock(EventSeverityReader.class);
         timelineAggregateRepository = mock(TimelineAggregateRepository.class);
 
-        monitorService = new MonitorService(
-            watchlistRepository,
-            channelRepository,
-            eventRepository,
-            timelineAggregateRepository
-        );
+        monitorService = aMonitorService(false);
     }
 
     // ========================= BASIC MONITOR TESTS =========================
@@ -89,8 +91,7 @@ class MonitorServiceTest extends UnitTest {
         given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
         given(channelRepository.findAllById(anyList()))
             .willReturn(List.of(channel));
-        given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-            .willReturn(new ArrayList<>());
+        givenSeverityRows(new ArrayList<>());
 
         // When: Getting monitor data
         final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -162,8 +163,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(okChannel, criticalChannel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(List.of(okEvent, criticalEvent));
+            givenSeverityRows(List.of(okEvent, criticalEvent));
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -189,8 +189,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(okChannel, criticalChannel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(List.of(okEvent, criticalEvent));
+            givenSeverityRows(List.of(okEvent, criticalEvent));
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -217,8 +216,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(okChannel1, okChannel2));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(List.of(okEvent1, okEvent2));
+            givenSeverityRows(List.of(okEvent1, okEvent2));
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -243,8 +241,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(standaloneOk, groupedCritical));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(List.of(okEvent, criticalEvent));
+            givenSeverityRows(List.of(okEvent, criticalEvent));
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -280,8 +277,7 @@ class MonitorServiceTest extends UnitTest {
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList()))
                 .willReturn(List.of(okChannel, warningChannel, criticalChannel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(List.of(okEvent, warningEvent, criticalEvent));
+            givenSeverityRows(List.of(okEvent, warningEvent, criticalEvent));
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -309,8 +305,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(okChannel, criticalChannel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(List.of(okEvent, criticalEvent));
+            givenSeverityRows(List.of(okEvent, criticalEvent));
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -339,8 +334,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(okChannel, criticalChannel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(List.of(okEvent, criticalEvent));
+            givenSeverityRows(List.of(okEvent, criticalEvent));
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -367,8 +361,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(okChannel, criticalChannel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(List.of(okEvent, criticalEvent));
+            givenSeverityRows(List.of(okEvent, criticalEvent));
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -398,8 +391,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(channel1, channel2));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(new ArrayList<>());
+            givenSeverityRows(new ArrayList<>());
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -422,8 +414,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(channel1, channel2));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(new ArrayList<>());
+            givenSeverityRows(new ArrayList<>());
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -503,8 +494,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(channel1, channel2));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(List.of(okEvent, warningEvent));
+            givenSeverityRows(List.of(okEvent, warningEvent));
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -537,8 +527,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(standaloneChannel, groupedChannel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(List.of(criticalEvent, okEvent));
+            givenSeverityRows(List.of(criticalEvent, okEvent));
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -563,8 +552,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(channel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(new ArrayList<>());
+            givenSeverityRows(new ArrayList<>());
 
             // When: Getting monitor data
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -591,14 +579,13 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(channel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(new ArrayList<>());
+            givenSeverityRows(new ArrayList<>());
 
             // When: Getting monitor data for 2h range
             monitorService.monitorWatchlist(request);
 
-            // Then: eventRepository should be called (raw events path)
-            verify(eventRepository).findEventsWithLastBeforeRange(anyList(), any(), any());
+            // Then: the event severities should be read (raw events path)
+            verify(eventSeverityReader).readTransitions(anyList(), any(), any(), any());
             // And: timelineAggregateRepository should NOT be called
             verify(timelineAggregateRepository, never()).findBucketsForChannels(anyList(), any(), any(), any());
         }
@@ -614,14 +601,13 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(channel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(new ArrayList<>());
+            givenSeverityRows(new ArrayList<>());
 
             // When: Getting monitor data for 4h range
             monitorService.monitorWatchlist(request);
 
-            // Then: eventRepository should be called (raw events path)
-            verify(eventRepository).findEventsWithLastBeforeRange(anyList(), any(), any());
+            // Then: the event severities should be read (raw events path)
+            verify(eventSeverityReader).readTransitions(anyList(), any(), any(), any());
             // And: timelineAggregateRepository should NOT be called
             verify(timelineAggregateRepository, never()).findBucketsForChannels(anyList(), any(), any(), any());
         }
@@ -639,19 +625,19 @@ class MonitorServiceTest extends UnitTest {
             given(channelRepository.findAllById(anyList())).willReturn(List.of(channel));
             given(timelineAggregateRepository.findBucketsForChannels(anyList(), any(), any(), any()))
                 .willReturn(List.of());
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(new ArrayList<>());
+            givenSeverityRows(new ArrayList<>());
 
             // When: Getting monitor data for 12h range
             monitorService.monitorWatchlist(request);
 
             // Then: timelineAggregateRepository should be called (aggregate path)
             verify(timelineAggregateRepository).findBucketsForChannels(anyList(), any(), any(), any());
-            // And: eventRepository is called only for the recent stitch window (last ~1h), not the full 12h range
+            // And: event severities are read only for the recent stitch window (last ~1h), not the full 12h range
             final OffsetDateTime twoHoursAgo = OffsetDateTime.now().minusHours(2);
-            verify(eventRepository).findEventsWithLastBeforeRange(
+            verify(eventSeverityReader).readTransitions(
                 anyList(),
                 argThat(start -> start.isAfter(twoHoursAgo)),
+                any(),
                 any()
             );
         }
@@ -669,19 +655,19 @@ class MonitorServiceTest extends UnitTest {
             given(channelRepository.findAllById(anyList())).willReturn(List.of(channel));
             given(timelineAggregateRepository.findBucketsForChannels(anyList(), any(), any(), any()))
                 .willReturn(List.of());
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(new ArrayList<>());
+            givenSeverityRows(new ArrayList<>());
 
             // When: Getting monitor data for 30d range
             monitorService.monitorWatchlist(request);
 
             // Then: timelineAggregateRepository should be called
             verify(timelineAggregateRepository).findBucketsForChannels(anyList(), any(), any(), any());
-            // And: eventRepository is called only for the recent stitch window (last ~1h), not the full 30d range
+            // And: event severities are read only for the recent stitch window (last ~1h), not the full 30d range
             final OffsetDateTime twoHoursAgo = OffsetDateTime.now().minusHours(2);
-            verify(eventRepository).findEventsWithLastBeforeRange(
+            verify(eventSeverityReader).readTransitions(
                 anyList(),
                 argThat(start -> start.isAfter(twoHoursAgo)),
+                any(),
                 any()
             );
         }
@@ -718,8 +704,7 @@ class MonitorServiceTest extends UnitTest {
 
             given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
             given(channelRepository.findAllById(anyList())).willReturn(List.of(channel));
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(new ArrayList<>());
+            givenSeverityRows(new ArrayList<>());
 
             // When: Getting monitor data for 4h range
             final MonitorResult result = monitorService.monitorWatchlist(request);
@@ -741,20 +726,127 @@ class MonitorServiceTest extends UnitTest {
             given(channelRepository.findAllById(anyList())).willReturn(List.of(channel));
             given(timelineAggregateRepository.findBucketsForChannels(anyList(), any(), any(), any()))
                 .willReturn(List.of());
-            given(eventRepository.findEventsWithLastBeforeRange(anyList(), any(), any()))
-                .willReturn(new ArrayList<>());
+            givenSeverityRows(new ArrayList<>());
 
             // When: Getting monitor data for live 12h range
             monitorService.monitorWatchlist(request);
 
             // Then: BOTH aggregate repo (historical) AND event repo (last hour raw stitching) should be called
             verify(timelineAggregateRepository).findBucketsForChannels(anyList(), any(), any(), any());
-            verify(eventRepository).findEventsWithLastBeforeRange(anyList(), any(), any());
+            verify(eventSeverityReader).readTransitions(anyList(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Live State")
+    class LiveState {
+
+        @BeforeEach
+        void setUp() {
+            monitorService = aMonitorService(true);
+        }
+
+        @Test
+        @DisplayName("Should serve repeated live raw-range requests from the live state")
+        void shouldServeRepeatedLiveRawRangeRequestsFromTheLiveState() {
+            // Given: Watchlist with a channel that logged a warning, live 2h range
+            final User user = aValidUser();
+            final Watchlist watchlist = aWatchlist(1L, "My Watchlist", user, null);
+            final Channel channel = aChannel(1L, "test-channel", ChannelStatus.ACTIVE);
+            final Event warning = TestBuilders.anEvent(channel, Severity.WARNING, OffsetDateTime.now().minusMinutes(30));
+
+            given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
+            given(channelRepository.findAllById(anyList())).willReturn(List.of(channel));
+            givenSeverityRows(new ArrayList<>(List.of(warning)));
+
+            // When: Polling the monitor twice
+            monitorService.monitorWatchlist(aMonitorRequestWithTimeRange(1L, TimeRange.LAST_2H));
+            final MonitorResult result = monitorService.monitorWatchlist(aMonitorRequestWithTimeRange(1L, TimeRange.LAST_2H));
+
+            // Then: Events are only queried to build the state
+            verify(eventSeverityReader, times(1)).readTransitions(anyList(), any(), any(), any());
+            assertThat(result.getConfiguration().getChannels().getFirst().getCurrentSeverity(), is(Severity.WARNING));
+        }
+
+        @Test
+        @DisplayName("Should reflect written events without querying again")
+        void shouldReflectWrittenEventsWithoutQueryingAgain() {
+            // Given: Watchlist with a channel whose live state was built on a first poll
+            final User user = aValidUser();
+            final Watchlist watchlist = aWatchlist(1L, "My Watchlist", user, null);
+            final Channel channel = aChannel(1L, "test-channel", ChannelStatus.ACTIVE);
+            final Event warning = TestBuilders.anEvent(channel, Severity.WARNING, OffsetDateTime.now().minusMinutes(30));
+
+            given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
+            given(channelRepository.findAllById(anyList())).willReturn(List.of(channel));
+            givenSeverityRows(new ArrayList<>(List.of(warning)));
+            monitorService.monitorWatchlist(aMonitorRequestWithTimeRange(1L, TimeRange.LAST_2H));
+
+            // When: A critical event is written and the monitor is polled again
+            timelineStateStore.recordAll(List.of(TestBuilders.anEvent(channel, Severity.CRITICAL, OffsetDateTime.now().minusMinutes(1))));
+            final MonitorResult result = monitorService.monitorWatchlist(aMonitorRequestWithTimeRange(1L, TimeRange.LAST_2H));
+
+            // Then: The new severity is served from memory
+            final Channel monitored = result.getConfiguration().getChannels().getFirst();
+            assertThat(monitored.getCurrentSeverity(), is(Severity.CRITICAL));
+            assertThat(monitored.getTimeline().getDurations().getLast().getSeverity(), is(Severity.CRITICAL));
+            verify(eventSeverityReader, times(1)).readTransitions(anyList(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should use raw events for ranges that are not live")
+        void shouldUseRawEventsForRangesThatAreNotLive() {
+            // Given: Watchlist with channels, custom 2h range that ended yesterday
+            final User user = aValidUser();
+            final Watchlist watchlist = aWatchlist(1L, "My Watchlist", user, null);
+            final Channel channel = aChannel(1L, "test-channel", ChannelStatus.ACTIVE);
+            final MonitorRequest request = aMonitorRequestWithTimeRange(1L, TimeRange.CUSTOM);
+            request.getFilters().setStartTime(OffsetDateTime.now().minusDays(1).minusHours(2));
+            request.getFilters().setEndTime(OffsetDateTime.now().minusDays(1));
+
+            given(watchlistRepository.findById(1L)).willReturn(Optional.of(watchlist));
+            given(channelRepository.findAllById(anyList())).willReturn(List.of(channel));
+            givenSeverityRows(new ArrayList<>());
+
+            // When: Polling the monitor twice
+            monitorService.monitorWatchlist(request);
+            monitorService.monitorWatchlist(request);
+
+            // Then: Every request queries raw events
+            verify(eventSeverityReader, times(2)).readTransitions(anyList(), any(), any(), any());
         }
     }
 
     // ========================= HELPER METHODS =========================
 
+    private MonitorService aMonitorService(final boolean liveStateEnabled) {
+        final MonitorProperties monitorProperties = new MonitorProperties();
+        monitorProperties.getLiveState().setEnabled(liveStateEnabled);
+        monitorProperties.getParallelBuild().setMinChannelsPerTask(1);
+        timelineStateStore = new TimelineStateStore(monitorProperties, eventSeverityReader, new SimpleMeterRegistry());
+        return new MonitorService(
+            watchlistRepository,
+            channelRepository,
+            timelineAggregateRepository,
+            timelineStateStore,
+            new TimelineBuildExecutor(monitorProperties)
+        );
+    }
+
+    /**
+     * Streams the given events to the severity reader's handler in timestamp order. The real query drops repeated
+     * severities, which replays into the same state.
+     */
+    private void givenSeverityRows(final List<Event> events) {
+        willAnswer(invocation -> {
+            final EventSeverityReader.SeverityRowHandler handler = invocation.getArgument(3);
+            events.stream()
+                .sorted(Comparator.comparing(Event::getTimestamp))
+                .forEach(event -> handler.handle(event.getChannel().getId(), event.getTimestamp(), event.getSeverity()));
+            return null;
+        }).given(eventSeverityReader).readTransitions(anyList(), any(), any(), any());
+    }
+
     private Watchlist aWatchlist(final Long id, final String name, final User user, final Organization org) {
         final Watchlist watchlist = new Watchlist(name, user, org);
         watchlist.setId(id);
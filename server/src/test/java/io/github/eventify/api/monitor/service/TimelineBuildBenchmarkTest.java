@@ -0,0 +1,244 @@
+package io.github.eventify.api.monitor.service;
+
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.api.channel.model.ChannelGroup;
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.BucketSize;
+import io.github.eventify.api.monitor.model.TimeSpan;
+import io.github.eventify.api.monitor.model.Timeline;
+import io.github.eventify.api.monitor.model.TimelineBucket;
+import io.github.eventify.api.monitor.model.TimelineDuration;
+import io.github.eventify.api.monitor.state.ChannelTimelineState;
+import io.github.eventify.api.monitor.util.AggregateTimelineBuilder;
+import io.github.eventify.api.user.model.User;
+import io.github.eventify.common.config.properties.MonitorProperties;
+import io.github.eventify.support.TestBuilders;
+import io.github.eventify.support.UnitTest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Benchmark - Building the timelines of a monitor request on the request thread versus the fork-join stage.
+ *
+ * <p>Builds the timelines of 100 to 5,000 channels the way a monitor request does: from the run-length state of each
+ * channel for a raw-event window, and from aggregate buckets for a longer window. The channels are split into groups
+ * of 50 that are consolidated afterwards. Every build runs once with a single worker and once with one worker per
+ * available processor; the speed-up is logged rather than asserted, since it depends on the cores of the machine.
+ *
+ * <p>Tagged as a benchmark, so it only runs with {@code ./gradlew benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Benchmark - Parallel Timeline Building")
+public class TimelineBuildBenchmarkTest extends UnitTest {
+
+    private static final int[] CHANNEL_COUNTS = {100, 500, 1_000, 5_000};
+    private static final int EVENTS_PER_CHANNEL = 60;
+    private static final int CHANNELS_PER_GROUP = 50;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final OffsetDateTime RANGE_END = OffsetDateTime.of(2026, 1, 15, 12, 0, 0, 0, UTC);
+    private static final TimeSpan RAW_RANGE = new TimeSpan(RANGE_END.minusHours(4), RANGE_END);
+    private static final TimeSpan AGGREGATE_RANGE = new TimeSpan(RANGE_END.minusDays(7), RANGE_END);
+    private static final BucketSize BUCKET_SIZE = BucketSize.PT2H;
+    private static final Severity[] SEVERITIES = {Severity.OK, Severity.WARNING, Severity.CRITICAL, Severity.OK};
+
+    private final List<TimelineBuildExecutor> executors = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        executors.forEach(TimelineBuildExecutor::stop);
+    }
+
+    @Test
+    @DisplayName("Should build raw-event windows from the channel states on the fork-join stage")
+    public void rawWindowTimelineBuilding() {
+        benchmark("raw window", channels -> {
+            final Map<Long, ChannelTimelineState> states = statesByChannel(channels);
+            return channel -> channel.setTimeline(states.get(channel.getId()).timelineFor(RAW_RANGE));
+        });
+    }
+
+    @Test
+    @DisplayName("Should build aggregate windows from the buckets on the fork-join stage")
+    public void aggregateTimelineBuilding() {
+        benchmark("aggregate", channels -> {
+            final Map<Long, List<TimelineBucket>> buckets = bucketsByChannel(channels);
+            return channel -> channel.setTimeline(
+                AggregateTimelineBuilder.fromBuckets(buckets.get(channel.getId()), AGGREGATE_RANGE, BUCKET_SIZE)
+            );
+        });
+    }
+
+    // ========================= HELPER METHODS =========================
+
+    /**
+     * Measures the channel timelines and group consolidations of every channel count with either stage. The input
+     * of a channel (its state or its buckets) is prepared once, as a monitor request reads it before building.
+     */
+    private void benchmark(final String path, final Function<List<Channel>, Consumer<Channel>> channelTimeline) {
+        // Given: A single-worker stage and a stage with one worker per core
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final TimelineBuildExecutor sequential = anExecutor(1);
+        final TimelineBuildExecutor parallel = anExecutor(cores);
+
+        for (final int channelCount : CHANNEL_COUNTS) {
+            // And: Channels with a few hours of events, in groups of 50
+            final List<Channel> channels = channels(channelCount);
+            final List<ChannelGroup> groups = groups(channels);
+            final Consumer<Channel> buildChannel = channelTimeline.apply(channels);
+
+            // When: Building all timelines with either stage
+            final long sequentialNanos = measure(sequential, channels, groups, buildChannel);
+            final List<String> sequentialTimelines = signatures(channels, groups);
+            final long parallelNanos = measure(parallel, channels, groups, buildChannel);
+            final List<String> parallelTimelines = signatures(channels, groups);
+
+            log.info(
+                "Timeline building ({}) for {} channels: sequential='{} ms', parallel='{} ms' on {} cores, speed-up='{}'",
+                path,
+                channelCount,
+                sequentialNanos / 1_000_000.0,
+                parallelNanos / 1_000_000.0,
+                cores,
+                String.format("%.2fx", (double) sequentialNanos / Math.max(1L, parallelNanos))
+            );
+
+            // Then: Both stages produce exactly the same channel and group timelines
+            assertThat(parallelTimelines, hasSize(channelCount + groups.size()));
+            assertThat(parallelTimelines, is(equalTo(sequentialTimelines)));
+        }
+    }
+
+    /**
+     * Returns the best time of the measured rounds, after warming up.
+     */
+    private long measure(
+        final TimelineBuildExecutor executor,
+        final List<Channel> channels,
+        final List<ChannelGroup> groups,
+        final Consumer<Channel> buildChannel
+    ) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            final long start = System.nanoTime();
+            executor.forEach(channels, buildChannel);
+            groups.forEach(group -> group.setChannels(group.getChannels()));
+            executor.forEach(groups, 1, ChannelGroup::getTimeline);
+            final long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best;
+    }
+
+    private TimelineBuildExecutor anExecutor(final int parallelism) {
+        final MonitorProperties properties = new MonitorProperties();
+        properties.getParallelBuild().setParallelism(parallelism);
+        final TimelineBuildExecutor executor = new TimelineBuildExecutor(properties);
+        executors.add(executor);
+        return executor;
+    }
+
+    private List<Channel> channels(final int count) {
+        final List<Channel> channels = new ArrayList<>(count);
+        final User user = aValidUser();
+        for (long id = 1; id <= count; id++) {
+            channels.add(TestBuilders.aChannel(id, "Channel " + id, user));
+        }
+        return channels;
+    }
+
+    /**
+     * Every channel changes severity at a different offset, so timelines and consolidations differ per channel.
+     * The rows are replayed the way {@code TimelineStateStore.readStates} replays them.
+     */
+    private Map<Long, ChannelTimelineState> statesByChannel(final List<Channel> channels) {
+        final long intervalSeconds = Duration.between(RAW_RANGE.getStart(), RANGE_END).toSeconds() / EVENTS_PER_CHANNEL;
+        final Map<Long, ChannelTimelineState> statesByChannel = new HashMap<>();
+        for (final Channel channel : channels) {
+            final ChannelTimelineState state = new ChannelTimelineState(RAW_RANGE.getStart(), null);
+            final long offset = channel.getId() % intervalSeconds;
+            for (int index = 0; index < EVENTS_PER_CHANNEL; index++) {
+                state.replay(severityOf(channel, index), RAW_RANGE.getStart().plusSeconds(index * intervalSeconds + offset));
+            }
+            statesByChannel.put(channel.getId(), state);
+        }
+        return statesByChannel;
+    }
+
+    /**
+     * One bucket per bucket size of the window, each starting and ending with a severity that depends on the channel.
+     */
+    private Map<Long, List<TimelineBucket>> bucketsByChannel(final List<Channel> channels) {
+        final Duration bucketDuration = BUCKET_SIZE.getDuration();
+        final int bucketCount = (int) (Duration.between(AGGREGATE_RANGE.getStart(), RANGE_END).toSeconds() / bucketDuration.toSeconds());
+        final Map<Long, List<TimelineBucket>> bucketsByChannel = new HashMap<>();
+        for (final Channel channel : channels) {
+            final List<TimelineBucket> buckets = new ArrayList<>(bucketCount);
+            for (int index = 0; index < bucketCount; index++) {
+                final OffsetDateTime bucket = AGGREGATE_RANGE.getStart().plus(bucketDuration.multipliedBy(index));
+                buckets.add(TimelineBucket.of(
+                    channel.getId(),
+                    bucket,
+                    severityOf(channel, index).name(),
+                    severityOf(channel, index + 1).name(),
+                    2L,
+                    bucket.plusMinutes(channel.getId() % 30),
+                    bucket.plusMinutes(60 + channel.getId() % 30)
+                ));
+            }
+            bucketsByChannel.put(channel.getId(), buckets);
+        }
+        return bucketsByChannel;
+    }
+
+    private Severity severityOf(final Channel channel, final int index) {
+        return SEVERITIES[(int) ((index + channel.getId()) % SEVERITIES.length)];
+    }
+
+    private List<ChannelGroup> groups(final List<Channel> channels) {
+        final List<ChannelGroup> groups = new ArrayList<>();
+        for (int from = 0; from < channels.size(); from += CHANNELS_PER_GROUP) {
+            final List<Channel> members = channels.subList(from, Math.min(from + CHANNELS_PER_GROUP, channels.size()));
+            groups.add(ChannelGroup.of("Group " + groups.size(), new ArrayList<>(members)));
+        }
+        return groups;
+    }
+
+    private List<String> signatures(final List<Channel> channels, final List<ChannelGroup> groups) {
+        final List<String> signatures = new ArrayList<>(channels.size() + groups.size());
+        channels.forEach(channel -> signatures.add(signature(channel.getTimeline())));
+        groups.forEach(group -> signatures.add(signature(group.getTimeline())));
+        return signatures;
+    }
+
+    private String signature(final Timeline timeline) {
+        return timeline.getDurations().stream()
+            .map(TimelineBuildBenchmarkTest::describe)
+            .collect(Collectors.joining(","));
+    }
+
+    private static String describe(final TimelineDuration duration) {
+        return duration.getSeverity() + "@" + duration.getStartTime() + "/" + duration.getEndTime();
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.eventify.api.monitor.service;
+
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.api.channel.model.ChannelGroup;
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.TimeSpan;
+import io.github.eventify.api.monitor.model.Timeline;
+import io.github.eventify.api.monitor.state.ChannelTimelineState;
+import io.github.eventify.common.config.properties.MonitorProperties;
+import io.github.eventify.support.TestBuilders;
+import io.github.eventify.support.UnitTest;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the fork-join stage that builds the timelines of a monitor request.
+ */
+@DisplayName("Unit Test - Timeline Build Executor")
+class TimelineBuildExecutorTest extends UnitTest {
+
+    private static final OffsetDateTime RANGE_END = OffsetDateTime.of(2026, 1, 15, 12, 0, 0, 0, UTC);
+    private static final TimeSpan RANGE = new TimeSpan(RANGE_END.minusHours(4), RANGE_END);
+    private static final Severity[] SEVERITIES = {Severity.OK, Severity.WARNING, Severity.CRITICAL};
+    private static final int CHANNEL_COUNT = 16;
+
+    private final List<TimelineBuildExecutor> executors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(TimelineBuildExecutor::stop);
+    }
+
+    @Test
+    @DisplayName("Should build the same channel and group timelines with several workers as with one")
+    void shouldBuildTheSameTimelinesWithSeveralWorkersAsWithOne() {
+        // Given: A single-worker stage and a stage that splits every request over 4 workers
+        final TimelineBuildExecutor sequential = anExecutor(1);
+        final TimelineBuildExecutor parallel = anExecutor(4);
+
+        // When: Building the timelines of the same channels and groups with either stage
+        final List<String> sequentialTimelines = buildAll(sequential);
+        final List<String> parallelTimelines = buildAll(parallel);
+
+        // Then: Both stages produce exactly the same timelines
+        assertThat(parallelTimelines, hasSize(CHANNEL_COUNT + 2));
+        assertThat(parallelTimelines, is(equalTo(sequentialTimelines)));
+    }
+
+    @Test
+    @DisplayName("Should finish every task before rethrowing the failure of one")
+    void shouldFinishEveryTaskBeforeRethrowingTheFailureOfOne() {
+        // Given: A stage with 4 workers and an action that fails on one item
+        final TimelineBuildExecutor executor = anExecutor(4);
+        final List<Integer> items = List.of(1, 2, 3, 4, 5, 6, 7, 8);
+        final AtomicInteger processed = new AtomicInteger();
+
+        // When: Applying the action to every item
+        final IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> executor.forEach(items, item -> {
+                if (item == 1) {
+                    throw new IllegalStateException("failed");
+                }
+                processed.incrementAndGet();
+            })
+        );
+
+        // Then: The failure is rethrown once the other chunks completed
+        assertThat(exception.getMessage(), containsString("failed"));
+        assertThat(processed.get(), is(greaterThanOrEqualTo(6)));
+    }
+
+    // ========================= HELPER METHODS =========================
+
+    private List<String> buildAll(final TimelineBuildExecutor executor) {
+        final List<Channel> channels = new ArrayList<>(CHANNEL_COUNT);
+        for (long id = 1; id <= CHANNEL_COUNT; id++) {
+            channels.add(TestBuilders.aChannel(id, "Channel " + id, aValidUser()));
+        }
+        final List<ChannelGroup> groups = List.of(
+            ChannelGroup.of("First", new ArrayList<>(channels.subList(0, CHANNEL_COUNT / 2))),
+            ChannelGroup.of("Second", new ArrayList<>(channels.subList(CHANNEL_COUNT / 2, CHANNEL_COUNT)))
+        );
+
+        executor.forEach(channels, channel -> channel.setTimeline(stateOf(channel).timelineFor(RANGE)));
+        executor.forEach(groups, 1, ChannelGroup::getTimeline);
+
+        final List<String> signatures = new ArrayList<>();
+        channels.forEach(channel -> signatures.add(signature(channel.getTimeline())));
+        groups.forEach(group -> signatures.add(signature(group.getTimeline())));
+        return signatures;
+    }
+
+    private String signature(final Timeline timeline) {
+        return timeline.getDurations().stream()
+            .map(duration -> duration.getSeverity() + "@" + duration.getStartTime() + "/" + duration.getEndTime())
+            .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Every channel changes severity at a different offset, so the timelines differ per channel.
+     */
+    private ChannelTimelineState stateOf(final Channel channel) {
+        final ChannelTimelineState state = new ChannelTimelineState(RANGE.getStart(), null);
+        for (int index = 0; index < 12; index++) {
+            final Severity severity = SEVERITIES[(int) ((index + channel.getId()) % SEVERITIES.length)];
+            state.replay(severity, RANGE.getStart().plusMinutes(index * 20L + channel.getId()));
+        }
+        return state;
+    }
+
+    private TimelineBuildExecutor anExecutor(final int parallelism) {
+        final MonitorProperties properties = new MonitorProperties();
+        properties.getParallelBuild().setParallelism(parallelism);
+        properties.getParallelBuild().setMinChannelsPerTask(1);
+        final TimelineBuildExecutor executor = new TimelineBuildExecutor(properties);
+        executors.add(executor);
+        return executor;
+    }
+}
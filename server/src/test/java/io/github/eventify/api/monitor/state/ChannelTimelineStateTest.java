@@ -0,0 +1,189 @@
+package io.github.eventify.api.monitor.state;
+
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.TimeSpan;
+import io.github.eventify.api.monitor.model.Timeline;
+import io.github.eventify.api.monitor.model.TimelineDuration;
+import io.github.eventify.common.util.TimeProvider;
+import io.github.eventify.support.UnitTest;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Unit tests for the run-length timeline state of a channel.
+ */
+@DisplayName("Unit Test - Channel Timeline State")
+class ChannelTimelineStateTest extends UnitTest {
+
+    private static final OffsetDateTime NOW = TimeProvider.now();
+
+    @Test
+    @DisplayName("Should build consecutive durations from the prior severity and the severity transitions")
+    void shouldBuildConsecutiveDurationsFromThePriorSeverityAndTheSeverityTransitions() {
+        // Given: A prior OK event, then WARNING, WARNING and CRITICAL within the window
+        final ChannelTimelineState state = new ChannelTimelineState(NOW.minusHours(5), null);
+        state.replay(Severity.OK, NOW.minusHours(6));
+        state.replay(Severity.WARNING, NOW.minusMinutes(90));
+        state.replay(Severity.WARNING, NOW.minusMinutes(60));
+        state.replay(Severity.CRITICAL, NOW.minusMinutes(30));
+
+        // When: Building the timeline of the last 2 hours
+        final Timeline timeline = state.timelineFor(new TimeSpan(NOW.minusHours(2), NOW));
+
+        // Then: Only transitions start a new duration and the last one extends to the window end
+        final List<TimelineDuration> durations = timeline.getDurations();
+        assertThat(durations, hasSize(3));
+        assertThat(durations.get(0).getSeverity(), is(Severity.OK));
+        assertThat(durations.get(1).getSeverity(), is(Severity.WARNING));
+        assertThat(durations.get(2).getSeverity(), is(Severity.CRITICAL));
+        assertThat(durations.get(2).getEndTime(), is(equalTo(NOW)));
+        assertThat(state.severityAt(NOW), is(Severity.CRITICAL));
+    }
+
+    @Test
+    @DisplayName("Should return a single NO_DATA duration for a channel without events")
+    void shouldReturnASingleNoDataDurationForAChannelWithoutEvents() {
+        // Given: An empty state
+        final ChannelTimelineState state = new ChannelTimelineState(NOW.minusHours(5), null);
+
+        // When: Building the timeline of the last 2 hours
+        final Timeline timeline = state.timelineFor(new TimeSpan(NOW.minusHours(2), NOW));
+
+        // Then: The whole window has no data
+        assertThat(timeline.getDurations(), hasSize(1));
+        assertThat(timeline.getDurations().getFirst().getSeverity(), is(Severity.NO_DATA));
+        assertThat(state.severityAt(NOW), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should start the timeline with NO_DATA until the first event of a channel without prior event")
+    void shouldStartTheTimelineWithNoDataUntilTheFirstEvent() {
+        // Given: A single OK event an hour ago, and none before the window
+        final ChannelTimelineState state = new ChannelTimelineState(NOW.minusHours(4), null);
+        state.replay(Severity.OK, NOW.minusHours(1));
+
+        // When: Building the timeline of the last 4 hours
+        final Timeline timeline = state.timelineFor(new TimeSpan(NOW.minusHours(4), NOW));
+
+        // Then: NO_DATA covers the window up to the event, OK covers the rest
+        final List<TimelineDuration> durations = timeline.getDurations();
+        assertThat(durations, hasSize(2));
+        assertThat(durations.get(0).getSeverity(), is(Severity.NO_DATA));
+        assertThat(durations.get(0).getStartTime(), is(equalTo(NOW.minusHours(4))));
+        assertThat(durations.get(0).getEndTime(), is(equalTo(NOW.minusHours(1))));
+        assertThat(durations.get(1).getSeverity(), is(Severity.OK));
+        assertThat(durations.get(1).getEndTime(), is(equalTo(NOW)));
+    }
+
+    @Test
+    @DisplayName("Should build a single duration when the first event is at the window start")
+    void shouldBuildASingleDurationWhenTheFirstEventIsAtTheWindowStart() {
+        // Given: A WARNING event exactly at the window start
+        final ChannelTimelineState state = new ChannelTimelineState(NOW.minusHours(2), null);
+        state.replay(Severity.WARNING, NOW.minusHours(2));
+
+        // When: Building the timeline of the last 2 hours
+        final Timeline timeline = state.timelineFor(new TimeSpan(NOW.minusHours(2), NOW));
+
+        // Then: The whole window is WARNING
+        assertThat(timeline.getDurations(), hasSize(1));
+        assertThat(timeline.getDurations().getFirst().getSeverity(), is(Severity.WARNING));
+        assertThat(timeline.getDurations().getFirst().getStartTime(), is(equalTo(NOW.minusHours(2))));
+        assertThat(timeline.getDurations().getFirst().getEndTime(), is(equalTo(NOW)));
+    }
+
+    @Test
+    @DisplayName("Should carry the latest prior event over the whole window when the window has no events")
+    void shouldCarryTheLatestPriorEventOverTheWholeWindow() {
+        // Given: An OK event 10 hours ago and a CRITICAL event 5 hours ago, both before the window
+        final ChannelTimelineState state = new ChannelTimelineState(NOW.minusHours(2), null);
+        state.replay(Severity.OK, NOW.minusHours(10));
+        state.replay(Severity.CRITICAL, NOW.minusHours(5));
+
+        // When: Building the timeline of the last 2 hours
+        final Timeline timeline = state.timelineFor(new TimeSpan(NOW.minusHours(2), NOW));
+
+        // Then: The most recent prior severity covers the whole window and is the current severity
+        assertThat(timeline.getDurations(), hasSize(1));
+        assertThat(timeline.getDurations().getFirst().getSeverity(), is(Severity.CRITICAL));
+        assertThat(timeline.getDurations().getFirst().getStartTime(), is(equalTo(NOW.minusHours(2))));
+        assertThat(timeline.getDurations().getFirst().getEndTime(), is(equalTo(NOW)));
+        assertThat(state.severityAt(NOW), is(Severity.CRITICAL));
+    }
+
+    @Test
+    @DisplayName("Should report the severity of the most recent event as the current severity")
+    void shouldReportTheSeverityOfTheMostRecentEventAsTheCurrentSeverity() {
+        // Given: A prior OK event, then CRITICAL and WARNING within the window
+        final ChannelTimelineState state = new ChannelTimelineState(NOW.minusHours(3), null);
+        state.replay(Severity.OK, NOW.minusHours(4));
+        state.replay(Severity.CRITICAL, NOW.minusHours(2));
+        state.replay(Severity.WARNING, NOW.minusHours(1));
+
+        // When / Then: The current severity is that of the latest event, and earlier moments keep theirs
+        assertThat(state.severityAt(NOW), is(Severity.WARNING));
+        assertThat(state.severityAt(NOW.minusMinutes(90)), is(Severity.CRITICAL));
+        assertThat(state.severityAt(NOW.minusMinutes(150)), is(Severity.OK));
+    }
+
+    @Test
+    @DisplayName("Should reject an event older than the last applied event")
+    void shouldRejectAnEventOlderThanTheLastAppliedEvent() {
+        // Given: A state with an event 10 minutes ago
+        final ChannelTimelineState state = new ChannelTimelineState(NOW.minusHours(5), null);
+        state.apply(Severity.OK, NOW.minusMinutes(10));
+
+        // When: Applying an event from 20 minutes ago
+        final boolean applied = state.apply(Severity.CRITICAL, NOW.minusMinutes(20));
+
+        // Then: The event is rejected
+        assertThat(applied, is(false));
+    }
+
+    @Test
+    @DisplayName("Should fold trimmed runs into the prior severity")
+    void shouldFoldTrimmedRunsIntoThePriorSeverity() {
+        // Given: A state with runs 4h and 1h ago
+        final ChannelTimelineState state = new ChannelTimelineState(NOW.minusHours(5), null);
+        state.apply(Severity.CRITICAL, NOW.minusHours(4));
+        state.apply(Severity.OK, NOW.minusHours(1));
+
+        // When: Trimming to 30 minutes ago
+        state.trim(NOW.minusMinutes(30));
+
+        // Then: Only windows from the remaining run on are covered, and the folded severity is kept
+        assertThat(state.covers(NOW.minusHours(2)), is(false));
+        assertThat(state.covers(NOW.minusMinutes(30)), is(true));
+        assertThat(state.severityAt(NOW.minusMinutes(90)), is(Severity.CRITICAL));
+    }
+
+    @Test
+    @DisplayName("Should end the timeline of a past window at its last event")
+    void shouldEndTheTimelineOfAPastWindowAtItsLastEvent() {
+        // Given: Rows of a past window replayed into a state: a prior WARNING, then OK and OK within the window
+        final OffsetDateTime windowStart = NOW.minusDays(2);
+        final ChannelTimelineState state = new ChannelTimelineState(windowStart, null);
+        state.replay(Severity.WARNING, windowStart.minusHours(3));
+        state.replay(Severity.OK, windowStart.plusHours(1));
+        state.replay(Severity.OK, windowStart.plusHours(2));
+
+        // When: Building the timeline of the past window
+        final Timeline timeline = state.timelineFor(new TimeSpan(windowStart, windowStart.plusHours(4)));
+
+        // Then: The prior severity covers the prefix and the last duration ends at the last event
+        final List<TimelineDuration> durations = timeline.getDurations();
+        assertThat(durations, hasSize(2));
+        assertThat(durations.get(0).getSeverity(), is(Severity.WARNING));
+        assertThat(durations.get(0).getEndTime(), is(equalTo(windowStart.plusHours(1))));
+        assertThat(durations.get(1).getSeverity(), is(Severity.OK));
+        assertThat(durations.get(1).getEndTime(), is(equalTo(windowStart.plusHours(2))));
+        assertThat(state.severityAt(windowStart.plusHours(4)), is(Severity.OK));
+    }
+}
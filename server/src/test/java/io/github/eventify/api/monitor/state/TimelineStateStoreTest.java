@@ -0,0 +1,76 @@
+package io.github.eventify.api.monitor.state;
+
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.event.repository.EventSeverityReader;
+import io.github.eventify.api.event.repository.EventSeverityReader.SeverityRowHandler;
+import io.github.eventify.common.config.properties.MonitorProperties;
+import io.github.eventify.common.util.TimeProvider;
+import io.github.eventify.support.TestBuilders;
+import io.github.eventify.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import static io.github.eventify.api.monitor.state.TimelineStateStore.LOOKUP_METRIC;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for the per-instance store of live timeline states.
+ */
+@DisplayName("Unit Test - Timeline State Store")
+class TimelineStateStoreTest extends UnitTest {
+
+    private static final Long CHANNEL_ID = 1L;
+
+    @Mock
+    private EventSeverityReader eventSeverityReader;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TimelineStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new TimelineStateStore(new MonitorProperties(), eventSeverityReader, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should keep an event recorded while the state of its channel is being read")
+    void shouldKeepAnEventRecordedWhileTheStateOfItsChannelIsBeingRead() {
+        // Given: A read that only sees an older OK event, while a CRITICAL event is committed during the read
+        final OffsetDateTime now = TimeProvider.now();
+        final Channel channel = TestBuilders.aChannel(CHANNEL_ID, "api", aValidUser());
+        doAnswer(invocation -> {
+            store.recordAll(List.of(TestBuilders.anEvent(channel, Severity.CRITICAL, now.minusSeconds(1))));
+            final SeverityRowHandler handler = invocation.getArgument(3);
+            handler.handle(CHANNEL_ID, now.minusMinutes(30), Severity.OK);
+            return null;
+        }).when(eventSeverityReader).readTransitions(anyList(), any(), any(), any());
+
+        // When: Loading the state of the channel
+        final ChannelTimelineState loaded = store.getStates(List.of(CHANNEL_ID), now.minusHours(1)).get(CHANNEL_ID);
+
+        // Then: The stored state includes the event committed during the read
+        assertThat(loaded.severityAt(now), is(Severity.CRITICAL));
+
+        // And: The next lookup is served from the store without reading again
+        final ChannelTimelineState cached = store.getStates(List.of(CHANNEL_ID), now.minusHours(1)).get(CHANNEL_ID);
+        assertThat(cached.severityAt(now), is(Severity.CRITICAL));
+        verify(eventSeverityReader, times(1)).readTransitions(anyList(), any(), any(), any());
+        assertThat(meterRegistry.get(LOOKUP_METRIC).tag("result", "hit").counter().count(), is(1.0));
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.eventify.api.monitor.stream;
+
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.api.event.model.Event;
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.MonitorResult;
+import io.github.eventify.api.monitor.model.mapper.MonitorMapper;
+import io.github.eventify.api.monitor.model.response.MonitorResponse;
+import io.github.eventify.common.config.properties.MonitorProperties;
+import io.github.eventify.common.exception.MonitorStreamLimitException;
+import io.github.eventify.support.TestBuilders;
+import io.github.eventify.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static io.github.eventify.api.monitor.stream.MonitorStreamHub.DELTAS_METRIC;
+import static io.github.eventify.api.monitor.stream.MonitorStreamHub.REJECTED_METRIC;
+import static io.github.eventify.api.monitor.stream.MonitorStreamHub.SUBSCRIBERS_METRIC;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Unit Test - Monitor Stream Hub")
+public class MonitorStreamHubTest extends UnitTest {
+
+    private static final Long WATCHLIST_ID = 1L;
+    private static final Long MEMBER_CHANNEL_ID = 10L;
+    private static final Long OTHER_CHANNEL_ID = 20L;
+
+    @Mock
+    private MonitorMapper monitorMapper;
+
+    private MonitorProperties monitorProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private MonitorStreamHub hub;
+
+    @BeforeEach
+    public void setUp() {
+        monitorProperties = new MonitorProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        when(monitorMapper.toResponse(any(MonitorResult.class))).thenReturn(new MonitorResponse());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    @DisplayName("Should open a stream and count it as a subscriber")
+    public void shouldOpenStream() {
+        // Given: A stream hub
+        hub = aHub();
+
+        // When: Opening a stream for a watchlist
+        final SseEmitter emitter = hub.subscribe(WATCHLIST_ID, monitor());
+
+        // Then: The stream is open and counted
+        assertThat(emitter, is(notNullValue()));
+        assertThat(hub.subscriberCount(), is(1));
+        assertThat(meterRegistry.get(SUBSCRIBERS_METRIC).gauge().value(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("Should reject streams beyond the limit per watchlist")
+    public void shouldRejectStreamsBeyondLimit() {
+        // Given: A hub that allows a single stream per watchlist, which is open
+        monitorProperties.getStream().setMaxSubscribersPerWatchlist(1);
+        hub = aHub();
+        hub.subscribe(WATCHLIST_ID, monitor());
+
+        // When & Then: A second stream for the same watchlist is rejected
+        assertThrows(MonitorStreamLimitException.class, () -> hub.subscribe(WATCHLIST_ID, monitor()));
+        assertThat(meterRegistry.get(REJECTED_METRIC).counter().count(), is(1.0));
+        assertThat(hub.subscriberCount(), is(1));
+    }
+
+    @Test
+    @DisplayName("Should reserve the slot of a stream before its snapshot is built")
+    public void shouldReserveSlotBeforeBuildingSnapshot() {
+        // Given: A hub that allows a single stream per watchlist
+        monitorProperties.getStream().setMaxSubscribersPerWatchlist(1);
+        hub = aHub();
+
+        // When: A second stream is opened while the first one is still building its snapshot
+        hub.subscribe(WATCHLIST_ID, () -> {
+            assertThrows(MonitorStreamLimitException.class, () -> hub.subscribe(WATCHLIST_ID, monitor()));
+            return monitor().get();
+        });
+
+        // Then: Only the first stream is open
+        assertThat(meterRegistry.get(REJECTED_METRIC).counter().count(), is(1.0));
+        assertThat(hub.subscriberCount(), is(1));
+    }
+
+    @Test
+    @DisplayName("Should release the slot of a stream whose snapshot fails")
+    public void shouldReleaseSlotWhenSnapshotFails() {
+        // Given: A hub that allows a single stream per watchlist
+        monitorProperties.getStream().setMaxSubscribersPerWatchlist(1);
+        hub = aHub();
+
+        // When: Building the snapshot of the first stream fails
+        assertThrows(IllegalStateException.class, () -> hub.subscribe(WATCHLIST_ID, () -> {
+            throw new IllegalStateException("snapshot failed");
+        }));
+
+        // Then: A new stream can still be opened
+        hub.subscribe(WATCHLIST_ID, monitor());
+        assertThat(hub.subscriberCount(), is(1));
+    }
+
+    @Test
+    @DisplayName("Should push a delta only for events on the watchlist's channels")
+    public void shouldPushDeltaForWatchedChannels() {
+        // Given: An open stream for a watchlist
+        hub = aHub();
+        hub.subscribe(WATCHLIST_ID, monitor());
+
+        // When: Events are written to another channel, then to a channel of the watchlist
+        hub.publish(List.of(anEvent(OTHER_CHANNEL_ID, Severity.OK)));
+        hub.publish(List.of(anEvent(MEMBER_CHANNEL_ID, Severity.OK), anEvent(MEMBER_CHANNEL_ID, Severity.CRITICAL)));
+
+        // Then: A single delta is queued, for the member channel
+        assertThat(meterRegistry.get(DELTAS_METRIC).counter().count(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("Should send only the snapshot when streaming is disabled")
+    public void shouldOnlySendSnapshotWhenDisabled() {
+        // Given: A hub with streaming disabled
+        monitorProperties.getStream().setEnabled(false);
+        hub = aHub();
+
+        // When: Opening a stream and writing an event to its channel
+        hub.subscribe(WATCHLIST_ID, monitor());
+        hub.publish(List.of(anEvent(MEMBER_CHANNEL_ID, Severity.CRITICAL)));
+
+        // Then: The stream is not kept open for deltas
+        assertThat(hub.subscriberCount(), is(0));
+        assertThat(meterRegistry.get(DELTAS_METRIC).counter().count(), is(0.0));
+    }
+
+    // ========================= HELPER METHODS =========================
+
+    private MonitorStreamHub aHub() {
+        return new MonitorStreamHub(monitorProperties, monitorMapper, meterRegistry);
+    }
+
+    private Supplier<MonitorResult> monitor() {
+        return () -> MonitorResult.builder().channelIds(List.of(MEMBER_CHANNEL_ID)).build();
+    }
+
+    private Event anEvent(final Long channelId, final Severity severity) {
+        final Channel channel = TestBuilders.aChannel(channelId, "Channel " + channelId, aValidUser());
+        return TestBuilders.anEvent(channelId, channel, severity);
+    }
+}
@@ -96,8 +96,8 @@ class LodSelectorTest extends UnitTest {
     }
 
     @Test
-    @DisplayName("Should return 4h bucket for last 30d range")
-    void shouldReturn4HourBucketForLast30dRange() {
+    @DisplayName("Should return 2h bucket for last 30d range")
+    void shouldReturn2HourBucketForLast30dRange() {
         // Given: A 30d preset time span
         final OffsetDateTime end = OffsetDateTime.now();
         final OffsetDateTime start = end.minus(TimeRange.LAST_30D.getDuration());
@@ -106,8 +106,8 @@ class LodSelectorTest extends UnitTest {
         // When: Selecting bucket size
         final BucketSize bucket = LodSelector.selectBucket(timeSpan);
 
-        // Then: Should return PT4H
-        assertThat(bucket, is(equalTo(BucketSize.PT4H)));
+        // Then: Should return PT2H
+        assertThat(bucket, is(equalTo(BucketSize.PT2H)));
     }
 
     @Test
@@ -125,6 +125,21 @@ class LodSelectorTest extends UnitTest {
         assertThat(bucket, is(nullValue()));
     }
 
+    @Test
+    @DisplayName("Should return 5min bucket for custom range of 8h")
+    void shouldReturn5MinBucketForCustomRange8h() {
+        // Given: A custom 8h span
+        final OffsetDateTime end = OffsetDateTime.now().minusMinutes(5);
+        final OffsetDateTime start = end.minusHours(8);
+        final TimeSpan timeSpan = new TimeSpan(start, end);
+
+        // When: Selecting bucket size
+        final BucketSize bucket = LodSelector.selectBucket(timeSpan);
+
+        // Then: Should return PT5M (96 buckets fit the budget)
+        assertThat(bucket, is(equalTo(BucketSize.PT5M)));
+    }
+
     @Test
     @DisplayName("Should return 30min bucket for custom range of 12h")
     void shouldReturn30MinBucketForCustomRange12h() {
@@ -156,8 +171,8 @@ class LodSelectorTest extends UnitTest {
     }
 
     @Test
-    @DisplayName("Should return 4h bucket for custom range of 20 days")
-    void shouldReturn4HourBucketForCustomRange20d() {
+    @DisplayName("Should return 2h bucket for custom range of 20 days")
+    void shouldReturn2HourBucketForCustomRange20d() {
         // Given: A custom 20-day span
         final OffsetDateTime end = OffsetDateTime.now().minusMinutes(5);
         final OffsetDateTime start = end.minusDays(20);
@@ -166,7 +181,22 @@ class LodSelectorTest extends UnitTest {
         // When: Selecting bucket size
         final BucketSize bucket = LodSelector.selectBucket(timeSpan);
 
-        // Then: Should return PT4H
-        assertThat(bucket, is(equalTo(BucketSize.PT4H)));
+        // Then: Should return PT2H
+        assertThat(bucket, is(equalTo(BucketSize.PT2H)));
+    }
+
+    @Test
+    @DisplayName("Should return 1d bucket for custom range of 60 days")
+    void shouldReturn1DayBucketForCustomRange60d() {
+        // Given: A custom 60-day span
+        final OffsetDateTime end = OffsetDateTime.now().minusMinutes(5);
+        final OffsetDateTime start = end.minusDays(60);
+        final TimeSpan timeSpan = new TimeSpan(start, end);
+
+        // When: Selecting bucket size
+        final BucketSize bucket = LodSelector.selectBucket(timeSpan);
+
+        // Then: Should return P1D
+        assertThat(bucket, is(equalTo(BucketSize.P1D)));
     }
 }
@@ -322,6 +322,81 @@ class TimelineConsolidatorTest extends UnitTest {
             assertThat(result.getDurations().get(1).getStartTime(), is(equalTo(eventTime)));
             assertThat(result.getDurations().get(1).getEndTime(), is(equalTo(rangeEnd)));
         }
+
+        @Test
+        @DisplayName("Should consolidate many staggered channel timelines")
+        void shouldConsolidateManyStaggeredChannelTimelines() {
+            // Given: 500 channels that are OK throughout, one of which is CRITICAL for an hour in the middle
+            final OffsetDateTime rangeStart = OffsetDateTime.now().minusHours(4);
+            final OffsetDateTime incidentStart = rangeStart.plusHours(1);
+            final OffsetDateTime incidentEnd = rangeStart.plusHours(2);
+            final OffsetDateTime rangeEnd = rangeStart.plusHours(4);
+
+            final List<Timeline> timelines = new ArrayList<>();
+            for (int index = 0; index < 499; index++) {
+                final OffsetDateTime switchTime = rangeStart.plusMinutes(index % 240);
+                timelines.add(
+                    Timeline.builder()
+                        .durations(
+                            List.of(
+                                createDuration(Severity.OK, rangeStart, switchTime),
+                                createDuration(Severity.OK, switchTime, rangeEnd)
+                            )
+                        )
+                        .build()
+                );
+            }
+            timelines.add(
+                Timeline.builder()
+                    .durations(
+                        List.of(
+                            createDuration(Severity.OK, rangeStart, incidentStart),
+                            createDuration(Severity.CRITICAL, incidentStart, incidentEnd),
+                            createDuration(Severity.OK, incidentEnd, rangeEnd)
+                        )
+                    )
+                    .build()
+            );
+
+            // When: Consolidating
+            final Timeline result = TimelineConsolidator.consolidateTimelines(timelines);
+
+            // Then: Should show OK, CRITICAL during the incident, then OK again
+            assertThat(result.getDurations(), hasSize(3));
+            assertThat(result.getDurations().get(0).getSeverity(), is(equalTo(Severity.OK)));
+            assertThat(result.getDurations().get(0).getStartTime(), is(equalTo(rangeStart)));
+            assertThat(result.getDurations().get(1).getSeverity(), is(equalTo(Severity.CRITICAL)));
+            assertThat(result.getDurations().get(1).getStartTime(), is(equalTo(incidentStart)));
+            assertThat(result.getDurations().get(1).getEndTime(), is(equalTo(incidentEnd)));
+            assertThat(result.getDurations().get(2).getSeverity(), is(equalTo(Severity.OK)));
+            assertThat(result.getDurations().get(2).getEndTime(), is(equalTo(rangeEnd)));
+        }
+
+        @Test
+        @DisplayName("Should handle durations that are not in time order")
+        void shouldHandleDurationsThatAreNotInTimeOrder() {
+            // Given: A timeline whose durations are listed newest first
+            final OffsetDateTime t0 = OffsetDateTime.now().minusHours(3);
+            final OffsetDateTime t1 = OffsetDateTime.now().minusHours(2);
+            final OffsetDateTime t2 = OffsetDateTime.now().minusHours(1);
+
+            final Timeline unordered = Timeline.builder()
+                .durations(List.of(createDuration(Severity.WARNING, t1, t2), createDuration(Severity.OK, t0, t1)))
+                .build();
+            final Timeline ok = Timeline.builder()
+                .durations(List.of(createDuration(Severity.OK, t0, t2)))
+                .build();
+
+            // When: Consolidating
+            final Timeline result = TimelineConsolidator.consolidateTimelines(List.of(unordered, ok));
+
+            // Then: Should show OK, then WARNING
+            assertThat(result.getDurations(), hasSize(2));
+            assertThat(result.getDurations().get(0).getSeverity(), is(equalTo(Severity.OK)));
+            assertThat(result.getDurations().get(0).getEndTime(), is(equalTo(t1)));
+            assertThat(result.getDurations().get(1).getSeverity(), is(equalTo(Severity.WARNING)));
+            assertThat(result.getDurations().get(1).getEndTime(), is(equalTo(t2)));
+        }
     }
 
     // ========================= HELPER METHODS =========================
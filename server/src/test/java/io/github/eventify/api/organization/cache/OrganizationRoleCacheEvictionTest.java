@@ -0,0 +1,94 @@
+package io.github.eventify.api.organization.cache;
+
+import io.github.eventify.api.organization.model.Organization;
+import io.github.eventify.api.organization.model.OrganizationMembership;
+import io.github.eventify.api.organization.model.OrganizationalRole;
+import io.github.eventify.api.organization.service.OrganizationMembershipService;
+import io.github.eventify.api.organization.service.OrganizationSecurityService;
+import io.github.eventify.api.user.model.User;
+import io.github.eventify.support.IntegrationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration Test - The organization role cache, which the test profile disables, must be evicted as soon as a
+ * membership change commits.
+ *
+ * <p>Shares its properties with {@code UserSnapshotCacheEvictionTest}, so both run in one extra context.
+ */
+@TestPropertySource(
+    properties = {
+        "security.user-cache.enabled=true",
+        "security.organization-role-cache.enabled=true",
+        "spring.liquibase.drop-first=false"
+    }
+)
+@DisplayName("Integration Test - Organization Role Cache Eviction")
+public class OrganizationRoleCacheEvictionTest extends IntegrationTest {
+
+    @Autowired
+    private OrganizationMembershipService membershipService;
+
+    @Autowired
+    private OrganizationSecurityService orgSecurity;
+
+    @Test
+    @DisplayName("Should keep serving a cached role that is changed without eviction")
+    public void shouldKeepServingACachedRoleThatIsChangedWithoutEviction() {
+        // Given: An organization admin whose role was checked once, so the roles of the admin are cached
+        final Organization organization = anOrganisationWithOwner(aValidatedUser());
+        final User member = aValidatedUser();
+        addMemberToOrganization(organization, member, OrganizationalRole.ADMIN);
+        assertThat(orgSecurity.isOwnerOrAdmin(organization.getId(), member.getId()), is(true));
+
+        // When: The admin is demoted through the repository, which bypasses the eviction
+        final OrganizationMembership membership = organizationMembershipRepository
+            .findByOrganizationIdAndUserId(organization.getId(), member.getId())
+            .orElseThrow();
+        membership.setRole(OrganizationalRole.MEMBER);
+        organizationMembershipRepository.save(membership);
+
+        // Then: The check is still answered from the cached role
+        assertThat(orgSecurity.isOwnerOrAdmin(organization.getId(), member.getId()), is(true));
+    }
+
+    @Test
+    @DisplayName("Should deny a demoted admin straight after the commit")
+    public void shouldDenyADemotedAdminStraightAfterTheCommit() {
+        // Given: An organization admin whose role was checked once, so the roles of the admin are cached
+        final Organization organization = anOrganisationWithOwner(aValidatedUser());
+        final User member = aValidatedUser();
+        addMemberToOrganization(organization, member, OrganizationalRole.ADMIN);
+        assertThat(orgSecurity.isOwnerOrAdmin(organization.getId(), member.getId()), is(true));
+
+        // When: The admin is demoted to a member through the service
+        membershipService.updateMemberRole(organization.getId(), member.getId(), OrganizationalRole.MEMBER);
+
+        // Then: The next check denies the member
+        assertThat(orgSecurity.isOwnerOrAdmin(organization.getId(), member.getId()), is(false));
+        assertThat(orgSecurity.isMember(organization.getId(), member.getId()), is(true));
+    }
+
+    @Test
+    @DisplayName("Should deny a removed admin straight after the commit")
+    public void shouldDenyARemovedAdminStraightAfterTheCommit() {
+        // Given: An organization admin whose role was checked once, so the roles of the admin are cached
+        final Organization organization = anOrganisationWithOwner(aValidatedUser());
+        final User member = aValidatedUser();
+        addMemberToOrganization(organization, member, OrganizationalRole.ADMIN);
+        assertThat(orgSecurity.isOwnerOrAdmin(organization.getId(), member.getId()), is(true));
+
+        // When: The admin is removed from the organization through the service
+        membershipService.removeMember(organization.getId(), member.getId(), admin);
+
+        // Then: The next check denies the former member
+        assertThat(orgSecurity.isOwnerOrAdmin(organization.getId(), member.getId()), is(false));
+        assertThat(orgSecurity.isMember(organization.getId(), member.getId()), is(false));
+    }
+}
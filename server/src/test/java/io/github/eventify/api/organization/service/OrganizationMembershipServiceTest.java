@@ -1,5 +1,6 @@
 package io.github.eventify.api.organization.service;
 
+import io.github.eventify.api.organization.cache.OrganizationRoleCache;
 import io.github.eventify.api.authentication.model.Role;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.organization.model.OrganizationMembership;
@@ -61,6 +62,9 @@ public class OrganizationMembershipServiceTest extends UnitTest {
     @Mock
     private io.github.eventify.api.organization.model.OrganizationMembershipMetaData membershipMetaData;
 
+    @Mock
+    private OrganizationRoleCache organizationRoleCache;
+
     @InjectMocks
     private OrganizationMembershipService membershipService;
 
@@ -379,6 +383,9 @@ public class OrganizationMembershipServiceTest extends UnitTest {
 
         // Then: Member should be removed
         verify(membershipRepository).delete(membership);
+
+        // And: The cached roles of the member should be evicted
+        verify(organizationRoleCache).evictUser(member.getId());
     }
 
     @Test
@@ -0,0 +1,128 @@
+package io.github.eventify.api.organization.service;
+
+import io.github.eventify.api.organization.cache.OrganizationRoleCache;
+import io.github.eventify.api.organization.model.MembershipRole;
+import io.github.eventify.api.organization.model.OrganizationalRole;
+import io.github.eventify.api.organization.repository.OrganizationMembershipRepository;
+import io.github.eventify.api.organization.repository.OrganizationRepository;
+import io.github.eventify.common.config.properties.SecurityProperties;
+import io.github.eventify.support.UnitTest;
+import io.github.jframe.exception.core.DataNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Unit Test - Organization Security Service")
+public class OrganizationSecurityServiceTest extends UnitTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ORG_ID = 10L;
+    private static final Long OTHER_ORG_ID = 20L;
+
+    @Mock
+    private OrganizationMembershipRepository membershipRepository;
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    private OrganizationRoleCache organizationRoleCache;
+
+    private OrganizationSecurityService organizationSecurityService;
+
+    @BeforeEach
+    public void setUp() {
+        organizationRoleCache = new OrganizationRoleCache(new SecurityProperties(), new SimpleMeterRegistry());
+        organizationSecurityService = new OrganizationSecurityService(membershipRepository, organizationRepository, organizationRoleCache);
+    }
+
+    @Test
+    @DisplayName("Should answer every role check from one lookup of the user's roles")
+    public void shouldAnswerRoleChecksFromOneLookup() {
+        // Given: A user that is admin of one organization
+        when(membershipRepository.findRolesByUserId(USER_ID)).thenReturn(List.of(aRole(ORG_ID, OrganizationalRole.ADMIN)));
+
+        // When: Checking the roles of the user several times
+        final boolean isOwnerOrAdmin = organizationSecurityService.isOwnerOrAdmin(ORG_ID, USER_ID);
+        final boolean isOwner = organizationSecurityService.isOwner(ORG_ID, USER_ID);
+        final boolean isMember = organizationSecurityService.isMember(ORG_ID, USER_ID);
+
+        // Then: The checks should reflect the admin role
+        assertThat(isOwnerOrAdmin, is(true));
+        assertThat(isOwner, is(false));
+        assertThat(isMember, is(true));
+
+        // And: The roles should have been loaded once, without checking the organization exists
+        verify(membershipRepository, times(1)).findRolesByUserId(USER_ID);
+        verify(organizationRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Should deny a user without role in an existing organization")
+    public void shouldDenyUserWithoutRoleInExistingOrganization() {
+        // Given: A user that is only member of another organization
+        when(membershipRepository.findRolesByUserId(USER_ID)).thenReturn(List.of(aRole(OTHER_ORG_ID, OrganizationalRole.OWNER)));
+        when(organizationRepository.existsById(ORG_ID)).thenReturn(true);
+
+        // When: Checking the membership of the organization
+        final boolean isMember = organizationSecurityService.isMember(ORG_ID, USER_ID);
+
+        // Then: The user should not be a member
+        assertThat(isMember, is(false));
+    }
+
+    @Test
+    @DisplayName("Should throw when the organization does not exist")
+    public void shouldThrowWhenOrganizationDoesNotExist() {
+        // Given: A user without roles and an organization that does not exist
+        when(membershipRepository.findRolesByUserId(USER_ID)).thenReturn(List.of());
+        when(organizationRepository.existsById(ORG_ID)).thenReturn(false);
+
+        // When & Then: Checking the role should throw
+        assertThrows(DataNotFoundException.class, () -> organizationSecurityService.isOwnerOrAdmin(ORG_ID, USER_ID));
+    }
+
+    @Test
+    @DisplayName("Should load the roles again after the user was evicted")
+    public void shouldLoadRolesAgainAfterEviction() {
+        // Given: A user that is member of an organization, whose roles are cached
+        when(membershipRepository.findRolesByUserId(USER_ID))
+            .thenReturn(List.of(aRole(ORG_ID, OrganizationalRole.MEMBER)))
+            .thenReturn(List.of(aRole(ORG_ID, OrganizationalRole.ADMIN)));
+        assertThat(organizationSecurityService.isOwnerOrAdmin(ORG_ID, USER_ID), is(false));
+
+        // When: The user is promoted and evicted from the cache
+        organizationRoleCache.evictUser(USER_ID);
+
+        // Then: The new role should be used
+        assertThat(organizationSecurityService.isOwnerOrAdmin(ORG_ID, USER_ID), is(true));
+        verify(membershipRepository, times(2)).findRolesByUserId(USER_ID);
+    }
+
+    // ========================= HELPER METHODS =========================
+
+    private MembershipRole aRole(final Long organizationId, final OrganizationalRole role) {
+        return new MembershipRole() {
+
+            @Override
+            public Long getOrganizationId() {
+                return organizationId;
+            }
+
+            @Override
+            public OrganizationalRole getRole() {
+                return role;
+            }
+        };
+    }
+}
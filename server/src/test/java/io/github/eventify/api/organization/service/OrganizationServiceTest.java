@@ -1,5 +1,6 @@
 package io.github.eventify.api.organization.service;
 
+import io.github.eventify.api.organization.cache.OrganizationRoleCache;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.organization.model.OrganizationStatus;
 import io.github.eventify.api.organization.model.request.ProvisionOrganizationRequest;
@@ -47,6 +48,9 @@ public class OrganizationServiceTest extends UnitTest {
     @Mock
     private OrganizationMembershipRepository organizationMembershipRepository;
 
+    @Mock
+    private OrganizationRoleCache organizationRoleCache;
+
     @InjectMocks
     private OrganizationService organizationService;
 
@@ -8,6 +8,7 @@ import io.github.eventify.api.user.service.UserService;
 import io.github.eventify.common.exception.QuotaExceededException;
 import io.github.eventify.support.UnitTest;
 
+import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 
@@ -24,9 +25,12 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -38,6 +42,8 @@ public class UserQuotaServiceTest extends UnitTest {
     private static final int UNDER_QUOTA_COUNT = 500;
     private static final int AT_QUOTA_COUNT = 1000;
     private static final int OVER_QUOTA_COUNT = 1050;
+    private static final OffsetDateTime CURRENT_PERIOD = OffsetDateTime.now(UTC).withDayOfMonth(1).with(LocalTime.MIN);
+    private static final OffsetDateTime NEXT_PERIOD = CURRENT_PERIOD.plusMonths(1);
 
     @Mock
     private UserEventQuotaRepository quotaRepository;
@@ -50,7 +56,8 @@ public class UserQuotaServiceTest extends UnitTest {
 
     @BeforeEach
     void setUp() {
-        userQuotaService = new UserQuotaService(quotaRepository, userService);
+        userQuotaService = spy(new UserQuotaService(quotaRepository, userService));
+        lenient().doReturn(CURRENT_PERIOD).when(userQuotaService).getCurrentPeriodStart();
         user = aValidUser();
         user.setId(USER_ID);
         lenient().when(userService.findById(USER_ID)).thenReturn(user);
@@ -64,16 +71,16 @@ public class UserQuotaServiceTest extends UnitTest {
         @DisplayName("Should accept event when user is under quota")
         void shouldAcceptEventWhenUserUnderQuota() {
             // Given: User has 500 events (under 1000 limit)
-            final UserEventQuota quota = aQuotaWithEventCount(UNDER_QUOTA_COUNT);
-            given(quotaRepository.findByUserIdWithLock(USER_ID)).willReturn(Optional.of(quota));
-            given(quotaRepository.save(any(UserEventQuota.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(quotaRepository.incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD))
+                .willReturn(Optional.of(UNDER_QUOTA_COUNT + 1));
 
             // When: Checking and incrementing for 1 event
             assertDoesNotThrow(() -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 1));
 
-            // Then: Event count should be incremented
-            assertThat(quota.getEventCount(), is(UNDER_QUOTA_COUNT + 1));
-            verify(quotaRepository).save(quota);
+            // Then: Count is reserved with a single conditional update, without locking or loading the quota row
+            verify(quotaRepository).incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD);
+            verify(quotaRepository, never()).findByUserId(any());
+            verify(quotaRepository, never()).save(any());
         }
 
         @Test
@@ -81,7 +88,8 @@ public class UserQuotaServiceTest extends UnitTest {
         void shouldThrowWhenUserAtQuota() {
             // Given: User has exactly 1000 events (at limit)
             final UserEventQuota quota = aQuotaWithEventCount(AT_QUOTA_COUNT);
-            given(quotaRepository.findByUserIdWithLock(USER_ID)).willReturn(Optional.of(quota));
+            given(quotaRepository.incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD)).willReturn(Optional.empty());
+            given(quotaRepository.findByUserId(USER_ID)).willReturn(Optional.of(quota));
 
             // When & Then: Should throw QuotaExceededException
             final QuotaExceededException exception = assertThrows(
@@ -104,8 +112,8 @@ public class UserQuotaServiceTest extends UnitTest {
         void shouldThrowWhenBatchWouldExceedQuota() {
             // Given: User has 995 events
             final int currentCount = 995;
-            final UserEventQuota quota = aQuotaWithEventCount(currentCount);
-            given(quotaRepository.findByUserIdWithLock(USER_ID)).willReturn(Optional.of(quota));
+            given(quotaRepository.incrementWithinLimit(USER_ID, 10, QUOTA_LIMIT, CURRENT_PERIOD)).willReturn(Optional.empty());
+            given(quotaRepository.findByUserId(USER_ID)).willReturn(Optional.of(aQuotaWithEventCount(currentCount)));
 
             // When & Then: Batch of 10 should be rejected
             final QuotaExceededException exception = assertThrows(
@@ -115,69 +123,132 @@ public class UserQuotaServiceTest extends UnitTest {
 
             // And: Exception should contain correct remaining count
             assertThat(exception.getRemaining(), is(QUOTA_LIMIT - currentCount));
-
-            // And: No events should be saved
-            verify(quotaRepository, never()).save(any());
         }
 
         @Test
         @DisplayName("Should accept batch that exactly fills quota")
         void shouldAcceptBatchThatExactlyFillsQuota() {
             // Given: User has 995 events
-            final int currentCount = 995;
-            final UserEventQuota quota = aQuotaWithEventCount(currentCount);
-            given(quotaRepository.findByUserIdWithLock(USER_ID)).willReturn(Optional.of(quota));
-            given(quotaRepository.save(any(UserEventQuota.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(quotaRepository.incrementWithinLimit(USER_ID, 5, QUOTA_LIMIT, CURRENT_PERIOD)).willReturn(Optional.of(QUOTA_LIMIT));
 
-            // When: Batch of 5 should be accepted (exactly fills to 1000)
+            // When & Then: Batch of 5 should be accepted (exactly fills to 1000)
             assertDoesNotThrow(() -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 5));
-
-            // Then: Event count should be exactly at limit
-            assertThat(quota.getEventCount(), is(QUOTA_LIMIT));
-            verify(quotaRepository).save(quota);
         }
 
         @Test
         @DisplayName("Should create quota record on first event")
         void shouldCreateQuotaRecordOnFirstEvent() {
-            // Given: No existing quota record
-            given(quotaRepository.findByUserIdWithLock(USER_ID)).willReturn(Optional.empty());
-            given(quotaRepository.save(any(UserEventQuota.class))).willAnswer(invocation -> {
-                final UserEventQuota q = invocation.getArgument(0);
-                q.setId(1L);
-                return q;
-            });
+            // Given: No existing quota record, so the first update matches no row
+            given(quotaRepository.incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(1));
 
             // When: First event is sent
             assertDoesNotThrow(() -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 1));
 
-            // Then: Quota record should be saved (create + increment = 2 calls)
-            final ArgumentCaptor<UserEventQuota> captor = ArgumentCaptor.forClass(UserEventQuota.class);
-            verify(quotaRepository, times(2)).save(captor.capture());
+            // Then: Quota record should be created for the current period and incremented
+            final ArgumentCaptor<OffsetDateTime> periodCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+            verify(quotaRepository).createIfAbsent(eq(USER_ID), periodCaptor.capture());
+            verify(quotaRepository, times(2)).incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD);
+            assertThat(periodCaptor.getValue().getDayOfMonth(), is(1));
+        }
+
+        @Test
+        @DisplayName("Should reject known exhausted user without querying the database")
+        void shouldRejectKnownExhaustedUserWithoutDatabase() {
+            // Given: A first request that finds the quota exhausted
+            given(quotaRepository.incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD)).willReturn(Optional.empty());
+            given(quotaRepository.findByUserId(USER_ID)).willReturn(Optional.of(aQuotaWithEventCount(AT_QUOTA_COUNT)));
+            assertThrows(QuotaExceededException.class, () -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 1));
+
+            // When: Sending another event in the same period
+            final QuotaExceededException exception = assertThrows(
+                QuotaExceededException.class,
+                () -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 1)
+            );
+
+            // Then: The rejection is served from memory (the first request tried the update before and after creating the record)
+            assertThat(exception.getRemaining(), is(0));
+            verify(quotaRepository, times(2)).incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD);
+            verify(quotaRepository, times(1)).findByUserId(USER_ID);
+        }
+
+        @Test
+        @DisplayName("Should accept events again once a new period started")
+        void shouldAcceptEventsAgainOnceNewPeriodStarted() {
+            // Given: A user that exhausted the quota of the current period
+            given(quotaRepository.incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD)).willReturn(Optional.empty());
+            given(quotaRepository.findByUserId(USER_ID)).willReturn(Optional.of(aQuotaWithEventCount(AT_QUOTA_COUNT)));
+            assertThrows(QuotaExceededException.class, () -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 1));
+
+            // When: Sending an event after the month rolled over, before the monthly reset ran
+            doReturn(NEXT_PERIOD).when(userQuotaService).getCurrentPeriodStart();
+            given(quotaRepository.incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, NEXT_PERIOD)).willReturn(Optional.of(1));
+
+            // Then: The event is accepted, as the update rolls the record over to the new period
+            assertDoesNotThrow(() -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 1));
+            verify(quotaRepository).incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, NEXT_PERIOD);
+        }
+
+        @Test
+        @DisplayName("Should not hold the count of a previous period against the user")
+        void shouldNotHoldCountOfPreviousPeriodAgainstUser() {
+            // Given: A new period, while the record still holds the exhausted count of the previous one
+            doReturn(NEXT_PERIOD).when(userQuotaService).getCurrentPeriodStart();
+            given(quotaRepository.incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, NEXT_PERIOD))
+                .willReturn(Optional.empty(), Optional.empty())
+                .willReturn(Optional.of(1));
+            given(quotaRepository.findByUserId(USER_ID)).willReturn(Optional.of(aQuotaWithEventCount(AT_QUOTA_COUNT)));
+
+            // When: An event is rejected
+            final QuotaExceededException exception = assertThrows(
+                QuotaExceededException.class,
+                () -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 1)
+            );
+
+            // Then: The whole quota of the new period is reported as remaining
+            assertThat(exception.getRemaining(), is(QUOTA_LIMIT));
 
-            // And: Final saved quota should have count = 1
-            final UserEventQuota savedQuota = captor.getAllValues().getLast();
-            assertThat(savedQuota.getEventCount(), is(1));
-            assertThat(savedQuota.getUser(), is(user));
+            // And: The next event is checked against the database instead of rejected from memory
+            assertDoesNotThrow(() -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 1));
+            verify(quotaRepository, times(3)).incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, NEXT_PERIOD);
         }
 
         @Test
         @DisplayName("Should accept event when exactly one under limit")
         void shouldAcceptEventWhenExactlyOneUnderLimit() {
             // Given: User has 999 events
-            final UserEventQuota quota = aQuotaWithEventCount(QUOTA_LIMIT - 1);
-            given(quotaRepository.findByUserIdWithLock(USER_ID)).willReturn(Optional.of(quota));
-            given(quotaRepository.save(any(UserEventQuota.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(quotaRepository.incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD)).willReturn(Optional.of(QUOTA_LIMIT));
 
-            // When: Sending 1 event
+            // When & Then: Sending 1 event is accepted
             assertDoesNotThrow(() -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 1));
-
-            // Then: Event count should be at limit
-            assertThat(quota.getEventCount(), is(QUOTA_LIMIT));
         }
     }
 
 
+    @Nested
+    @DisplayName("release")
+    class Release {
+
+        @Test
+        @DisplayName("Should give back released events in the database and in memory")
+        void shouldGiveBackReleasedEvents() {
+            // Given: A user whose last event filled the quota
+            given(quotaRepository.incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD)).willReturn(Optional.of(QUOTA_LIMIT));
+            userQuotaService.checkAndIncrementOrThrow(USER_ID, 1);
+
+            // When: The event is released because it was rejected after all
+            userQuotaService.release(USER_ID, 1);
+
+            // Then: The event is given back for the current period
+            verify(quotaRepository).release(USER_ID, 1, CURRENT_PERIOD);
+
+            // And: The next event is checked against the database instead of rejected from memory
+            assertDoesNotThrow(() -> userQuotaService.checkAndIncrementOrThrow(USER_ID, 1));
+            verify(quotaRepository, times(2)).incrementWithinLimit(USER_ID, 1, QUOTA_LIMIT, CURRENT_PERIOD);
+        }
+    }
+
     @Nested
     @DisplayName("getQuotaStatus")
     class GetQuotaStatus {
@@ -186,7 +257,7 @@ public class UserQuotaServiceTest extends UnitTest {
         @DisplayName("Should create quota record if not exists")
         void shouldCreateQuotaRecordIfNotExists() {
             // Given: No existing quota record
-            given(quotaRepository.findByUserIdWithLock(USER_ID)).willReturn(Optional.empty());
+            given(quotaRepository.findByUserId(USER_ID)).willReturn(Optional.empty());
             given(quotaRepository.save(any(UserEventQuota.class))).willAnswer(invocation -> invocation.getArgument(0));
 
             // When: Getting quota status
@@ -205,7 +276,7 @@ public class UserQuotaServiceTest extends UnitTest {
             // Given: User has 342 events
             final int eventCount = 342;
             final UserEventQuota quota = aQuotaWithEventCount(eventCount);
-            given(quotaRepository.findByUserIdWithLock(USER_ID)).willReturn(Optional.of(quota));
+            given(quotaRepository.findByUserId(USER_ID)).willReturn(Optional.of(quota));
 
             // When: Getting quota status
             final UserQuotaResponse response = userQuotaService.getQuotaStatus(USER_ID);
@@ -224,7 +295,7 @@ public class UserQuotaServiceTest extends UnitTest {
             // Given: User has 342 events (34.2%)
             final int eventCount = 342;
             final UserEventQuota quota = aQuotaWithEventCount(eventCount);
-            given(quotaRepository.findByUserIdWithLock(USER_ID)).willReturn(Optional.of(quota));
+            given(quotaRepository.findByUserId(USER_ID)).willReturn(Optional.of(quota));
 
             // When: Getting quota status
             final UserQuotaResponse response = userQuotaService.getQuotaStatus(USER_ID);
@@ -238,7 +309,7 @@ public class UserQuotaServiceTest extends UnitTest {
         void shouldNotExceed100PercentUsed() {
             // Given: User has 1050 events (over limit)
             final UserEventQuota quota = aQuotaWithEventCount(OVER_QUOTA_COUNT);
-            given(quotaRepository.findByUserIdWithLock(USER_ID)).willReturn(Optional.of(quota));
+            given(quotaRepository.findByUserId(USER_ID)).willReturn(Optional.of(quota));
 
             // When: Getting quota status
             final UserQuotaResponse response = userQuotaService.getQuotaStatus(USER_ID);
@@ -277,7 +348,7 @@ public class UserQuotaServiceTest extends UnitTest {
         quota.setId(1L);
         quota.setUser(user);
         quota.setEventCount(eventCount);
-        quota.setPeriodStart(OffsetDateTime.now(UTC).withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0).withNano(0));
+        quota.setPeriodStart(CURRENT_PERIOD);
         quota.setUpdatedAt(OffsetDateTime.now(UTC));
         return quota;
     }
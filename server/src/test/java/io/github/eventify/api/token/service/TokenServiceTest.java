@@ -82,7 +82,7 @@ public class TokenServiceTest extends UnitTest {
             .expiresAt(OffsetDateTime.now(UTC).plusDays(7))
             .user(user)
             .build();
-        when(jwtService.generateAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtService.generateAccessToken(eq(user), any())).thenReturn(newAccessToken);
         when(jwtService.generateRefreshToken(any(User.class), anyBoolean())).thenReturn(newRefreshToken);
 
         // When: Generating authorization tokens with a request context and a familyId
@@ -126,7 +126,7 @@ public class TokenServiceTest extends UnitTest {
             .expiresAt(OffsetDateTime.now(UTC).plusDays(7))
             .user(user)
             .build();
-        when(jwtService.generateAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtService.generateAccessToken(eq(user), any())).thenReturn(newAccessToken);
         when(jwtService.generateRefreshToken(any(User.class), anyBoolean())).thenReturn(newRefreshToken);
 
         // When: Generating authorization tokens
@@ -174,7 +174,7 @@ public class TokenServiceTest extends UnitTest {
             .expiresAt(OffsetDateTime.now(UTC).plusDays(7))
             .user(user)
             .build();
-        when(jwtService.generateAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtService.generateAccessToken(eq(user), any())).thenReturn(newAccessToken);
         when(jwtService.generateRefreshToken(any(User.class), anyBoolean())).thenReturn(newRefreshToken);
 
         // When: Generating authorization tokens
@@ -219,7 +219,7 @@ public class TokenServiceTest extends UnitTest {
             .expiresAt(OffsetDateTime.now(UTC).plusDays(7))
             .user(user)
             .build();
-        when(jwtService.generateAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtService.generateAccessToken(eq(user), any())).thenReturn(newAccessToken);
         when(jwtService.generateRefreshToken(any(User.class), anyBoolean())).thenReturn(newRefreshToken);
 
         // When: generateAuthorizationTokens is called with rememberMe=false (verifyEmail never uses remember-me)
@@ -262,7 +262,7 @@ public class TokenServiceTest extends UnitTest {
             .expiresAt(OffsetDateTime.now(UTC).plusDays(30))
             .user(user)
             .build();
-        when(jwtService.generateAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtService.generateAccessToken(eq(user), any())).thenReturn(newAccessToken);
         when(jwtService.generateRefreshToken(any(User.class), anyBoolean())).thenReturn(newRefreshToken);
 
         // When: Generating authorization tokens with rememberMe=true
@@ -316,7 +316,7 @@ public class TokenServiceTest extends UnitTest {
             .expiresAt(OffsetDateTime.now(UTC).plusDays(30))
             .user(user)
             .build();
-        when(jwtService.generateAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtService.generateAccessToken(eq(user), any())).thenReturn(newAccessToken);
         when(jwtService.generateRefreshToken(any(User.class), anyBoolean())).thenReturn(newRefreshToken);
 
         // When: Refreshing using session A's raw token value
@@ -353,7 +353,7 @@ public class TokenServiceTest extends UnitTest {
             .expiresAt(OffsetDateTime.now(UTC).plusDays(7))
             .user(user)
             .build();
-        when(jwtService.generateAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtService.generateAccessToken(eq(user), any())).thenReturn(newAccessToken);
         when(jwtService.generateRefreshToken(any(User.class), anyBoolean())).thenReturn(newRefreshToken);
 
         // When: Generating authorization tokens with a null familyId
@@ -405,7 +405,7 @@ public class TokenServiceTest extends UnitTest {
             .expiresAt(OffsetDateTime.now(UTC).plusDays(30))
             .user(user)
             .build();
-        when(jwtService.generateAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtService.generateAccessToken(eq(user), any())).thenReturn(newAccessToken);
         when(jwtService.generateRefreshToken(any(User.class), anyBoolean())).thenReturn(newRefreshToken);
 
         // When: Refreshing the token using the raw value
@@ -431,4 +431,40 @@ public class TokenServiceTest extends UnitTest {
             is(true)
         );
     }
+
+    @Test
+    @DisplayName("Should issue the refreshed access token for the session of the rotated refresh token")
+    public void refreshIssuesAccessTokenForRotatedSession() {
+        // Given: A user with an active refresh token
+        final User user = aValidUser();
+        final String oldTokenRaw = "old-refresh-token";
+        final Token existingToken = Token.builder()
+            .id(1L)
+            .valueHash(HashUtil.sha256(oldTokenRaw))
+            .familyId(UUID.randomUUID())
+            .type(TokenType.REFRESH_TOKEN)
+            .expiresAt(OffsetDateTime.now(UTC).plusDays(30))
+            .user(user)
+            .build();
+        when(tokenRepository.findByValueHash(HashUtil.sha256(oldTokenRaw))).thenReturn(Optional.of(existingToken));
+
+        // And: The rotated refresh token is stored under a new id
+        final Token newRefreshToken = Token.builder()
+            .rawValue("new-refresh-token")
+            .type(TokenType.REFRESH_TOKEN)
+            .expiresAt(OffsetDateTime.now(UTC).plusDays(7))
+            .user(user)
+            .build();
+        when(jwtService.generateRefreshToken(any(User.class), anyBoolean())).thenReturn(newRefreshToken);
+        when(tokenRepository.save(newRefreshToken)).thenAnswer(invocation -> {
+            newRefreshToken.setId(2L);
+            return newRefreshToken;
+        });
+
+        // When: Refreshing the token using the raw value
+        tokenService.refresh(oldTokenRaw, httpServletRequest);
+
+        // Then: The access token should name the new refresh token as its session
+        verify(jwtService).generateAccessToken(user, 2L);
+    }
 }
@@ -0,0 +1,94 @@
+package io.github.eventify.api.user.cache;
+
+import io.github.eventify.api.authentication.model.Role;
+import io.github.eventify.api.user.model.User;
+import io.github.eventify.support.IntegrationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static io.github.eventify.api.Paths.ADMIN_STATS_PATH;
+import static io.github.eventify.api.Paths.USER_DETAILS;
+import static io.github.eventify.common.constant.Constants.Security.BEARER;
+import static jakarta.servlet.http.HttpServletResponse.SC_FORBIDDEN;
+import static jakarta.servlet.http.HttpServletResponse.SC_OK;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration Test - The user cache, which the test profile disables, must be evicted as soon as a user changes.
+ *
+ * <p>Shares its properties with {@code OrganizationRoleCacheEvictionTest}, so both run in one extra context. That context
+ * keeps the schema the other contexts of the run already use instead of dropping it.
+ */
+@TestPropertySource(
+    properties = {
+        "security.user-cache.enabled=true",
+        "security.organization-role-cache.enabled=true",
+        "spring.liquibase.drop-first=false"
+    }
+)
+@DisplayName("Integration Test - User Cache Eviction")
+public class UserSnapshotCacheEvictionTest extends IntegrationTest {
+
+    @Test
+    @DisplayName("Should keep serving a cached user that is changed without eviction")
+    public void shouldKeepServingACachedUserThatIsChangedWithoutEviction() throws Exception {
+        // Given: A user whose details were requested once, so the user is cached
+        final User user = aValidatedUser();
+        requestAs(user, USER_DETAILS).andExpect(status().is(SC_OK));
+
+        // And: The user is locked through the repository, which bypasses the eviction
+        final User stored = userRepository.findById(user.getId()).orElseThrow();
+        stored.setEnabled(false);
+        userRepository.save(stored);
+
+        // When: Requesting the user details again
+        final ResultActions response = requestAs(user, USER_DETAILS);
+
+        // Then: The request is still served from the cached user
+        response.andExpect(status().is(SC_OK));
+    }
+
+    @Test
+    @DisplayName("Should refuse a locked user on the very next request")
+    public void shouldRefuseALockedUserOnTheVeryNextRequest() throws Exception {
+        // Given: A user whose details were requested once, so the user is cached
+        final User user = aValidatedUser();
+        requestAs(user, USER_DETAILS).andExpect(status().is(SC_OK));
+
+        // When: An admin locks the user
+        userService.lockUser(user.getId(), true);
+
+        // Then: The very next request of the user is refused
+        requestAs(user, USER_DETAILS).andExpect(status().is(SC_FORBIDDEN));
+    }
+
+    @Test
+    @DisplayName("Should refuse a demoted admin on the very next admin request")
+    public void shouldRefuseADemotedAdminOnTheVeryNextAdminRequest() throws Exception {
+        // Given: An admin who requested the admin stats once, so the admin is cached
+        final User demoted = aValidatedUserWithRole(Role.ADMIN);
+        requestAs(demoted, ADMIN_STATS_PATH).andExpect(status().is(SC_OK));
+
+        // When: The admin is demoted to a regular user
+        userService.updateAuthority(demoted.getId(), Role.USER);
+
+        // Then: The very next admin request of the user is refused
+        requestAs(demoted, ADMIN_STATS_PATH).andExpect(status().is(SC_FORBIDDEN));
+    }
+
+    // ========================= HELPER METHODS =========================
+
+    private ResultActions requestAs(final User user, final String path) throws Exception {
+        final MockHttpServletRequestBuilder request = get(path)
+            .contentType(APPLICATION_JSON)
+            .header(AUTHORIZATION, BEARER + user.getAccessToken().getValue());
+        return mockMvc.perform(request);
+    }
+}
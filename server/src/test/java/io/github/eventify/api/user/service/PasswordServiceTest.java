@@ -3,6 +3,7 @@ package io.github.eventify.api.user.service;
 import io.github.eventify.api.token.model.Token;
 import io.github.eventify.api.token.model.TokenType;
 import io.github.eventify.api.token.service.TokenService;
+import io.github.eventify.api.user.cache.UserSnapshotCache;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.repository.UserRepository;
 import io.github.eventify.common.email.service.sender.EmailService;
@@ -40,11 +41,14 @@ public class PasswordServiceTest extends UnitTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
     private PasswordService passwordService;
 
     @BeforeEach
     public void setUp() {
-        passwordService = new PasswordService(passwordEncoder, userRepository, tokenService, emailService);
+        passwordService = new PasswordService(passwordEncoder, userRepository, tokenService, emailService, userSnapshotCache);
         lenient().when(passwordEncoder.encode(anyString())).thenReturn("encoded-random-password");
     }
 
@@ -41,7 +41,7 @@ public class UserServiceRegisterAuthProviderTest extends UnitTest {
 
     @BeforeEach
     public void setUp() {
-        userService = new UserService(passwordEncoder, userRepository, userAuthProviderRepository, null, emailService);
+        userService = new UserService(passwordEncoder, userRepository, userAuthProviderRepository, null, emailService, null, null);
         when(passwordEncoder.encode(any(String.class))).thenReturn(ENCODED_PASSWORD);
         when(userRepository.save(any(User.class))).thenAnswer(i -> {
             final User u = i.getArgument(0);
@@ -0,0 +1,114 @@
+package io.github.eventify.api.watchlist.model;
+
+import io.github.eventify.api.channel.model.Channel;
+import io.github.eventify.api.channel.model.ChannelGroup;
+import io.github.eventify.api.event.model.Severity;
+import io.github.eventify.api.monitor.model.Timeline;
+import io.github.eventify.api.monitor.model.TimelineDuration;
+import io.github.eventify.api.monitor.util.TimelineConsolidator;
+import io.github.eventify.support.UnitTest;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+
+/**
+ * Unit tests for the memoized timeline consolidation of a watchlist configuration.
+ */
+@DisplayName("Unit Test - Watchlist Configuration")
+class WatchlistConfigurationTest extends UnitTest {
+
+    private static final OffsetDateTime RANGE_START = OffsetDateTime.parse("2026-10-18T08:00:00Z");
+
+    private static final OffsetDateTime RANGE_END = OffsetDateTime.parse("2026-10-18T12:00:00Z");
+
+    private MockedStatic<TimelineConsolidator> consolidatorMock;
+
+    @BeforeEach
+    void setUp() {
+        consolidatorMock = mockStatic(TimelineConsolidator.class, CALLS_REAL_METHODS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consolidatorMock.close();
+    }
+
+    @Test
+    @DisplayName("Should consolidate every group and the dashboard once per response")
+    void shouldConsolidateEveryGroupAndTheDashboardOncePerResponse() {
+        // Given: A configuration with two groups and a standalone channel, enriched with timelines
+        final WatchlistConfiguration configuration = anEnrichedConfiguration();
+
+        // When: Mapping reads the dashboard timeline and every group timeline several times
+        for (int read = 0; read < 3; read++) {
+            configuration.getTimeline();
+            configuration.getGroups().forEach(ChannelGroup::getTimeline);
+        }
+
+        // Then: Each group is consolidated once, and the dashboard once on top of the group timelines
+        consolidatorMock.verify(() -> TimelineConsolidator.consolidate(anyList()), times(3));
+        assertThat(configuration.getTimeline().getDurations().getFirst().getSeverity(), is(Severity.CRITICAL));
+    }
+
+    @Test
+    @DisplayName("Should consolidate again after the channels change")
+    void shouldConsolidateAgainAfterTheChannelsChange() {
+        // Given: A configuration whose dashboard timeline was already consolidated
+        final WatchlistConfiguration configuration = anEnrichedConfiguration();
+        configuration.getTimeline();
+
+        // When: The standalone channels are replaced (e.g. by the monitor filters) and the timeline is read again
+        configuration.setChannels(new ArrayList<>(List.of(aChannel(9L, Severity.OK))));
+        configuration.getTimeline();
+
+        // Then: Only the dashboard is consolidated again; the unchanged groups keep their timelines
+        consolidatorMock.verify(() -> TimelineConsolidator.consolidate(anyList()), times(4));
+    }
+
+    // ===== Factory Methods =====
+
+    private WatchlistConfiguration anEnrichedConfiguration() {
+        return WatchlistConfiguration.builder()
+            .channels(new ArrayList<>(List.of(aChannel(1L, Severity.OK))))
+            .groups(
+                new ArrayList<>(
+                    List.of(
+                        ChannelGroup.of("API", List.of(aChannel(2L, Severity.OK), aChannel(3L, Severity.CRITICAL))),
+                        ChannelGroup.of("Databases", List.of(aChannel(4L, Severity.WARNING), aChannel(5L, Severity.OK)))
+                    )
+                )
+            )
+            .build();
+    }
+
+    private Channel aChannel(final Long id, final Severity severity) {
+        final Channel channel = new Channel(id);
+        channel.setTimeline(
+            Timeline.builder()
+                .durations(
+                    List.of(
+                        new TimelineDuration()
+                            .setSeverity(severity)
+                            .setStartTime(RANGE_START)
+                            .setEndTime(RANGE_END)
+                    )
+                )
+                .build()
+        );
+        return channel;
+    }
+}
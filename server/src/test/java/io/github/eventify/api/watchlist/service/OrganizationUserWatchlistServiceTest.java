@@ -2,6 +2,7 @@ package io.github.eventify.api.watchlist.service;
 
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.repository.ChannelRepository;
+import io.github.eventify.api.monitor.cache.MonitorResponseCache;
 import io.github.eventify.api.organization.model.Organization;
 import io.github.eventify.api.organization.service.OrganizationService;
 import io.github.eventify.api.user.model.User;
@@ -55,6 +56,9 @@ public class OrganizationUserWatchlistServiceTest extends UnitTest {
     @Mock
     private WatchlistMetaData watchlistMetaData;
 
+    @Mock
+    private MonitorResponseCache monitorResponseCache;
+
     @InjectMocks
     private OrganizationWatchlistService organizationWatchlistService;
 
@@ -364,8 +368,9 @@ public class OrganizationUserWatchlistServiceTest extends UnitTest {
         // When: Deleting watchlist
         organizationWatchlistService.deleteWatchlist(organization.getId(), 1L);
 
-        // Then: Watchlist should be deleted
+        // Then: Watchlist should be deleted and its cached monitor responses evicted
         verify(watchlistRepository).delete(watchlist);
+        verify(monitorResponseCache).evictWatchlist(1L);
     }
 
     @Test
@@ -2,6 +2,7 @@ package io.github.eventify.api.watchlist.service;
 
 import io.github.eventify.api.channel.model.Channel;
 import io.github.eventify.api.channel.repository.ChannelRepository;
+import io.github.eventify.api.monitor.cache.MonitorResponseCache;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.watchlist.model.Watchlist;
 import io.github.eventify.api.watchlist.model.WatchlistConfiguration;
@@ -50,6 +51,9 @@ public class UserWatchlistServiceTest extends UnitTest {
     @Mock
     private WatchlistMetaData watchlistMetaData;
 
+    @Mock
+    private MonitorResponseCache monitorResponseCache;
+
     @InjectMocks
     private UserWatchlistService userWatchlistService;
 
@@ -342,8 +346,9 @@ public class UserWatchlistServiceTest extends UnitTest {
         // When: Deleting watchlist
         userWatchlistService.deleteWatchlist(1L);
 
-        // Then: Watchlist should be deleted
+        // Then: Watchlist should be deleted and its cached monitor responses evicted
         verify(watchlistRepository).delete(watchlist);
+        verify(monitorResponseCache).evictWatchlist(1L);
     }
 
     @Test
@@ -5,13 +5,17 @@ import io.github.eventify.api.token.model.Token;
 import io.github.eventify.api.token.model.TokenType;
 import io.github.eventify.api.token.service.JwtService;
 import io.github.eventify.api.token.service.TokenService;
+import io.github.eventify.api.user.cache.UserSnapshotCache;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.service.UserService;
+import io.github.eventify.common.config.properties.SecurityProperties;
 import io.github.eventify.common.security.principal.JwtUserPrincipalAuthenticationToken;
 import io.github.eventify.common.security.principal.UserTokenPrincipal;
 import io.github.eventify.common.util.HashUtil;
 import io.github.eventify.support.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 import jakarta.servlet.FilterChain;
@@ -25,6 +29,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
 
 import static io.github.eventify.common.constant.Constants.Security.ACCESS_TOKEN_COOKIE;
 import static io.github.eventify.common.constant.Constants.Security.BEARER;
@@ -62,7 +67,8 @@ public class JwtAuthenticationFilterTest extends UnitTest {
     @BeforeEach
     public void setUp() {
         SecurityContextHolder.clearContext();
-        filter = new JwtAuthenticationFilter(jwtService, tokenService, userService, cookieService);
+        final UserSnapshotCache userSnapshotCache = new UserSnapshotCache(new SecurityProperties(), new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtService, tokenService, userService, cookieService, userSnapshotCache);
     }
 
     @Test
@@ -123,9 +129,10 @@ public class JwtAuthenticationFilterTest extends UnitTest {
         request.setCookies(new jakarta.servlet.http.Cookie(ACCESS_TOKEN_COOKIE, accessTokenValue));
 
         // And: The access token is valid
-        when(jwtService.extractSubject(accessTokenValue)).thenReturn(user.getEmail());
+        final Jwt jwt = aDecodedAccessToken(accessTokenValue, user);
+        when(jwtService.decode(accessTokenValue)).thenReturn(jwt);
         when(userService.loadUserByUsername(user.getEmail())).thenReturn(user);
-        when(tokenService.isValidAccessToken(accessTokenValue, user)).thenReturn(true);
+        when(jwtService.isTokenValid(jwt, user)).thenReturn(true);
 
         // When: The filter processes the request
         filter.doFilterInternal(request, response, filterChain);
@@ -152,9 +159,10 @@ public class JwtAuthenticationFilterTest extends UnitTest {
         request.addHeader(AUTHORIZATION, BEARER + accessTokenValue);
 
         // And: The access token is valid
-        when(jwtService.extractSubject(accessTokenValue)).thenReturn(user.getEmail());
+        final Jwt jwt = aDecodedAccessToken(accessTokenValue, user);
+        when(jwtService.decode(accessTokenValue)).thenReturn(jwt);
         when(userService.loadUserByUsername(user.getEmail())).thenReturn(user);
-        when(tokenService.isValidAccessToken(accessTokenValue, user)).thenReturn(true);
+        when(jwtService.isTokenValid(jwt, user)).thenReturn(true);
 
         // When: The filter processes the request
         filter.doFilterInternal(request, response, filterChain);
@@ -167,4 +175,113 @@ public class JwtAuthenticationFilterTest extends UnitTest {
         final UserTokenPrincipal principal = (UserTokenPrincipal) authentication.getPrincipal();
         assertThat(principal.getRefreshTokenId(), is(nullValue()));
     }
+
+    @Test
+    @DisplayName("Should take refreshTokenId from the session id claim without looking up the refresh cookie")
+    public void takesRefreshTokenIdFromSessionIdClaim() throws Exception {
+        // Given: A user with a valid access token that names its session, next to a refresh cookie
+        final User user = aValidUser();
+        final String accessTokenValue = "valid-access-token";
+        final Long sessionId = 42L;
+
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServletPath("/v1/user/details");
+        request.setRequestURI("/v1/user/details");
+        request.setCookies(
+            new jakarta.servlet.http.Cookie(ACCESS_TOKEN_COOKIE, accessTokenValue),
+            new jakarta.servlet.http.Cookie(REFRESH_TOKEN_COOKIE, "valid-refresh-token")
+        );
+
+        // And: The access token is valid and carries the session id
+        final Jwt jwt = aDecodedAccessToken(accessTokenValue, user);
+        when(jwtService.decode(accessTokenValue)).thenReturn(jwt);
+        when(jwtService.extractSessionId(jwt)).thenReturn(sessionId);
+        when(userService.loadUserByUsername(user.getEmail())).thenReturn(user);
+        when(jwtService.isTokenValid(jwt, user)).thenReturn(true);
+
+        // When: The filter processes the request
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then: The principal should carry the session id and the decoded token
+        final UserTokenPrincipal principal = (UserTokenPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.getRefreshTokenId(), is(equalTo(sessionId)));
+        assertThat(principal.getJwt(), is(sameInstance(jwt)));
+
+        // And: The refresh cookie should not have been looked up
+        verify(tokenService, never()).findAuthorizationTokenByValue(any());
+    }
+
+    @Test
+    @DisplayName("Should load the user of an access token only once for repeated requests")
+    public void loadsUserOnceForRepeatedRequests() throws Exception {
+        // Given: A user with a valid access token in the Authorization header
+        final User user = aValidUser();
+        final String accessTokenValue = "valid-access-token";
+
+        final Jwt jwt = aDecodedAccessToken(accessTokenValue, user);
+        when(jwtService.decode(accessTokenValue)).thenReturn(jwt);
+        when(userService.loadUserByUsername(user.getEmail())).thenReturn(user);
+        when(jwtService.isTokenValid(jwt, user)).thenReturn(true);
+
+        // When: The filter processes two requests with the same token
+        for (int i = 0; i < 2; i++) {
+            SecurityContextHolder.clearContext();
+            final MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setServletPath("/v1/user/details");
+            request.setRequestURI("/v1/user/details");
+            request.addHeader(AUTHORIZATION, BEARER + accessTokenValue);
+            filter.doFilterInternal(request, response, filterChain);
+        }
+
+        // Then: Both requests should be authenticated
+        verify(filterChain, times(2)).doFilter(any(), any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication(), is(notNullValue()));
+
+        // And: The user should have been loaded from the database only for the first request
+        verify(userService, times(1)).loadUserByUsername(user.getEmail());
+    }
+
+    @Test
+    @DisplayName("Should give every request its own copy of the cached user")
+    public void givesEveryRequestItsOwnCopyOfTheCachedUser() throws Exception {
+        // Given: A user with a valid access token in the Authorization header
+        final User user = aValidUser();
+        final String accessTokenValue = "valid-access-token";
+
+        final Jwt jwt = aDecodedAccessToken(accessTokenValue, user);
+        when(jwtService.decode(accessTokenValue)).thenReturn(jwt);
+        when(userService.loadUserByUsername(user.getEmail())).thenReturn(user);
+        when(jwtService.isTokenValid(jwt, user)).thenReturn(true);
+
+        // When: The first request changes the user on its principal before a second request is processed
+        final User first = authenticatedUserOf(accessTokenValue);
+        first.setFirstName("Changed");
+        final User second = authenticatedUserOf(accessTokenValue);
+
+        // Then: The second request sees the user as it was loaded
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(second, is(not(sameInstance(user))));
+        assertThat(second.getFirstName(), is(equalTo(user.getFirstName())));
+    }
+
+    // ========================= HELPER METHODS =========================
+
+    private Jwt aDecodedAccessToken(final String tokenValue, final User user) {
+        return Jwt.withTokenValue(tokenValue)
+            .header("alg", "RS256")
+            .subject(user.getUsername())
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(900))
+            .build();
+    }
+
+    private User authenticatedUserOf(final String accessTokenValue) throws Exception {
+        SecurityContextHolder.clearContext();
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServletPath("/v1/user/details");
+        request.setRequestURI("/v1/user/details");
+        request.addHeader(AUTHORIZATION, BEARER + accessTokenValue);
+        filter.doFilterInternal(request, response, filterChain);
+        return ((UserTokenPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUser();
+    }
 }
@@ -1,6 +1,7 @@
 package io.github.eventify.common.security.oauth2;
 
 import io.github.eventify.api.authentication.model.Role;
+import io.github.eventify.api.user.cache.UserSnapshotCache;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.repository.UserRepository;
 import io.github.eventify.api.user.service.UserAuthProviderService;
@@ -42,6 +43,9 @@ public class CustomOAuth2UserServiceCreateUserTest extends UnitTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
     @Mock
     private OAuth2UserRequest oAuth2UserRequest;
 
@@ -52,7 +56,7 @@ public class CustomOAuth2UserServiceCreateUserTest extends UnitTest {
 
     @BeforeEach
     public void setUp() {
-        customOAuth2UserService = new CustomOAuth2UserService(userRepository, userAuthProviderService, passwordEncoder);
+        customOAuth2UserService = new CustomOAuth2UserService(userRepository, userAuthProviderService, passwordEncoder, userSnapshotCache);
     }
 
     @Test
@@ -1,5 +1,6 @@
 package io.github.eventify.common.security.oauth2;
 
+import io.github.eventify.api.user.cache.UserSnapshotCache;
 import io.github.eventify.api.user.model.AuthProvider;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.model.UserAuthProvider;
@@ -58,6 +59,9 @@ public class CustomOAuth2UserServiceLinkModeTest extends UnitTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
     @Mock
     private OAuth2UserRequest oAuth2UserRequest;
 
@@ -68,7 +72,7 @@ public class CustomOAuth2UserServiceLinkModeTest extends UnitTest {
 
     @BeforeEach
     public void setUp() {
-        customOAuth2UserService = new CustomOAuth2UserService(userRepository, userAuthProviderService, passwordEncoder);
+        customOAuth2UserService = new CustomOAuth2UserService(userRepository, userAuthProviderService, passwordEncoder, userSnapshotCache);
     }
 
     @AfterEach
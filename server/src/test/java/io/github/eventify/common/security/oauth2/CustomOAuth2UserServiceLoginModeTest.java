@@ -1,5 +1,6 @@
 package io.github.eventify.common.security.oauth2;
 
+import io.github.eventify.api.user.cache.UserSnapshotCache;
 import io.github.eventify.api.user.model.AuthProvider;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.model.UserAuthProvider;
@@ -53,6 +54,9 @@ public class CustomOAuth2UserServiceLoginModeTest extends UnitTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
     @Mock
     private OAuth2UserRequest oAuth2UserRequest;
 
@@ -63,7 +67,7 @@ public class CustomOAuth2UserServiceLoginModeTest extends UnitTest {
 
     @BeforeEach
     public void setUp() {
-        customOAuth2UserService = new CustomOAuth2UserService(userRepository, userAuthProviderService, passwordEncoder);
+        customOAuth2UserService = new CustomOAuth2UserService(userRepository, userAuthProviderService, passwordEncoder, userSnapshotCache);
     }
 
     // ========================= L1: Provider lookup wins over email lookup =========================
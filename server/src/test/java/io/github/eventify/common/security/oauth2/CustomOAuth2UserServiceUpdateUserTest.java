@@ -1,5 +1,6 @@
 package io.github.eventify.common.security.oauth2;
 
+import io.github.eventify.api.user.cache.UserSnapshotCache;
 import io.github.eventify.api.user.model.AuthProvider;
 import io.github.eventify.api.user.model.User;
 import io.github.eventify.api.user.repository.UserRepository;
@@ -42,6 +43,9 @@ public class CustomOAuth2UserServiceUpdateUserTest extends UnitTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
     @Mock
     private OAuth2UserRequest oAuth2UserRequest;
 
@@ -52,7 +56,7 @@ public class CustomOAuth2UserServiceUpdateUserTest extends UnitTest {
 
     @BeforeEach
     public void setUp() {
-        customOAuth2UserService = new CustomOAuth2UserService(userRepository, userAuthProviderService, passwordEncoder);
+        customOAuth2UserService = new CustomOAuth2UserService(userRepository, userAuthProviderService, passwordEncoder, userSnapshotCache);
         lenient().when(userAuthProviderService.findByProviderAndProviderEmail(any(AuthProvider.class), any(String.class)))
             .thenReturn(Optional.empty());
     }
@@ -85,6 +89,9 @@ public class CustomOAuth2UserServiceUpdateUserTest extends UnitTest {
 
         // And: The last name should remain unchanged
         assertThat(updatedUser.getLastName(), is(equalTo(EXISTING_LAST_NAME)));
+
+        // And: The cached user should be evicted
+        verify(userSnapshotCache).evictUser(existingUser.getId());
     }
 
     @Test